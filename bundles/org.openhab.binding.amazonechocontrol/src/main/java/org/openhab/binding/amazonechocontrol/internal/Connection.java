@@ -130,6 +130,8 @@ public class Connection {
     private static final long EXPIRES_IN = 432000; // five days
     private static final Pattern CHARSET_PATTERN = Pattern.compile("(?i)\\bcharset=\\s*\"?([^\\s;\"]*)");
     private static final String DEVICE_TYPE = "A2IVLV5VM2W81";
+    // maximum number of devices requested with one phoenix/state request
+    private static final int MAX_STATE_REQUESTS_PER_CALL = 100;
 
     protected final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THING_THREADPOOL_NAME);
 
@@ -681,15 +683,18 @@ public class Connection {
                     }
                     currentUrl = location;
                     if (autoredirect) {
+                        // consume the response, so the connection can be reused for the next request
+                        discardResponse(connection);
                         continue; // repeat with new location
                     }
                     return connection;
                 } else {
                     logger.debug("Retry call to {}", url);
                     retryCounter++;
+                    String responseMessage = connection.getResponseMessage();
+                    discardResponse(connection);
                     if (retryCounter > badRequestRepeats) {
-                        throw new HttpException(code,
-                                verb + " url '" + url + "' failed: " + connection.getResponseMessage());
+                        throw new HttpException(code, verb + " url '" + url + "' failed: " + responseMessage);
                     }
                     try {
                         Thread.sleep(2000);
@@ -712,6 +717,26 @@ public class Connection {
         }
     }
 
+    /**
+     * Reads and closes the response, so the underlying keep-alive connection is returned to the cache of the
+     * {@link HttpsURLConnection} instead of being closed.
+     */
+    private void discardResponse(HttpsURLConnection connection) {
+        try {
+            InputStream input = connection.getResponseCode() < 400 ? connection.getInputStream()
+                    : connection.getErrorStream();
+            if (input != null) {
+                byte[] buffer = new byte[1024];
+                while (input.read(buffer) != -1) {
+                    // discard
+                }
+                input.close();
+            }
+        } catch (IOException e) {
+            logger.trace("Failed to discard the response", e);
+        }
+    }
+
     public String registerConnectionAsApp(String oAutRedirectUrl)
             throws ConnectionException, IOException, URISyntaxException {
         URI oAutRedirectUri = new URI(oAutRedirectUrl);
@@ -1051,31 +1076,45 @@ public class Connection {
 
     public Map<String, JsonArray> getSmartHomeDeviceStatesJson(Set<String> applianceIds)
             throws IOException, URISyntaxException {
-        JsonObject requestObject = new JsonObject();
-        JsonArray stateRequests = new JsonArray();
-        for (String applianceId : applianceIds) {
-            JsonObject stateRequest = new JsonObject();
-            stateRequest.addProperty("entityId", applianceId);
-            stateRequest.addProperty("entityType", "APPLIANCE");
-            stateRequests.add(stateRequest);
-        }
-        requestObject.add("stateRequests", stateRequests);
-        String requestBody = requestObject.toString();
-        String json = makeRequestAndReturnString("POST", alexaServer + "/api/phoenix/state", requestBody, true, null);
-        logger.trace("Requested {} and received {}", requestBody, json);
-
-        JsonObject responseObject = this.gson.fromJson(json, JsonObject.class);
-        JsonArray deviceStates = (JsonArray) responseObject.get("deviceStates");
         Map<String, JsonArray> result = new HashMap<>();
-        for (JsonElement deviceState : deviceStates) {
-            JsonObject deviceStateObject = deviceState.getAsJsonObject();
-            JsonObject entity = deviceStateObject.get("entity").getAsJsonObject();
-            String applicanceId = entity.get("entityId").getAsString();
-            JsonElement capabilityState = deviceStateObject.get("capabilityStates");
-            if (capabilityState != null && capabilityState.isJsonArray()) {
-                result.put(applicanceId, capabilityState.getAsJsonArray());
+        List<String> remainingIds = new ArrayList<>(applianceIds);
+        int requests = 0;
+        // the states of all devices are requested together, split only if there are too many devices
+        while (!remainingIds.isEmpty()) {
+            List<String> requestIds = remainingIds.subList(0,
+                    Math.min(MAX_STATE_REQUESTS_PER_CALL, remainingIds.size()));
+            JsonObject requestObject = new JsonObject();
+            JsonArray stateRequests = new JsonArray();
+            for (String applianceId : requestIds) {
+                JsonObject stateRequest = new JsonObject();
+                stateRequest.addProperty("entityId", applianceId);
+                stateRequest.addProperty("entityType", "APPLIANCE");
+                stateRequests.add(stateRequest);
+            }
+            requestIds.clear();
+            requestObject.add("stateRequests", stateRequests);
+            String requestBody = requestObject.toString();
+            String json = makeRequestAndReturnString("POST", alexaServer + "/api/phoenix/state", requestBody, true,
+                    null);
+            logger.trace("Requested {} and received {}", requestBody, json);
+            requests++;
+
+            JsonObject responseObject = this.gson.fromJson(json, JsonObject.class);
+            JsonElement deviceStates = responseObject == null ? null : responseObject.get("deviceStates");
+            if (deviceStates == null || !deviceStates.isJsonArray()) {
+                continue;
+            }
+            for (JsonElement deviceState : deviceStates.getAsJsonArray()) {
+                JsonObject deviceStateObject = deviceState.getAsJsonObject();
+                JsonObject entity = deviceStateObject.get("entity").getAsJsonObject();
+                String applicanceId = entity.get("entityId").getAsString();
+                JsonElement capabilityState = deviceStateObject.get("capabilityStates");
+                if (capabilityState != null && capabilityState.isJsonArray()) {
+                    result.put(applicanceId, capabilityState.getAsJsonArray());
+                }
             }
         }
+        logger.debug("Requested states of {} devices with {} requests", applianceIds.size(), requests);
         return result;
     }
 
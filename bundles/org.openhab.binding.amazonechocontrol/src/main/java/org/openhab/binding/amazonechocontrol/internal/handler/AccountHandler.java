@@ -927,10 +927,13 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
             this.refreshSmartHomeAfterCommandJob = null;
         }
 
-        deviceUpdates.forEach(this::updateSmartHomeState);
+        // the states of all requested devices are fetched together
+        if (!deviceUpdates.isEmpty()) {
+            updateSmartHomeState(deviceUpdates);
+        }
     }
 
-    private synchronized void updateSmartHomeState(@Nullable String deviceFilterId) {
+    private synchronized void updateSmartHomeState(@Nullable Set<String> deviceFilterIds) {
         try {
             logger.debug("updateSmartHomeState started");
             Connection connection = this.connection;
@@ -939,10 +942,10 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
             }
             List<SmartHomeBaseDevice> allDevices = getLastKnownSmartHomeDevices();
             Set<String> applianceIds = new HashSet<>();
-            if (deviceFilterId != null) {
-                applianceIds.add(deviceFilterId);
+            SmartHomeDeviceStateGroupUpdateCalculator smartHomeDeviceStateGroupUpdateCalculator = this.smartHomeDeviceStateGroupUpdateCalculator;
+            if (deviceFilterIds != null) {
+                applianceIds.addAll(deviceFilterIds);
             } else {
-                SmartHomeDeviceStateGroupUpdateCalculator smartHomeDeviceStateGroupUpdateCalculator = this.smartHomeDeviceStateGroupUpdateCalculator;
                 if (smartHomeDeviceStateGroupUpdateCalculator == null) {
                     return;
                 }
@@ -969,6 +972,9 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
             }
             Map<String, JsonArray> applianceIdToCapabilityStates = connection
                     .getSmartHomeDeviceStatesJson(applianceIds);
+            if (smartHomeDeviceStateGroupUpdateCalculator != null) {
+                smartHomeDeviceStateGroupUpdateCalculator.updateChangeStatistics(applianceIdToCapabilityStates);
+            }
 
             for (SmartHomeDeviceHandler smartHomeDeviceHandler : smartHomeDeviceHandlers) {
                 String id = smartHomeDeviceHandler.getId();
@@ -976,7 +982,7 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                     logger.debug("Device update {} suspended", id);
                     continue;
                 }
-                if (id.equals(deviceFilterId)) {
+                if (deviceFilterIds == null || deviceFilterIds.contains(id)) {
                     smartHomeDeviceHandler.updateChannelStates(allDevices, applianceIdToCapabilityStates);
                 }
             }
@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.amazonechocontrol.internal.smarthome;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,9 +28,19 @@ import org.openhab.binding.amazonechocontrol.internal.jsons.JsonSmartHomeDevices
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+
 /**
  * Handles the update interval calculation
  *
+ * Devices are grouped by their update interval. If the states of all devices of a group did not change for several
+ * updates, the interval of the group is increased step by step up to {@link #MAX_BACKOFF_FACTOR} times the
+ * configured interval. Any change resets the group to its configured interval.
+ *
  * @author Michael Geramb - Initial contribution
  */
 @NonNullByDefault
@@ -39,20 +50,35 @@ public class SmartHomeDeviceStateGroupUpdateCalculator {
     private static final Integer UPDATE_INTERVAL_PRIVATE_SKILLS_IN_SECONDS = 10;
     private static final Integer UPDATE_INTERVAL_PRIVATE_SKILLS_IN_SECONDS_TRACE = 600;
     private static final Integer UPDATE_INTERVAL_ACOUSTIC_EVENTS_IN_SECONDS = 10;
+    // number of updates without a change before the interval of a group is increased by the configured interval
+    private static final int UNCHANGED_UPDATES_PER_BACKOFF_STEP = 3;
+    private static final int MAX_BACKOFF_FACTOR = 4;
+    // changes with every update, even if the value of the state did not change
+    private static final String PROPERTY_TIME_OF_SAMPLE = "timeOfSample";
+    private final Gson gson = new Gson();
     private Integer updateIntervalAmazonInSeconds;
     private Integer updateIntervalSkillsInSeconds;
 
     private static class UpdateGroup {
         private final int intervalInSeconds;
         private Date lastUpdated;
+        private int unchangedUpdates;
 
         public UpdateGroup(int intervalInSeconds) {
             this.intervalInSeconds = intervalInSeconds;
             this.lastUpdated = new Date(0);
         }
+
+        private long getEffectiveIntervalInMilliseconds() {
+            int factor = Math.min(MAX_BACKOFF_FACTOR, 1 + unchangedUpdates / UNCHANGED_UPDATES_PER_BACKOFF_STEP);
+            return intervalInSeconds * 1000L * factor;
+        }
     }
 
     private final Map<Integer, UpdateGroup> updateGroups = new HashMap<>();
+    // update interval and last capability states (without the time of sample) of each requested appliance
+    private final Map<String, Integer> applianceIntervals = new HashMap<>();
+    private final Map<String, List<JsonElement>> applianceStates = new HashMap<>();
 
     public SmartHomeDeviceStateGroupUpdateCalculator(int updateIntervalAmazonInSeconds,
             int updateIntervalSkillsInSeconds) {
@@ -98,12 +124,16 @@ public class SmartHomeDeviceStateGroupUpdateCalculator {
         return updateIntervalInSeconds;
     }
 
-    public void removeDevicesWithNoUpdate(List<SmartHomeDevice> devices) {
+    public synchronized void removeDevicesWithNoUpdate(List<SmartHomeDevice> devices) {
         Date updateTimeStamp = new Date();
         // check if new group is needed
         boolean syncAllGroups = false;
         for (SmartHomeDevice device : devices) {
             int updateIntervalInSeconds = getUpdateIntervalInSeconds(device);
+            String applianceId = device.applianceId;
+            if (applianceId != null) {
+                applianceIntervals.put(applianceId, updateIntervalInSeconds);
+            }
             if (!updateGroups.containsKey(updateIntervalInSeconds)) {
                 UpdateGroup newGroup = new UpdateGroup(updateIntervalInSeconds);
                 updateGroups.put(updateIntervalInSeconds, newGroup);
@@ -114,7 +144,7 @@ public class SmartHomeDeviceStateGroupUpdateCalculator {
         Set<Integer> groupsToUpdate = new HashSet<Integer>();
         for (UpdateGroup group : updateGroups.values()) {
             long millisecondsSinceLastUpdate = updateTimeStamp.getTime() - group.lastUpdated.getTime();
-            if (syncAllGroups || millisecondsSinceLastUpdate >= group.intervalInSeconds * 1000) {
+            if (syncAllGroups || millisecondsSinceLastUpdate >= group.getEffectiveIntervalInMilliseconds()) {
                 group.lastUpdated = updateTimeStamp;
                 groupsToUpdate.add(group.intervalInSeconds);
             }
@@ -126,4 +156,69 @@ public class SmartHomeDeviceStateGroupUpdateCalculator {
             }
         }
     }
+
+    /**
+     * Updates the change statistics of the groups with the received states. A group whose devices did not change
+     * is updated less often, a change resets the group to its configured interval.
+     *
+     * @param capabilityStates the received capability states by appliance id
+     */
+    public synchronized void updateChangeStatistics(Map<String, JsonArray> capabilityStates) {
+        Map<Integer, Boolean> groupChanged = new HashMap<>();
+        capabilityStates.forEach((applianceId, states) -> {
+            Integer updateIntervalInSeconds = applianceIntervals.get(applianceId);
+            if (updateIntervalInSeconds == null) {
+                return;
+            }
+            List<JsonElement> values = getValues(states);
+            List<JsonElement> lastValues = applianceStates.put(applianceId, values);
+            boolean changed = !values.equals(lastValues);
+            groupChanged.merge(updateIntervalInSeconds, changed, Boolean::logicalOr);
+        });
+        groupChanged.forEach((updateIntervalInSeconds, changed) -> {
+            UpdateGroup group = updateGroups.get(updateIntervalInSeconds);
+            if (group != null) {
+                group.unchangedUpdates = changed ? 0 : group.unchangedUpdates + 1;
+                logger.trace("Update group {}s: effective interval {}s", updateIntervalInSeconds,
+                        group.getEffectiveIntervalInMilliseconds() / 1000);
+            }
+        });
+    }
+
+    /**
+     * Returns the current interval of the group with the given configured interval.
+     *
+     * @param updateIntervalInSeconds the configured interval of the group
+     * @return the interval in milliseconds or 0, if there is no such group
+     */
+    synchronized long getEffectiveIntervalInMilliseconds(int updateIntervalInSeconds) {
+        UpdateGroup group = updateGroups.get(updateIntervalInSeconds);
+        return group == null ? 0 : group.getEffectiveIntervalInMilliseconds();
+    }
+
+    /**
+     * Returns the capability states without their time of sample, which changes with every update.
+     *
+     * @param states the capability states as received, each of them a JSON object in a string
+     * @return the states to compare with the ones of the last update
+     */
+    private List<JsonElement> getValues(JsonArray states) {
+        List<JsonElement> values = new ArrayList<>(states.size());
+        for (JsonElement state : states) {
+            if (state.isJsonPrimitive() && state.getAsString().startsWith("{")) {
+                try {
+                    JsonObject stateObject = gson.fromJson(state.getAsString(), JsonObject.class);
+                    if (stateObject != null) {
+                        stateObject.remove(PROPERTY_TIME_OF_SAMPLE);
+                        values.add(stateObject);
+                        continue;
+                    }
+                } catch (JsonSyntaxException e) {
+                    // compared as received
+                }
+            }
+            values.add(state);
+        }
+        return values;
+    }
 }
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.amazonechocontrol.internal.smarthome;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.amazonechocontrol.internal.jsons.JsonSmartHomeDevices.SmartHomeDevice;
+
+import com.google.gson.JsonArray;
+
+/**
+ * Tests for the change detection of {@link SmartHomeDeviceStateGroupUpdateCalculator}.
+ *
+ * @author agent - Initial contribution
+ */
+public class SmartHomeDeviceStateGroupUpdateCalculatorTest {
+
+    private static final String APPLIANCE_ID = "AAA_SonarCloudService_00:11:22:33:44:55";
+    private static final int INTERVAL = 60;
+
+    private SmartHomeDeviceStateGroupUpdateCalculator calculator = new SmartHomeDeviceStateGroupUpdateCalculator(
+            INTERVAL, INTERVAL);
+
+    @Before
+    public void setup() {
+        SmartHomeDevice device = new SmartHomeDevice();
+        device.applianceId = APPLIANCE_ID;
+        device.updateIntervalInSeconds = INTERVAL;
+        List<SmartHomeDevice> devices = new ArrayList<>();
+        devices.add(device);
+        calculator.removeDevicesWithNoUpdate(devices);
+    }
+
+    @Test
+    public void testUnchangedValueWithNewSampleTimeBacksOff() {
+        for (int i = 0; i < 4; i++) {
+            update("ON", "2020-08-01T10:00:0" + i + ".000Z");
+        }
+
+        assertEquals(2 * INTERVAL * 1000L, calculator.getEffectiveIntervalInMilliseconds(INTERVAL));
+    }
+
+    @Test
+    public void testChangedValueResetsInterval() {
+        for (int i = 0; i < 4; i++) {
+            update("ON", "2020-08-01T10:00:0" + i + ".000Z");
+        }
+        update("OFF", "2020-08-01T10:00:05.000Z");
+
+        assertEquals(INTERVAL * 1000L, calculator.getEffectiveIntervalInMilliseconds(INTERVAL));
+    }
+
+    private void update(String value, String timeOfSample) {
+        JsonArray states = new JsonArray();
+        states.add("{\"namespace\":\"Alexa.PowerController\",\"name\":\"powerState\",\"value\":\"" + value
+                + "\",\"timeOfSample\":\"" + timeOfSample + "\",\"uncertaintyInMilliseconds\":0}");
+        calculator.updateChangeStatistics(Collections.singletonMap(APPLIANCE_ID, states));
+    }
+}
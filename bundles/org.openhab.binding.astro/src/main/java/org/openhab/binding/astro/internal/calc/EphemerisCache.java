@@ -0,0 +1,253 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import java.util.Calendar;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.MoonPhase;
+import org.openhab.binding.astro.internal.model.Planet;
+import org.openhab.binding.astro.internal.model.Sun;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+
+/**
+ * Memoizes the daily {@link Sun} and {@link Moon} calculations, keyed by location and day, so that things sharing a
+ * geolocation share one calculation per day. Upcoming days can be prefetched on a background executor, which keeps
+ * the expensive event searches (phases, eclipses, seasons) off the scheduler thread at midnight.
+ * <p>
+ * Every caller gets its own copy of the cached daily data, so the positional data (position, radiation, phase and
+ * eclipse elevations) of a returned planet can be changed without affecting other things. Only the days around the
+ * current one are cached, other days are calculated on every request.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EphemerisCache {
+
+    /** Number of days after the current one that are calculated in advance */
+    public static final int PREFETCH_DAYS = 2;
+
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final SunCalc sunCalc = new SunCalc();
+    private final MoonCalc moonCalc = new MoonCalc();
+
+    private final Map<EphemerisKey, CompletableFuture<? extends Planet>> cache = new ConcurrentHashMap<>();
+
+    private final Executor executor;
+
+    private final Supplier<Calendar> clock;
+
+    /**
+     * Constructor
+     *
+     * @param executor the executor used to prefetch upcoming days
+     */
+    public EphemerisCache(Executor executor) {
+        this(executor, Calendar::getInstance);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param executor the executor used to prefetch upcoming days
+     * @param clock supplies the current time
+     */
+    EphemerisCache(Executor executor, Supplier<Calendar> clock) {
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the daily sun data for the day of the given calendar, calculating it if needed.
+     */
+    public Sun getSunInfo(Calendar calendar, double latitude, double longitude, double altitude,
+            boolean useMeteorologicalSeason) {
+        Calendar day = DateTimeUtils.truncateToMidnight(calendar);
+        EphemerisKey key = new EphemerisKey(Sun.class, day, latitude, longitude, altitude, useMeteorologicalSeason);
+        Sun sun = copy((Sun) getOrCompute(key,
+                () -> sunCalc.getSunInfo(day, latitude, longitude, altitude, useMeteorologicalSeason)).join());
+        // the phase depends on the time of the request, not on the time of the calculation
+        sunCalc.setPhase(clock.get(), sun);
+        return sun;
+    }
+
+    /**
+     * Returns the daily moon data for the day of the given calendar, calculating it if needed.
+     */
+    public Moon getMoonInfo(Calendar calendar, double latitude, double longitude) {
+        Calendar day = DateTimeUtils.truncateToMidnight(calendar);
+        EphemerisKey key = new EphemerisKey(Moon.class, day, latitude, longitude, 0, false);
+        Moon moon = copy((Moon) getOrCompute(key, () -> moonCalc.getMoonInfo(day, latitude, longitude)).join());
+        // the next apogee and perigee depend on the time of the request, not on the day
+        moonCalc.setApogeePerigee(calendar, moon);
+        return moon;
+    }
+
+    /**
+     * Calculates the sun data of the {@link #PREFETCH_DAYS} days following the given calendar in the background and
+     * evicts the days before it and the days outside of the cached window.
+     */
+    public void prefetchSunInfo(Calendar calendar, double latitude, double longitude, double altitude,
+            boolean useMeteorologicalSeason) {
+        Calendar today = DateTimeUtils.truncateToMidnight(calendar);
+        evict(today);
+        for (int i = 1; i <= PREFETCH_DAYS; i++) {
+            Calendar day = (Calendar) today.clone();
+            day.add(Calendar.DAY_OF_MONTH, i);
+            EphemerisKey key = new EphemerisKey(Sun.class, day, latitude, longitude, altitude,
+                    useMeteorologicalSeason);
+            cache.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(
+                    () -> sunCalc.getSunInfo(day, latitude, longitude, altitude, useMeteorologicalSeason), executor));
+        }
+    }
+
+    /**
+     * Calculates the moon data of the {@link #PREFETCH_DAYS} days following the given calendar in the background and
+     * evicts the days before it and the days outside of the cached window.
+     */
+    public void prefetchMoonInfo(Calendar calendar, double latitude, double longitude) {
+        Calendar today = DateTimeUtils.truncateToMidnight(calendar);
+        evict(today);
+        for (int i = 1; i <= PREFETCH_DAYS; i++) {
+            Calendar day = (Calendar) today.clone();
+            day.add(Calendar.DAY_OF_MONTH, i);
+            EphemerisKey key = new EphemerisKey(Moon.class, day, latitude, longitude, 0, false);
+            cache.computeIfAbsent(key, k -> CompletableFuture
+                    .supplyAsync(() -> moonCalc.getMoonInfo(day, latitude, longitude), executor));
+        }
+    }
+
+    /**
+     * Returns the number of days currently held in the cache, over all locations.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private CompletableFuture<? extends Planet> getOrCompute(EphemerisKey key, Supplier<Planet> calculation) {
+        if (!isInWindow(key.dayStart)) {
+            return CompletableFuture.completedFuture(calculation.get());
+        }
+        CompletableFuture<? extends Planet> future = cache.get(key);
+        if (future != null && future.isCompletedExceptionally()) {
+            // a failed prefetch is retried in the calling thread
+            cache.remove(key, future);
+            future = null;
+        }
+        if (future == null) {
+            // calculate outside of the map to not block other locations, a concurrent duplicate is harmless
+            future = CompletableFuture.completedFuture(calculation.get());
+            CompletableFuture<? extends Planet> existing = cache.putIfAbsent(key, future);
+            if (existing != null) {
+                future = existing;
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Returns true if the day is cached: the day before the current one, the current one and the prefetched ones.
+     * The window is one day wider at the end, as the days of things in other time zones start at other times.
+     */
+    private boolean isInWindow(long dayStart) {
+        long todayStart = DateTimeUtils.truncateToMidnight(clock.get()).getTimeInMillis();
+        return dayStart >= todayStart - DAY_MILLIS && dayStart <= todayStart + (PREFETCH_DAYS + 1) * DAY_MILLIS;
+    }
+
+    private void evict(Calendar day) {
+        long dayStart = day.getTimeInMillis();
+        cache.keySet().removeIf(key -> key.dayStart < dayStart || !isInWindow(key.dayStart));
+    }
+
+    /**
+     * Copies the daily data of a sun. The positional data is not calculated by the cache, so it is left empty.
+     */
+    private static Sun copy(Sun sun) {
+        Sun copy = new Sun();
+        copy.getAllRanges().putAll(sun.getAllRanges());
+        copy.setRise(sun.getRise());
+        copy.setSet(sun.getSet());
+        copy.setZodiac(sun.getZodiac());
+        copy.setSeason(sun.getSeason());
+        copy.setEclipse(sun.getEclipse().copy());
+        return copy;
+    }
+
+    /**
+     * Copies the daily data of a moon. The positional data is not calculated by the cache and the apogee and perigee
+     * are calculated for every request, so they are left empty.
+     */
+    private static Moon copy(Moon moon) {
+        Moon copy = new Moon();
+        copy.setRise(moon.getRise());
+        copy.setSet(moon.getSet());
+        MoonPhase phase = new MoonPhase();
+        phase.setNew(moon.getPhase().getNew());
+        phase.setFirstQuarter(moon.getPhase().getFirstQuarter());
+        phase.setFull(moon.getPhase().getFull());
+        phase.setThirdQuarter(moon.getPhase().getThirdQuarter());
+        copy.setPhase(phase);
+        copy.setEclipse(moon.getEclipse().copy());
+        return copy;
+    }
+
+    private static class EphemerisKey {
+        private final Class<? extends Planet> planet;
+        private final long dayStart;
+        private final double latitude;
+        private final double longitude;
+        private final double altitude;
+        private final boolean useMeteorologicalSeason;
+
+        public EphemerisKey(Class<? extends Planet> planet, Calendar day, double latitude, double longitude,
+                double altitude, boolean useMeteorologicalSeason) {
+            this.planet = planet;
+            this.dayStart = day.getTimeInMillis();
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.altitude = altitude;
+            this.useMeteorologicalSeason = useMeteorologicalSeason;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(planet, dayStart, latitude, longitude, altitude, useMeteorologicalSeason);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            EphemerisKey other = (EphemerisKey) obj;
+            return planet == other.planet && dayStart == other.dayStart
+                    && Double.compare(latitude, other.latitude) == 0
+                    && Double.compare(longitude, other.longitude) == 0
+                    && Double.compare(altitude, other.altitude) == 0
+                    && useMeteorologicalSeason == other.useMeteorologicalSeason;
+        }
+    }
+}
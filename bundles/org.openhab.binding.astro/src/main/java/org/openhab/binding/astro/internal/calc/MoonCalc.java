@@ -85,6 +85,16 @@ public class MoonCalc {
             eclipse.set(eclipseKind, DateTimeUtils.toCalendar(jdate), new Position());
         });
 
+        setApogeePerigee(calendar, moon);
+
+        return moon;
+    }
+
+    /**
+     * Calculates the next apogee and perigee after the specified time.
+     */
+    public void setApogeePerigee(Calendar calendar, Moon moon) {
+        double julianDate = DateTimeUtils.dateToJulianDate(calendar);
         double decimalYear = DateTimeUtils.getDecimalYear(calendar);
         MoonDistance apogee = moon.getApogee();
         double apogeeJd = getApogee(julianDate, decimalYear);
@@ -95,8 +105,6 @@ public class MoonCalc {
         double perigeeJd = getPerigee(julianDate, decimalYear);
         perigee.setDate(DateTimeUtils.toCalendar(perigeeJd));
         perigee.setDistance(getDistance(perigeeJd));
-
-        return moon;
     }
 
     /**
@@ -112,6 +120,16 @@ public class MoonCalc {
         distance.setDistance(getDistance(julianDate));
     }
 
+    /**
+     * Calculates only the moon position (azimuth, elevation and zodiac) at the specified coordinates, without the
+     * daily data.
+     */
+    public Moon getMoonPosition(Calendar calendar, double latitude, double longitude) {
+        Moon moon = new Moon();
+        setAzimuthElevationZodiac(DateTimeUtils.dateToJulianDate(calendar), latitude, longitude, moon);
+        return moon;
+    }
+
     /**
      * Calculates the age and the current phase.
      */
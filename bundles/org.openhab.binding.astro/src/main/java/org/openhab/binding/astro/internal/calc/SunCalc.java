@@ -250,10 +250,18 @@ public class SunCalc {
         SeasonCalc seasonCalc = new SeasonCalc();
         sun.setSeason(seasonCalc.getSeason(calendar, latitude, useMeteorologicalSeason));
 
-        // phase
+        setPhase(Calendar.getInstance(), sun);
+
+        return sun;
+    }
+
+    /**
+     * Sets the name of the sun phase at the given time, if the time is on the day of the sun data.
+     */
+    public void setPhase(Calendar calendar, Sun sun) {
         for (Entry<SunPhaseName, Range> rangeEntry : sun.getAllRanges().entrySet()) {
             SunPhaseName entryPhase = rangeEntry.getKey();
-            if (rangeEntry.getValue().matches(Calendar.getInstance())) {
+            if (rangeEntry.getValue().matches(calendar)) {
                 if (entryPhase == SunPhaseName.MORNING_NIGHT || entryPhase == SunPhaseName.EVENING_NIGHT) {
                     sun.getPhase().setName(SunPhaseName.NIGHT);
                 } else {
@@ -261,8 +269,6 @@ public class SunCalc {
                 }
             }
         }
-
-        return sun;
     }
 
     /**
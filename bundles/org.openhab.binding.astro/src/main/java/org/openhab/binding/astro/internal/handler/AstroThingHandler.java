@@ -49,6 +49,7 @@ import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerService;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.astro.internal.action.AstroActions;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
 import org.openhab.binding.astro.internal.config.AstroChannelConfig;
 import org.openhab.binding.astro.internal.config.AstroThingConfig;
 import org.openhab.binding.astro.internal.job.Job;
@@ -78,6 +79,9 @@ public abstract class AstroThingHandler extends BaseThingHandler {
 
     protected final TimeZoneProvider timeZoneProvider;
 
+    /** Daily calculations shared with all other things */
+    protected final EphemerisCache ephemerisCache;
+
     private final Lock monitor = new ReentrantLock();
 
     private final Set<ScheduledFuture<?>> scheduledFutures = new HashSet<>();
@@ -88,10 +92,12 @@ public abstract class AstroThingHandler extends BaseThingHandler {
 
     private @Nullable ScheduledCompletableFuture<?> dailyJob;
 
-    public AstroThingHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
+    public AstroThingHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final EphemerisCache ephemerisCache) {
         super(thing);
         this.cronScheduler = scheduler;
         this.timeZoneProvider = timeZoneProvider;
+        this.ephemerisCache = ephemerisCache;
     }
 
     @Override
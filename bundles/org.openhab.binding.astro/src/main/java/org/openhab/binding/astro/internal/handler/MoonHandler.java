@@ -27,6 +27,7 @@ import org.eclipse.smarthome.core.i18n.TimeZoneProvider;
 import org.eclipse.smarthome.core.scheduler.CronScheduler;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
 import org.openhab.binding.astro.internal.calc.MoonCalc;
 import org.openhab.binding.astro.internal.job.DailyJobMoon;
 import org.openhab.binding.astro.internal.job.Job;
@@ -53,8 +54,9 @@ public class MoonHandler extends AstroThingHandler {
     /**
      * Constructor
      */
-    public MoonHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
-        super(thing, scheduler, timeZoneProvider);
+    public MoonHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final EphemerisCache ephemerisCache) {
+        super(thing, scheduler, timeZoneProvider, ephemerisCache);
     }
 
     @Override
@@ -70,6 +72,15 @@ public class MoonHandler extends AstroThingHandler {
         publishPlanet();
     }
 
+    @Override
+    public void publishDailyInfo() {
+        super.publishDailyInfo();
+        Double latitude = thingConfig.latitude;
+        Double longitude = thingConfig.longitude;
+        ephemerisCache.prefetchMoonInfo(Calendar.getInstance(), latitude != null ? latitude : 0,
+                longitude != null ? longitude : 0);
+    }
+
     @Override
     public @Nullable Planet getPlanet() {
         return moon;
@@ -94,17 +105,17 @@ public class MoonHandler extends AstroThingHandler {
     private Moon getMoonAt(ZonedDateTime date) {
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
-        return moonCalc.getMoonInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
+        return ephemerisCache.getMoonInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
                 longitude != null ? longitude : 0);
     }
 
     @Override
     public @Nullable Position getPositionAt(ZonedDateTime date) {
-        Moon localMoon = getMoonAt(date);
+        // the shared daily data must not be modified, so only the position is calculated here
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
-        moonCalc.setPositionalInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, localMoon);
+        Moon localMoon = moonCalc.getMoonPosition(GregorianCalendar.from(date), latitude != null ? latitude : 0,
+                longitude != null ? longitude : 0);
         return localMoon.getPosition();
     }
 }
@@ -27,6 +27,7 @@ import org.eclipse.smarthome.core.i18n.TimeZoneProvider;
 import org.eclipse.smarthome.core.scheduler.CronScheduler;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
 import org.openhab.binding.astro.internal.calc.SunCalc;
 import org.openhab.binding.astro.internal.job.DailyJobSun;
 import org.openhab.binding.astro.internal.job.Job;
@@ -55,8 +56,9 @@ public class SunHandler extends AstroThingHandler {
     /**
      * Constructor
      */
-    public SunHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider) {
-        super(thing, scheduler, timeZoneProvider);
+    public SunHandler(Thing thing, final CronScheduler scheduler, final TimeZoneProvider timeZoneProvider,
+            final EphemerisCache ephemerisCache) {
+        super(thing, scheduler, timeZoneProvider, ephemerisCache);
     }
 
     @Override
@@ -73,6 +75,17 @@ public class SunHandler extends AstroThingHandler {
         publishPlanet();
     }
 
+    @Override
+    public void publishDailyInfo() {
+        super.publishDailyInfo();
+        Double latitude = thingConfig.latitude;
+        Double longitude = thingConfig.longitude;
+        Double altitude = thingConfig.altitude;
+        ephemerisCache.prefetchSunInfo(Calendar.getInstance(), latitude != null ? latitude : 0,
+                longitude != null ? longitude : 0, altitude != null ? altitude : 0,
+                thingConfig.useMeteorologicalSeason);
+    }
+
     @Override
     public @Nullable Planet getPlanet() {
         return sun;
@@ -98,7 +111,7 @@ public class SunHandler extends AstroThingHandler {
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
         Double altitude = thingConfig.altitude;
-        return sunCalc.getSunInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
+        return ephemerisCache.getSunInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
                 longitude != null ? longitude : 0, altitude != null ? altitude : 0,
                 thingConfig.useMeteorologicalSeason);
     }
@@ -111,7 +124,8 @@ public class SunHandler extends AstroThingHandler {
 
     @Override
     public @Nullable Position getPositionAt(ZonedDateTime date) {
-        Sun localSun = getSunAt(date);
+        // the position does not depend on the daily data, so there is no need to calculate or share it
+        Sun localSun = new Sun();
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
         Double altitude = thingConfig.altitude;
@@ -39,6 +39,15 @@ public class Eclipse {
         }
     }
 
+    /**
+     * Returns a copy of the eclipses, which can be changed without affecting these.
+     */
+    public Eclipse copy() {
+        Eclipse copy = new Eclipse();
+        copy.entries.putAll(entries);
+        return copy;
+    }
+
     public Set<EclipseKind> getKinds() {
         return entries.keySet();
     }
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import static org.junit.Assert.*;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.Sun;
+import org.openhab.binding.astro.internal.model.SunPhaseName;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+
+/**
+ * Tests {@link EphemerisCache}.
+ *
+ * @author agent - Initial contribution
+ */
+public class EphemerisCacheTest {
+
+    private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("Europe/Amsterdam");
+    private static final double AMSTERDAM_LATITUDE = 52.367607;
+    private static final double AMSTERDAM_LONGITUDE = 4.8978293;
+    private static final double AMSTERDAM_ALTITUDE = 0.0;
+
+    private EphemerisCache cache;
+
+    private Calendar now;
+
+    @Before
+    public void init() {
+        now = newCalendar(2019, Calendar.FEBRUARY, 27, 6);
+        // prefetching runs in the calling thread
+        cache = new EphemerisCache(Runnable::run, () -> (Calendar) now.clone());
+    }
+
+    @Test
+    public void testSameDayIsShared() {
+        Sun morning = cache.getSunInfo(newCalendar(2019, Calendar.FEBRUARY, 27, 6), AMSTERDAM_LATITUDE,
+                AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false);
+        Sun evening = cache.getSunInfo(newCalendar(2019, Calendar.FEBRUARY, 27, 22), AMSTERDAM_LATITUDE,
+                AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false);
+
+        assertNotSame(morning, evening);
+        assertEquals(morning.getRise().getStart().getTimeInMillis(), evening.getRise().getStart().getTimeInMillis());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testCopiesAreIndependent() {
+        Calendar calendar = newCalendar(2019, Calendar.FEBRUARY, 27, 6);
+        Sun sun = cache.getSunInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false);
+        new SunCalc().setPositionalInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, sun);
+        sun.getPhase().setName(SunPhaseName.NOON);
+        Moon moon = cache.getMoonInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+        new MoonCalc().setPositionalInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, moon);
+
+        Sun otherSun = cache.getSunInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE,
+                false);
+        assertEquals(0, otherSun.getPosition().getElevationAsDouble(), 0);
+        assertNotEquals(SunPhaseName.NOON, otherSun.getPhase().getName());
+        assertEquals(0, cache.getMoonInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE).getPosition()
+                .getElevationAsDouble(), 0);
+    }
+
+    @Test
+    public void testPrefetchedSunPhaseIsNamedAtReadTime() {
+        cache.prefetchSunInfo(newCalendar(2019, Calendar.FEBRUARY, 27, 23), AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE,
+                AMSTERDAM_ALTITUDE, false);
+
+        now = newCalendar(2019, Calendar.FEBRUARY, 28, 1);
+        Sun sun = cache.getSunInfo(now, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false);
+        assertEquals(SunPhaseName.NIGHT, sun.getPhase().getName());
+    }
+
+    @Test
+    public void testDaysOutsideOfWindowAreNotCached() {
+        Sun sun = cache.getSunInfo(newCalendar(2019, Calendar.JUNE, 21, 12), AMSTERDAM_LATITUDE,
+                AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false);
+        cache.getMoonInfo(newCalendar(2018, Calendar.DECEMBER, 24, 12), AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+
+        assertNotNull(sun.getRise().getStart());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testApogeeIsTheNextAfterTheRequest() {
+        Calendar apogee = new MoonCalc()
+                .getMoonInfo(newCalendar(2019, Calendar.FEBRUARY, 27, 0), AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE)
+                .getApogee().getDate();
+        now = (Calendar) apogee.clone();
+        now.setTimeZone(TIME_ZONE);
+        Calendar dayStart = DateTimeUtils.truncateToMidnight(now);
+
+        Moon moon = cache.getMoonInfo(dayStart, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+        assertEquals(apogee.getTimeInMillis(), moon.getApogee().getDate().getTimeInMillis());
+
+        // later on the same day, after the apogee has passed
+        now.add(Calendar.MINUTE, 1);
+        moon = cache.getMoonInfo(now, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+        assertTrue(moon.getApogee().getDate().after(now));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testDifferentKeysAreNotShared() {
+        Calendar calendar = newCalendar(2019, Calendar.FEBRUARY, 27, 6);
+        Sun sun = cache.getSunInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false);
+
+        assertNotSame(sun, cache.getSunInfo(newCalendar(2019, Calendar.FEBRUARY, 28, 6), AMSTERDAM_LATITUDE,
+                AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false));
+        assertNotSame(sun, cache.getSunInfo(calendar, 0, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false));
+        assertNotSame(sun, cache.getSunInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, 100, false));
+        assertNotSame(sun, cache.getSunInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE,
+                true));
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    public void testSunInfoMatchesSunCalc() {
+        Calendar calendar = newCalendar(2019, Calendar.FEBRUARY, 27, 1);
+        Sun expected = new SunCalc().getSunInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE,
+                AMSTERDAM_ALTITUDE, false);
+        Sun sun = cache.getSunInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false);
+
+        assertEquals(expected.getRise().getStart().getTimeInMillis(), sun.getRise().getStart().getTimeInMillis());
+        assertEquals(expected.getSet().getEnd().getTimeInMillis(), sun.getSet().getEnd().getTimeInMillis());
+    }
+
+    @Test
+    public void testPrefetchAndEvict() {
+        Moon today = cache.getMoonInfo(newCalendar(2019, Calendar.FEBRUARY, 27, 6), AMSTERDAM_LATITUDE,
+                AMSTERDAM_LONGITUDE);
+        assertEquals(1, cache.size());
+
+        now = newCalendar(2019, Calendar.FEBRUARY, 28, 0);
+        cache.prefetchMoonInfo(now, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+        // the 27th is evicted, the 1st and 2nd of March are calculated in advance
+        assertEquals(EphemerisCache.PREFETCH_DAYS, cache.size());
+
+        Moon prefetched = cache.getMoonInfo(newCalendar(2019, Calendar.MARCH, 1, 12), AMSTERDAM_LATITUDE,
+                AMSTERDAM_LONGITUDE);
+        assertEquals(EphemerisCache.PREFETCH_DAYS, cache.size());
+        assertNotSame(today, prefetched);
+    }
+
+    private static Calendar newCalendar(int year, int month, int dayOfMonth, int hourOfDay) {
+        Calendar result = new GregorianCalendar(year, month, dayOfMonth, hourOfDay, 0);
+        result.setTimeZone(TIME_ZONE);
+        return result;
+    }
+}
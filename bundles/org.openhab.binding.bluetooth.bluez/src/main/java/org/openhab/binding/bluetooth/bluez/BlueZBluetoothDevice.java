@@ -47,6 +47,8 @@ public class BlueZBluetoothDevice extends BaseBluetoothDevice {
 
     private tinyb.BluetoothDevice device;
 
+    private final BlueZBridgeHandler bridgeHandler;
+
     private final Logger logger = LoggerFactory.getLogger(BlueZBluetoothDevice.class);
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("bluetooth");
@@ -60,6 +62,7 @@ public class BlueZBluetoothDevice extends BaseBluetoothDevice {
      */
     public BlueZBluetoothDevice(BlueZBridgeHandler adapter, BluetoothAddress address) {
         super(adapter, address);
+        this.bridgeHandler = adapter;
         logger.debug("Creating BlueZ device with address '{}'", address);
     }
 
@@ -76,10 +79,11 @@ public class BlueZBluetoothDevice extends BaseBluetoothDevice {
      * it and enables notifications on the new instance.
      *
      * @param tinybDevice the new device instance to use for communication
+     * @return true if the instance was replaced, false if it was already in use
      */
-    public synchronized void updateTinybDevice(tinyb.BluetoothDevice tinybDevice) {
+    public synchronized boolean updateTinybDevice(tinyb.BluetoothDevice tinybDevice) {
         if (Objects.equals(device, tinybDevice)) {
-            return;
+            return false;
         }
 
         if (device != null) {
@@ -89,6 +93,21 @@ public class BlueZBluetoothDevice extends BaseBluetoothDevice {
         this.device = tinybDevice;
 
         if (this.device == null) {
+            return true;
+        }
+        refreshProperties();
+
+        enableNotifications();
+        refreshServices();
+        return true;
+    }
+
+    /**
+     * Re-reads the advertised properties from the tinyB device instance. Changes between two calls are normally
+     * delivered through notifications already, so this is only needed for the periodic reconciliation.
+     */
+    public synchronized void refreshProperties() {
+        if (device == null) {
             return;
         }
         updateLastSeenTime();
@@ -105,9 +124,6 @@ public class BlueZBluetoothDevice extends BaseBluetoothDevice {
         if (device.getConnected()) {
             this.connectionState = ConnectionState.CONNECTED;
         }
-
-        enableNotifications();
-        refreshServices();
     }
 
     private void enableNotifications() {
@@ -121,6 +137,10 @@ public class BlueZBluetoothDevice extends BaseBluetoothDevice {
         });
         device.enableManufacturerDataNotifications(n -> {
             updateLastSeenTime();
+            Integer oldManufacturer = manufacturer;
+            n.keySet().stream().filter(Objects::nonNull).findFirst()
+                    .ifPresent(manufacturerId -> manufacturer = manufacturerId & 0xFFFF);
+            boolean manufacturerChanged = !Objects.equals(oldManufacturer, manufacturer);
             for (Map.Entry<Short, byte[]> entry : n.entrySet()) {
                 BluetoothScanNotification notification = new BluetoothScanNotification();
                 byte[] data = new byte[entry.getValue().length + 2];
@@ -133,6 +153,10 @@ public class BlueZBluetoothDevice extends BaseBluetoothDevice {
                 notification.setManufacturerData(data);
                 notifyListeners(BluetoothEventType.SCAN_RECORD, notification);
             }
+            if (manufacturerChanged) {
+                // the advertised identity changed, let the discovery know right away
+                bridgeHandler.deviceDiscovered(this);
+            }
         });
         device.enableConnectedNotifications(connected -> {
             updateLastSeenTime();
@@ -147,6 +171,7 @@ public class BlueZBluetoothDevice extends BaseBluetoothDevice {
             if (resolved) {
                 refreshServices();
                 notifyListeners(BluetoothEventType.SERVICES_DISCOVERED);
+                bridgeHandler.deviceDiscovered(this);
             }
         });
         device.enableServiceDataNotifications(data -> {
@@ -50,6 +50,8 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
 
     private @NonNullByDefault({}) ScheduledFuture<?> discoveryJob;
 
+    private @NonNullByDefault({}) ScheduledFuture<?> reconciliationJob;
+
     /**
      * Constructor
      *
@@ -81,6 +83,7 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
         }
 
         final BlueZAdapterConfiguration configuration = getConfigAs(BlueZAdapterConfiguration.class);
+        final int reconciliationInterval = configuration.reconciliationInterval;
         if (configuration.address != null) {
             adapterAddress = new BluetoothAddress(configuration.address);
         } else {
@@ -98,6 +101,8 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
             if (adapter.getAddress().equals(adapterAddress.toString())) {
                 this.adapter = adapter;
                 discoveryJob = scheduler.scheduleWithFixedDelay(this::refreshDevices, 0, 10, TimeUnit.SECONDS);
+                reconciliationJob = scheduler.scheduleWithFixedDelay(this::reconcileDevices, reconciliationInterval,
+                        reconciliationInterval, TimeUnit.SECONDS);
                 return;
             }
         }
@@ -115,16 +120,39 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
         }
     }
 
+    /**
+     * Picks up devices that BlueZ added since the last run. Devices that are already tracked receive their changes
+     * through the tinyB notifications, so they are skipped here. Their name and tx power, which have no
+     * notifications, are re-read by the reconciliation.
+     */
     private void refreshDevices() {
+        updateDevices(false);
+    }
+
+    /**
+     * Re-reads all devices of the adapter to catch anything the notifications might have missed.
+     */
+    private void reconcileDevices() {
+        updateDevices(true);
+    }
+
+    private void updateDevices(boolean reconcile) {
         refreshTry: try {
-            logger.debug("Refreshing Bluetooth device list...");
+            logger.debug("Refreshing Bluetooth device list (reconcile: {})...", reconcile);
             List<tinyb.BluetoothDevice> tinybDevices = adapter.getDevices();
-            logger.debug("Found {} Bluetooth devices.", tinybDevices.size());
+            int updated = 0;
             for (tinyb.BluetoothDevice tinybDevice : tinybDevices) {
                 BlueZBluetoothDevice device = getDevice(new BluetoothAddress(tinybDevice.getAddress()));
-                device.updateTinybDevice(tinybDevice);
-                deviceDiscovered(device);
+                if (device.updateTinybDevice(tinybDevice)) {
+                    deviceDiscovered(device);
+                    updated++;
+                } else if (reconcile) {
+                    device.refreshProperties();
+                    deviceDiscovered(device);
+                    updated++;
+                }
             }
+            logger.debug("Found {} Bluetooth devices, {} updated.", tinybDevices.size(), updated);
             // For whatever reason, bluez will sometimes turn off scanning. So we just make sure it keeps running.
             startDiscovery();
         } catch (BluetoothException ex) {
@@ -161,6 +189,10 @@ public class BlueZBridgeHandler extends AbstractBluetoothBridgeHandler<BlueZBlue
             discoveryJob.cancel(true);
             discoveryJob = null;
         }
+        if (reconciliationJob != null) {
+            reconciliationJob.cancel(true);
+            reconciliationJob = null;
+        }
         if (adapter != null && adapter.getDiscovering()) {
             adapter.stopDiscovery();
         }
@@ -91,10 +91,9 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BluetoothDevice>
         }
         this.inactiveRemovalJob = null;
 
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                removeDevice(device);
-            }
+        // the map is concurrent, so iterating it while devices are removed is safe
+        for (BD device : devices.values()) {
+            removeDevice(device);
         }
     }
 
@@ -104,21 +103,17 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BluetoothDevice>
 
     private void removeInactiveDevices() {
         // clean up orphaned entries
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                if (shouldRemove(device)) {
-                    logger.debug("Removing device '{}' due to inactivity", device.getAddress());
-                    removeDevice(device);
-                }
+        for (BD device : devices.values()) {
+            if (shouldRemove(device)) {
+                logger.debug("Removing device '{}' due to inactivity", device.getAddress());
+                removeDevice(device);
             }
         }
     }
 
     protected void removeDevice(BluetoothDevice device) {
         device.dispose();
-        synchronized (devices) {
-            devices.remove(device.getAddress());
-        }
+        devices.remove(device.getAddress(), device);
         discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
@@ -156,9 +151,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BluetoothDevice>
 
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
-        synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
-        }
+        devices.values().forEach(this::deviceDiscovered);
     }
 
     @Override
@@ -170,15 +163,16 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BluetoothDevice>
 
     @Override
     public BD getDevice(BluetoothAddress address) {
-        synchronized (devices) {
-            if (devices.containsKey(address)) {
-                return devices.get(address);
-            }
-            BD device = createDevice(address);
-            device.updateLastSeenTime();
-            devices.put(address, device);
+        // lock-free for known devices, which is the common case for every advertisement
+        BD device = devices.get(address);
+        if (device != null) {
             return device;
         }
+        return devices.computeIfAbsent(address, addr -> {
+            BD newDevice = createDevice(addr);
+            newDevice.updateLastSeenTime();
+            return newDevice;
+        });
     }
 
     protected abstract BD createDevice(BluetoothAddress address);
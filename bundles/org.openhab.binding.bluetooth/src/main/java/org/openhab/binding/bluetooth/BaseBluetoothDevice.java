@@ -41,19 +41,19 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
     /**
      * Current connection state
      */
-    protected ConnectionState connectionState = ConnectionState.DISCOVERING;
+    protected volatile ConnectionState connectionState = ConnectionState.DISCOVERING;
 
     /**
      * Manufacturer id
      */
-    protected @Nullable Integer manufacturer = null;
+    protected volatile @Nullable Integer manufacturer = null;
 
     /**
      * Device name.
      * <p>
      * Uses the devices long name if known, otherwise the short name if known
      */
-    protected @Nullable String name;
+    protected volatile @Nullable String name;
 
     /**
      * List of supported services
@@ -63,17 +63,17 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
     /**
      * Last known RSSI
      */
-    protected @Nullable Integer rssi = null;
+    protected volatile @Nullable Integer rssi = null;
 
     /**
      * Last reported transmitter power
      */
-    protected @Nullable Integer txPower = null;
+    protected volatile @Nullable Integer txPower = null;
 
     /**
      * Last time when activity occurred on this device.
      */
-    protected ZonedDateTime lastSeenTime;
+    protected volatile ZonedDateTime lastSeenTime;
 
     /**
      * The event listeners will be notified of device updates
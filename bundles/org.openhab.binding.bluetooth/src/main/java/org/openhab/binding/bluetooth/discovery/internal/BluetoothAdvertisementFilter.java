@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.discovery.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.openhab.binding.bluetooth.BluetoothAddress;
+import org.openhab.binding.bluetooth.BluetoothDevice;
+import org.openhab.binding.bluetooth.BluetoothService;
+
+/**
+ * The {@link BluetoothAdvertisementFilter} is the ingestion stage in front of the {@link BluetoothDiscoveryService}.
+ * It keeps one record per device address that merges the views of all adapters and annotates it with the last RSSI
+ * reported by each of them. An advertisement is only passed on for discovery if the identity fields of the device
+ * (name, manufacturer, tx power and services) changed since the last advertisement of the same adapter, if the
+ * reporting adapter has not seen the device before, or if the de-duplication window has elapsed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BluetoothAdvertisementFilter {
+
+    private final Map<BluetoothAddress, AdvertisementRecord> records = new ConcurrentHashMap<>();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+
+    private final long windowNanos;
+
+    /**
+     * Creates a new filter
+     *
+     * @param window the period in which identical advertisements of the same adapter are dropped
+     * @param unit the unit of the window
+     */
+    public BluetoothAdvertisementFilter(long window, TimeUnit unit) {
+        this.windowNanos = unit.toNanos(window);
+    }
+
+    /**
+     * Records an advertisement and decides whether it needs to be processed by the discovery.
+     *
+     * @param device the device that was advertised
+     * @return true if the advertisement carries new information
+     */
+    public boolean accept(BluetoothDevice device) {
+        received.incrementAndGet();
+        long now = System.nanoTime();
+        AdvertisementRecord record = records.computeIfAbsent(device.getAddress(), addr -> new AdvertisementRecord());
+        if (record.update(device, now, windowNanos)) {
+            accepted.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Forgets the view the adapter of the given device had, so that the next advertisement is processed again.
+     *
+     * @param device the device that was removed from its adapter
+     */
+    public void remove(BluetoothDevice device) {
+        records.computeIfPresent(device.getAddress(), (addr, record) -> record.remove(device) ? null : record);
+    }
+
+    /**
+     * Returns the last RSSI reported by each adapter that has seen the given device
+     *
+     * @param address the address of the device
+     * @return an unmodifiable map of adapter UID to RSSI, empty if the device is unknown
+     */
+    public Map<ThingUID, Integer> getRssiByAdapter(BluetoothAddress address) {
+        AdvertisementRecord record = records.get(address);
+        return record == null ? Collections.emptyMap() : record.getRssiByAdapter();
+    }
+
+    /**
+     * @return the number of advertisements seen by this filter
+     */
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    /**
+     * @return the number of advertisements that have been passed on for discovery
+     */
+    public long getAcceptedCount() {
+        return accepted.get();
+    }
+
+    /**
+     * @return the number of advertisements that have been dropped as duplicates
+     */
+    public long getDroppedCount() {
+        return received.get() - accepted.get();
+    }
+
+    /**
+     * @return the number of device addresses currently tracked
+     */
+    public int getTrackedDeviceCount() {
+        return records.size();
+    }
+
+    private static class AdvertisementRecord {
+
+        private final Map<ThingUID, AdapterView> views = new HashMap<>();
+
+        public synchronized boolean update(BluetoothDevice device, long now, long windowNanos) {
+            Fingerprint fingerprint = new Fingerprint(device);
+            Integer rssi = device.getRssi();
+
+            ThingUID adapterUID = device.getAdapter().getUID();
+            AdapterView view = views.get(adapterUID);
+            if (view == null) {
+                views.put(adapterUID, new AdapterView(fingerprint, rssi, now));
+                return true;
+            }
+            view.rssi = rssi;
+            if (!fingerprint.equals(view.fingerprint) || now - view.lastAccepted >= windowNanos) {
+                view.fingerprint = fingerprint;
+                view.lastAccepted = now;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return true if this record no longer holds any adapter views
+         */
+        public synchronized boolean remove(BluetoothDevice device) {
+            views.remove(device.getAdapter().getUID());
+            return views.isEmpty();
+        }
+
+        public synchronized Map<ThingUID, Integer> getRssiByAdapter() {
+            Map<ThingUID, Integer> result = new HashMap<>();
+            views.forEach((uid, view) -> {
+                Integer rssi = view.rssi;
+                if (rssi != null) {
+                    result.put(uid, rssi);
+                }
+            });
+            return Collections.unmodifiableMap(result);
+        }
+    }
+
+    private static class AdapterView {
+        private Fingerprint fingerprint;
+        private @Nullable Integer rssi;
+        private long lastAccepted;
+
+        public AdapterView(Fingerprint fingerprint, @Nullable Integer rssi, long lastAccepted) {
+            this.fingerprint = fingerprint;
+            this.rssi = rssi;
+            this.lastAccepted = lastAccepted;
+        }
+    }
+
+    /**
+     * The advertised fields that are relevant to {@link BluetoothDiscoveryParticipant}s
+     */
+    private static class Fingerprint {
+        private final @Nullable String name;
+        private final @Nullable Integer manufacturer;
+        private final @Nullable Integer txPower;
+        private final Set<UUID> services = new HashSet<>();
+
+        public Fingerprint(BluetoothDevice device) {
+            this.name = device.getName();
+            this.manufacturer = device.getManufacturerId();
+            this.txPower = device.getTxPower();
+            for (BluetoothService service : device.getServices()) {
+                services.add(service.getUuid());
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, manufacturer, txPower, services);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Fingerprint other = (Fingerprint) obj;
+            return services.equals(other.services) && Objects.equals(name, other.name)
+                    && Objects.equals(manufacturer, other.manufacturer) && Objects.equals(txPower, other.txPower);
+        }
+    }
+}
@@ -19,6 +19,8 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.config.discovery.AbstractDiscoveryService;
@@ -57,9 +59,15 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
 
     private static final int SEARCH_TIME = 15;
 
+    // identical advertisements of an adapter within this window are dropped before discovery
+    private static final int ADVERTISEMENT_WINDOW = 60;
+
     private final Set<BluetoothAdapter> adapters = new CopyOnWriteArraySet<>();
     private final Set<BluetoothDiscoveryParticipant> participants = new CopyOnWriteArraySet<>();
     private final Map<BluetoothAddress, DiscoveryCache> discoveryCaches = new ConcurrentHashMap<>();
+    private final BluetoothAdvertisementFilter advertisementFilter = new BluetoothAdvertisementFilter(
+            ADVERTISEMENT_WINDOW, TimeUnit.SECONDS);
+    private final AtomicLong discoveryProcessCount = new AtomicLong();
 
     private final Set<ThingTypeUID> supportedThingTypes = new CopyOnWriteArraySet<>();
 
@@ -85,6 +93,9 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
     @Deactivate
     public void deactivate() {
         logger.debug("Deactivating Bluetooth discovery service");
+        logger.debug("Bluetooth advertisements received: {}, dropped: {}, discovery processes started: {}",
+                advertisementFilter.getReceivedCount(), advertisementFilter.getDroppedCount(),
+                discoveryProcessCount.get());
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
@@ -131,17 +142,38 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
 
     @Override
     public void deviceRemoved(BluetoothDevice device) {
+        advertisementFilter.remove(device);
         discoveryCaches.computeIfPresent(device.getAddress(), (addr, cache) -> cache.removeDiscoveries(device));
     }
 
     @Override
     public void deviceDiscovered(BluetoothDevice device) {
+        if (!advertisementFilter.accept(device)) {
+            // nothing changed since the last advertisement of this adapter
+            return;
+        }
         logger.debug("Discovered bluetooth device '{}': {}", device.getName(), device);
 
         DiscoveryCache cache = discoveryCaches.computeIfAbsent(device.getAddress(), addr -> new DiscoveryCache());
         cache.handleDiscovery(device);
     }
 
+    /**
+     * Returns the advertisement filter which merges the views of all adapters and keeps the ingestion counters
+     *
+     * @return the {@link BluetoothAdvertisementFilter} of this service
+     */
+    public BluetoothAdvertisementFilter getAdvertisementFilter() {
+        return advertisementFilter;
+    }
+
+    /**
+     * @return the number of {@link BluetoothDiscoveryProcess}es started since activation
+     */
+    public long getDiscoveryProcessCount() {
+        return discoveryProcessCount.get();
+    }
+
     private static ThingUID createThingUIDWithBridge(DiscoveryResult result, BluetoothAdapter adapter) {
         return new ThingUID(result.getThingTypeUID(), adapter.getUID(), result.getThingUID().getId());
     }
@@ -270,6 +302,7 @@ public class BluetoothDiscoveryService extends AbstractDiscoveryService implemen
         }
 
         private CompletableFuture<DiscoveryResult> startDiscoveryProcess(BluetoothDeviceSnapshot device) {
+            discoveryProcessCount.incrementAndGet();
             return CompletableFuture.supplyAsync(new BluetoothDiscoveryProcess(device, participants, adapters),
                     scheduler);
         }
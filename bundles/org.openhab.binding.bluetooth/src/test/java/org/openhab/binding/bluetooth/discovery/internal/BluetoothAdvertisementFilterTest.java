@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.discovery.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.junit.Test;
+import org.openhab.binding.bluetooth.BluetoothAddress;
+import org.openhab.binding.bluetooth.MockBluetoothAdapter;
+import org.openhab.binding.bluetooth.MockBluetoothDevice;
+import org.openhab.binding.bluetooth.TestUtils;
+
+/**
+ * Tests {@link BluetoothAdvertisementFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BluetoothAdvertisementFilterTest {
+
+    private final BluetoothAdvertisementFilter filter = new BluetoothAdvertisementFilter(1, TimeUnit.HOURS);
+
+    @Test
+    public void dropDuplicateAdvertisementTest() {
+        MockBluetoothDevice device = new MockBluetoothAdapter().getDevice(TestUtils.randomAddress());
+
+        assertTrue(filter.accept(device));
+        device.setRssi(-70);
+        assertFalse(filter.accept(device));
+        assertFalse(filter.accept(device));
+
+        assertEquals(3, filter.getReceivedCount());
+        assertEquals(1, filter.getAcceptedCount());
+        assertEquals(2, filter.getDroppedCount());
+    }
+
+    @Test
+    public void acceptChangedAdvertisementTest() {
+        MockBluetoothDevice device = new MockBluetoothAdapter().getDevice(TestUtils.randomAddress());
+
+        assertTrue(filter.accept(device));
+        device.setManufacturerId(0x0499);
+        assertTrue(filter.accept(device));
+        device.setName("Ruuvi 1234");
+        assertTrue(filter.accept(device));
+        assertFalse(filter.accept(device));
+    }
+
+    @Test
+    public void mergeAdapterViewsTest() {
+        MockBluetoothAdapter adapter1 = new MockBluetoothAdapter();
+        MockBluetoothAdapter adapter2 = new MockBluetoothAdapter();
+        BluetoothAddress address = TestUtils.randomAddress();
+        MockBluetoothDevice device1 = adapter1.getDevice(address);
+        MockBluetoothDevice device2 = adapter2.getDevice(address);
+        device1.setRssi(-60);
+        device2.setRssi(-80);
+
+        // every adapter has to see the device at least once
+        assertTrue(filter.accept(device1));
+        assertTrue(filter.accept(device2));
+        assertFalse(filter.accept(device1));
+
+        Map<ThingUID, Integer> rssi = filter.getRssiByAdapter(address);
+        assertEquals(2, rssi.size());
+        assertEquals(Integer.valueOf(-60), rssi.get(adapter1.getUID()));
+        assertEquals(Integer.valueOf(-80), rssi.get(adapter2.getUID()));
+        assertEquals(1, filter.getTrackedDeviceCount());
+    }
+
+    @Test
+    public void removeDeviceTest() {
+        MockBluetoothDevice device = new MockBluetoothAdapter().getDevice(TestUtils.randomAddress());
+
+        assertTrue(filter.accept(device));
+        filter.remove(device);
+        assertEquals(0, filter.getTrackedDeviceCount());
+        assertTrue(filter.accept(device));
+    }
+
+    @Test
+    public void windowElapsedTest() {
+        BluetoothAdvertisementFilter filter = new BluetoothAdvertisementFilter(0, TimeUnit.SECONDS);
+        MockBluetoothDevice device = new MockBluetoothAdapter().getDevice(TestUtils.randomAddress());
+
+        assertTrue(filter.accept(device));
+        assertTrue(filter.accept(device));
+    }
+}
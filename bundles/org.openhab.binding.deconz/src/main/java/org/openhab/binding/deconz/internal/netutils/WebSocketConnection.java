@@ -12,11 +12,14 @@
  */
 package org.openhab.binding.deconz.internal.netutils;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
@@ -31,23 +34,34 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * Establishes and keeps a websocket connection to the deCONZ software.
  *
  * The connection is closed by deCONZ now and then and needs to be re-established.
  *
+ * Only the routing fields of a received event are read first. The complete message is deserialized only if a
+ * listener is registered for the resource, and identical events for the same resource arriving within a short window
+ * are dropped.
+ *
  * @author David Graeff - Initial contribution
  */
 @WebSocket
 @NonNullByDefault
 public class WebSocketConnection {
+    /** identical events for the same resource within this time (in ms) are only delivered once */
+    private static final long DUPLICATE_WINDOW = 100;
+
     private final Logger logger = LoggerFactory.getLogger(WebSocketConnection.class);
 
     private final WebSocketClient client;
     private final WebSocketConnectionListener connectionListener;
     private final Map<String, WebSocketMessageListener> sensorListener = new ConcurrentHashMap<>();
     private final Map<String, WebSocketMessageListener> lightListener = new ConcurrentHashMap<>();
+    private final Map<String, LastMessage> lastMessages = new ConcurrentHashMap<>();
     private final Gson gson;
     private boolean connected = false;
 
@@ -90,6 +104,7 @@ public class WebSocketConnection {
 
     public void unregisterSensorListener(String sensorID) {
         sensorListener.remove(sensorID);
+        lastMessages.remove("sensors/" + sensorID);
     }
 
     public void registerLightListener(String lightID, WebSocketMessageListener listener) {
@@ -97,7 +112,8 @@ public class WebSocketConnection {
     }
 
     public void unregisterLightListener(String lightID) {
-        sensorListener.remove(lightID);
+        lightListener.remove(lightID);
+        lastMessages.remove("lights/" + lightID);
     }
 
     @OnWebSocketConnect
@@ -107,30 +123,107 @@ public class WebSocketConnection {
         connectionListener.connectionEstablished();
     }
 
-    @SuppressWarnings("null")
     @OnWebSocketMessage
     public void onMessage(String message) {
         logger.trace("Raw data received by websocket: {}", message);
-        DeconzBaseMessage changedMessage = gson.fromJson(message, DeconzBaseMessage.class);
-        switch (changedMessage.r) {
+        String[] routing;
+        try {
+            routing = readRouting(message);
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Failed to parse websocket message: {}", message, e);
+            return;
+        }
+        String r = routing[0];
+        String id = routing[1];
+
+        Map<String, WebSocketMessageListener> listeners;
+        Class<? extends DeconzBaseMessage> messageClass;
+        switch (r) {
             case "sensors":
-                WebSocketMessageListener listener = sensorListener.get(changedMessage.id);
-                if (listener != null) {
-                    listener.messageReceived(changedMessage.id, gson.fromJson(message, SensorMessage.class));
-                } else {
-                    logger.trace("Couldn't find sensor listener for id {}", changedMessage.id);
-                }
+                listeners = sensorListener;
+                messageClass = SensorMessage.class;
                 break;
             case "lights":
-                listener = lightListener.get(changedMessage.id);
-                if (listener != null) {
-                    listener.messageReceived(changedMessage.id, gson.fromJson(message, LightMessage.class));
-                } else {
-                    logger.trace("Couldn't find light listener for id {}", changedMessage.id);
-                }
+                listeners = lightListener;
+                messageClass = LightMessage.class;
                 break;
             default:
-                logger.debug("Unknown message type: {}", changedMessage.r);
+                logger.debug("Unknown message type: {}", r);
+                return;
+        }
+
+        WebSocketMessageListener listener = listeners.get(id);
+        if (listener == null) {
+            logger.trace("Couldn't find {} listener for id {}", r, id);
+            return;
+        }
+        if (isDuplicate(r + "/" + id, message)) {
+            logger.trace("Skipping duplicate message for {} {}", r, id);
+            return;
+        }
+
+        DeconzBaseMessage changedMessage;
+        try {
+            changedMessage = gson.fromJson(message, messageClass);
+        } catch (JsonParseException e) {
+            logger.debug("Failed to parse websocket message: {}", message, e);
+            return;
+        }
+        if (changedMessage != null) {
+            listener.messageReceived(id, changedMessage);
+        }
+    }
+
+    /**
+     * Reads the resource type and id of an event without deserializing the rest of the message. Reading stops as
+     * soon as both fields are known.
+     *
+     * @param message the received event
+     * @return array with the resource type ("r") and the id
+     * @throws IOException if the message is not a valid JSON object
+     */
+    static String[] readRouting(String message) throws IOException {
+        @Nullable String r = null;
+        @Nullable String id = null;
+        try (JsonReader reader = new JsonReader(new StringReader(message))) {
+            reader.beginObject();
+            while ((r == null || id == null) && reader.hasNext()) {
+                String name = reader.nextName();
+                if (("r".equals(name) || "id".equals(name)) && reader.peek() == JsonToken.STRING) {
+                    if ("r".equals(name)) {
+                        r = reader.nextString();
+                    } else {
+                        id = reader.nextString();
+                    }
+                } else {
+                    reader.skipValue();
+                }
+            }
+        }
+        return new String[] { r == null ? "" : r, id == null ? "" : id };
+    }
+
+    /**
+     * Checks if the same message was received for the resource within the {@link #DUPLICATE_WINDOW}. The window starts
+     * with the first occurrence of the message, so a message repeated continuously is still delivered once per window.
+     */
+    private boolean isDuplicate(String resource, String message) {
+        long now = System.currentTimeMillis();
+        LastMessage last = lastMessages.get(resource);
+        if (last != null && now - last.received < DUPLICATE_WINDOW && last.message.equals(message)) {
+            return true;
+        }
+        lastMessages.put(resource, new LastMessage(message, now));
+        return false;
+    }
+
+    private static class LastMessage {
+        private final String message;
+        private final long received;
+
+        public LastMessage(String message, long received) {
+            this.message = message;
+            this.received = received;
         }
     }
 
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.openhab.binding.deconz.internal.dto.DeconzBaseMessage;
+import org.openhab.binding.deconz.internal.dto.LightMessage;
+import org.openhab.binding.deconz.internal.dto.SensorMessage;
+import org.openhab.binding.deconz.internal.dto.SensorState;
+import org.openhab.binding.deconz.internal.netutils.WebSocketConnection;
+import org.openhab.binding.deconz.internal.netutils.WebSocketConnectionListener;
+import org.openhab.binding.deconz.internal.netutils.WebSocketMessageListener;
+import org.openhab.binding.deconz.internal.types.LightType;
+import org.openhab.binding.deconz.internal.types.LightTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.ThermostatMode;
+import org.openhab.binding.deconz.internal.types.ThermostatModeGsonTypeAdapter;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * This class provides tests for the deconz websocket message routing
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WebSocketConnectionTest {
+    private static final String SENSOR_EVENT = "{\"e\":\"changed\",\"id\":\"5\",\"r\":\"sensors\","
+            + "\"state\":{\"consumption\":%d},\"t\":\"event\"}";
+
+    private @NonNullByDefault({}) Gson gson;
+    private @NonNullByDefault({}) List<String> events;
+
+    @Mock
+    private @NonNullByDefault({}) WebSocketClient client;
+
+    @Mock
+    private @NonNullByDefault({}) WebSocketConnectionListener connectionListener;
+
+    @Mock
+    private @NonNullByDefault({}) WebSocketMessageListener sensorListener;
+
+    @Mock
+    private @NonNullByDefault({}) WebSocketMessageListener lightListener;
+
+    @Before
+    public void initialize() throws IOException {
+        initMocks(this);
+
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        gsonBuilder.registerTypeAdapter(LightType.class, new LightTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(ThermostatMode.class, new ThermostatModeGsonTypeAdapter());
+        gson = gsonBuilder.create();
+
+        events = IOUtils.readLines(getClass().getResourceAsStream("websocket_events.txt"), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void onlySubscribedEventsAreDeliveredTest() {
+        WebSocketConnection connection = new WebSocketConnection(connectionListener, client, gson);
+        connection.registerSensorListener("5", sensorListener);
+        connection.registerSensorListener("6", sensorListener);
+        connection.registerLightListener("2", lightListener);
+
+        events.forEach(connection::onMessage);
+
+        ArgumentCaptor<DeconzBaseMessage> sensorMessages = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        Mockito.verify(sensorListener, times(2)).messageReceived(eq("5"), sensorMessages.capture());
+        Assert.assertTrue(sensorMessages.getValue() instanceof SensorMessage);
+        SensorState state = ((SensorMessage) sensorMessages.getValue()).state;
+        Assert.assertNotNull(state);
+        Assert.assertEquals(Float.valueOf(3469), state.consumption);
+
+        // the second, identical event for sensor 6 is folded
+        Mockito.verify(sensorListener, times(1)).messageReceived(eq("6"), any(SensorMessage.class));
+        Mockito.verify(lightListener, times(1)).messageReceived(eq("2"), any(LightMessage.class));
+        Mockito.verifyNoMoreInteractions(sensorListener, lightListener);
+    }
+
+    @Test
+    public void unregisteredListenerIsNotCalledTest() {
+        WebSocketConnection connection = new WebSocketConnection(connectionListener, client, gson);
+        connection.registerLightListener("2", lightListener);
+        connection.unregisterLightListener("2");
+
+        events.forEach(connection::onMessage);
+
+        Mockito.verifyZeroInteractions(lightListener);
+    }
+
+    @Test
+    public void invalidMessageIsIgnoredTest() {
+        WebSocketConnection connection = new WebSocketConnection(connectionListener, client, gson);
+        connection.registerSensorListener("5", sensorListener);
+
+        connection.onMessage("[\"not\", \"an\", \"event\"]");
+        connection.onMessage("{\"r\":\"sensors\",\"id\":\"5\",\"state\":");
+
+        Mockito.verifyZeroInteractions(sensorListener);
+    }
+
+    @Test
+    public void routingDoesNotDependOnFieldOrderTest() {
+        WebSocketConnection connection = new WebSocketConnection(connectionListener, client, gson);
+        connection.registerSensorListener("2", sensorListener);
+        connection.registerLightListener("2", lightListener);
+
+        connection.onMessage("{\"r\":\"lights\",\"e\":\"changed\",\"id\":\"2\",\"state\":{\"on\":true}}");
+        connection.onMessage("{\"state\":{\"on\":false},\"id\":\"2\",\"e\":\"changed\",\"r\":\"lights\"}");
+
+        ArgumentCaptor<DeconzBaseMessage> lightMessages = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        Mockito.verify(lightListener, times(2)).messageReceived(eq("2"), lightMessages.capture());
+        Assert.assertTrue(lightMessages.getAllValues().stream().allMatch(m -> m instanceof LightMessage));
+        // the sensor with the same id is not addressed
+        Mockito.verifyZeroInteractions(sensorListener);
+    }
+
+    @Test
+    public void changedMessageIsNotFoldedTest() {
+        WebSocketConnection connection = new WebSocketConnection(connectionListener, client, gson);
+        connection.registerSensorListener("5", sensorListener);
+
+        connection.onMessage(String.format(SENSOR_EVENT, 1));
+        connection.onMessage(String.format(SENSOR_EVENT, 2));
+        connection.onMessage(String.format(SENSOR_EVENT, 1));
+
+        Mockito.verify(sensorListener, times(3)).messageReceived(eq("5"), any(SensorMessage.class));
+    }
+
+    @Test
+    public void repeatedMessageIsDeliveredOncePerWindowTest() throws InterruptedException {
+        WebSocketConnection connection = new WebSocketConnection(connectionListener, client, gson);
+        connection.registerSensorListener("5", sensorListener);
+
+        // repeated more often than the duplicate window of 100 ms for more than 300 ms
+        String event = String.format(SENSOR_EVENT, 1);
+        for (int i = 0; i < 16; i++) {
+            connection.onMessage(event);
+            Thread.sleep(20);
+        }
+
+        Mockito.verify(sensorListener, atLeast(2)).messageReceived(eq("5"), any(SensorMessage.class));
+    }
+}
@@ -731,6 +731,17 @@ public class BridgeHandler extends BaseBridgeHandler
         }
     }
 
+    /**
+     * Delegates the outstanding commands of a Thing to the {@link DeviceStatusManager#updateDevice(Device)}.
+     *
+     * @param device can be null
+     */
+    public void updateDevice(Device device) {
+        if (devStatMan != null) {
+            devStatMan.updateDevice(device);
+        }
+    }
+
     /**
      * Returns a list of all {@link InternalScene}'s.
      *
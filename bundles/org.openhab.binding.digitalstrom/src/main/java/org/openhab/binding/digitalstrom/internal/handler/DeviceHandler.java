@@ -272,6 +272,9 @@ public class DeviceHandler extends BaseThingHandler implements DeviceStatusListe
                 logger.debug("Command sent to an unknown channel id: {}", channelUID);
             }
         }
+        if (!(command instanceof RefreshType)) {
+            dssBridgeHandler.updateDevice(device);
+        }
     }
 
     private int fromPercentToValue(int percent, int max) {
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.digitalstrom.internal.lib.manager;
 
+import java.util.Map;
+
 import org.openhab.binding.digitalstrom.internal.lib.event.EventHandler;
 import org.openhab.binding.digitalstrom.internal.lib.listener.ConnectionListener;
 import org.openhab.binding.digitalstrom.internal.lib.listener.DeviceStatusListener;
@@ -23,6 +25,7 @@ import org.openhab.binding.digitalstrom.internal.lib.listener.stateenums.Manager
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.Device;
 import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.DeviceStateUpdate;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DSID;
 import org.openhab.binding.digitalstrom.internal.lib.structure.scene.InternalScene;
 
 /**
@@ -110,6 +113,14 @@ public interface DeviceStatusManager extends EventHandler {
      */
     void sendComandsToDSS(Device device, DeviceStateUpdate deviceStateUpdate);
 
+    /**
+     * Sends the outstanding commands of the given {@link Device} to the digitalSTROM-Server without waiting for the
+     * next polling cycle. The commands are sent asynchronously.
+     *
+     * @param device device with outstanding commands
+     */
+    void updateDevice(Device device);
+
     /**
      * This method adds a {@link SensorJob} with the appropriate priority to the {@link SensorJob}.
      *
@@ -118,6 +129,14 @@ public interface DeviceStatusManager extends EventHandler {
      */
     void updateSensorData(SensorJob sensorJob, String priority);
 
+    /**
+     * Returns the number of waiting sensor and scene reading {@link SensorJob}s for each circuit, identified by the
+     * dSID of its dS-Meter.
+     *
+     * @return queue depth per circuit
+     */
+    Map<DSID, Integer> getSensorJobQueueDepths();
+
     /**
      * This method adds a {@link SensorJob} with the appropriate priority to the {@link SceneReadingJobExecutor}.
      *
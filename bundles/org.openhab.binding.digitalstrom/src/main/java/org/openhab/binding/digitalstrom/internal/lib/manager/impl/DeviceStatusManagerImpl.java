@@ -88,8 +88,11 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
     public static final List<String> SUPPORTED_EVENTS = Arrays.asList(EventNames.DEVICE_SENSOR_VALUE,
             EventNames.DEVICE_BINARY_INPUT_EVENT);
 
+    private static final long MIN_SCENE_CALL_INTERVAL = 1000;
+
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(Config.THREADPOOL_NAME);
     private ScheduledFuture<?> pollingScheduler;
+    private final Object deviceUpdateLock = new Object();
 
     /**
      * Query to get all {@link Device}'s with more informations than {@link DsAPI#getApartmentDevices(String)}. Can be
@@ -271,6 +274,9 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
                     }
                 }
                 getMeterData();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Waiting sensor and scene reading jobs per circuit: {}", getSensorJobQueueDepths());
+                }
                 nextSensorUpdate = System.currentTimeMillis() + config.getTotalPowerUpdateInterval();
             }
 
@@ -283,32 +289,8 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
                     checkDeviceConfig(currentDevice, eshDevice);
 
                     if (eshDevice.isPresent()) {
-                        // check device state updates
-                        while (!eshDevice.isDeviceUpToDate()) {
-                            DeviceStateUpdate deviceStateUpdate = eshDevice.getNextDeviceUpdateState();
-                            if (deviceStateUpdate != null) {
-                                switch (deviceStateUpdate.getType()) {
-                                    case DeviceStateUpdate.OUTPUT:
-                                    case DeviceStateUpdate.SLAT_ANGLE_INCREASE:
-                                    case DeviceStateUpdate.SLAT_ANGLE_DECREASE:
-                                        filterCommand(deviceStateUpdate, eshDevice);
-                                        break;
-                                    case DeviceStateUpdate.UPDATE_SCENE_CONFIG:
-                                    case DeviceStateUpdate.UPDATE_SCENE_OUTPUT:
-                                        updateSceneData(eshDevice, deviceStateUpdate);
-                                        break;
-                                    case DeviceStateUpdate.UPDATE_OUTPUT_VALUE:
-                                        if (deviceStateUpdate.getValueAsInteger() > -1) {
-                                            readOutputValue(eshDevice);
-                                        } else {
-                                            removeSensorJob(eshDevice, deviceStateUpdate);
-                                        }
-                                        break;
-                                    default:
-                                        sendComandsToDSS(eshDevice, deviceStateUpdate);
-                                }
-                            }
-                        }
+                        // send the commands, which have not been sent by a command trigger yet
+                        handleDeviceStateUpdates(eshDevice);
                     }
 
                 } else {
@@ -659,51 +641,60 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
         strucMan.updateDevice(newDevice);
     }
 
-    private long lastSceneCall = 0;
-    private long sleepTime = 0;
+    private long nextSceneCallTime = 0;
 
     @Override
-    public synchronized void sendSceneComandsToDSS(InternalScene scene, boolean call_undo) {
+    public synchronized void sendSceneComandsToDSS(final InternalScene scene, final boolean call_undo) {
         if (scene != null) {
-            if (lastSceneCall + 1000 > System.currentTimeMillis()) {
-                sleepTime = System.currentTimeMillis() - lastSceneCall;
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    logger.debug("An InterruptedException occurred", e);
-                }
+            // the dSS accepts one scene call per second, later calls are delayed instead of blocking the caller
+            long now = System.currentTimeMillis();
+            long delay = nextSceneCallTime - now;
+            nextSceneCallTime = Math.max(now, nextSceneCallTime) + MIN_SCENE_CALL_INTERVAL;
+            if (delay > 0) {
+                logger.debug("Delay call of scene {} for {} ms", scene.getID(), delay);
+                scheduler.schedule(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        callSceneOnDSS(scene, call_undo);
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+            } else {
+                callSceneOnDSS(scene, call_undo);
             }
-            lastSceneCall = System.currentTimeMillis();
-            boolean requestSuccessful = false;
-            if (scene.getZoneID() == 0) {
-                if (call_undo) {
-                    logger.debug("{} {} {}", scene.getGroupID(), scene.getSceneID(),
-                            ApartmentSceneEnum.getApartmentScene(scene.getSceneID()));
-                    requestSuccessful = this.digitalSTROMClient.callApartmentScene(connMan.getSessionToken(),
-                            scene.getGroupID(), null, ApartmentSceneEnum.getApartmentScene(scene.getSceneID()), false);
-                } else {
-                    requestSuccessful = this.digitalSTROMClient.undoApartmentScene(connMan.getSessionToken(),
-                            scene.getGroupID(), null, ApartmentSceneEnum.getApartmentScene(scene.getSceneID()));
-                }
+        }
+    }
+
+    private void callSceneOnDSS(InternalScene scene, boolean call_undo) {
+        boolean requestSuccessful = false;
+        if (scene.getZoneID() == 0) {
+            if (call_undo) {
+                logger.debug("{} {} {}", scene.getGroupID(), scene.getSceneID(),
+                        ApartmentSceneEnum.getApartmentScene(scene.getSceneID()));
+                requestSuccessful = this.digitalSTROMClient.callApartmentScene(connMan.getSessionToken(),
+                        scene.getGroupID(), null, ApartmentSceneEnum.getApartmentScene(scene.getSceneID()), false);
             } else {
-                if (call_undo) {
-                    requestSuccessful = this.digitalSTROMClient.callZoneScene(connMan.getSessionToken(),
-                            scene.getZoneID(), null, scene.getGroupID(), null, SceneEnum.getScene(scene.getSceneID()),
-                            false);
-                } else {
-                    requestSuccessful = this.digitalSTROMClient.undoZoneScene(connMan.getSessionToken(),
-                            scene.getZoneID(), null, scene.getGroupID(), null, SceneEnum.getScene(scene.getSceneID()));
-                }
+                requestSuccessful = this.digitalSTROMClient.undoApartmentScene(connMan.getSessionToken(),
+                        scene.getGroupID(), null, ApartmentSceneEnum.getApartmentScene(scene.getSceneID()));
+            }
+        } else {
+            if (call_undo) {
+                requestSuccessful = this.digitalSTROMClient.callZoneScene(connMan.getSessionToken(),
+                        scene.getZoneID(), null, scene.getGroupID(), null, SceneEnum.getScene(scene.getSceneID()),
+                        false);
+            } else {
+                requestSuccessful = this.digitalSTROMClient.undoZoneScene(connMan.getSessionToken(),
+                        scene.getZoneID(), null, scene.getGroupID(), null, SceneEnum.getScene(scene.getSceneID()));
             }
+        }
 
-            logger.debug("Was the scene call succsessful?: {}", requestSuccessful);
-            if (requestSuccessful) {
-                this.sceneMan.addEcho(scene.getID());
-                if (call_undo) {
-                    scene.activateScene();
-                } else {
-                    scene.deactivateScene();
-                }
+        logger.debug("Was the scene call succsessful?: {}", requestSuccessful);
+        if (requestSuccessful) {
+            this.sceneMan.addEcho(scene.getID());
+            if (call_undo) {
+                scene.activateScene();
+            } else {
+                scene.deactivateScene();
             }
         }
     }
@@ -747,46 +738,82 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
         }
     }
 
+    @Override
+    public void updateDevice(final Device eshDevice) {
+        if (eshDevice != null && eshDevice.isPresent()) {
+            scheduler.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    handleDeviceStateUpdates(eshDevice);
+                }
+            });
+        }
+    }
+
     /**
-     * Updates the {@link Device} status of the given {@link Device} with handling outstanding commands, which are saved
-     * as {@link DeviceStateUpdate}'s.
+     * Sends the outstanding commands of the given {@link Device}, which are saved as {@link DeviceStateUpdate}'s, in
+     * the order they were added. Concurrent calls from the polling and from command triggers are serialized.
      *
      * @param eshDevice to update
      */
-    public synchronized void updateDevice(Device eshDevice) {
-        logger.debug("Check device updates");
-        // check device state updates
-        while (!eshDevice.isDeviceUpToDate()) {
-            DeviceStateUpdate deviceStateUpdate = eshDevice.getNextDeviceUpdateState();
-            if (deviceStateUpdate != null) {
-                if (deviceStateUpdate.getType() != DeviceStateUpdate.OUTPUT) {
-                    if (deviceStateUpdate.getType() == DeviceStateUpdate.UPDATE_SCENE_CONFIG
-                            || deviceStateUpdate.getType() == DeviceStateUpdate.UPDATE_SCENE_OUTPUT) {
-                        updateSceneData(eshDevice, deviceStateUpdate);
-                    } else {
-                        sendComandsToDSS(eshDevice, deviceStateUpdate);
-                    }
-                } else {
-                    DeviceStateUpdate nextDeviceStateUpdate = eshDevice.getNextDeviceUpdateState();
-                    while (nextDeviceStateUpdate != null
-                            && nextDeviceStateUpdate.getType() == DeviceStateUpdate.OUTPUT) {
-                        deviceStateUpdate = nextDeviceStateUpdate;
-                        nextDeviceStateUpdate = eshDevice.getNextDeviceUpdateState();
-                    }
-                    sendComandsToDSS(eshDevice, deviceStateUpdate);
-                    if (nextDeviceStateUpdate != null) {
-                        if (deviceStateUpdate.getType() == DeviceStateUpdate.UPDATE_SCENE_CONFIG
-                                || deviceStateUpdate.getType() == DeviceStateUpdate.UPDATE_SCENE_OUTPUT) {
-                            updateSceneData(eshDevice, deviceStateUpdate);
-                        } else {
-                            sendComandsToDSS(eshDevice, deviceStateUpdate);
-                        }
-                    }
+    private void handleDeviceStateUpdates(Device eshDevice) {
+        synchronized (deviceUpdateLock) {
+            if (eshDevice.isDeviceUpToDate()) {
+                return;
+            }
+            List<DeviceStateUpdate> deviceStateUpdates;
+            while (!(deviceStateUpdates = getMergedDeviceStateUpdates(eshDevice)).isEmpty()) {
+                for (DeviceStateUpdate deviceStateUpdate : deviceStateUpdates) {
+                    handleDeviceStateUpdate(eshDevice, deviceStateUpdate);
                 }
             }
         }
     }
 
+    /**
+     * Takes all outstanding {@link DeviceStateUpdate}'s of the given {@link Device}. Consecutive output value updates
+     * are merged into the last one, so a burst of e.g. dimmer values results in only one call to the dSS.
+     *
+     * @param eshDevice to take the updates from
+     * @return the updates in the order they were added
+     */
+    static List<DeviceStateUpdate> getMergedDeviceStateUpdates(Device eshDevice) {
+        LinkedList<DeviceStateUpdate> deviceStateUpdates = new LinkedList<>();
+        DeviceStateUpdate deviceStateUpdate;
+        while ((deviceStateUpdate = eshDevice.getNextDeviceUpdateState()) != null) {
+            if (DeviceStateUpdate.OUTPUT.equals(deviceStateUpdate.getType()) && !deviceStateUpdates.isEmpty()
+                    && DeviceStateUpdate.OUTPUT.equals(deviceStateUpdates.getLast().getType())) {
+                deviceStateUpdates.removeLast();
+            }
+            deviceStateUpdates.add(deviceStateUpdate);
+        }
+        return deviceStateUpdates;
+    }
+
+    private void handleDeviceStateUpdate(Device eshDevice, DeviceStateUpdate deviceStateUpdate) {
+        switch (deviceStateUpdate.getType()) {
+            case DeviceStateUpdate.OUTPUT:
+            case DeviceStateUpdate.SLAT_ANGLE_INCREASE:
+            case DeviceStateUpdate.SLAT_ANGLE_DECREASE:
+                filterCommand(deviceStateUpdate, eshDevice);
+                break;
+            case DeviceStateUpdate.UPDATE_SCENE_CONFIG:
+            case DeviceStateUpdate.UPDATE_SCENE_OUTPUT:
+                updateSceneData(eshDevice, deviceStateUpdate);
+                break;
+            case DeviceStateUpdate.UPDATE_OUTPUT_VALUE:
+                if (deviceStateUpdate.getValueAsInteger() > -1) {
+                    readOutputValue(eshDevice);
+                } else {
+                    removeSensorJob(eshDevice, deviceStateUpdate);
+                }
+                break;
+            default:
+                sendComandsToDSS(eshDevice, deviceStateUpdate);
+        }
+    }
+
     /**
      * Checks the output value of a {@link Device} and return 0, if the output value or slat position is min and 1, if
      * the output value or slat position is max, otherwise it returns -1.
@@ -1044,6 +1071,22 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
         }
     }
 
+    @Override
+    public Map<DSID, Integer> getSensorJobQueueDepths() {
+        Map<DSID, Integer> queueDepths = new HashMap<>();
+        if (sensorJobExecutor != null) {
+            queueDepths.putAll(sensorJobExecutor.getQueueDepths());
+        }
+        if (sceneJobExecutor != null) {
+            for (Entry<DSID, Integer> queueDepth : sceneJobExecutor.getQueueDepths().entrySet()) {
+                Integer sensorJobs = queueDepths.get(queueDepth.getKey());
+                queueDepths.put(queueDepth.getKey(),
+                        sensorJobs != null ? sensorJobs + queueDepth.getValue() : queueDepth.getValue());
+            }
+        }
+        return queueDepths;
+    }
+
     @Override
     public void updateSceneData(Device device, DeviceStateUpdate deviceStateUpdate) {
         if (sceneJobExecutor == null) {
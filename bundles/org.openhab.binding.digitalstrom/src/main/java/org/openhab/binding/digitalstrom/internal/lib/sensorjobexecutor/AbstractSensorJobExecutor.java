@@ -32,7 +32,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The {@link AbstractSensorJobExecutor} provides the working process to execute implementations of {@link SensorJob}'s
- * in the time interval set at the {@link Config}.
+ * in the time interval set at the {@link Config}. Each circuit is only scheduled while it has waiting
+ * {@link SensorJob}s, the next execution is planned at the time the dSM of the circuit allows the next reading.
  * <p>
  * The following methods can be overridden by subclasses to implement a execution priority:
  * </p>
@@ -61,6 +62,7 @@ public abstract class AbstractSensorJobExecutor {
 
     private class ExecutorRunnable implements Runnable {
         private final CircuitScheduler circuit;
+        private ScheduledFuture<?> future;
 
         public ExecutorRunnable(CircuitScheduler circuit) {
             this.circuit = circuit;
@@ -68,22 +70,11 @@ public abstract class AbstractSensorJobExecutor {
 
         @Override
         public void run() {
-            // pollingSchedulers is not final and might be set to null by another thread. See #8214
-            Map<DSID, ScheduledFuture<?>> pollingSchedulers = AbstractSensorJobExecutor.this.pollingSchedulers;
-
             SensorJob sensorJob = circuit.getNextSensorJob();
-            DSID meter = circuit.getMeterDSID();
-
             if (sensorJob != null) {
                 sensorJob.execute(dSAPI, connectionManager.getSessionToken());
             }
-            if (circuit.noMoreJobs() && pollingSchedulers != null) {
-                logger.debug("no more jobs... stop circuit schedduler with id = {}", meter);
-                ScheduledFuture<?> scheduler = pollingSchedulers.get(meter);
-                if (scheduler != null) {
-                    scheduler.cancel(true);
-                }
-            }
+            scheduleNextJob(this);
         }
     }
 
@@ -126,15 +117,53 @@ public abstract class AbstractSensorJobExecutor {
         }
     }
 
-    private void startSchedduler(CircuitScheduler circuit) {
-        if (pollingSchedulers != null) {
-            if (pollingSchedulers.get(circuit.getMeterDSID()) == null
-                    || pollingSchedulers.get(circuit.getMeterDSID()).isCancelled()) {
-                pollingSchedulers.put(circuit.getMeterDSID(),
-                        scheduler.scheduleWithFixedDelay(new ExecutorRunnable(circuit), circuit.getNextExecutionDelay(),
-                                config.getSensorReadingWaitTime(), TimeUnit.MILLISECONDS));
+    private synchronized void startSchedduler(CircuitScheduler circuit) {
+        if (pollingSchedulers != null && !circuit.noMoreJobs()) {
+            ScheduledFuture<?> pollingScheduler = pollingSchedulers.get(circuit.getMeterDSID());
+            if (pollingScheduler == null || pollingScheduler.isDone()) {
+                scheduleCircuit(circuit);
+            }
+        }
+    }
+
+    private void scheduleCircuit(CircuitScheduler circuit) {
+        ExecutorRunnable executorRunnable = new ExecutorRunnable(circuit);
+        executorRunnable.future = scheduler.schedule(executorRunnable, circuit.getNextExecutionDelay(),
+                TimeUnit.MILLISECONDS);
+        pollingSchedulers.put(circuit.getMeterDSID(), executorRunnable.future);
+    }
+
+    /**
+     * Schedules the next execution of the given circuit at the time the dSM allows the next reading, or releases the
+     * circuit scheduler, if there are no more {@link SensorJob}s. Called by the finished job of the circuit, which is
+     * ignored if the executor has been restarted in the meantime.
+     */
+    private synchronized void scheduleNextJob(ExecutorRunnable executorRunnable) {
+        CircuitScheduler circuit = executorRunnable.circuit;
+        if (pollingSchedulers == null || pollingSchedulers.get(circuit.getMeterDSID()) != executorRunnable.future) {
+            return;
+        }
+        if (circuit.noMoreJobs()) {
+            logger.debug("no more jobs... stop circuit schedduler with id = {}", circuit.getMeterDSID());
+            pollingSchedulers.remove(circuit.getMeterDSID());
+        } else {
+            scheduleCircuit(circuit);
+        }
+    }
+
+    /**
+     * Returns the number of waiting {@link SensorJob}s for each circuit, identified by the dSID of its dS-Meter.
+     *
+     * @return queue depth per circuit
+     */
+    public Map<DSID, Integer> getQueueDepths() {
+        Map<DSID, Integer> queueDepths = new HashMap<>();
+        synchronized (this.circuitSchedulerList) {
+            for (CircuitScheduler circuit : this.circuitSchedulerList) {
+                queueDepths.put(circuit.getMeterDSID(), circuit.getQueueSize());
             }
         }
+        return queueDepths;
     }
 
     /**
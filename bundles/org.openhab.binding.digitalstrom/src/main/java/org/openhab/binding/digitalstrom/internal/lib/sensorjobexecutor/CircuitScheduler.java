@@ -191,6 +191,17 @@ public class CircuitScheduler {
         }
     }
 
+    /**
+     * Returns the number of waiting {@link SensorJob}s.
+     *
+     * @return number of SensorJobs
+     */
+    public int getQueueSize() {
+        synchronized (sensorJobQueue) {
+            return this.sensorJobQueue.size();
+        }
+    }
+
     /**
      * Returns true, if there are no more {@link SensorJob}s to execute, otherwise false.
      *
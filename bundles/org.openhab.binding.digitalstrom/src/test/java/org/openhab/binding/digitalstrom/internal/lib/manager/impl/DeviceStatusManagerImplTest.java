@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.digitalstrom.internal.lib.manager.impl;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.Device;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.DeviceStateUpdate;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DeviceStateUpdateImpl;
+
+/**
+ * Tests the merging of the outstanding commands of a device in {@link DeviceStatusManagerImpl}.
+ *
+ * @author agent - Initial contribution
+ */
+public class DeviceStatusManagerImplTest {
+
+    @Test
+    public void testConsecutiveOutputUpdatesAreMerged() {
+        DeviceStateUpdate output1 = new DeviceStateUpdateImpl(DeviceStateUpdate.OUTPUT, 10);
+        DeviceStateUpdate output2 = new DeviceStateUpdateImpl(DeviceStateUpdate.OUTPUT, 20);
+        DeviceStateUpdate output3 = new DeviceStateUpdateImpl(DeviceStateUpdate.OUTPUT, 30);
+
+        List<DeviceStateUpdate> updates = DeviceStatusManagerImpl
+                .getMergedDeviceStateUpdates(mockDevice(output1, output2, output3));
+
+        assertEquals(Arrays.asList(output3), updates);
+    }
+
+    @Test
+    public void testOtherUpdatesKeepTheirOrder() {
+        DeviceStateUpdate output1 = new DeviceStateUpdateImpl(DeviceStateUpdate.OUTPUT, 10);
+        DeviceStateUpdate output2 = new DeviceStateUpdateImpl(DeviceStateUpdate.OUTPUT, 20);
+        DeviceStateUpdate increase = new DeviceStateUpdateImpl(DeviceStateUpdate.OUTPUT_INCREASE, 0);
+        DeviceStateUpdate output3 = new DeviceStateUpdateImpl(DeviceStateUpdate.OUTPUT, 30);
+        DeviceStateUpdate output4 = new DeviceStateUpdateImpl(DeviceStateUpdate.OUTPUT, 40);
+
+        List<DeviceStateUpdate> updates = DeviceStatusManagerImpl
+                .getMergedDeviceStateUpdates(mockDevice(output1, output2, increase, output3, output4));
+
+        // an output value sent before another command must not be skipped
+        assertEquals(Arrays.asList(output2, increase, output4), updates);
+    }
+
+    @Test
+    public void testNoUpdates() {
+        assertTrue(DeviceStatusManagerImpl.getMergedDeviceStateUpdates(mockDevice()).isEmpty());
+    }
+
+    private Device mockDevice(DeviceStateUpdate... deviceStateUpdates) {
+        Device device = mock(Device.class);
+        DeviceStateUpdate[] nextUpdates = Arrays.copyOf(deviceStateUpdates, deviceStateUpdates.length + 1);
+        when(device.getNextDeviceUpdateState()).thenReturn(nextUpdates[0],
+                Arrays.copyOfRange(nextUpdates, 1, nextUpdates.length));
+        return device;
+    }
+}
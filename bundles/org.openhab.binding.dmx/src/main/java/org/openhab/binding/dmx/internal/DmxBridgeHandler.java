@@ -50,17 +50,33 @@ import org.slf4j.LoggerFactory;
 
 public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     public static final int DEFAULT_REFRESH_RATE = 20;
+    public static final long STATISTICS_PERIOD = TimeUnit.MINUTES.toNanos(1);
 
     private final Logger logger = LoggerFactory.getLogger(DmxBridgeHandler.class);
 
     protected Universe universe;
 
+    private final DmxOutputEngine outputEngine;
+    private boolean registeredAtOutputEngine = false;
     private ScheduledFuture<?> senderJob;
     private boolean isMuted = false;
     private int refreshTime = 1000 / DEFAULT_REFRESH_RATE;
+    private volatile FrameStatistics frameStatistics = new FrameStatistics(refreshTime);
 
     public DmxBridgeHandler(Bridge dmxBridge) {
+        this(dmxBridge, null);
+    }
+
+    /**
+     * constructor for bridges that send their frames in the given output engine
+     *
+     * @param dmxBridge the bridge
+     * @param outputEngine the output engine shared with other bridges, if null the bridge sends on its own. Bridges
+     *            which may block while sending must not share the engine, as they would stall all other bridges.
+     */
+    public DmxBridgeHandler(Bridge dmxBridge, DmxOutputEngine outputEngine) {
         super(dmxBridge);
+        this.outputEngine = outputEngine;
     }
 
     @Override
@@ -148,35 +164,83 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
      */
     protected abstract void sendDmxData();
 
+    /**
+     * send the synchronization packet after the frames of all bridges sharing the frame clock have been sent
+     *
+     * @param frame the frame of the output engine
+     */
+    protected void sendSyncPacket(DmxOutputEngine.Frame frame) {
+        // synchronization is not supported by default
+    }
+
+    /**
+     * send one frame of the universe, called by the scheduler
+     */
+    void sendFrame() {
+        logger.trace("runnable packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
+                getThing().getStatus(), isMuted);
+        updateFrameStatistics();
+        if (!isMuted) {
+            sendDmxData();
+        } else {
+            logger.trace("bridge {} is muted", getThing().getUID());
+        }
+    }
+
     /**
      * install the sending and updating scheduler
      */
     protected void installScheduler() {
-        if (senderJob != null) {
+        if (senderJob != null || registeredAtOutputEngine) {
             uninstallScheduler();
         }
         if (refreshTime > 0) {
-            senderJob = scheduler.scheduleAtFixedRate(() -> {
-                logger.trace("runnable packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
-                        getThing().getStatus(), isMuted);
-                if (!isMuted) {
-                    sendDmxData();
-                } else {
-                    logger.trace("bridge {} is muted", getThing().getUID());
-                }
-            }, 1, refreshTime, TimeUnit.MILLISECONDS);
+            frameStatistics = new FrameStatistics(refreshTime);
+            if (outputEngine != null) {
+                outputEngine.register(this, refreshTime);
+                registeredAtOutputEngine = true;
+            } else {
+                senderJob = scheduler.scheduleAtFixedRate(this::sendFrame, 1, refreshTime, TimeUnit.MILLISECONDS);
+            }
             logger.trace("started scheduler for thing {}", this.thing.getUID());
         } else {
             logger.info("refresh disabled for thing {}", this.thing.getUID());
         }
     }
 
+    /**
+     * record a frame tick and periodically report the achieved frame rate and jitter
+     */
+    private void updateFrameStatistics() {
+        frameStatistics.frame(System.nanoTime());
+        if (frameStatistics.getPeriodNanos() >= STATISTICS_PERIOD) {
+            logger.debug("bridge {} achieved {} frames/s (configured {}), jitter mean {} us, max {} us",
+                    this.thing.getUID(), String.format("%.1f", frameStatistics.getFrameRate()),
+                    String.format("%.1f", 1000.0 / refreshTime), frameStatistics.getMeanJitterMicros(),
+                    frameStatistics.getMaxJitterMicros());
+            frameStatistics.reset();
+        }
+    }
+
+    /**
+     * get the frame statistics of the current reporting period
+     *
+     * @return the {@link FrameStatistics} of this bridge
+     */
+    public FrameStatistics getFrameStatistics() {
+        return frameStatistics;
+    }
+
     /**
      * uninstall the sending and updating scheduler
      */
     protected void uninstallScheduler() {
-        if (senderJob != null) {
-            if (!senderJob.isCancelled()) {
+        if (senderJob != null || registeredAtOutputEngine) {
+            if (registeredAtOutputEngine) {
+                outputEngine.unregister(this);
+                registeredAtOutputEngine = false;
+            }
+            if (senderJob != null && !senderJob.isCancelled()) {
                 senderJob.cancel(true);
             }
             senderJob = null;
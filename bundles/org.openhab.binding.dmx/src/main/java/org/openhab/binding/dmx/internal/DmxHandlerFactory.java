@@ -14,6 +14,7 @@ package org.openhab.binding.dmx.internal;
 
 import static org.openhab.binding.dmx.internal.DmxBindingConstants.*;
 
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
@@ -37,6 +38,7 @@ import org.osgi.service.component.annotations.Component;
  */
 @Component(service = ThingHandlerFactory.class, configurationPid = "binding.dmx")
 public class DmxHandlerFactory extends BaseThingHandlerFactory {
+    private final DmxOutputEngine outputEngine = new DmxOutputEngine(ThreadPoolManager.getScheduledPool(BINDING_ID));
 
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -47,13 +49,14 @@ public class DmxHandlerFactory extends BaseThingHandlerFactory {
     protected ThingHandler createHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (thingTypeUID.equals(THING_TYPE_ARTNET_BRIDGE)) {
-            ArtnetBridgeHandler handler = new ArtnetBridgeHandler((Bridge) thing);
+            ArtnetBridgeHandler handler = new ArtnetBridgeHandler((Bridge) thing, outputEngine);
             return handler;
         } else if (thingTypeUID.equals(THING_TYPE_LIB485_BRIDGE)) {
+            // writing to the TCP socket may block, so the bridge sends on its own and doesn't stall the other bridges
             Lib485BridgeHandler handler = new Lib485BridgeHandler((Bridge) thing);
             return handler;
         } else if (thingTypeUID.equals(THING_TYPE_SACN_BRIDGE)) {
-            SacnBridgeHandler handler = new SacnBridgeHandler((Bridge) thing);
+            SacnBridgeHandler handler = new SacnBridgeHandler((Bridge) thing, outputEngine);
             return handler;
         } else if (thingTypeUID.equals(THING_TYPE_DIMMER)) {
             DimmerThingHandler handler = new DimmerThingHandler(thing);
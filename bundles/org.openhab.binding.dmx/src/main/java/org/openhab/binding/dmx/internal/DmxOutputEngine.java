@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link DmxOutputEngine} drives the output of all DMX bridges of the binding. Bridges with the same refresh
+ * rate share one frame clock, so the frames of their universes are sent in the same run. After the frames, the
+ * bridges send their synchronization packets, which makes receivers supporting it output all universes at once.
+ * As receivers only synchronize the universes of one source, all bridges send with the same sender id.
+ * The frames are sent sequentially, so only bridges sending without blocking (UDP) are registered here.
+ *
+ * @author agent - Initial contribution
+ */
+public class DmxOutputEngine {
+    private final Logger logger = LoggerFactory.getLogger(DmxOutputEngine.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final UUID senderUUID = UUID.randomUUID();
+    private final Map<Integer, FrameClock> frameClocks = new HashMap<>();
+
+    /**
+     * a frame clock, sending the frames of all bridges with the same refresh time
+     */
+    private static class FrameClock {
+        private final List<DmxBridgeHandler> bridges = new CopyOnWriteArrayList<>();
+        private ScheduledFuture<?> job;
+        private int sequenceNo = 0;
+
+        private Frame nextFrame() {
+            Frame frame = new Frame(sequenceNo);
+            sequenceNo = (sequenceNo + 1) % 256;
+            return frame;
+        }
+    }
+
+    /**
+     * a frame sent to all bridges of a frame clock
+     */
+    public static class Frame {
+        private final int sequenceNo;
+        private final Set<String> sentSyncPackets = new HashSet<>();
+
+        Frame(int sequenceNo) {
+            this.sequenceNo = sequenceNo;
+        }
+
+        /**
+         * get the sequence number of the frame, used for the synchronization packets
+         *
+         * @return sequence number (0-255)
+         */
+        public int getSequenceNo() {
+            return sequenceNo;
+        }
+
+        /**
+         * mark a synchronization packet as sent, as several universes may share one synchronization universe
+         *
+         * @param key identifies the synchronization universe and the receiver
+         * @return true if the packet has not been sent in this frame before
+         */
+        public boolean markSyncPacketSent(String key) {
+            return sentSyncPackets.add(key);
+        }
+    }
+
+    public DmxOutputEngine(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * get the sender id shared by all bridges
+     *
+     * @return the UUID
+     */
+    public UUID getSenderUUID() {
+        return senderUUID;
+    }
+
+    /**
+     * register a bridge to send its frames, a previous registration is replaced
+     *
+     * @param bridge the bridge
+     * @param refreshTime the time between two frames in ms
+     */
+    public synchronized void register(DmxBridgeHandler bridge, int refreshTime) {
+        unregister(bridge);
+        FrameClock frameClock = frameClocks.get(refreshTime);
+        if (frameClock == null) {
+            FrameClock newFrameClock = new FrameClock();
+            newFrameClock.job = scheduler.scheduleAtFixedRate(
+                    () -> sendFrames(newFrameClock.bridges, newFrameClock.nextFrame()), 1, refreshTime,
+                    TimeUnit.MILLISECONDS);
+            frameClocks.put(refreshTime, newFrameClock);
+            frameClock = newFrameClock;
+            logger.debug("started frame clock with {} ms", refreshTime);
+        }
+        frameClock.bridges.add(bridge);
+    }
+
+    /**
+     * stop sending the frames of a bridge
+     *
+     * @param bridge the bridge
+     */
+    public synchronized void unregister(DmxBridgeHandler bridge) {
+        frameClocks.entrySet().removeIf(entry -> {
+            FrameClock frameClock = entry.getValue();
+            if (frameClock.bridges.remove(bridge) && frameClock.bridges.isEmpty()) {
+                frameClock.job.cancel(false);
+                logger.debug("stopped frame clock with {} ms", entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * send one frame of each bridge, followed by the synchronization packets
+     *
+     * @param bridges the bridges sharing a frame clock
+     * @param frame the frame
+     */
+    void sendFrames(List<DmxBridgeHandler> bridges, Frame frame) {
+        for (DmxBridgeHandler bridge : bridges) {
+            try {
+                bridge.sendFrame();
+            } catch (RuntimeException e) {
+                logger.warn("sending the DMX frame of bridge {} failed: {}", bridge.getThing().getUID(),
+                        e.getMessage());
+            }
+        }
+        for (DmxBridgeHandler bridge : bridges) {
+            try {
+                bridge.sendSyncPacket(frame);
+            } catch (RuntimeException e) {
+                logger.warn("sending the synchronization packet of bridge {} failed: {}",
+                        bridge.getThing().getUID(), e.getMessage());
+            }
+        }
+    }
+}
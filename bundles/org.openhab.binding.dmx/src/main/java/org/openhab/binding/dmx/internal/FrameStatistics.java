@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal;
+
+/**
+ * The {@link FrameStatistics} measures the achieved output frame rate and the jitter of the frame intervals of a
+ * bridge over a reporting period
+ *
+ * @author agent - Initial contribution
+ */
+public class FrameStatistics {
+    private final long expectedIntervalNanos;
+
+    private long periodStart = 0;
+    private long lastFrame = 0;
+    private int frameCount = 0;
+    private long maxJitterNanos = 0;
+    private long sumJitterNanos = 0;
+
+    /**
+     * constructor
+     *
+     * @param expectedIntervalMillis the configured time between two frames in ms
+     */
+    public FrameStatistics(int expectedIntervalMillis) {
+        this.expectedIntervalNanos = expectedIntervalMillis * 1_000_000L;
+    }
+
+    /**
+     * record a frame tick
+     *
+     * @param nanoTime the time of the tick as given by {@link System#nanoTime()}
+     */
+    public synchronized void frame(long nanoTime) {
+        if (frameCount == 0) {
+            periodStart = nanoTime;
+        } else {
+            long jitter = Math.abs((nanoTime - lastFrame) - expectedIntervalNanos);
+            sumJitterNanos += jitter;
+            if (jitter > maxJitterNanos) {
+                maxJitterNanos = jitter;
+            }
+        }
+        lastFrame = nanoTime;
+        frameCount++;
+    }
+
+    /**
+     * get the length of the current reporting period
+     *
+     * @return period in ns
+     */
+    public synchronized long getPeriodNanos() {
+        return frameCount == 0 ? 0 : lastFrame - periodStart;
+    }
+
+    /**
+     * get the achieved frame rate in the current reporting period
+     *
+     * @return frames per second
+     */
+    public synchronized double getFrameRate() {
+        long period = getPeriodNanos();
+        return period == 0 ? 0 : (frameCount - 1) * 1e9 / period;
+    }
+
+    /**
+     * get the mean deviation of the frame intervals from the configured interval
+     *
+     * @return mean jitter in µs
+     */
+    public synchronized long getMeanJitterMicros() {
+        return frameCount < 2 ? 0 : sumJitterNanos / (frameCount - 1) / 1000;
+    }
+
+    /**
+     * get the maximum deviation of a frame interval from the configured interval
+     *
+     * @return maximum jitter in µs
+     */
+    public synchronized long getMaxJitterMicros() {
+        return maxJitterNanos / 1000;
+    }
+
+    /**
+     * start a new reporting period
+     */
+    public synchronized void reset() {
+        frameCount = 0;
+        maxJitterNanos = 0;
+        sumJitterNanos = 0;
+    }
+}
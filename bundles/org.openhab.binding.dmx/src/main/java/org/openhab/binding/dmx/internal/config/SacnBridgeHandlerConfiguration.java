@@ -27,4 +27,5 @@ public class SacnBridgeHandlerConfiguration {
     public String address = "";
     public String localaddress = "";
     public String refreshmode = "standard";
+    public int syncuniverse = 0;
 }
@@ -23,6 +23,7 @@ import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.openhab.binding.dmx.internal.DmxBridgeHandler;
+import org.openhab.binding.dmx.internal.DmxOutputEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,8 +42,10 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     protected List<IpNode> receiverNodes = new ArrayList<>();
 
     protected boolean refreshAlways = false;
+    protected boolean dataSent = false;
 
     DatagramSocket socket = null;
+    private DatagramPacket dataPacket = null;
     private long lastSend = 0;
     private int repeatCounter = 0;
     private int sequenceNo = 0;
@@ -101,17 +104,23 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                 repeatCounter++;
             }
             if (needsSending) {
-                packetTemplate.setPayload(universe.getBuffer(), universe.getBufferSize());
+                // the payload is copied directly into the packet, which is reused for every frame
+                packetTemplate.setPayload(universe);
                 packetTemplate.setSequence(sequenceNo);
-                DatagramPacket sendPacket = new DatagramPacket(packetTemplate.getRawPacket(),
-                        packetTemplate.getPacketLength());
+                DatagramPacket dataPacket = this.dataPacket;
+                if (dataPacket == null || dataPacket.getData() != packetTemplate.getRawPacket()) {
+                    dataPacket = new DatagramPacket(packetTemplate.getRawPacket(), packetTemplate.getPacketLength());
+                    this.dataPacket = dataPacket;
+                } else {
+                    dataPacket.setLength(packetTemplate.getPacketLength());
+                }
                 for (IpNode receiverNode : receiverNodes) {
-                    sendPacket.setAddress(receiverNode.getAddress());
-                    sendPacket.setPort(receiverNode.getPort());
+                    dataPacket.setAddress(receiverNode.getAddress());
+                    dataPacket.setPort(receiverNode.getPort());
                     logger.trace("sending packet with length {} to {}", packetTemplate.getPacketLength(),
                             receiverNode.toString());
                     try {
-                        socket.send(sendPacket);
+                        socket.send(dataPacket);
                     } catch (IOException e) {
                         logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
                                 e.getMessage());
@@ -120,13 +129,37 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                 }
                 lastSend = now;
                 sequenceNo = (sequenceNo + 1) % 256;
+                dataSent = true;
             }
         } else {
             openConnection();
         }
     }
 
+    /**
+     * send a packet which is not part of the DMX data, e.g. a synchronization packet
+     *
+     * @param packet byte array with the raw packet data
+     * @param packetLength length of the packet
+     * @param receiverNode the receiver
+     */
+    protected void sendPacket(byte[] packet, int packetLength, IpNode receiverNode) {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.send(new DatagramPacket(packet, packetLength, receiverNode.getAddress(), receiverNode.getPort()));
+        } catch (IOException e) {
+            logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(), e.getMessage());
+            closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
+        }
+    }
+
     public DmxOverEthernetHandler(Bridge sacnBridge) {
         super(sacnBridge);
     }
+
+    public DmxOverEthernetHandler(Bridge sacnBridge, DmxOutputEngine outputEngine) {
+        super(sacnBridge, outputEngine);
+    }
 }
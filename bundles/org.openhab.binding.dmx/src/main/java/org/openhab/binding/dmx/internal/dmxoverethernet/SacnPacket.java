@@ -84,7 +84,7 @@ public class SacnPacket extends DmxOverEthernetPacket {
             rawPacket[i] = 0x00;
         }
         rawPacket[108] = 0x64; // priority (default 100), 1 byte
-        rawPacket[109] = 0x00; // reserved, 2 bytes
+        rawPacket[109] = 0x00; // synchronization universe (0 = none), 2 bytes
         rawPacket[110] = 0x00;
         rawPacket[111] = 0x00; // sequence number, 1 byte
         rawPacket[112] = 0x00; // options, 1 byte
@@ -164,6 +164,17 @@ public class SacnPacket extends DmxOverEthernetPacket {
         logger.debug("set packet priority to {}", priority);
     }
 
+    /**
+     * set synchronization universe
+     *
+     * @param syncUniverseId the universe of the synchronization packets the receivers wait for, 0 to output the
+     *            data immediately
+     */
+    public void setSyncUniverse(int syncUniverseId) {
+        rawPacket[109] = (byte) (syncUniverseId / 256);
+        rawPacket[110] = (byte) (syncUniverseId % 256);
+    }
+
     @Override
     public void setPayload(byte[] payload) {
         System.arraycopy(payload, 0, rawPacket, 126, payloadSize);
@@ -177,6 +188,11 @@ public class SacnPacket extends DmxOverEthernetPacket {
         setPayload(payload);
     }
 
+    @Override
+    protected int getPayloadOffset() {
+        return 126;
+    }
+
     @Override
     public int getPacketLength() {
         return (126 + this.payloadSize);
@@ -21,6 +21,7 @@ import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.openhab.binding.dmx.internal.DmxOutputEngine;
 import org.openhab.binding.dmx.internal.config.ArtnetBridgeHandlerConfiguration;
 import org.openhab.binding.dmx.internal.dmxoverethernet.ArtnetNode;
 import org.openhab.binding.dmx.internal.dmxoverethernet.ArtnetPacket;
@@ -46,6 +47,10 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
         super(artnetBridge);
     }
 
+    public ArtnetBridgeHandler(Bridge artnetBridge, DmxOutputEngine outputEngine) {
+        super(artnetBridge, outputEngine);
+    }
+
     @Override
     protected void updateConfiguration() {
         ArtnetBridgeHandlerConfiguration configuration = getConfig().as(ArtnetBridgeHandlerConfiguration.class);
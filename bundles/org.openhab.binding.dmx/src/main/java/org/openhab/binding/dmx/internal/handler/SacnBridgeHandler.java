@@ -16,6 +16,7 @@ import static org.openhab.binding.dmx.internal.DmxBindingConstants.THING_TYPE_SA
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -23,11 +24,14 @@ import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.openhab.binding.dmx.internal.DmxOutputEngine;
+import org.openhab.binding.dmx.internal.Util;
 import org.openhab.binding.dmx.internal.config.SacnBridgeHandlerConfiguration;
 import org.openhab.binding.dmx.internal.dmxoverethernet.DmxOverEthernetHandler;
 import org.openhab.binding.dmx.internal.dmxoverethernet.IpNode;
 import org.openhab.binding.dmx.internal.dmxoverethernet.SacnNode;
 import org.openhab.binding.dmx.internal.dmxoverethernet.SacnPacket;
+import org.openhab.binding.dmx.internal.dmxoverethernet.SacnSyncPacket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,10 +48,21 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
 
     private final Logger logger = LoggerFactory.getLogger(SacnBridgeHandler.class);
     private final UUID senderUUID;
+    private final SacnSyncPacket syncPacket;
+    private int syncUniverseId = 0;
+    private List<IpNode> syncNodes = new ArrayList<>();
 
     public SacnBridgeHandler(Bridge sacnBridge) {
         super(sacnBridge);
         senderUUID = UUID.randomUUID();
+        syncPacket = new SacnSyncPacket(senderUUID);
+    }
+
+    public SacnBridgeHandler(Bridge sacnBridge, DmxOutputEngine outputEngine) {
+        super(sacnBridge, outputEngine);
+        // receivers only synchronize universes of the same source
+        senderUUID = outputEngine.getSenderUUID();
+        syncPacket = new SacnSyncPacket(senderUUID);
     }
 
     @Override
@@ -86,12 +101,45 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
         refreshAlways = configuration.refreshmode.equals("always");
         logger.debug("refresh mode set to always: {}", refreshAlways);
 
+        if (configuration.syncuniverse > 0) {
+            syncUniverseId = Util.coerceToRange(configuration.syncuniverse, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID, logger,
+                    "syncuniverse");
+            if (configuration.mode.equals("unicast")) {
+                syncNodes = receiverNodes;
+            } else {
+                syncNodes = new ArrayList<>();
+                syncNodes.add(SacnNode.getBroadcastNode(syncUniverseId));
+            }
+            logger.debug("synchronizing with universe {} via {} for {}", syncUniverseId, syncNodes,
+                    this.thing.getUID());
+        } else {
+            syncUniverseId = 0;
+            syncNodes = new ArrayList<>();
+        }
+        ((SacnPacket) packetTemplate).setSyncUniverse(syncUniverseId);
+        syncPacket.setSyncUniverse(syncUniverseId);
+
         updateStatus(ThingStatus.UNKNOWN);
         super.updateConfiguration();
 
         logger.debug("updated configuration for sACN/E1.31 bridge {}", this.thing.getUID());
     }
 
+    @Override
+    protected void sendSyncPacket(DmxOutputEngine.Frame frame) {
+        if (syncUniverseId == 0 || !dataSent) {
+            return;
+        }
+        dataSent = false;
+        syncPacket.setSequence(frame.getSequenceNo());
+        for (IpNode syncNode : syncNodes) {
+            if (frame.markSyncPacketSent(syncUniverseId + "@" + syncNode)) {
+                logger.trace("sending synchronization packet for universe {} to {}", syncUniverseId, syncNode);
+                sendPacket(syncPacket.getRawPacket(), syncPacket.getPacketLength(), syncNode);
+            }
+        }
+    }
+
     @Override
     public void initialize() {
         logger.debug("initializing sACN/E1.31 bridge {}", this.thing.getUID());
@@ -263,7 +263,11 @@ public class DmxChannel extends BaseDmxChannel {
      * @param calculationTime UNIX timestamp
      * @return value 0-65535
      */
-    public synchronized Integer getNewHiResValue(long calculationTime) {
+    public synchronized int getNewHiResValue(long calculationTime) {
+        if (!hasRunningActions() && lastStateValue == value) {
+            // idle channel, nothing to calculate and no state update pending
+            return value;
+        }
         if (hasRunningActions()) {
             logger.trace("checking actions, list is {}", actions);
             BaseAction action = actions.get(0);
@@ -13,6 +13,7 @@
 package org.openhab.binding.dmx.internal.multiverse;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
@@ -45,7 +46,7 @@ public class Universe {
     private int refreshTime = DEFAULT_REFRESH_TIME;
 
     private final List<DmxChannel> channels = new ArrayList<>();
-    private final List<Integer> applyCurve = new ArrayList<>();
+    private final boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
 
     /**
      * universe constructor
@@ -184,7 +185,7 @@ public class Universe {
                 int channelId = channel.getChannelId();
                 int vx = channel.getNewHiResValue(time);
                 int value;
-                if (applyCurve.contains(channelId)) {
+                if (applyCurve[channelId]) {
                     value = cie1931Curve[vx];
                 } else {
                     value = vx >> 8;
@@ -206,15 +207,28 @@ public class Universe {
      */
     public byte[] getBuffer() {
         byte[] b = new byte[bufferSize];
+        copyBuffer(b, 0);
+        return b;
+    }
+
+    /**
+     * copy the universe buffer into an existing array (e.g. the payload of a packet) without allocating
+     *
+     * @param target the array to copy the channel values to
+     * @param offset the position of the first channel in the target array
+     * @return number of channels copied (i.e. the buffer size)
+     */
+    public int copyBuffer(byte[] target, int offset) {
         universeLock.lock();
         try {
-            for (int i = 0; i < bufferSize; i++) {
-                b[i] = (byte) buffer[i];
+            int size = bufferSize;
+            for (int i = 0; i < size; i++) {
+                target[offset + i] = (byte) buffer[i];
             }
+            return size;
         } finally {
             universeLock.unlock();
         }
-        return b;
     }
 
     /**
@@ -223,11 +237,20 @@ public class Universe {
      * @param listString
      */
     public void setDimCurveChannels(String listString) {
-        applyCurve.clear();
+        List<Integer> curveChannels = new ArrayList<>();
         for (BaseDmxChannel channel : BaseDmxChannel.fromString(listString, universeId)) {
-            applyCurve.add(channel.getChannelId());
+            curveChannels.add(channel.getChannelId());
+        }
+        universeLock.lock();
+        try {
+            Arrays.fill(applyCurve, false);
+            for (int channelId : curveChannels) {
+                applyCurve[channelId] = true;
+            }
+        } finally {
+            universeLock.unlock();
         }
-        logger.debug("applying dim curve in universe {} to channels {}", universeId, applyCurve);
+        logger.debug("applying dim curve in universe {} to channels {}", universeId, curveChannels);
     }
 
     /**
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+/**
+ * Tests cases for DmxOutputEngine
+ *
+ * @author agent - Initial contribution
+ */
+public class DmxOutputEngineTest {
+
+    @Test
+    public void framesBeforeSyncPackets() {
+        DmxOutputEngine outputEngine = new DmxOutputEngine(mock(ScheduledExecutorService.class));
+        DmxBridgeHandler bridge1 = mock(DmxBridgeHandler.class);
+        DmxBridgeHandler bridge2 = mock(DmxBridgeHandler.class);
+        DmxOutputEngine.Frame frame = new DmxOutputEngine.Frame(5);
+
+        outputEngine.sendFrames(Arrays.asList(bridge1, bridge2), frame);
+
+        InOrder inOrder = inOrder(bridge1, bridge2);
+        inOrder.verify(bridge1).sendFrame();
+        inOrder.verify(bridge2).sendFrame();
+        inOrder.verify(bridge1).sendSyncPacket(frame);
+        inOrder.verify(bridge2).sendSyncPacket(frame);
+    }
+
+    @Test
+    public void syncPacketSentOncePerFrame() {
+        DmxOutputEngine.Frame frame = new DmxOutputEngine.Frame(5);
+
+        assertThat(frame.getSequenceNo(), is(5));
+        assertThat(frame.markSyncPacketSent("7@239.255.0.7:5568"), is(true));
+        assertThat(frame.markSyncPacketSent("7@239.255.0.7:5568"), is(false));
+        assertThat(frame.markSyncPacketSent("8@239.255.0.8:5568"), is(true));
+    }
+
+    @Test
+    public void bridgesWithSameRefreshTimeShareFrameClock() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        DmxOutputEngine outputEngine = new DmxOutputEngine(scheduler);
+        DmxBridgeHandler bridge1 = mock(DmxBridgeHandler.class);
+        DmxBridgeHandler bridge2 = mock(DmxBridgeHandler.class);
+
+        outputEngine.register(bridge1, 33);
+        outputEngine.register(bridge2, 33);
+        verify(scheduler, times(1)).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+
+        outputEngine.register(bridge2, 20);
+        verify(scheduler, times(2)).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests cases for FrameStatistics
+ *
+ * @author agent - Initial contribution
+ */
+public class FrameStatisticsTest {
+
+    @Test
+    public void frameRateAndJitter() {
+        FrameStatistics statistics = new FrameStatistics(20);
+
+        // 51 frames at exactly 20 ms, the last one 2 ms late
+        long time = 0;
+        for (int i = 0; i < 50; i++) {
+            statistics.frame(time);
+            time += 20_000_000L;
+        }
+        statistics.frame(time + 2_000_000L);
+
+        assertThat(statistics.getPeriodNanos(), is(1_002_000_000L));
+        assertThat(Math.round(statistics.getFrameRate()), is(50L));
+        assertThat(statistics.getMaxJitterMicros(), is(2000L));
+        assertThat(statistics.getMeanJitterMicros(), is(40L));
+
+        statistics.reset();
+        assertThat(statistics.getPeriodNanos(), is(0L));
+        assertThat(statistics.getMaxJitterMicros(), is(0L));
+    }
+}
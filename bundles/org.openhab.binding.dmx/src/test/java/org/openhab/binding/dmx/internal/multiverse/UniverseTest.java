@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal.multiverse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.eclipse.smarthome.core.thing.Thing;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests cases for Universe
+ *
+ * @author agent - Initial contribution
+ */
+public class UniverseTest {
+
+    Universe universe;
+    Thing thing;
+
+    @Before
+    public void setup() {
+        universe = new Universe(1);
+        thing = Mockito.mock(Thing.class);
+    }
+
+    @Test
+    public void copyBufferAtOffset() {
+        universe.registerChannel(new BaseDmxChannel(1, 1), thing).setValue(100);
+        universe.registerChannel(new BaseDmxChannel(1, 40), thing).setValue(200);
+        universe.calculateBuffer(System.currentTimeMillis());
+
+        byte[] target = new byte[10 + Universe.MAX_UNIVERSE_SIZE];
+        int length = universe.copyBuffer(target, 10);
+
+        assertThat(length, is(40));
+        assertThat(target[10] & 0xff, is(100));
+        assertThat(target[10 + 39] & 0xff, is(200));
+        assertThat(universe.getBuffer().length, is(40));
+        assertThat(universe.getBuffer()[39] & 0xff, is(200));
+    }
+
+    @Test
+    public void dimCurveOnlyAppliesToConfiguredChannels() {
+        universe.registerChannel(new BaseDmxChannel(1, 1), thing).setValue(128);
+        universe.registerChannel(new BaseDmxChannel(1, 2), thing).setValue(128);
+        universe.setDimCurveChannels("2");
+        universe.calculateBuffer(System.currentTimeMillis());
+
+        byte[] buffer = universe.getBuffer();
+        assertThat(buffer[0] & 0xff, is(128));
+        assertThat((buffer[1] & 0xff) < 128, is(true));
+    }
+}
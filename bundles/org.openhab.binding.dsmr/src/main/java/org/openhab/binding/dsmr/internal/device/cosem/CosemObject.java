@@ -16,8 +16,6 @@ import java.text.ParseException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.smarthome.core.types.State;
@@ -32,11 +30,6 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class CosemObject {
 
-    /**
-     * Regular expression for finding CosemValues
-     */
-    private static final Pattern COSEM_VALUES_PATTERN = Pattern.compile("(\\(([^\\(\\)]*)\\))");
-
     private final Logger logger = LoggerFactory.getLogger(CosemObject.class);
 
     /**
@@ -115,16 +108,18 @@ public class CosemObject {
     public void parseCosemValues(String cosemValueString) throws ParseException {
         logger.trace("Parsing CosemValue string {}", cosemValueString);
 
-        Matcher cosemValueMatcher = COSEM_VALUES_PATTERN.matcher(cosemValueString);
-        int nrOfCosemValues = countCosemValues(cosemValueMatcher);
+        int nrOfCosemValues = countCosemValues(cosemValueString);
 
         if (type.supportsNrOfValues(nrOfCosemValues)) {
             logger.trace("Received items: {} is supported", nrOfCosemValues);
 
             int cosemValueItr = 0;
-            while (cosemValueMatcher.find()) {
+            int valueStart = findCosemValue(cosemValueString, 0);
+            while (valueStart >= 0) {
+                int valueEnd = cosemValueString.indexOf(')', valueStart);
                 Entry<String, CosemValueDescriptor<?>> valueDescriptorEntry = type.getDescriptor(cosemValueItr);
-                State cosemValue = valueDescriptorEntry.getValue().getStateValue(cosemValueMatcher.group(2));
+                State cosemValue = valueDescriptorEntry.getValue()
+                        .getStateValue(cosemValueString.substring(valueStart + 1, valueEnd));
 
                 if (cosemValue != null) {
                     if (!cosemValues.containsKey(valueDescriptorEntry.getKey())) {
@@ -135,20 +130,43 @@ public class CosemObject {
                     }
                 }
                 cosemValueItr++;
+                valueStart = findCosemValue(cosemValueString, valueEnd + 1);
             }
         } else {
             throw new ParseException(type + " does not support " + nrOfCosemValues + " items", 0);
         }
     }
 
-    private int countCosemValues(Matcher cosemValueMatcher) {
+    private int countCosemValues(String cosemValueString) {
         int nrOfCosemValues = 0;
 
-        while (cosemValueMatcher.find()) {
+        int valueStart = findCosemValue(cosemValueString, 0);
+        while (valueStart >= 0) {
             nrOfCosemValues++;
+            valueStart = findCosemValue(cosemValueString, cosemValueString.indexOf(')', valueStart) + 1);
         }
-        // We need the matcher again, reset to initial state
-        cosemValueMatcher.reset();
         return nrOfCosemValues;
     }
+
+    /**
+     * Finds the next Cosem value, a value enclosed by '(' and ')' without parentheses within the value.
+     *
+     * @param cosemValueString the List of COSEM String values
+     * @param fromIndex the index to start searching from
+     * @return the index of the '(' of the next value or -1 if there are no more values
+     */
+    private static int findCosemValue(String cosemValueString, int fromIndex) {
+        int valueStart = -1;
+
+        for (int i = fromIndex; i < cosemValueString.length(); i++) {
+            char c = cosemValueString.charAt(i);
+
+            if (c == '(') {
+                valueStart = i;
+            } else if (c == ')' && valueStart >= 0) {
+                return valueStart;
+            }
+        }
+        return -1;
+    }
 }
@@ -52,6 +52,11 @@ public class CosemObjectFactory {
      */
     private final List<CosemObjectType> obisWildcardCosemTypeList = new ArrayList<>();
 
+    /**
+     * Lookup cache for the received OBIS Identifiers
+     */
+    private final OBISIdentifierTrie obisIdentifierTrie = new OBISIdentifierTrie();
+
     /**
      * Creates a new CosemObjectFactory
      */
@@ -86,17 +91,17 @@ public class CosemObjectFactory {
      * Return Cosem Object from specified string or null if string couldn't be
      * parsed correctly or no corresponding Cosem Object was found
      *
-     * @param obisIdString String containing the OBIS message identifier
+     * @param obisIdString characters of the OBIS message identifier
      * @param cosemStringValues String containing Cosem values
      * @return CosemObject or null if parsing failed
      */
-    public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
+    public @Nullable CosemObject getCosemObject(CharSequence obisIdString, String cosemStringValues) {
         OBISIdentifier obisId;
         OBISIdentifier reducedObisId;
         OBISIdentifier reducedObisIdGroupE;
 
         try {
-            obisId = new OBISIdentifier(obisIdString);
+            obisId = obisIdentifierTrie.getOBISIdentifier(obisIdString);
             reducedObisId = obisId.getReducedOBISIdentifier();
             reducedObisIdGroupE = obisId.getReducedOBISIdentifierGroupE();
         } catch (final ParseException pe) {
@@ -12,9 +12,11 @@
  */
 package org.openhab.binding.dsmr.internal.device.cosem;
 
+import java.math.BigDecimal;
 import java.text.ParseException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -52,18 +54,14 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
     public static final CosemQuantity<Energy> KILO_VAR_HOUR = new CosemQuantity<>(SmartHomeUnits.KILOVAR_HOUR);
 
     /**
-     * Pattern to convert a cosem value to a value that can be parsed by {@link QuantityType}.
-     * The specification states that the delimiter between the value and the unit is a '*'-character.
-     * We have seen on the Kaifa 0025 meter that both '*' and the '_' character are used.
-     *
-     * On the Kampstrup 162JxC in some CosemValues the separator is missing
-     *
-     * The above quirks are supported
-     *
-     * We also support unit that do not follow the exact case.
+     * Maximum number of different unit strings of which the parsed unit is cached
+     */
+    private static final int MAX_CACHED_UNITS = 64;
+
+    /**
+     * Cache of the parsed units by the unit string as received in the Cosem value, empty if the unit is not valid
      */
-    private static final Pattern COSEM_VALUE_WITH_UNIT_PATTERN = Pattern.compile("^([\\d\\.]+)[\\*_]?(.+)$",
-            Pattern.CASE_INSENSITIVE);
+    private static final Map<String, Optional<Unit<?>>> UNIT_CACHE = new ConcurrentHashMap<>();
 
     /**
      * Unit of this CosemValue
@@ -93,6 +91,13 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
     /**
      * Parses a String value (that represents a value with a unit) to a {@link QuantityType} object.
      *
+     * The specification states that the delimiter between the value and the unit is a '*'-character.
+     * We have seen on the Kaifa 0025 meter that both '*' and the '_' character are used.
+     *
+     * On the Kampstrup 162JxC in some CosemValues the separator is missing
+     *
+     * The above quirks are supported
+     *
      * @param cosemValue the value to parse
      * @return {@link QuanitytType} on success
      * @throws ParseException in case unit doesn't match.
@@ -100,31 +105,69 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
     @Override
     protected QuantityType<Q> getStateValue(String cosemValue) throws ParseException {
         try {
-            QuantityType<Q> qt = new QuantityType<>(prepare(cosemValue));
+            int unitStart = 0;
+
+            while (unitStart < cosemValue.length() && isNumberCharacter(cosemValue.charAt(unitStart))) {
+                unitStart++;
+            }
+            if (unitStart == 0 || unitStart == cosemValue.length()) {
+                // no number followed by a unit, let QuantityType try to make something of it
+                return checkUnit(cosemValue, new QuantityType<>(cosemValue));
+            }
+            BigDecimal number = new BigDecimal(cosemValue.substring(0, unitStart));
+            char separator = cosemValue.charAt(unitStart);
 
-            if (!unit.equals(qt.getUnit())) {
+            if ((separator == '*' || separator == '_') && unitStart + 1 < cosemValue.length()) {
+                unitStart++;
+            }
+            Optional<Unit<?>> parsedUnit = getUnit(cosemValue.substring(unitStart));
+
+            if (!parsedUnit.isPresent() || !unit.equals(parsedUnit.get())) {
                 throw new ParseException("Failed to parse value '" + cosemValue + "' as unit " + unit, 0);
             }
-            return qt;
+            return new QuantityType<>(number, unit);
         } catch (IllegalArgumentException nfe) {
             throw new ParseException("Failed to parse value '" + cosemValue + "' as unit " + unit, 0);
         }
     }
 
+    private QuantityType<Q> checkUnit(String cosemValue, QuantityType<Q> qt) throws ParseException {
+        if (!unit.equals(qt.getUnit())) {
+            throw new ParseException("Failed to parse value '" + cosemValue + "' as unit " + unit, 0);
+        }
+        return qt;
+    }
+
+    private static boolean isNumberCharacter(char c) {
+        return (c >= '0' && c <= '9') || c == '.';
+    }
+
     /**
-     * Check if COSEM value has a unit, check and parse the value. We assume here numbers (float or integers)
-     * The specification states that the delimiter between the value and the unit is a '*'-character.
-     * We have seen on the Kaifa 0025 meter that both '*' and the '_' character are used.
+     * Returns the unit of the unit string as received in the Cosem value. Parsing the unit is expensive, while meters
+     * only send a few different units, therefore the result is cached.
      *
-     * On the Kampstrup 162JxC in some CosemValues the separator is missing. This
-     *
-     * The above quirks are supported
-     *
-     * We also support unit that do not follow the exact case.
+     * @param unitString the unit as received
+     * @return the unit or empty if the unit string is not a valid unit
      */
-    private String prepare(String cosemValue) {
-        Matcher matcher = COSEM_VALUE_WITH_UNIT_PATTERN.matcher(cosemValue.replace("m3", "m³"));
+    private static Optional<Unit<?>> getUnit(String unitString) {
+        Optional<Unit<?>> parsedUnit = UNIT_CACHE.get(unitString);
+
+        if (parsedUnit == null) {
+            parsedUnit = parseUnit(unitString);
+            if (UNIT_CACHE.size() < MAX_CACHED_UNITS) {
+                UNIT_CACHE.put(unitString, parsedUnit);
+            }
+        }
+        return parsedUnit;
+    }
 
-        return matcher.find() ? matcher.group(1) + ' ' + matcher.group(2) : cosemValue;
+    private static Optional<Unit<?>> parseUnit(String unitString) {
+        try {
+            QuantityType<?> qt = new QuantityType<>("1 " + unitString.replace("m3", "m³"));
+
+            return Optional.of(qt.getUnit());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 }
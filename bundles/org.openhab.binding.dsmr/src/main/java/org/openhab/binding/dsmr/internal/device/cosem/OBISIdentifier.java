@@ -48,6 +48,10 @@ public class OBISIdentifier {
 
     private boolean conflict;
 
+    /* the reduced OBIS IDs, created on first use */
+    private @Nullable OBISIdentifier reducedOBISIdentifier;
+    private @Nullable OBISIdentifier reducedOBISIdentifierGroupE;
+
     /**
      * Constructs a new OBIS Identifier (A-B:C.D.E.F)
      *
@@ -254,7 +258,13 @@ public class OBISIdentifier {
      * @return reduced OBIS Identifier
      */
     public OBISIdentifier getReducedOBISIdentifier() {
-        return new OBISIdentifier(groupA, groupB, groupC, groupD, groupE, null);
+        OBISIdentifier reduced = reducedOBISIdentifier;
+
+        if (reduced == null) {
+            reduced = new OBISIdentifier(groupA, groupB, groupC, groupD, groupE, null);
+            reducedOBISIdentifier = reduced;
+        }
+        return reduced;
     }
 
     /**
@@ -264,7 +274,13 @@ public class OBISIdentifier {
      * @return reduced OBIS Identifier
      */
     public OBISIdentifier getReducedOBISIdentifierGroupE() {
-        return new OBISIdentifier(groupA, groupB, groupC, groupD, null, null);
+        OBISIdentifier reduced = reducedOBISIdentifierGroupE;
+
+        if (reduced == null) {
+            reduced = new OBISIdentifier(groupA, groupB, groupC, groupD, null, null);
+            reducedOBISIdentifierGroupE = reduced;
+        }
+        return reduced;
     }
 
     /**
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dsmr.internal.device.cosem;
+
+import java.text.ParseException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Trie of the OBIS identifiers received from the meter. The characters of an OBIS identifier are looked up one by one,
+ * so an identifier that has been received before is found without creating a String and parsing it again.
+ *
+ * The trie is not thread safe and should be used by a single parser.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class OBISIdentifierTrie {
+    /**
+     * OBIS identifiers only contain the characters '*', '-', '.', ':' and digits, which are in this range.
+     */
+    private static final char FIRST_CHARACTER = '*';
+    private static final char LAST_CHARACTER = ':';
+
+    /**
+     * Limits the size of the trie in case corrupted data contains many different valid looking identifiers.
+     */
+    private static final int MAX_NODES = 2048;
+
+    private static class Node {
+        private final @Nullable Node[] children = new Node[LAST_CHARACTER - FIRST_CHARACTER + 1];
+        private @Nullable OBISIdentifier obisIdentifier;
+    }
+
+    private final Node root = new Node();
+    private int nodeCount;
+
+    /**
+     * Returns the {@link OBISIdentifier} of the given characters.
+     *
+     * @param obisIdString the OBIS identifier characters
+     * @return the {@link OBISIdentifier}, the same instance for every lookup of the same characters
+     * @throws ParseException if the characters are not a valid OBIS Identifier
+     */
+    public OBISIdentifier getOBISIdentifier(CharSequence obisIdString) throws ParseException {
+        Node node = root;
+
+        for (int i = 0; i < obisIdString.length(); i++) {
+            char c = obisIdString.charAt(i);
+
+            if (c < FIRST_CHARACTER || c > LAST_CHARACTER) {
+                return new OBISIdentifier(obisIdString.toString());
+            }
+            Node child = node.children[c - FIRST_CHARACTER];
+
+            if (child == null) {
+                if (nodeCount >= MAX_NODES) {
+                    return new OBISIdentifier(obisIdString.toString());
+                }
+                child = new Node();
+                node.children[c - FIRST_CHARACTER] = child;
+                nodeCount++;
+            }
+            node = child;
+        }
+        OBISIdentifier obisIdentifier = node.obisIdentifier;
+
+        if (obisIdentifier == null) {
+            obisIdentifier = new OBISIdentifier(obisIdString.toString());
+            node.obisIdentifier = obisIdentifier;
+        }
+        return obisIdentifier;
+    }
+}
@@ -18,7 +18,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObject;
@@ -60,9 +59,9 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Pattern for the CRC-code
+     * Number of hexadecimal characters of the CRC-code
      */
-    private static final String CRC_PATTERN = "[0-9A-Z]{4}";
+    private static final int CRC_LENGTH = 4;
 
     private final Logger logger = LoggerFactory.getLogger(P1TelegramParser.class);
 
@@ -116,7 +115,7 @@ public class P1TelegramParser implements TelegramParser {
     /**
      * Received Cosem Objects in the P1Telegram that is currently received
      */
-    private final List<CosemObject> cosemObjects = new ArrayList<>();
+    private List<CosemObject> cosemObjects = new ArrayList<>();
 
     /**
      * List of Cosem Object values that are not known to this binding.
@@ -245,8 +244,9 @@ public class P1TelegramParser implements TelegramParser {
                         logger.trace("telegramState {}, crcValue to check 0x{}", telegramState, crcValue);
                         // Only perform CRC check if telegram is still ok
                         if (telegramState == TelegramState.OK && crcValue.length() > 0) {
-                            if (Pattern.matches(CRC_PATTERN, crcValue)) {
-                                int crcP1Telegram = Integer.parseInt(crcValue.toString(), 16);
+                            int crcP1Telegram = parseCRC(crcValue);
+
+                            if (crcP1Telegram >= 0) {
                                 int calculatedCRC = crc.getCurrentCRCCode();
 
                                 if (logger.isDebugEnabled()) {
@@ -280,14 +280,42 @@ public class P1TelegramParser implements TelegramParser {
         logger.trace("State after parsing: {}", state);
     }
 
+    /**
+     * Parses the received CRC-code
+     *
+     * @param crcString the received CRC characters
+     * @return the CRC-code or -1 if the characters are not a valid CRC-code
+     */
+    private static int parseCRC(CharSequence crcString) {
+        if (crcString.length() != CRC_LENGTH) {
+            return -1;
+        }
+        int crcCode = 0;
+
+        for (int i = 0; i < CRC_LENGTH; i++) {
+            char c = crcString.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                crcCode = (crcCode << 4) | (c - '0');
+            } else if (c >= 'A' && c <= 'F') {
+                crcCode = (crcCode << 4) | (c - 'A' + 10);
+            } else {
+                return -1;
+            }
+        }
+        return crcCode;
+    }
+
     private P1Telegram constructTelegram() {
-        final List<CosemObject> cosemObjectsCopy = new ArrayList<>(cosemObjects);
+        // The list is handed over to the telegram, the next telegram gets a new list
+        final List<CosemObject> telegramCosemObjects = cosemObjects;
+        cosemObjects = new ArrayList<>();
 
         if (lenientMode) {
-            return new P1Telegram(cosemObjectsCopy, telegramState, rawData.toString(),
+            return new P1Telegram(telegramCosemObjects, telegramState, rawData.toString(),
                     unknownCosemObjects.isEmpty() ? Collections.emptyList() : new ArrayList<>(unknownCosemObjects));
         } else {
-            return new P1Telegram(cosemObjectsCopy, telegramState);
+            return new P1Telegram(telegramCosemObjects, telegramState);
         }
     }
 
@@ -375,15 +403,13 @@ public class P1TelegramParser implements TelegramParser {
      * Store the current CosemObject in the list of received cosem Objects
      */
     private void storeCurrentCosemObject() {
-        String obisIdString = obisId.toString();
-
-        if (!obisIdString.isEmpty()) {
+        if (obisId.length() > 0) {
             final String obisValueString = obisValue.toString();
-            CosemObject cosemObject = factory.getCosemObject(obisIdString, obisValueString);
+            CosemObject cosemObject = factory.getCosemObject(obisId, obisValueString);
 
             if (cosemObject == null) {
                 if (lenientMode) {
-                    unknownCosemObjects.add(new SimpleEntry<>(obisIdString, obisValueString));
+                    unknownCosemObjects.add(new SimpleEntry<>(obisId.toString(), obisValueString));
                 }
             } else {
                 logger.trace("Adding {} to list of Cosem Objects", cosemObject);
@@ -14,6 +14,7 @@ package org.openhab.binding.dsmr.internal.device.p1telegram;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -33,6 +34,8 @@ import org.openhab.binding.dsmr.internal.device.p1telegram.P1Telegram.TelegramSt
 @RunWith(value = Parameterized.class)
 public class P1TelegramParserTest {
 
+    private static final int REPEATED_PARSE_COUNT = 5;
+
     // @formatter:off
     @Parameters(name = "{0}")
     public static final List<Object[]> data() {
@@ -65,4 +68,27 @@ public class P1TelegramParserTest {
         assertEquals("Expected number of objects", numberOfCosemObjects,
                 telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum());
     }
+
+    /**
+     * Replays the telegram several times on the same parser. Checks that the lookup tables and caches filled while
+     * parsing the first telegram give the same result for the following telegrams.
+     */
+    @Test
+    public void testRepeatedParsing() {
+        List<P1Telegram> telegrams = new ArrayList<>();
+        byte[] telegram = TelegramReaderUtil.readRawTelegram(telegramName);
+        P1TelegramParser parser = new P1TelegramParser(telegrams::add);
+
+        for (int i = 0; i < REPEATED_PARSE_COUNT; i++) {
+            parser.parse(telegram, telegram.length);
+        }
+
+        assertEquals("Expected number of telegrams", REPEATED_PARSE_COUNT, telegrams.size());
+        for (P1Telegram p1Telegram : telegrams) {
+            assertEquals("Expected TelegramState should be as expected", TelegramState.OK,
+                    p1Telegram.getTelegramState());
+            assertEquals("Expected number of objects", numberOfCosemObjects,
+                    p1Telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum());
+        }
+    }
 }
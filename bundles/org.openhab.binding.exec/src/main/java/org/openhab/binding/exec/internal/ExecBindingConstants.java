@@ -34,4 +34,7 @@ public class ExecBindingConstants {
     public static final String EXIT = "exit";
     public static final String RUN = "run";
     public static final String LAST_EXECUTION = "lastexecution";
+
+    // List of binding configuration parameters
+    public static final String CONFIG_MAX_CONCURRENT_PROCESSES = "maxConcurrentProcesses";
 }
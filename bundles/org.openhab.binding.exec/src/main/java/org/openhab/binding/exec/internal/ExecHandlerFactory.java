@@ -12,9 +12,11 @@
  */
 package org.openhab.binding.exec.internal;
 
-import static org.openhab.binding.exec.internal.ExecBindingConstants.THING_COMMAND;
+import static org.openhab.binding.exec.internal.ExecBindingConstants.*;
 
+import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -25,8 +27,11 @@ import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
 import org.openhab.binding.exec.internal.handler.ExecHandler;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,10 +48,38 @@ public class ExecHandlerFactory extends BaseThingHandlerFactory {
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(THING_COMMAND);
     private final Logger logger = LoggerFactory.getLogger(ExecHandlerFactory.class);
     private final ExecWhitelistWatchService execWhitelistWatchService;
+    private final ExecProcessRunner execProcessRunner;
 
     @Activate
-    public ExecHandlerFactory(@Reference ExecWhitelistWatchService execWhitelistWatchService) {
+    public ExecHandlerFactory(@Reference ExecWhitelistWatchService execWhitelistWatchService,
+            Map<String, Object> config) {
         this.execWhitelistWatchService = execWhitelistWatchService;
+        this.execProcessRunner = new ExecProcessRunner(getMaxConcurrentProcesses(config));
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        execProcessRunner.setMaxConcurrentProcesses(getMaxConcurrentProcesses(config));
+    }
+
+    @Override
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+        execProcessRunner.shutdown();
+        super.deactivate(componentContext);
+    }
+
+    private int getMaxConcurrentProcesses(Map<String, Object> config) {
+        Object value = config.get(CONFIG_MAX_CONCURRENT_PROCESSES);
+        if (value != null) {
+            try {
+                return new BigDecimal(value.toString()).intValue();
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for '{}', using {}", value, CONFIG_MAX_CONCURRENT_PROCESSES,
+                        ExecProcessRunner.DEFAULT_MAX_CONCURRENT_PROCESSES);
+            }
+        }
+        return ExecProcessRunner.DEFAULT_MAX_CONCURRENT_PROCESSES;
     }
 
     @Override
@@ -59,7 +92,7 @@ public class ExecHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_COMMAND)) {
-            return new ExecHandler(thing, execWhitelistWatchService);
+            return new ExecHandler(thing, execWhitelistWatchService, execProcessRunner);
         }
 
         return null;
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecProcessRunner} runs the executions of all exec things. At most the configured number of executions
+ * run at the same time, further executions wait in a first-in first-out queue. This keeps the processes started by
+ * many things from running all at once and from blocking the shared scheduler.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ExecProcessRunner {
+    public static final int DEFAULT_MAX_CONCURRENT_PROCESSES = 4;
+
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private final Logger logger = LoggerFactory.getLogger(ExecProcessRunner.class);
+
+    private final ThreadPoolExecutor executor;
+
+    public ExecProcessRunner(int maxConcurrentProcesses) {
+        int poolSize = Math.max(1, maxConcurrentProcesses);
+        executor = new ThreadPoolExecutor(poolSize, poolSize, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new NamedThreadFactory("exec"));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Changes the number of executions which may run at the same time. Running executions are not affected.
+     *
+     * @param maxConcurrentProcesses the maximum number of concurrent executions, at least 1
+     */
+    public synchronized void setMaxConcurrentProcesses(int maxConcurrentProcesses) {
+        int poolSize = Math.max(1, maxConcurrentProcesses);
+        // the core pool size must never be larger than the maximum pool size
+        if (poolSize > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(poolSize);
+            executor.setCorePoolSize(poolSize);
+        } else {
+            executor.setCorePoolSize(poolSize);
+            executor.setMaximumPoolSize(poolSize);
+        }
+        logger.debug("Running at most {} processes at the same time", poolSize);
+    }
+
+    /**
+     * Queues an execution.
+     *
+     * @param execution the execution to run
+     * @return true if the execution was queued, false if the runner has been shut down
+     */
+    public boolean submit(Runnable execution) {
+        try {
+            executor.execute(execution);
+            return true;
+        } catch (RejectedExecutionException e) {
+            logger.debug("Execution rejected, the runner has been shut down");
+            return false;
+        }
+    }
+
+    /**
+     * @return the number of executions waiting for a free slot
+     */
+    public int getQueueLength() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Discards the waiting executions and interrupts the running ones.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -14,7 +14,7 @@ package org.openhab.binding.exec.internal.handler;
 
 import static org.openhab.binding.exec.internal.ExecBindingConstants.*;
 
-import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
@@ -24,6 +24,8 @@ import java.util.Calendar;
 import java.util.IllegalFormatException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -44,6 +46,7 @@ import org.eclipse.smarthome.core.transform.TransformationHelper;
 import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.openhab.binding.exec.internal.ExecProcessRunner;
 import org.openhab.binding.exec.internal.ExecWhitelistWatchService;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
@@ -57,6 +60,7 @@ import org.slf4j.LoggerFactory;
  * @author Karel Goderis - Initial contribution
  * @author Constantin Piber - Added better argument support (delimiter and pass to shell)
  * @author Jan N. Klug - Add command whitelist check
+ * @author agent - Run commands in the binding-wide process runner
  */
 @NonNullByDefault
 public class ExecHandler extends BaseThingHandler {
@@ -71,6 +75,7 @@ public class ExecHandler extends BaseThingHandler {
     public static final String[] SHELL_WINDOWS = new String[] { "cmd" };
     public static final String[] SHELL_NIX = new String[] { "sh", "bash", "zsh", "csh" };
     private final ExecWhitelistWatchService execWhitelistWatchService;
+    private final ExecProcessRunner execProcessRunner;
 
     private Logger logger = LoggerFactory.getLogger(ExecHandler.class);
 
@@ -86,15 +91,26 @@ public class ExecHandler extends BaseThingHandler {
     // RegEx to extract a parse a function String <code>'(.*?)\((.*)\)'</code>
     private static final Pattern EXTRACT_FUNCTION_PATTERN = Pattern.compile("(.*?)\\((.*)\\)");
 
+    // The output of a command is truncated after this number of characters, the rest is read and discarded
+    private static final int MAX_OUTPUT_LENGTH = 1024 * 1024;
+    private static final int READ_BUFFER_SIZE = 4096;
+
+    // Time in milliseconds to wait for a forcibly terminated process to end
+    private static final long TERMINATION_TIME_OUT = 1000;
+
     private @Nullable ScheduledFuture<?> executionJob;
     private @Nullable String lastInput;
 
-    private static Runtime rt = Runtime.getRuntime();
+    // An execution of this thing is waiting in the queue of the process runner
+    private final AtomicBoolean executionPending = new AtomicBoolean();
+    private final AtomicInteger timeOutCount = new AtomicInteger();
 
-    public ExecHandler(Thing thing, ExecWhitelistWatchService execWhitelistWatchService) {
+    public ExecHandler(Thing thing, ExecWhitelistWatchService execWhitelistWatchService,
+            ExecProcessRunner execProcessRunner) {
         super(thing);
         this.bundleContext = FrameworkUtil.getBundle(ExecHandler.class).getBundleContext();
         this.execWhitelistWatchService = execWhitelistWatchService;
+        this.execProcessRunner = execProcessRunner;
     }
 
     @Override
@@ -105,7 +121,7 @@ public class ExecHandler extends BaseThingHandler {
             if (channelUID.getId().equals(RUN)) {
                 if (command instanceof OnOffType) {
                     if (command == OnOffType.ON) {
-                        scheduler.schedule(this::execute, 0, TimeUnit.SECONDS);
+                        scheduleExecution();
                     }
                 }
             } else if (channelUID.getId().equals(INPUT)) {
@@ -116,7 +132,7 @@ public class ExecHandler extends BaseThingHandler {
                         if (getConfig().get(AUTORUN) != null && ((Boolean) getConfig().get(AUTORUN))) {
                             logger.trace("Executing command '{}' after a change of the input channel to '{}'",
                                     getConfig().get(COMMAND), lastInput);
-                            scheduler.schedule(this::execute, 0, TimeUnit.SECONDS);
+                            scheduleExecution();
                         }
                     }
                 }
@@ -129,7 +145,8 @@ public class ExecHandler extends BaseThingHandler {
         if (executionJob == null || executionJob.isCancelled()) {
             if ((getConfig().get(INTERVAL)) != null && ((BigDecimal) getConfig().get(INTERVAL)).intValue() > 0) {
                 int pollingInterval = ((BigDecimal) getConfig().get(INTERVAL)).intValue();
-                executionJob = scheduler.scheduleWithFixedDelay(this::execute, 0, pollingInterval, TimeUnit.SECONDS);
+                executionJob = scheduler.scheduleWithFixedDelay(this::scheduleExecution, 0, pollingInterval,
+                        TimeUnit.SECONDS);
             }
         }
 
@@ -144,7 +161,27 @@ public class ExecHandler extends BaseThingHandler {
         }
     }
 
-    public void execute() {
+    /**
+     * Queues an execution of the command in the process runner. At most one execution of this thing waits in the
+     * queue, so slow commands don't pile up executions. The waiting execution uses the latest input.
+     */
+    public void scheduleExecution() {
+        if (!executionPending.compareAndSet(false, true)) {
+            logger.debug("An execution of '{}' is already waiting, skipping this one", getConfig().get(COMMAND));
+            return;
+        }
+
+        long queuedAt = System.nanoTime();
+        boolean submitted = execProcessRunner.submit(() -> {
+            executionPending.set(false);
+            execute(System.nanoTime() - queuedAt);
+        });
+        if (!submitted) {
+            executionPending.set(false);
+        }
+    }
+
+    private void execute(long queueTime) {
         String commandLine = (String) getConfig().get(COMMAND);
         if (!execWhitelistWatchService.isWhitelisted(commandLine)) {
             logger.warn("Tried to execute '{}', but it is not contained in whitelist.", commandLine);
@@ -164,9 +201,8 @@ public class ExecHandler extends BaseThingHandler {
             // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
             // subprocess in separate threads. It seems to be common "wisdom" to do that in separate threads, but
             // only when keeping everything between .exec() and .waitfor() in the same thread, this lock race
-            // condition seems to go away. This approach of not reading the outputs in separate threads *might* be a
-            // problem for external commands that generate a lot of output, but this will be dependent on the limits
-            // of the underlying operating system.
+            // condition seems to go away. Therefore stderr is merged into stdout, which is read in this thread while
+            // the process is running, so the process doesn't block on a full pipe.
 
             try {
                 if (lastInput != null) {
@@ -228,9 +264,11 @@ public class ExecHandler extends BaseThingHandler {
 
             logger.trace("The command to be executed will be '{}'", Arrays.asList(cmdArray));
 
+            long startTime = System.nanoTime();
             Process proc;
             try {
-                proc = rt.exec(cmdArray);
+                // stderr is merged into stdout, so a single stream has to be read
+                proc = new ProcessBuilder(cmdArray).redirectErrorStream(true).start();
             } catch (Exception e) {
                 logger.warn("An exception occurred while executing '{}' : '{}'", Arrays.asList(cmdArray),
                         e.getMessage());
@@ -239,52 +277,74 @@ public class ExecHandler extends BaseThingHandler {
                 return;
             }
 
+            // The process is terminated when it runs into the timeout while its output is being read. Its streams are
+            // closed as well, because a child process started by the command may keep the output pipe open.
+            AtomicBoolean timedOut = new AtomicBoolean();
+            ScheduledFuture<?> timeOutJob = scheduler.schedule(() -> {
+                timedOut.set(true);
+                proc.destroyForcibly();
+                closeStreams(proc);
+            }, timeOut, TimeUnit.MILLISECONDS);
+
             StringBuilder outputBuilder = new StringBuilder();
-            StringBuilder errorBuilder = new StringBuilder();
-
-            try (InputStreamReader isr = new InputStreamReader(proc.getInputStream());
-                    BufferedReader br = new BufferedReader(isr)) {
-                String line;
-                while ((line = br.readLine()) != null) {
-                    outputBuilder.append(line).append("\n");
-                    logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
+            long discardedLength = 0;
+
+            try (InputStreamReader isr = new InputStreamReader(proc.getInputStream())) {
+                char[] buffer = new char[READ_BUFFER_SIZE];
+                int length;
+                while ((length = isr.read(buffer)) != -1) {
+                    int retainedLength = Math.min(length, MAX_OUTPUT_LENGTH - outputBuilder.length());
+                    outputBuilder.append(buffer, 0, retainedLength);
+                    discardedLength += length - retainedLength;
                 }
             } catch (IOException e) {
-                logger.warn("An exception occurred while reading the stdout when executing '{}' : '{}'", commandLine,
-                        e.getMessage());
+                if (!timedOut.get()) {
+                    logger.warn("An exception occurred while reading the output when executing '{}' : '{}'",
+                            commandLine, e.getMessage());
+                }
             }
+            logger.debug("Exec [{}]: '{}'", "OUTPUT", outputBuilder);
 
-            try (InputStreamReader isr = new InputStreamReader(proc.getErrorStream());
-                    BufferedReader br = new BufferedReader(isr)) {
-                String line;
-                while ((line = br.readLine()) != null) {
-                    errorBuilder.append(line).append("\n");
-                    logger.debug("Exec [{}]: '{}'", "ERROR", line);
-                }
-            } catch (IOException e) {
-                logger.warn("An exception occurred while reading the stderr when executing '{}' : '{}'", commandLine,
-                        e.getMessage());
+            if (discardedLength > 0) {
+                logger.warn("The output of '{}' exceeded {} characters, discarded the remaining {} characters",
+                        commandLine, MAX_OUTPUT_LENGTH, discardedLength);
             }
 
             boolean exitVal = false;
+            boolean interrupted = false;
             try {
-                exitVal = proc.waitFor(timeOut, TimeUnit.MILLISECONDS);
+                long remainingTime = timeOut - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                exitVal = proc.waitFor(Math.max(0, remainingTime), TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 logger.warn("An exception occurred while waiting for the process ('{}') to finish : '{}'", commandLine,
                         e.getMessage());
+                interrupted = true;
             }
+            timeOutJob.cancel(false);
 
-            if (!exitVal) {
-                logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms", commandLine, timeOut);
+            if (!exitVal || timedOut.get()) {
+                logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms ({} timeouts so far)",
+                        commandLine, timeOut, timeOutCount.incrementAndGet());
                 proc.destroyForcibly();
+                if (!interrupted) {
+                    try {
+                        proc.waitFor(TERMINATION_TIME_OUT, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
             }
 
-            updateState(RUN, OnOffType.OFF);
-            updateState(EXIT, new DecimalType(proc.exitValue()));
-
-            outputBuilder.append(errorBuilder.toString());
+            int exitValue = proc.isAlive() ? -1 : proc.exitValue();
+            logger.debug("Executed '{}' with exit value {}, queued for {} ms, ran for {} ms", commandLine, exitValue,
+                    TimeUnit.NANOSECONDS.toMillis(queueTime),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
 
-            outputBuilder.append(errorBuilder.toString());
+            updateState(RUN, OnOffType.OFF);
+            updateState(EXIT, new DecimalType(exitValue));
 
             String transformedResponse = StringUtils.chomp(outputBuilder.toString());
             String transformation = (String) getConfig().get(TRANSFORM);
@@ -300,6 +360,17 @@ public class ExecHandler extends BaseThingHandler {
         }
     }
 
+    private void closeStreams(Process proc) {
+        for (Closeable stream : new Closeable[] { proc.getOutputStream(), proc.getInputStream(),
+                proc.getErrorStream() }) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                logger.debug("An exception occurred while closing a stream of the process : '{}'", e.getMessage());
+            }
+        }
+    }
+
     protected @Nullable String transformResponse(String response, String transformation) {
         String transformedResponse;
 
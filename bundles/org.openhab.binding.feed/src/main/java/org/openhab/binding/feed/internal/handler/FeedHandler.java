@@ -14,21 +14,30 @@ package org.openhab.binding.feed.internal.handler;
 
 import static org.openhab.binding.feed.internal.FeedBindingConstants.*;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.net.URLConnection;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.zip.GZIPInputStream;
-
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.DecimalType;
@@ -46,10 +55,12 @@ import org.eclipse.smarthome.core.types.UnDefType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.rometools.rome.feed.synd.SyndContent;
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.FeedException;
 import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
 
 /**
  * The {@link FeedHandler } is responsible for handling commands, which are
@@ -59,16 +70,33 @@ import com.rometools.rome.io.SyndFeedInput;
  */
 public class FeedHandler extends BaseThingHandler {
 
+    private static final int HTTP_TIMEOUT_SECS = 30;
+
+    /**
+     * Maximum number of entries compared to detect changes of the feed. Changes after these entries are only detected
+     * by a changed number of entries.
+     */
+    private static final int MAX_COMPARED_ENTRIES = 100;
+
     private Logger logger = LoggerFactory.getLogger(FeedHandler.class);
 
+    private final HttpClient httpClient;
     private String urlString;
     private BigDecimal refreshTime;
     private ScheduledFuture<?> refreshTask;
+    /**
+     * The current feed, only the latest entry of the feed is retained.
+     */
     private SyndFeed currentFeedState;
+    private int numberOfEntries;
+    private int[] contentHashes;
+    private String entityTag;
+    private String lastModified;
     private long lastRefreshTime;
 
-    public FeedHandler(Thing thing) {
+    public FeedHandler(Thing thing, HttpClient httpClient) {
         super(thing);
+        this.httpClient = httpClient;
         currentFeedState = null;
     }
 
@@ -178,7 +206,6 @@ public class FeedHandler extends BaseThingHandler {
                 state = new StringType(getValueSafely(channelTitle));
                 break;
             case CHANNEL_NUMBER_OF_ENTRIES:
-                int numberOfEntries = currentFeedState.getEntries().size();
                 state = new DecimalType(numberOfEntries);
                 break;
             default:
@@ -194,23 +221,50 @@ public class FeedHandler extends BaseThingHandler {
 
     /**
      * This method updates the {@link #currentFeedState}, only if there are changes on the server, since the last check.
-     * It compares the content on the server with the local
+     * It compares the hashes of the feed and its entries with the hashes of the local
      * stored {@link #currentFeedState} in the {@link FeedHandler}.
      *
      * @return <code>true</code> if new content is available on the server since the last update or <code>false</code>
      *         otherwise
      */
     private synchronized boolean updateFeedIfChanged(SyndFeed newFeedState) {
-        // SyndFeed class has implementation of equals ()
-        if (newFeedState != null && !newFeedState.equals(currentFeedState)) {
-            currentFeedState = newFeedState;
-            logger.debug("New content available!");
-            return true;
+        if (newFeedState != null) {
+            int[] newContentHashes = getContentHashes(newFeedState);
+            if (currentFeedState == null || !Arrays.equals(newContentHashes, contentHashes)) {
+                List<SyndEntry> entries = newFeedState.getEntries();
+                numberOfEntries = entries.size();
+                // only the latest entry is shown by the channels
+                newFeedState.setEntries(new ArrayList<>(entries.subList(0, Math.min(1, entries.size()))));
+                currentFeedState = newFeedState;
+                contentHashes = newContentHashes;
+                logger.debug("New content available!");
+                return true;
+            }
         }
         logger.debug("Feed content has not changed!");
         return false;
     }
 
+    /**
+     * Returns the hashes of the feed: the hash of the feed data, the number of entries and the hashes of the entries.
+     */
+    private int[] getContentHashes(SyndFeed feed) {
+        List<SyndEntry> entries = feed.getEntries();
+        int comparedEntries = Math.min(entries.size(), MAX_COMPARED_ENTRIES);
+        int[] hashes = new int[comparedEntries + 2];
+
+        hashes[0] = Objects.hash(feed.getTitle(), feed.getDescription(), feed.getAuthor());
+        hashes[1] = entries.size();
+        for (int i = 0; i < comparedEntries; i++) {
+            SyndEntry entry = entries.get(i);
+            SyndContent description = entry.getDescription();
+            hashes[i + 2] = Objects.hash(entry.getUri(), entry.getLink(), entry.getTitle(),
+                    description == null ? null : description.getValue(), entry.getPublishedDate(),
+                    entry.getUpdatedDate());
+        }
+        return hashes;
+    }
+
     /**
      * This method tries to make connection with the server and fetch data from the feed.
      * The status of the feed thing is set to {@link ThingStatus#ONLINE}, if the fetching was successful.
@@ -218,29 +272,49 @@ public class FeedHandler extends BaseThingHandler {
      * {@link ThingStatusDetail#CONFIGURATION_ERROR} or
      * {@link ThingStatusDetail#COMMUNICATION_ERROR} and adequate message.
      *
+     * The feed is requested with the ETag and Last-Modified date of the previous response, the server doesn't send the
+     * feed if it has not changed since then.
+     *
      * @param urlString URL of the Feed
-     * @return {@link SyndFeed} instance with the feed data, if the connection attempt was successful and
-     *         <code>null</code> otherwise
+     * @return {@link SyndFeed} instance with the feed data, if the connection attempt was successful and the feed has
+     *         changed and <code>null</code> otherwise
      */
-    private SyndFeed fetchFeedData(String urlString) {
+    private synchronized SyndFeed fetchFeedData(String urlString) {
         SyndFeed feed = null;
         try {
             URL url = new URL(urlString);
 
-            URLConnection connection = url.openConnection();
-            connection.setRequestProperty("Accept-Encoding", "gzip");
+            Request request = httpClient.newRequest(url.toString()).method(HttpMethod.GET).followRedirects(true);
+            if (currentFeedState != null) {
+                if (entityTag != null) {
+                    request.header(HttpHeader.IF_NONE_MATCH, entityTag);
+                }
+                if (lastModified != null) {
+                    request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+                }
+            }
 
-            BufferedReader in = null;
-            if ("gzip".equals(connection.getContentEncoding())) {
-                in = new BufferedReader(new InputStreamReader(new GZIPInputStream(connection.getInputStream())));
+            InputStreamResponseListener listener = new InputStreamResponseListener();
+            request.send(listener);
+            Response response = listener.get(HTTP_TIMEOUT_SECS, TimeUnit.SECONDS);
+
+            if (response.getStatus() == HttpStatus.NOT_MODIFIED_304) {
+                logger.debug("Feed {} was not modified since the last request", urlString);
+                listener.getInputStream().close();
+            } else if (response.getStatus() != HttpStatus.OK_200) {
+                listener.getInputStream().close();
+                throw new IOException("HTTP status " + response.getStatus());
             } else {
-                in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
+                String contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
+                try (InputStream in = listener.getInputStream();
+                        XmlReader reader = contentType == null ? new XmlReader(in) : new XmlReader(in, contentType)) {
+                    SyndFeedInput input = new SyndFeedInput();
+                    feed = input.build(reader);
+                }
+                entityTag = response.getHeaders().get(HttpHeader.ETAG);
+                lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
             }
 
-            SyndFeedInput input = new SyndFeedInput();
-            feed = input.build(in);
-            in.close();
-
             if (this.thing.getStatus() != ThingStatus.ONLINE) {
                 updateStatus(ThingStatus.ONLINE);
             }
@@ -248,12 +322,15 @@ public class FeedHandler extends BaseThingHandler {
             logger.warn("Url '{}' is not valid: ", urlString, e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, e.getMessage());
             return null;
-        } catch (IOException e) {
+        } catch (IOException | TimeoutException | ExecutionException e) {
             logger.warn("Error accessing feed: {}", urlString, e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR, e.getMessage());
             return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         } catch (IllegalArgumentException e) {
-            logger.warn("Feed URL is null ", e);
+            logger.warn("Feed URL is not valid ", e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, e.getMessage());
             return null;
         } catch (FeedException e) {
@@ -305,6 +382,10 @@ public class FeedHandler extends BaseThingHandler {
             refreshTask.cancel(true);
         }
         lastRefreshTime = 0;
+        currentFeedState = null;
+        contentHashes = null;
+        entityTag = null;
+        lastModified = null;
     }
 
     private boolean isMinimumRefreshTimeExceeded() {
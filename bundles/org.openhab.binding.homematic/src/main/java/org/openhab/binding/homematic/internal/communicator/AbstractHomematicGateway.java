@@ -14,23 +14,32 @@ package org.openhab.binding.homematic.internal.communicator;
 
 import static org.openhab.binding.homematic.internal.misc.HomematicConstants.*;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.smarthome.config.core.ConfigConstants;
+import org.eclipse.smarthome.core.common.NamedThreadFactory;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
 import org.openhab.binding.homematic.internal.communicator.client.BinRpcClient;
@@ -38,6 +47,7 @@ import org.openhab.binding.homematic.internal.communicator.client.RpcClient;
 import org.openhab.binding.homematic.internal.communicator.client.TransferMode;
 import org.openhab.binding.homematic.internal.communicator.client.UnknownParameterSetException;
 import org.openhab.binding.homematic.internal.communicator.client.XmlRpcClient;
+import org.openhab.binding.homematic.internal.communicator.parser.GetParamsetDescriptionParser;
 import org.openhab.binding.homematic.internal.communicator.parser.ListBidcosInterfacesParser;
 import org.openhab.binding.homematic.internal.communicator.server.BinRpcServer;
 import org.openhab.binding.homematic.internal.communicator.server.RpcEventListener;
@@ -90,6 +100,8 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     public static final double DEFAULT_DISABLE_DELAY = 2.0;
     private static final long CONNECTION_TRACKER_INTERVAL_SECONDS = 15;
     private static final String GATEWAY_POOL_NAME = "homematicGateway";
+    private static final String PARAMSET_CACHE_FOLDER = "homematic";
+    private static final int METADATA_LOADER_CONNECTIONS = 3;
 
     private final Map<TransferMode, RpcClient<?>> rpcClients = new HashMap<>();
     private final Map<TransferMode, RpcServer> rpcServers = new HashMap<>();
@@ -111,6 +123,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private boolean newDeviceEventsEnabled;
     private ScheduledFuture<?> enableNewDeviceFuture;
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(GATEWAY_POOL_NAME);
+    private ParamsetDescriptionCache paramsetDescriptionCache;
 
     static {
         // loads all virtual datapoints
@@ -226,12 +239,18 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     protected synchronized void startClients() throws IOException {
         for (TransferMode mode : availableInterfaces.values()) {
             if (!rpcClients.containsKey(mode)) {
-                rpcClients.put(mode,
-                        mode == TransferMode.XML_RPC ? new XmlRpcClient(config, httpClient) : new BinRpcClient(config));
+                rpcClients.put(mode, createRpcClient(mode));
             }
         }
     }
 
+    /**
+     * Creates a new RPC client with its own connection to the Homematic gateway.
+     */
+    private RpcClient<?> createRpcClient(TransferMode mode) throws IOException {
+        return mode == TransferMode.XML_RPC ? new XmlRpcClient(config, httpClient) : new BinRpcClient(config);
+    }
+
     /**
      * Stops the Homematic gateway client.
      */
@@ -371,6 +390,11 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         // load all device descriptions
         List<HmDevice> deviceDescriptions = getDeviceDescriptions();
 
+        // load the paramset descriptions, which are not known from the last start
+        ParamsetDescriptionCache descriptionCache = getParamsetDescriptionCache();
+        Set<String> usedDescriptions = new HashSet<>();
+        loadParamsetDescriptions(deviceDescriptions, descriptionCache, usedDescriptions);
+
         // loading datapoints for all channels
         Set<String> loadedDevices = new HashSet<>();
         Map<String, Collection<HmDatapoint>> datapointsByChannelIdCache = new HashMap<>();
@@ -399,8 +423,8 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                                     cloneAllDatapointsIntoChannel(channel, cachedDatapoints);
                                 } else {
                                     logger.trace("    Loading datapoints into channel {}", channel);
-                                    addChannelDatapoints(channel, HmParamsetType.MASTER);
-                                    addChannelDatapoints(channel, HmParamsetType.VALUES);
+                                    addChannelDatapoints(channel, HmParamsetType.MASTER, descriptionCache);
+                                    addChannelDatapoints(channel, HmParamsetType.VALUES, descriptionCache);
 
                                     // Make sure to only cache non-reconfigurable channels. For reconfigurable channels,
                                     // the data point set might change depending on the selected mode.
@@ -422,10 +446,150 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         }
         if (!cancelLoadAllMetadata) {
             devices.keySet().retainAll(loadedDevices);
+            descriptionCache.retainAll(usedDescriptions);
         }
+        descriptionCache.save();
         initialized = true;
     }
 
+    /**
+     * Returns the paramset descriptions persisted from the last start of the gateway, as long as the firmware of the
+     * gateway has not changed.
+     */
+    private synchronized ParamsetDescriptionCache getParamsetDescriptionCache() {
+        String gatewayFirmware = String.valueOf(config.getGatewayInfo().getFirmware());
+        if (paramsetDescriptionCache == null
+                || !paramsetDescriptionCache.getGatewayFirmware().equals(gatewayFirmware)) {
+            File folder = new File(ConfigConstants.getUserDataFolder(), PARAMSET_CACHE_FOLDER);
+            paramsetDescriptionCache = new ParamsetDescriptionCache(new File(folder, id + ".paramsets"),
+                    gatewayFirmware);
+            paramsetDescriptionCache.load();
+        }
+        return paramsetDescriptionCache;
+    }
+
+    /**
+     * Loads all paramset descriptions of the given devices, which are not yet available in the cache, in parallel
+     * over a limited number of connections. The keys of all descriptions needed by the devices are added to
+     * usedDescriptions.
+     */
+    private void loadParamsetDescriptions(List<HmDevice> deviceDescriptions, ParamsetDescriptionCache descriptionCache,
+            Set<String> usedDescriptions) {
+        Map<String, HmChannel> missingMaster = new LinkedHashMap<>();
+        Map<String, HmChannel> missingValues = new LinkedHashMap<>();
+        for (HmDevice device : deviceDescriptions) {
+            if (device.isGatewayExtras() || device.getHmInterface() == null) {
+                continue;
+            }
+            for (HmChannel channel : device.getChannels()) {
+                if ((DEVICE_TYPE_VIRTUAL.equals(device.getType()) || DEVICE_TYPE_VIRTUAL_WIRED.equals(device.getType()))
+                        && channel.getNumber() > 1) {
+                    // cloned from the previous channel
+                    continue;
+                }
+                String masterKey = ParamsetDescriptionCache.getKey(channel, HmParamsetType.MASTER);
+                String valuesKey = ParamsetDescriptionCache.getKey(channel, HmParamsetType.VALUES);
+                usedDescriptions.add(masterKey);
+                usedDescriptions.add(valuesKey);
+                if (descriptionCache.get(masterKey) == null) {
+                    missingMaster.putIfAbsent(masterKey, channel);
+                }
+                if (descriptionCache.get(valuesKey) == null) {
+                    missingValues.putIfAbsent(valuesKey, channel);
+                }
+            }
+        }
+        if (missingMaster.isEmpty() && missingValues.isEmpty()) {
+            logger.debug("All {} paramset descriptions of gateway '{}' are cached", usedDescriptions.size(), id);
+            return;
+        }
+        logger.debug("Loading {} of {} paramset descriptions from gateway '{}'",
+                missingMaster.size() + missingValues.size(), usedDescriptions.size(), id);
+
+        loadParamsetDescriptions(missingMaster, HmParamsetType.MASTER, descriptionCache);
+
+        // the VALUES paramset of a reconfigurable channel depends on the selected channel function
+        missingValues.keySet().removeIf(valuesKey -> {
+            HmChannel channel = missingValues.get(valuesKey);
+            Map<String, Object> master = descriptionCache
+                    .get(ParamsetDescriptionCache.getKey(channel, HmParamsetType.MASTER));
+            return master == null || master.containsKey(DATAPOINT_NAME_CHANNEL_FUNCTION);
+        });
+        loadParamsetDescriptions(missingValues, HmParamsetType.VALUES, descriptionCache);
+    }
+
+    /**
+     * Loads the paramset descriptions for the given channels into the cache, each loader uses its own connection.
+     */
+    private void loadParamsetDescriptions(Map<String, HmChannel> channelsByKey, HmParamsetType paramsetType,
+            ParamsetDescriptionCache descriptionCache) {
+        if (channelsByKey.isEmpty() || cancelLoadAllMetadata) {
+            return;
+        }
+        Queue<Entry<String, HmChannel>> pending = new ConcurrentLinkedQueue<>(channelsByKey.entrySet());
+        List<Callable<Void>> loaders = new ArrayList<>();
+        for (int i = 0; i < Math.min(METADATA_LOADER_CONNECTIONS, pending.size()); i++) {
+            loaders.add(() -> {
+                Map<TransferMode, RpcClient<?>> clients = new HashMap<>();
+                try {
+                    Entry<String, HmChannel> entry;
+                    while (!cancelLoadAllMetadata && (entry = pending.poll()) != null) {
+                        HmChannel channel = entry.getValue();
+                        try {
+                            TransferMode mode = availableInterfaces.get(channel.getDevice().getHmInterface());
+                            RpcClient<?> rpcClient = clients.get(mode);
+                            if (rpcClient == null) {
+                                rpcClient = createRpcClient(mode);
+                                clients.put(mode, rpcClient);
+                            }
+                            Map<String, Object> description = rpcClient.getParamsetDescription(channel,
+                                    paramsetType);
+                            if (description != null) {
+                                descriptionCache.put(entry.getKey(), description);
+                            } else {
+                                // loaded again later with the default client
+                                logger.debug("Empty {} paramset description for channel {} of device '{}' not cached",
+                                        paramsetType, channel, channel.getDevice().getAddress());
+                            }
+                        } catch (IOException ex) {
+                            // loaded again later with the default client
+                            logger.debug("Can't load {} paramset description for channel {} of device '{}': {}",
+                                    paramsetType, channel, channel.getDevice().getAddress(), ex.getMessage());
+                        }
+                    }
+                } finally {
+                    for (RpcClient<?> rpcClient : clients.values()) {
+                        rpcClient.dispose();
+                    }
+                }
+                return null;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(loaders.size(),
+                new NamedThreadFactory("homematic-metadata-" + id, true));
+        try {
+            executor.invokeAll(loaders);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Adds the datapoints of the given paramset to the channel, uses the cached paramset description if available.
+     */
+    private void addChannelDatapoints(HmChannel channel, HmParamsetType paramsetType,
+            ParamsetDescriptionCache descriptionCache) throws IOException {
+        Map<String, Object> description = descriptionCache.get(ParamsetDescriptionCache.getKey(channel, paramsetType));
+        if (description == null || (paramsetType == HmParamsetType.VALUES && channel.isReconfigurable())) {
+            addChannelDatapoints(channel, paramsetType);
+        } else {
+            new GetParamsetDescriptionParser(channel, paramsetType).parse(new Object[] { description });
+        }
+    }
+
     /**
      * Loads all datapoints from the gateway.
      */
@@ -0,0 +1,288 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the paramset descriptions of the Homematic gateway between restarts. A paramset description only depends on
+ * the device type, the firmware and the channel number, so a device is only loaded from the gateway again after a
+ * firmware update or if a new device type is added. The descriptions are also provided by the gateway, so all of them
+ * are loaded again after a firmware update of the gateway.
+ * <p>
+ * The descriptions are kept in the raw format of the RPC response and written in a simple tagged binary format, which
+ * supports all datatypes of the XML-RPC and BIN-RPC protocols.
+ *
+ * @author agent - Initial contribution
+ */
+public class ParamsetDescriptionCache {
+    private final Logger logger = LoggerFactory.getLogger(ParamsetDescriptionCache.class);
+    private static final int FORMAT_VERSION = 2;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_DOUBLE = 3;
+    private static final byte TYPE_BOOLEAN = 4;
+    private static final byte TYPE_ARRAY = 5;
+    private static final byte TYPE_MAP = 6;
+    private static final byte TYPE_LONG = 7;
+    private static final byte TYPE_DATE = 8;
+    private static final byte TYPE_BINARY = 9;
+
+    private final File file;
+    private final String gatewayFirmware;
+    private final Map<String, Map<String, Object>> descriptions = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    /**
+     * Creates the cache for the given file.
+     *
+     * @param file the file the descriptions are stored in
+     * @param gatewayFirmware the current firmware of the gateway, descriptions stored with another one are not used
+     */
+    public ParamsetDescriptionCache(File file, String gatewayFirmware) {
+        this.file = file;
+        this.gatewayFirmware = gatewayFirmware;
+    }
+
+    /**
+     * Returns the firmware of the gateway the descriptions belong to.
+     */
+    public String getGatewayFirmware() {
+        return gatewayFirmware;
+    }
+
+    /**
+     * Returns the key of the paramset description of the given channel.
+     */
+    public static String getKey(HmChannel channel, HmParamsetType paramsetType) {
+        return String.format("%s:%s:%s:%s", channel.getDevice().getType(), channel.getDevice().getFirmware(),
+                channel.getNumber(), paramsetType);
+    }
+
+    /**
+     * Returns the paramset description for the given key or null, if it is not available.
+     */
+    public Map<String, Object> get(String key) {
+        return descriptions.get(key);
+    }
+
+    /**
+     * Adds a paramset description.
+     */
+    public void put(String key, Map<String, Object> description) {
+        descriptions.put(key, description);
+        modified = true;
+    }
+
+    /**
+     * Removes all paramset descriptions, which are not contained in the given keys.
+     */
+    public void retainAll(Collection<String> keys) {
+        modified |= descriptions.keySet().retainAll(keys);
+    }
+
+    /**
+     * Returns the number of stored paramset descriptions.
+     */
+    public int size() {
+        return descriptions.size();
+    }
+
+    /**
+     * Loads the paramset descriptions from the file. A missing or unreadable file results in an empty cache.
+     */
+    public synchronized void load() {
+        descriptions.clear();
+        modified = false;
+        if (!file.exists()) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                logger.debug("Ignoring paramset description cache '{}' with unknown format", file);
+                return;
+            }
+            String storedGatewayFirmware = in.readUTF();
+            if (!gatewayFirmware.equals(storedGatewayFirmware)) {
+                logger.debug("Ignoring paramset description cache '{}' of gateway firmware {}, current is {}", file,
+                        storedGatewayFirmware, gatewayFirmware);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                descriptions.put(key, readMap(in));
+            }
+            logger.debug("Loaded {} paramset descriptions from '{}'", descriptions.size(), file);
+        } catch (IOException | IllegalStateException ex) {
+            logger.debug("Can't read paramset description cache '{}': {}", file, ex.getMessage());
+            descriptions.clear();
+        }
+    }
+
+    /**
+     * Writes the paramset descriptions to the file, if they have been modified since they were loaded. They are written
+     * to a temporary file first, which then replaces the file, so a failed write doesn't leave a truncated cache.
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            logger.debug("Can't create folder for paramset description cache '{}'", file);
+            return;
+        }
+        Map<String, Map<String, Object>> snapshot = new HashMap<>(descriptions);
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(gatewayFirmware);
+                out.writeInt(snapshot.size());
+                for (Entry<String, Map<String, Object>> entry : snapshot.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    writeMap(out, entry.getValue());
+                }
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            modified = false;
+            logger.debug("Saved {} paramset descriptions to '{}'", snapshot.size(), file);
+        } catch (IOException | IllegalArgumentException ex) {
+            logger.warn("Can't write paramset description cache '{}': {}", file, ex.getMessage());
+            tempFile.delete();
+        }
+    }
+
+    private void writeMap(DataOutputStream out, Map<?, ?> map) throws IOException {
+        out.writeInt(map.size());
+        for (Entry<?, ?> entry : map.entrySet()) {
+            out.writeUTF(String.valueOf(entry.getKey()));
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            out.writeUTF((String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Date) {
+            out.writeByte(TYPE_DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof byte[]) {
+            byte[] data = (byte[]) value;
+            out.writeByte(TYPE_BINARY);
+            out.writeInt(data.length);
+            out.write(data);
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            out.writeByte(TYPE_ARRAY);
+            out.writeInt(array.length);
+            for (Object element : array) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map) {
+            out.writeByte(TYPE_MAP);
+            writeMap(out, (Map<?, ?>) value);
+        } else {
+            throw new IllegalArgumentException("Unsupported datatype " + value.getClass().getName());
+        }
+    }
+
+    private Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return in.readUTF();
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_DATE:
+                return new Date(in.readLong());
+            case TYPE_BINARY:
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                return data;
+            case TYPE_ARRAY:
+                Object[] array = new Object[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readValue(in);
+                }
+                return array;
+            case TYPE_MAP:
+                return readMap(in);
+            default:
+                throw new IllegalStateException("Unknown datatype " + type);
+        }
+    }
+}
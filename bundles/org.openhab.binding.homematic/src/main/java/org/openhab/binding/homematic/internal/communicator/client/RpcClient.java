@@ -177,10 +177,35 @@ public abstract class RpcClient<T> {
             // The configuration channel only has a MASTER Paramset, so there is nothing to load
             return;
         }
+        new GetParamsetDescriptionParser(channel, paramsetType)
+                .parse(sendParamsetDescriptionRequest(channel, paramsetType));
+    }
+
+    /**
+     * Returns the raw paramset description of the given channel, the metadata of all datapoints by datapoint name, or
+     * null if the gateway returned no or an empty description. Such a reply may be a temporary error of the gateway, so
+     * it must not be cached.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getParamsetDescription(HmChannel channel, HmParamsetType paramsetType)
+            throws IOException {
+        if (isConfigurationChannel(channel) && paramsetType != HmParamsetType.MASTER) {
+            // The configuration channel only has a MASTER Paramset
+            return new HashMap<>();
+        }
+        Object[] message = sendParamsetDescriptionRequest(channel, paramsetType);
+        if (message.length > 0 && message[0] instanceof Map && !((Map<String, Object>) message[0]).isEmpty()) {
+            return (Map<String, Object>) message[0];
+        }
+        return null;
+    }
+
+    private Object[] sendParamsetDescriptionRequest(HmChannel channel, HmParamsetType paramsetType)
+            throws IOException {
         RpcRequest<T> request = createRpcRequest("getParamsetDescription");
         request.addArg(getRpcAddress(channel.getDevice().getAddress()) + getChannelSuffix(channel));
         request.addArg(paramsetType.toString());
-        new GetParamsetDescriptionParser(channel, paramsetType).parse(sendMessage(config.getRpcPort(channel), request));
+        return sendMessage(config.getRpcPort(channel), request);
     }
 
     /**
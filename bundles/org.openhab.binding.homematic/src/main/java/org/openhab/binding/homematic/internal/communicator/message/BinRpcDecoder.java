@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.message;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads BIN-RPC values sequentially from a buffer. The buffer may be a heap or a direct buffer, values are decoded
+ * in place without copying the message.
+ *
+ * @author agent - Initial contribution
+ */
+public class BinRpcDecoder {
+    public static final int HEADER_LENGTH = 8;
+
+    public static final int TYPE_INTEGER = 1;
+    public static final int TYPE_BOOLEAN = 2;
+    public static final int TYPE_STRING = 3;
+    public static final int TYPE_DOUBLE = 4;
+    public static final int TYPE_DATE = 5;
+    public static final int TYPE_INT64 = 0xD1;
+    public static final int TYPE_ARRAY = 0x100;
+    public static final int TYPE_STRUCT = 0x101;
+
+    private final ByteBuffer buffer;
+    private final Charset charset;
+
+    /**
+     * Creates a decoder for the values from the current position up to the limit of the buffer.
+     */
+    public BinRpcDecoder(ByteBuffer buffer, String encoding) {
+        this.buffer = buffer;
+        this.charset = Charset.forName(encoding);
+    }
+
+    /**
+     * Returns the length of the message including the header, the buffer must contain at least the
+     * {@link #HEADER_LENGTH} bytes of the header at the current position. The position is not changed.
+     */
+    public static int getMessageLength(ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        if (buffer.get(start) != 'B' || buffer.get(start + 1) != 'i' || buffer.get(start + 2) != 'n') {
+            throw new UnsupportedEncodingException("No BinX signature");
+        }
+        int datasize = buffer.getInt(start + 4);
+        if (datasize < 0) {
+            throw new IOException("Invalid message length " + datasize);
+        }
+        return HEADER_LENGTH + datasize;
+    }
+
+    /**
+     * Skips the header with the signature and the message length.
+     */
+    public void skipHeader() {
+        buffer.position(buffer.position() + HEADER_LENGTH);
+    }
+
+    /**
+     * Returns true, if there are more values to read.
+     */
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * Returns the next integer without consuming it, e.g. to check the type of the next value.
+     */
+    public int peekInt() throws IOException {
+        try {
+            return buffer.getInt(buffer.position());
+        } catch (IndexOutOfBoundsException ex) {
+            throw new EOFException("Unexpected end of BIN-RPC message");
+        }
+    }
+
+    public int readInt() throws IOException {
+        try {
+            return buffer.getInt();
+        } catch (BufferUnderflowException ex) {
+            throw new EOFException("Unexpected end of BIN-RPC message");
+        }
+    }
+
+    public String readString() throws IOException {
+        int len = readInt();
+        if (len < 0 || len > buffer.remaining()) {
+            throw new EOFException("Unexpected end of BIN-RPC message");
+        }
+        String result;
+        if (buffer.hasArray()) {
+            result = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), len, charset);
+        } else {
+            byte[] data = new byte[len];
+            buffer.duplicate().get(data);
+            result = new String(data, charset);
+        }
+        buffer.position(buffer.position() + len);
+        return result;
+    }
+
+    /**
+     * Reads the next value including its type.
+     */
+    public Object readValue() throws IOException {
+        return readValue(readInt());
+    }
+
+    /**
+     * Reads the next value of the given type, the type has already been read.
+     */
+    public Object readValue(int type) throws IOException {
+        try {
+            switch (type) {
+                case TYPE_INTEGER:
+                    return buffer.getInt();
+                case TYPE_BOOLEAN:
+                    return buffer.get() != 0 ? Boolean.TRUE : Boolean.FALSE;
+                case TYPE_STRING:
+                    return readString();
+                case TYPE_DOUBLE:
+                    int mantissa = buffer.getInt();
+                    int exponent = buffer.getInt();
+                    BigDecimal bd = new BigDecimal((double) mantissa / (double) (1 << 30) * Math.pow(2, exponent));
+                    return bd.setScale(6, RoundingMode.HALF_DOWN).doubleValue();
+                case TYPE_DATE:
+                    return new Date(buffer.getInt() * 1000L);
+                case TYPE_INT64:
+                    return buffer.getLong();
+                case TYPE_ARRAY:
+                    int length = readInt();
+                    if (length < 0 || length > buffer.remaining() / 4) {
+                        throw new EOFException("Unexpected end of BIN-RPC message");
+                    }
+                    Object[] array = new Object[length];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = readValue();
+                    }
+                    return array;
+                case TYPE_STRUCT:
+                    int numElements = readInt();
+                    Map<String, Object> struct = new TreeMap<>();
+                    while (numElements-- > 0) {
+                        String name = readString();
+                        struct.put(name, readValue());
+                    }
+                    return struct;
+                default:
+                    throw new IOException("Unknown data type " + type);
+            }
+        } catch (BufferUnderflowException ex) {
+            throw new EOFException("Unexpected end of BIN-RPC message");
+        }
+    }
+}
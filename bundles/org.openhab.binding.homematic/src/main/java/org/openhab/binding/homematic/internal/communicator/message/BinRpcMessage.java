@@ -19,6 +19,7 @@ import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -27,11 +28,6 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
-
-import org.apache.commons.lang.ArrayUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Handles BIN-RPC request and response messages to communicate with a Homematic gateway.
@@ -39,7 +35,6 @@ import org.slf4j.LoggerFactory;
  * @author Gerhard Riegler - Initial contribution
  */
 public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
-    private final Logger logger = LoggerFactory.getLogger(BinRpcMessage.class);
 
     public enum TYPE {
         REQUEST,
@@ -74,7 +69,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
      */
     public BinRpcMessage(InputStream is, boolean methodHeader, String encoding) throws IOException {
         this.encoding = encoding;
-        byte sig[] = new byte[8];
+        byte sig[] = new byte[BinRpcDecoder.HEADER_LENGTH];
         int length = is.read(sig, 0, 4);
         if (length != 4) {
             throw new EOFException("Only " + length + " bytes received reading signature");
@@ -84,19 +79,20 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         if (length != 4) {
             throw new EOFException("Only " + length + " bytes received reading message length");
         }
-        int datasize = (new BigInteger(ArrayUtils.subarray(sig, 4, 8))).intValue();
-        byte payload[] = new byte[datasize];
-        int offset = 0;
-        int currentLength;
+        int messageLength = BinRpcDecoder.getMessageLength(ByteBuffer.wrap(sig));
 
-        while (offset < datasize && (currentLength = is.read(payload, offset, datasize - offset)) != -1) {
+        // read the payload directly behind the header
+        byte message[] = Arrays.copyOf(sig, messageLength);
+        int offset = sig.length;
+        int currentLength;
+        while (offset < messageLength && (currentLength = is.read(message, offset, messageLength - offset)) != -1) {
             offset += currentLength;
         }
-        if (offset != datasize) {
-            throw new EOFException("Only " + offset + " bytes received while reading message payload, expected "
-                    + datasize + " bytes");
+        if (offset != messageLength) {
+            throw new EOFException("Only " + (offset - sig.length)
+                    + " bytes received while reading message payload, expected " + (messageLength - sig.length)
+                    + " bytes");
         }
-        byte[] message = ArrayUtils.addAll(sig, payload);
         decodeMessage(message, methodHeader);
     }
 
@@ -121,11 +117,10 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     private void decodeMessage(byte[] message, boolean methodHeader) throws IOException {
         binRpcData = message;
 
-        offset = 8;
-
         if (methodHeader) {
-            methodName = readString();
-            readInt();
+            BinRpcDecoder decoder = new BinRpcDecoder(ByteBuffer.wrap(binRpcData), encoding);
+            decoder.skipHeader();
+            methodName = decoder.readString();
         }
         generateResponseData();
     }
@@ -135,13 +130,17 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     }
 
     private void generateResponseData() throws IOException {
-        offset = 8 + (methodName != null ? methodName.length() + 8 : 0);
+        BinRpcDecoder decoder = new BinRpcDecoder(ByteBuffer.wrap(binRpcData), encoding);
+        decoder.skipHeader();
+        if (methodName != null) {
+            decoder.readString(); // method name
+            decoder.readInt(); // number of arguments
+        }
         List<Object> values = new ArrayList<>();
-        while (offset < binRpcData.length) {
-            values.add(readRpcValue());
+        while (decoder.hasRemaining()) {
+            values.add(decoder.readValue());
         }
         messageData = values.toArray();
-        values.clear();
     }
 
     private void createHeader() {
@@ -196,72 +195,6 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         return messageData;
     }
 
-    // read rpc values
-    private int readInt() {
-        byte bi[] = new byte[4];
-        System.arraycopy(binRpcData, offset, bi, 0, 4);
-        offset += 4;
-        return (new BigInteger(bi)).intValue();
-    }
-
-    private long readInt64() {
-        byte bi[] = new byte[8];
-        System.arraycopy(binRpcData, offset, bi, 0, 8);
-        offset += 8;
-        return (new BigInteger(bi)).longValue();
-    }
-
-    private String readString() throws UnsupportedEncodingException {
-        int len = readInt();
-        offset += len;
-        return new String(binRpcData, offset - len, len, encoding);
-    }
-
-    private Object readRpcValue() throws IOException {
-        int type = readInt();
-        switch (type) {
-            case 1:
-                return new Integer(readInt());
-            case 2:
-                return binRpcData[offset++] != 0 ? Boolean.TRUE : Boolean.FALSE;
-            case 3:
-                return readString();
-            case 4:
-                int mantissa = readInt();
-                int exponent = readInt();
-                BigDecimal bd = new BigDecimal((double) mantissa / (double) (1 << 30) * Math.pow(2, exponent));
-                return bd.setScale(6, RoundingMode.HALF_DOWN).doubleValue();
-            case 5:
-                return new Date(readInt() * 1000);
-            case 0xD1:
-                // Int64
-                return new Long(readInt64());
-            case 0x100:
-                // Array
-                int numElements = readInt();
-                Collection<Object> array = new ArrayList<>();
-                while (numElements-- > 0) {
-                    array.add(readRpcValue());
-                }
-                return array.toArray();
-            case 0x101:
-                // Struct
-                numElements = readInt();
-                Map<String, Object> struct = new TreeMap<>();
-                while (numElements-- > 0) {
-                    String name = readString();
-                    struct.put(name, readRpcValue());
-                }
-                return struct;
-
-            default:
-                for (int i = 0; i < binRpcData.length; i++) {
-                    logger.info("{} {}", Integer.toHexString(binRpcData[i]), (char) binRpcData[i]);
-                }
-                throw new IOException("Unknown data type " + type);
-        }
-    }
-
     private void setInt(int position, int value) {
         int temp = offset;
         offset = position;
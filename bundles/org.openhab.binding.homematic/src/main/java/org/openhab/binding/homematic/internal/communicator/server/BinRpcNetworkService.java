@@ -14,28 +14,44 @@ package org.openhab.binding.homematic.internal.communicator.server;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
 import org.openhab.binding.homematic.internal.communicator.message.BinRpcMessage;
 import org.openhab.binding.homematic.internal.communicator.message.RpcRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Waits for a message from the Homematic gateway and starts the RpcCallbackHandler to handle the message.
+ * Waits for messages from the Homematic gateway on non-blocking connections and starts the RpcCallbackHandler to
+ * handle a message as soon as it has been received completely. Messages are received into pooled direct buffers.
  *
  * @author Gerhard Riegler - Initial contribution
  */
 public class BinRpcNetworkService implements Runnable {
+    private final Logger logger = LoggerFactory.getLogger(BinRpcNetworkService.class);
     private static final byte BIN_EMPTY_STRING[] = { 'B', 'i', 'n', 1, 0, 0, 0, 8, 0, 0, 0, 3, 0, 0, 0, 0 };
     private static final byte BIN_EMPTY_ARRAY[] = { 'B', 'i', 'n', 1, 0, 0, 0, 8, 0, 0, 1, 0, 0, 0, 0, 0 };
     private static final byte BIN_EMPTY_EVENT_LIST[] = { 'B', 'i', 'n', 1, 0, 0, 0, 21, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0,
             3, 0, 0, 0, 5, 'e', 'v', 'e', 'n', 't' };
 
     private static final String RPC_POOL_NAME = "homematicRpc";
-    private ServerSocket serverSocket;
-    private boolean accept = true;
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 8;
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ByteBufferPool bufferPool = new ByteBufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+    private final Queue<Runnable> pendingInterestChanges = new ConcurrentLinkedQueue<>();
+    private volatile boolean accept = true;
     private HomematicConfig config;
     private RpcResponseHandler<byte[]> rpcResponseHandler;
 
@@ -45,9 +61,12 @@ public class BinRpcNetworkService implements Runnable {
     public BinRpcNetworkService(RpcEventListener listener, HomematicConfig config) throws IOException {
         this.config = config;
 
-        serverSocket = new ServerSocket();
-        serverSocket.setReuseAddress(true);
-        serverSocket.bind(new InetSocketAddress(config.getBindAddress(), config.getBinCallbackPort()));
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.socket().setReuseAddress(true);
+        serverChannel.bind(new InetSocketAddress(config.getBindAddress(), config.getBinCallbackPort()));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
 
         this.rpcResponseHandler = new RpcResponseHandler<byte[]>(listener) {
 
@@ -80,13 +99,110 @@ public class BinRpcNetworkService implements Runnable {
     public void run() {
         while (accept) {
             try {
-                Socket cs = serverSocket.accept();
-                BinRpcResponseHandler rpcHandler = new BinRpcResponseHandler(cs, rpcResponseHandler, config);
-                ThreadPoolManager.getPool(RPC_POOL_NAME).execute(rpcHandler);
+                selector.select();
+                Runnable interestChange;
+                while ((interestChange = pendingInterestChanges.poll()) != null) {
+                    try {
+                        interestChange.run();
+                    } catch (CancelledKeyException ex) {
+                        // the connection has been closed in the meantime
+                    }
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        acceptConnection();
+                    } else {
+                        handleConnection(key);
+                    }
+                }
             } catch (IOException ex) {
                 // ignore
             }
         }
+
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof BinRpcResponseHandler) {
+                ((BinRpcResponseHandler) key.attachment()).close();
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException ioe) {
+            // ignore
+        }
+    }
+
+    private void acceptConnection() {
+        SocketChannel channel = null;
+        try {
+            channel = serverChannel.accept();
+            if (channel != null) {
+                channel.configureBlocking(false);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                key.attach(new BinRpcResponseHandler(channel, key, this, rpcResponseHandler, config));
+            }
+        } catch (IOException | RuntimeException ex) {
+            // a failed connection must not stop the server
+            logger.debug("Can't accept BIN-RPC connection: {}", ex.getMessage());
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ioe) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private void handleConnection(SelectionKey key) {
+        BinRpcResponseHandler rpcHandler = (BinRpcResponseHandler) key.attachment();
+        try {
+            if (key.isReadable() && rpcHandler.read()) {
+                // no further events until the message has been handled
+                key.interestOps(0);
+                execute(rpcHandler);
+            } else if (key.isWritable() && rpcHandler.write()) {
+                key.interestOps(0);
+                rpcHandler.responseSent();
+            }
+        } catch (IOException | CancelledKeyException ex) {
+            logger.trace("Closing BIN-RPC connection: {}", ex.getMessage());
+            rpcHandler.close();
+        } catch (RuntimeException ex) {
+            // a failure of one connection must not stop the server
+            logger.debug("Closing BIN-RPC connection after error: {}", ex.getMessage(), ex);
+            rpcHandler.close();
+        }
+    }
+
+    /**
+     * Handles a received message in the RPC thread pool.
+     */
+    void execute(BinRpcResponseHandler rpcHandler) {
+        ThreadPoolManager.getPool(RPC_POOL_NAME).execute(rpcHandler);
+    }
+
+    /**
+     * Changes the events of the connection the selector is waiting for.
+     */
+    void setInterest(SelectionKey key, int interestOps) {
+        pendingInterestChanges.add(() -> {
+            if (key.isValid()) {
+                key.interestOps(interestOps);
+            }
+        });
+        selector.wakeup();
+    }
+
+    ByteBufferPool getBufferPool() {
+        return bufferPool;
     }
 
     /**
@@ -94,8 +210,9 @@ public class BinRpcNetworkService implements Runnable {
      */
     public void shutdown() {
         accept = false;
+        selector.wakeup();
         try {
-            serverSocket.close();
+            serverChannel.close();
         } catch (IOException ioe) {
             // ignore
         }
@@ -12,63 +12,220 @@
  */
 package org.openhab.binding.homematic.internal.communicator.server;
 
-import java.io.EOFException;
+import static org.openhab.binding.homematic.internal.misc.HomematicConstants.RPC_METHODNAME_SYSTEM_MULTICALL;
+
 import java.io.IOException;
-import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
-import org.openhab.binding.homematic.internal.communicator.message.BinRpcMessage;
+import org.openhab.binding.homematic.internal.communicator.message.BinRpcDecoder;
+import org.openhab.binding.homematic.internal.communicator.message.RpcUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Reads a BIN-RPC message from the socket and handles the method call.
+ * Receives the BIN-RPC messages of one connection from the Homematic gateway and handles the method calls. Reading
+ * and writing is driven by the selector of the {@link BinRpcNetworkService}, the method calls are handled in the RPC
+ * thread pool. The receive buffer is taken from the pool only while a message is pending.
  *
  * @author Gerhard Riegler - Initial contribution
  */
 public class BinRpcResponseHandler implements Runnable {
-    private final Logger logger = LoggerFactory.getLogger(BinRpcResponseHandler.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinRpcResponseHandler.class);
+    private static final int MAX_MESSAGE_LENGTH = 64 * 1024 * 1024;
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final BinRpcNetworkService networkService;
+    private final RpcResponseHandler<byte[]> rpcResponseHandler;
+    private final HomematicConfig config;
+    private final long created;
 
-    private Socket socket;
-    private RpcResponseHandler<byte[]> rpcResponseHandler;
-    private HomematicConfig config;
-    private long created;
+    private ByteBuffer buffer;
+    private ByteBuffer response;
 
-    public BinRpcResponseHandler(Socket socket, RpcResponseHandler<byte[]> rpcResponseHandler, HomematicConfig config) {
-        this.socket = socket;
+    public BinRpcResponseHandler(SocketChannel channel, SelectionKey key, BinRpcNetworkService networkService,
+            RpcResponseHandler<byte[]> rpcResponseHandler, HomematicConfig config) {
+        this.channel = channel;
+        this.key = key;
+        this.networkService = networkService;
         this.rpcResponseHandler = rpcResponseHandler;
         this.config = config;
         this.created = System.currentTimeMillis();
     }
 
     /**
-     * Reads the event from the Homematic gateway and handles the method call.
+     * Reads the available data from the connection, called by the selector thread.
+     *
+     * @return true, if a complete message has been received
+     * @throws IOException if the connection has been closed or the message is invalid
+     */
+    boolean read() throws IOException {
+        if (buffer == null) {
+            buffer = networkService.getBufferPool().acquire(networkService.getBufferPool().getBufferSize());
+        }
+        if (channel.read(buffer) == -1) {
+            throw new IOException("Connection closed by the Homematic gateway");
+        }
+        int messageLength = getMessageLength();
+        if (messageLength > buffer.capacity()) {
+            // the message doesn't fit into the pooled buffer
+            ByteBuffer bigBuffer = networkService.getBufferPool().acquire(messageLength);
+            buffer.flip();
+            bigBuffer.put(buffer);
+            networkService.getBufferPool().release(buffer);
+            buffer = bigBuffer;
+            channel.read(buffer);
+        }
+        return buffer.position() >= messageLength;
+    }
+
+    /**
+     * Writes the remaining response, called by the selector thread.
+     *
+     * @return true, if the response has been written completely
+     */
+    boolean write() throws IOException {
+        channel.write(response);
+        return !response.hasRemaining();
+    }
+
+    /**
+     * Handles the received message and sends the response.
      */
     @Override
     public void run() {
         try {
-            boolean isMaxAliveReached;
-            do {
-                BinRpcMessage message = new BinRpcMessage(socket.getInputStream(), true, config.getEncoding());
-                logger.trace("Event BinRpcMessage: {}", message);
-                byte[] returnValue = rpcResponseHandler.handleMethodCall(message.getMethodName(),
-                        message.getResponseData());
-                if (returnValue != null) {
-                    socket.getOutputStream().write(returnValue);
-                }
-                isMaxAliveReached = System.currentTimeMillis() - created > (config.getSocketMaxAlive() * 1000);
-            } while (!isMaxAliveReached);
+            buffer.flip();
+            int messageLength = BinRpcDecoder.getMessageLength(buffer);
+            ByteBuffer message = buffer.duplicate();
+            message.limit(messageLength);
+            response = ByteBuffer.wrap(handleMethodCall(message, rpcResponseHandler, config.getEncoding()));
 
-        } catch (EOFException eof) {
-            // ignore
+            // keep a following message, if the gateway did not wait for the response
+            buffer.position(messageLength);
+            buffer.compact();
+
+            if (write()) {
+                responseSent();
+            } else {
+                networkService.setInterest(key, SelectionKey.OP_WRITE);
+            }
         } catch (Exception e) {
-            logger.warn("{}", e.getMessage(), e);
-        } finally {
-            try {
-                socket.close();
-            } catch (IOException ioe) {
-                // ignore
+            LOGGER.warn("{}", e.getMessage(), e);
+            close();
+        }
+    }
+
+    /**
+     * Handles the next message or continues reading after the response has been sent. Closes the connection, if the
+     * max alive time has been reached.
+     */
+    void responseSent() throws IOException {
+        boolean isMaxAliveReached = System.currentTimeMillis() - created > (config.getSocketMaxAlive() * 1000);
+        if (isMaxAliveReached) {
+            close();
+        } else if (buffer.position() >= getMessageLength()) {
+            networkService.execute(this);
+        } else {
+            if (buffer.position() == 0) {
+                networkService.getBufferPool().release(buffer);
+                buffer = null;
             }
+            networkService.setInterest(key, SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Closes the connection and returns the buffer to the pool.
+     */
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ioe) {
+            // ignore
+        }
+        if (buffer != null) {
+            networkService.getBufferPool().release(buffer);
+            buffer = null;
+        }
+    }
+
+    /**
+     * Returns the length of the message at the start of the buffer, or Integer.MAX_VALUE if the header is incomplete.
+     */
+    private int getMessageLength() throws IOException {
+        if (buffer.position() < BinRpcDecoder.HEADER_LENGTH) {
+            return Integer.MAX_VALUE;
+        }
+        ByteBuffer header = buffer.duplicate();
+        header.position(0);
+        int messageLength = BinRpcDecoder.getMessageLength(header);
+        if (messageLength > MAX_MESSAGE_LENGTH) {
+            throw new IOException("BIN-RPC message with " + messageLength + " bytes exceeds the maximum size");
+        }
+        return messageLength;
+    }
+
+    /**
+     * Decodes the method call in the given message and handles it. The calls of a system.multicall are decoded and
+     * handled one after the other, without building the complete list of calls first.
+     *
+     * @param message the message from the current position up to the limit
+     * @return the response to send to the Homematic gateway
+     */
+    static byte[] handleMethodCall(ByteBuffer message, RpcResponseHandler<byte[]> rpcResponseHandler,
+            String encoding) throws IOException {
+        BinRpcDecoder decoder = new BinRpcDecoder(message, encoding);
+        decoder.skipHeader();
+        String methodName = decoder.readString();
+        decoder.readInt(); // number of arguments
+
+        if (RPC_METHODNAME_SYSTEM_MULTICALL.equals(methodName) && decoder.hasRemaining()
+                && decoder.peekInt() == BinRpcDecoder.TYPE_ARRAY) {
+            decoder.readInt();
+            int calls = decoder.readInt();
+            for (int i = 0; i < calls; i++) {
+                int type = decoder.readInt();
+                if (type != BinRpcDecoder.TYPE_STRUCT) {
+                    decoder.readValue(type);
+                    continue;
+                }
+                String method = null;
+                Object[] params = new Object[0];
+                int fields = decoder.readInt();
+                for (int j = 0; j < fields; j++) {
+                    String name = decoder.readString();
+                    Object value = decoder.readValue();
+                    if ("methodName".equals(name)) {
+                        method = String.valueOf(value);
+                    } else if ("params".equals(name) && value instanceof Object[]) {
+                        params = (Object[]) value;
+                    }
+                }
+                if (method != null) {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Event BinRpcMessage: {}", RpcUtils.dumpRpcMessage(method, params));
+                    }
+                    rpcResponseHandler.handleMethodCall(method, params);
+                }
+            }
+            return rpcResponseHandler.getEmptyEventListResult();
+        }
+
+        List<Object> values = new ArrayList<>();
+        while (decoder.hasRemaining()) {
+            values.add(decoder.readValue());
+        }
+        Object[] responseData = values.toArray();
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Event BinRpcMessage: {}", RpcUtils.dumpRpcMessage(methodName, responseData));
         }
+        return rpcResponseHandler.handleMethodCall(methodName, responseData);
     }
 }
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link ParamsetDescriptionCache}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ParamsetDescriptionCacheTest {
+
+    private static final String KEY = "HM-LC-Sw1-FM:2.5:1:VALUES";
+    private static final String GATEWAY_FIRMWARE = "2.53.27";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setup() {
+        file = new File(folder.getRoot(), "homematic/gateway.paramsets");
+    }
+
+    @Test
+    public void testDescriptionsSurviveRestart() {
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, GATEWAY_FIRMWARE);
+        cache.load();
+        cache.put(KEY, createDescription());
+        cache.save();
+
+        ParamsetDescriptionCache restarted = new ParamsetDescriptionCache(file, GATEWAY_FIRMWARE);
+        restarted.load();
+        assertThat(restarted.size(), is(1));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> state = (Map<String, Object>) restarted.get(KEY).get("STATE");
+        assertThat(state.get("TYPE"), is("BOOL"));
+        assertThat(state.get("OPERATIONS"), is(7));
+        assertThat(state.get("MIN"), is(0.5));
+        assertThat(state.get("DEFAULT"), is(false));
+        assertThat(state.get("UNIT"), is(nullValue()));
+        assertThat((Object[]) state.get("VALUE_LIST"), is(new Object[] { "OFF", "ON" }));
+    }
+
+    @Test
+    public void testUnusedDescriptionsAreRemoved() {
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, GATEWAY_FIRMWARE);
+        cache.put(KEY, createDescription());
+        cache.put("HM-LC-Sw1-FM:2.4:1:VALUES", createDescription());
+        cache.retainAll(Collections.singleton(KEY));
+        cache.save();
+
+        ParamsetDescriptionCache restarted = new ParamsetDescriptionCache(file, GATEWAY_FIRMWARE);
+        restarted.load();
+        assertThat(restarted.size(), is(1));
+        assertThat(restarted.get(KEY), is(notNullValue()));
+    }
+
+    @Test
+    public void testDescriptionsAreDroppedAfterGatewayUpdate() {
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, GATEWAY_FIRMWARE);
+        cache.put(KEY, createDescription());
+        cache.save();
+
+        ParamsetDescriptionCache updated = new ParamsetDescriptionCache(file, "3.51.6");
+        updated.load();
+        assertThat(updated.size(), is(0));
+    }
+
+    @Test
+    public void testFailedSaveKeepsPreviousFile() {
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, GATEWAY_FIRMWARE);
+        cache.put(KEY, createDescription());
+        cache.save();
+
+        Map<String, Object> unsupported = createDescription();
+        unsupported.put("UNSUPPORTED", new Object());
+        cache.put("HM-LC-Sw1-FM:2.4:1:VALUES", unsupported);
+        cache.save();
+        assertThat(new File(file.getPath() + ".tmp").exists(), is(false));
+
+        ParamsetDescriptionCache restarted = new ParamsetDescriptionCache(file, GATEWAY_FIRMWARE);
+        restarted.load();
+        assertThat(restarted.size(), is(1));
+        assertThat(restarted.get(KEY), is(notNullValue()));
+    }
+
+    @Test
+    public void testCorruptFileIsIgnored() throws IOException {
+        file.getParentFile().mkdirs();
+        // current format and gateway firmware, but the first description is truncated
+        Files.write(file.toPath(), new byte[] { 0, 0, 0, 2, 0, 7, '2', '.', '5', '3', '.', '2', '7', 0, 0, 0, 5, 1 });
+
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file, GATEWAY_FIRMWARE);
+        cache.load();
+        assertThat(cache.size(), is(0));
+    }
+
+    private Map<String, Object> createDescription() {
+        Map<String, Object> state = new HashMap<>();
+        state.put("TYPE", "BOOL");
+        state.put("OPERATIONS", 7);
+        state.put("MIN", 0.5);
+        state.put("DEFAULT", Boolean.FALSE);
+        state.put("UNIT", null);
+        state.put("VALUE_LIST", new Object[] { "OFF", "ON" });
+        Map<String, Object> description = new HashMap<>();
+        description.put("STATE", state);
+        return description;
+    }
+}
@@ -68,6 +68,22 @@ public class RpcClientTest extends JavaTest {
         assertThat(rpcClient.numberOfCalls.get(GET_PARAMSET_DESCRIPTION_NAME), is(0));
     }
 
+    @Test
+    public void emptyParamsetDescriptionIsNotReturnedForChannel() throws IOException {
+        HmChannel channel = createDimmerHmChannel();
+
+        assertThat(rpcClient.getParamsetDescription(channel, HmParamsetType.VALUES), is(nullValue()));
+        assertThat(rpcClient.numberOfCalls.get(GET_PARAMSET_DESCRIPTION_NAME), is(1));
+    }
+
+    @Test
+    public void valuesParamsetDescriptionIsEmptyForDummyChannel() throws IOException {
+        HmChannel channel = createDimmerDummyChannel();
+
+        assertThat(rpcClient.getParamsetDescription(channel, HmParamsetType.VALUES).isEmpty(), is(true));
+        assertThat(rpcClient.numberOfCalls.get(GET_PARAMSET_DESCRIPTION_NAME), is(0));
+    }
+
     @Test
     public void valuesParamsetIsLoadedForChannel() throws IOException {
         HmChannel channel = createDimmerHmChannel();
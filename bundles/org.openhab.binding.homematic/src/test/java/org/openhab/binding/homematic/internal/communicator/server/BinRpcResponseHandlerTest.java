@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.server;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.homematic.internal.communicator.message.BinRpcMessage;
+import org.openhab.binding.homematic.internal.communicator.message.RpcRequest;
+import org.openhab.binding.homematic.internal.model.HmDatapointInfo;
+
+/**
+ * Tests for {@link BinRpcResponseHandler}, compares the streaming decoder with the decoding of the complete message
+ * and replays a burst of multicall event messages like a CCU sends them after a duty cycle recovery.
+ *
+ * @author agent - Initial contribution
+ */
+public class BinRpcResponseHandlerTest {
+    private static final String ENCODING = "ISO-8859-1";
+    private static final byte[] EMPTY_EVENT_LIST = { 'B', 'i', 'n', 1, 0, 0, 0, 21, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 3,
+            0, 0, 0, 5, 'e', 'v', 'e', 'n', 't' };
+    private static final int BURST_MESSAGES = 20;
+    private static final int EVENTS_PER_MESSAGE = 50;
+
+    private final List<String> events = new ArrayList<>();
+    private RpcResponseHandler<byte[]> rpcResponseHandler;
+
+    @Before
+    public void setup() {
+        rpcResponseHandler = new RpcResponseHandler<byte[]>(new RpcEventListener() {
+            @Override
+            public void eventReceived(HmDatapointInfo dpInfo, Object newValue) {
+                events.add(dpInfo + "=" + newValue);
+            }
+
+            @Override
+            public void newDevices(List<String> adresses) {
+            }
+
+            @Override
+            public void deleteDevices(List<String> addresses) {
+            }
+        }) {
+            @Override
+            protected byte[] getEmptyStringResult() {
+                return new byte[0];
+            }
+
+            @Override
+            protected byte[] getEmptyArrayResult() {
+                return new byte[0];
+            }
+
+            @Override
+            protected byte[] getEmptyEventListResult() {
+                return EMPTY_EVENT_LIST;
+            }
+
+            @Override
+            protected RpcRequest<byte[]> createRpcRequest() {
+                return new BinRpcMessage(null, BinRpcMessage.TYPE.RESPONSE, ENCODING);
+            }
+        };
+    }
+
+    @Test
+    public void testMulticallEventsAreDispatchedInOrder() throws IOException {
+        byte[] message = createMulticall(0);
+
+        byte[] result = BinRpcResponseHandler.handleMethodCall(ByteBuffer.wrap(message), rpcResponseHandler,
+                ENCODING);
+        List<String> streamed = new ArrayList<>(events);
+        events.clear();
+
+        BinRpcMessage decoded = new BinRpcMessage(new ByteArrayInputStream(message), true, ENCODING);
+        rpcResponseHandler.handleMethodCall(decoded.getMethodName(), decoded.getResponseData());
+
+        assertThat(result, is(EMPTY_EVENT_LIST));
+        assertThat(streamed.size(), is(EVENTS_PER_MESSAGE));
+        assertThat(streamed, is(events));
+    }
+
+    @Test
+    public void testMessageInDirectBuffer() throws IOException {
+        byte[] message = createMulticall(1);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(message.length);
+        buffer.put(message);
+        buffer.flip();
+
+        BinRpcResponseHandler.handleMethodCall(buffer, rpcResponseHandler, ENCODING);
+        assertThat(events.size(), is(EVENTS_PER_MESSAGE));
+        assertThat(events.get(0).endsWith("=true"), is(true));
+    }
+
+    @Test
+    public void testSingleEvent() throws IOException {
+        BinRpcMessage event = new BinRpcMessage("event", ENCODING);
+        event.addArg("openhab-RF");
+        event.addArg("NEQ0000001:1");
+        event.addArg("STATE");
+        event.addArg(Boolean.TRUE);
+
+        BinRpcResponseHandler.handleMethodCall(ByteBuffer.wrap(event.createMessage()), rpcResponseHandler, ENCODING);
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).endsWith("=true"), is(true));
+    }
+
+    @Test
+    public void testReplayEventBurst() throws IOException {
+        List<byte[]> burst = new ArrayList<>();
+        for (int i = 0; i < BURST_MESSAGES; i++) {
+            burst.add(createMulticall(i));
+        }
+
+        replayStreaming(burst);
+        List<String> streamed = new ArrayList<>(events);
+        events.clear();
+
+        replayDecoded(burst);
+        assertThat(streamed.size(), is(BURST_MESSAGES * EVENTS_PER_MESSAGE));
+        assertThat(streamed, is(events));
+    }
+
+    private void replayStreaming(List<byte[]> burst) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        for (byte[] message : burst) {
+            buffer.clear();
+            buffer.put(message);
+            buffer.flip();
+            BinRpcResponseHandler.handleMethodCall(buffer, rpcResponseHandler, ENCODING);
+        }
+    }
+
+    private void replayDecoded(List<byte[]> burst) throws IOException {
+        for (byte[] message : burst) {
+            BinRpcMessage decoded = new BinRpcMessage(new ByteArrayInputStream(message), true, ENCODING);
+            rpcResponseHandler.handleMethodCall(decoded.getMethodName(), decoded.getResponseData());
+        }
+    }
+
+    /**
+     * Creates a multicall message with events of switches, thermostats and window contacts.
+     */
+    private byte[] createMulticall(int sequence) {
+        List<Object> calls = new ArrayList<>();
+        for (int i = 0; i < EVENTS_PER_MESSAGE; i++) {
+            String address = String.format("NEQ%07d:%d", (sequence * EVENTS_PER_MESSAGE + i) % 180, 1 + i % 4);
+            Object[] datapoint;
+            switch (i % 3) {
+                case 0:
+                    datapoint = new Object[] { "STATE", i % 2 == 0 };
+                    break;
+                case 1:
+                    datapoint = new Object[] { "ACTUAL_TEMPERATURE", 18.5 + (i % 10) / 10.0 };
+                    break;
+                default:
+                    datapoint = new Object[] { "LOWBAT", Boolean.FALSE };
+                    break;
+            }
+            Map<String, Object> call = new HashMap<>();
+            call.put("methodName", "event");
+            call.put("params", Arrays.asList("openhab-RF", address, datapoint[0], datapoint[1]));
+            calls.add(call);
+        }
+        BinRpcMessage message = new BinRpcMessage("system.multicall", ENCODING);
+        message.addArg(calls);
+        return message.createMessage();
+    }
+}
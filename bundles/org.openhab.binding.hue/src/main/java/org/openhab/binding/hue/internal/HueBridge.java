@@ -13,6 +13,7 @@
 package org.openhab.binding.hue.internal;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Type;
 import java.net.URI;
@@ -24,11 +25,14 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -49,6 +53,7 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 
 /**
  * Representation of a connection with a Hue bridge.
@@ -71,6 +76,7 @@ public class HueBridge {
     private @Nullable String username;
 
     private final Gson gson = new GsonBuilder().setDateFormat(DATE_FORMAT).create();
+    private final JsonParser jsonParser = new JsonParser();
     private HttpClient http = new HttpClient();
     private final ScheduledExecutorService scheduler;
 
@@ -199,6 +205,27 @@ public class HueBridge {
         }
     }
 
+    /**
+     * Returns the lights known to the bridge. Only the lights whose JSON representation differs from the one
+     * accepted in the cache are deserialized.
+     *
+     * @param cache the last accepted light states
+     * @return map of the ids of all known lights to the changed {@link FullLight} or null, if it is unchanged
+     * @throws UnauthorizedException thrown if the user no longer exists
+     */
+    public Map<String, @Nullable FullLight> getChangedFullLights(JsonStateCache cache)
+            throws IOException, ApiException {
+        if (ApiVersionUtils.supportsFullLights(getVersion())) {
+            return getChangedObjects("lights", FullLight.class, FullLight::setId, cache, id -> false);
+        } else {
+            Map<String, @Nullable FullLight> lights = new LinkedHashMap<>();
+            for (FullLight light : getFullConfig().getLights()) {
+                lights.put(light.getId(), light);
+            }
+            return lights;
+        }
+    }
+
     /**
      * Returns a list of lights known to the bridge.
      *
@@ -254,6 +281,18 @@ public class HueBridge {
         return sensorList;
     }
 
+    /**
+     * Returns the sensors known to the bridge. Only the sensors whose JSON representation differs from the one
+     * accepted in the cache are deserialized.
+     *
+     * @param cache the last accepted sensor states
+     * @return map of the ids of all known sensors to the changed {@link FullSensor} or null, if it is unchanged
+     * @throws UnauthorizedException thrown if the user no longer exists
+     */
+    public Map<String, @Nullable FullSensor> getChangedSensors(JsonStateCache cache) throws IOException, ApiException {
+        return getChangedObjects("sensors", FullSensor.class, FullSensor::setId, cache, id -> false);
+    }
+
     /**
      * Returns the last time a search for new lights was started.
      * If a search is currently running, the current time will be
@@ -453,6 +492,30 @@ public class HueBridge {
         return groupList;
     }
 
+    /**
+     * Returns the groups, including the unmodifiable all lights group. Only the groups whose JSON representation
+     * differs from the one accepted in the cache or which are forced are deserialized.
+     *
+     * @param cache the last accepted group states
+     * @param forced returns true for the ids of groups which have to be deserialized even if they are unchanged
+     * @return map of the ids of all groups to the changed {@link FullGroup} or null, if it is unchanged
+     * @throws UnauthorizedException thrown if the user no longer exists
+     */
+    public Map<String, @Nullable FullGroup> getChangedGroups(JsonStateCache cache, Predicate<String> forced)
+            throws IOException, ApiException {
+        Map<String, @Nullable FullGroup> groups = getChangedObjects("groups", FullGroup.class, FullGroup::setId,
+                cache, forced);
+
+        if (!groups.containsKey("0")) {
+            // Group 0 is not returned, we create it as in fact it exists
+            Map<String, @Nullable FullGroup> allGroups = new LinkedHashMap<>();
+            allGroups.put("0", getGroup(new Group()));
+            allGroups.putAll(groups);
+            return allGroups;
+        }
+        return groups;
+    }
+
     /**
      * Creates a new group and returns it.
      * Due to API limitations, the name of the returned object
@@ -1019,6 +1082,39 @@ public class HueBridge {
         return gson.fromJson(result.getBody(), FullConfig.class);
     }
 
+    /**
+     * Reads the objects of a resource one by one and deserializes only the changed or forced objects.
+     */
+    private <T> Map<String, @Nullable T> getChangedObjects(String resource, Class<T> classOfT,
+            BiConsumer<T, String> setId, JsonStateCache cache, Predicate<String> forced)
+            throws IOException, ApiException {
+        requireAuthentication();
+
+        Result result = http.get(getRelativeURL(resource));
+
+        handleErrors(result);
+
+        Map<String, @Nullable T> objects = new LinkedHashMap<>();
+        try (JsonReader reader = new JsonReader(new StringReader(result.getBody()))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String id = reader.nextName();
+                JsonElement json = jsonParser.parse(reader);
+                if (cache.hasChanged(id, json) || forced.test(id)) {
+                    T object = gson.fromJson(json, classOfT);
+                    setId.accept(object, id);
+                    objects.put(id, object);
+                } else {
+                    objects.put(id, null);
+                }
+            }
+            reader.endObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new ApiException("API returned unexpected result: " + e.getMessage());
+        }
+        return objects;
+    }
+
     // Used as assert in requests that require authentication
     private void requireAuthentication() {
         if (this.username == null) {
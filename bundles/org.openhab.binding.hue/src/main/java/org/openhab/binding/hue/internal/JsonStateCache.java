@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Keeps the JSON representation of lights, groups or sensors, so that only changed objects are deserialized when
+ * polling the bridge.
+ *
+ * A state is only remembered as accepted after it has been processed, so a state which was not processed (e.g.
+ * because of a bypassed update after a command) is delivered again with the next poll.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JsonStateCache {
+
+    private final Map<String, JsonElement> acceptedStates = new ConcurrentHashMap<>();
+    private final Map<String, JsonElement> pendingStates = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether the state differs from the accepted state of the object and remembers it until it is accepted.
+     *
+     * @param id the id of the object
+     * @param state the JSON representation of the object
+     * @return true if the object is new or has changed since it was accepted
+     */
+    public boolean hasChanged(String id, JsonElement state) {
+        if (state.equals(acceptedStates.get(id))) {
+            return false;
+        }
+        pendingStates.put(id, state);
+        return true;
+    }
+
+    /**
+     * Accepts the last state of the object, it is not deserialized again until it changes.
+     *
+     * @param id the id of the object
+     */
+    public void accept(String id) {
+        JsonElement state = pendingStates.remove(id);
+        if (state != null) {
+            acceptedStates.put(id, state);
+        }
+    }
+
+    /**
+     * Removes the states of all objects except the given ones.
+     *
+     * @param ids the ids of the objects which still exist
+     */
+    public void retainAll(Set<String> ids) {
+        acceptedStates.keySet().retainAll(ids);
+        pendingStates.keySet().retainAll(ids);
+    }
+
+    public void clear() {
+        acceptedStates.clear();
+        pendingStates.clear();
+    }
+}
@@ -19,7 +19,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,7 +46,6 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.ConfigStatusBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.StateOption;
-import org.openhab.binding.hue.internal.ApiVersionUtils;
 import org.openhab.binding.hue.internal.Config;
 import org.openhab.binding.hue.internal.ConfigUpdate;
 import org.openhab.binding.hue.internal.FullConfig;
@@ -55,6 +54,7 @@ import org.openhab.binding.hue.internal.FullLight;
 import org.openhab.binding.hue.internal.FullSensor;
 import org.openhab.binding.hue.internal.HueBridge;
 import org.openhab.binding.hue.internal.HueConfigStatusMessage;
+import org.openhab.binding.hue.internal.JsonStateCache;
 import org.openhab.binding.hue.internal.Scene;
 import org.openhab.binding.hue.internal.State;
 import org.openhab.binding.hue.internal.StateUpdate;
@@ -102,6 +102,11 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private final Map<String, @Nullable FullSensor> lastSensorStates = new ConcurrentHashMap<>();
     private final Map<String, @Nullable FullGroup> lastGroupStates = new ConcurrentHashMap<>();
 
+    // JSON representation of the last states, used to skip unchanged objects when polling
+    private final JsonStateCache lightStates = new JsonStateCache();
+    private final JsonStateCache sensorStates = new JsonStateCache();
+    private final JsonStateCache groupStates = new JsonStateCache();
+
     private @Nullable HueLightDiscoveryService discoveryService;
     private final Map<String, @Nullable LightStatusListener> lightStatusListeners = new ConcurrentHashMap<>();
     private final Map<String, @Nullable SensorStatusListener> sensorStatusListeners = new ConcurrentHashMap<>();
@@ -181,32 +186,41 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private final Runnable sensorPollingRunnable = new PollingRunnable() {
         @Override
         protected void doConnectedRun() throws IOException, ApiException {
-            Map<String, @Nullable FullSensor> lastSensorStateCopy = new HashMap<>(lastSensorStates);
+            Map<String, @Nullable FullSensor> sensors = hueBridge.getChangedSensors(sensorStates);
 
             final HueLightDiscoveryService discovery = discoveryService;
 
-            for (final FullSensor sensor : hueBridge.getSensors()) {
+            for (final FullSensor sensor : sensors.values()) {
+                if (sensor == null) {
+                    // unchanged since the last poll
+                    continue;
+                }
                 String sensorId = sensor.getId();
 
                 final SensorStatusListener sensorStatusListener = sensorStatusListeners.get(sensorId);
                 if (sensorStatusListener == null) {
                     logger.trace("Hue sensor '{}' added.", sensorId);
 
-                    if (discovery != null && !lastSensorStateCopy.containsKey(sensorId)) {
+                    if (discovery != null && !lastSensorStates.containsKey(sensorId)) {
                         discovery.addSensorDiscovery(sensor);
                     }
 
                     lastSensorStates.put(sensorId, sensor);
+                    sensorStates.accept(sensorId);
                 } else {
                     if (sensorStatusListener.onSensorStateChanged(sensor)) {
                         lastSensorStates.put(sensorId, sensor);
+                        sensorStates.accept(sensorId);
                     }
                 }
-                lastSensorStateCopy.remove(sensorId);
             }
 
             // Check for removed sensors
-            lastSensorStateCopy.forEach((sensorId, sensor) -> {
+            sensorStates.retainAll(sensors.keySet());
+            lastSensorStates.forEach((sensorId, sensor) -> {
+                if (sensors.containsKey(sensorId)) {
+                    return;
+                }
                 logger.trace("Hue sensor '{}' removed.", sensorId);
                 lastSensorStates.remove(sensorId);
 
@@ -225,46 +239,57 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private final Runnable lightPollingRunnable = new PollingRunnable() {
         @Override
         protected void doConnectedRun() throws IOException, ApiException {
-            updateLights();
-            updateGroups();
+            Set<String> updatedLightIds = updateLights();
+            updateGroups(updatedLightIds);
         }
 
-        private void updateLights() throws IOException, ApiException {
-            Map<String, @Nullable FullLight> lastLightStateCopy = new HashMap<>(lastLightStates);
-
-            List<FullLight> lights;
-            if (ApiVersionUtils.supportsFullLights(hueBridge.getVersion())) {
-                lights = hueBridge.getFullLights();
-            } else {
-                lights = hueBridge.getFullConfig().getLights();
-            }
+        /**
+         * Updates the changed lights.
+         *
+         * @return the ids of the lights whose state has been updated
+         */
+        private Set<String> updateLights() throws IOException, ApiException {
+            Map<String, @Nullable FullLight> lights = hueBridge.getChangedFullLights(lightStates);
+            Set<String> updatedLightIds = new HashSet<>();
 
             final HueLightDiscoveryService discovery = discoveryService;
 
-            for (final FullLight fullLight : lights) {
+            for (final FullLight fullLight : lights.values()) {
+                if (fullLight == null) {
+                    // unchanged since the last poll
+                    continue;
+                }
                 final String lightId = fullLight.getId();
 
                 final LightStatusListener lightStatusListener = lightStatusListeners.get(lightId);
                 if (lightStatusListener == null) {
                     logger.trace("Hue light '{}' added.", lightId);
 
-                    if (discovery != null && !lastLightStateCopy.containsKey(lightId)) {
+                    if (discovery != null && !lastLightStates.containsKey(lightId)) {
                         discovery.addLightDiscovery(fullLight);
                     }
 
                     lastLightStates.put(lightId, fullLight);
+                    lightStates.accept(lightId);
+                    updatedLightIds.add(lightId);
                 } else {
                     if (lightStatusListener.onLightStateChanged(fullLight)) {
                         lastLightStates.put(lightId, fullLight);
+                        lightStates.accept(lightId);
+                        updatedLightIds.add(lightId);
                     }
                 }
-                lastLightStateCopy.remove(lightId);
             }
 
             // Check for removed lights
-            lastLightStateCopy.forEach((lightId, light) -> {
+            lightStates.retainAll(lights.keySet());
+            lastLightStates.forEach((lightId, light) -> {
+                if (lights.containsKey(lightId)) {
+                    return;
+                }
                 logger.trace("Hue light '{}' removed.", lightId);
                 lastLightStates.remove(lightId);
+                updatedLightIds.add(lightId);
 
                 final LightStatusListener lightStatusListener = lightStatusListeners.get(lightId);
                 if (lightStatusListener != null) {
@@ -275,16 +300,29 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                     discovery.removeLightDiscovery(light);
                 }
             });
-        }
 
-        private void updateGroups() throws IOException, ApiException {
-            Map<String, @Nullable FullGroup> lastGroupStateCopy = new HashMap<>(lastGroupStates);
+            return updatedLightIds;
+        }
 
-            List<FullGroup> groups = hueBridge.getGroups();
+        /**
+         * Updates the changed groups and the groups containing an updated light, as their state is computed from
+         * the states of their lights.
+         *
+         * @param updatedLightIds the ids of the lights whose state has been updated
+         */
+        private void updateGroups(Set<String> updatedLightIds) throws IOException, ApiException {
+            Map<String, @Nullable FullGroup> groups = hueBridge.getChangedGroups(groupStates, groupId -> {
+                FullGroup lastGroup = lastGroupStates.get(groupId);
+                return lastGroup == null || !Collections.disjoint(lastGroup.getLightIds(), updatedLightIds);
+            });
 
             final HueLightDiscoveryService discovery = discoveryService;
 
-            for (final FullGroup fullGroup : groups) {
+            for (final FullGroup fullGroup : groups.values()) {
+                if (fullGroup == null) {
+                    // unchanged since the last poll
+                    continue;
+                }
                 State groupState = new State();
                 boolean on = false;
                 int sumBri = 0;
@@ -338,21 +376,26 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                     logger.trace("Hue group '{}' ({}) added (nb lights {}).", groupId, fullGroup.getName(),
                             fullGroup.getLightIds().size());
 
-                    if (discovery != null && !lastGroupStateCopy.containsKey(groupId)) {
+                    if (discovery != null && !lastGroupStates.containsKey(groupId)) {
                         discovery.addGroupDiscovery(fullGroup);
                     }
 
                     lastGroupStates.put(groupId, fullGroup);
+                    groupStates.accept(groupId);
                 } else {
                     if (groupStatusListener.onGroupStateChanged(fullGroup)) {
                         lastGroupStates.put(groupId, fullGroup);
+                        groupStates.accept(groupId);
                     }
                 }
-                lastGroupStateCopy.remove(groupId);
             }
 
             // Check for removed groups
-            lastGroupStateCopy.forEach((groupId, group) -> {
+            groupStates.retainAll(groups.keySet());
+            lastGroupStates.forEach((groupId, group) -> {
+                if (groups.containsKey(groupId)) {
+                    return;
+                }
                 logger.trace("Hue group '{}' removed.", groupId);
                 lastGroupStates.remove(groupId);
 
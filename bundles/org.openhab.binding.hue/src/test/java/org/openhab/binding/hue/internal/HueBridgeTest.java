@@ -12,17 +12,20 @@
  */
 package org.openhab.binding.hue.internal;
 
-import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.openhab.binding.hue.internal.HttpClient.Result;
@@ -68,6 +71,64 @@ public class HueBridgeTest {
         assertThat(scenes.get(2).getId(), is("id2"));
     }
 
+    @Test
+    public void testGetChangedSensorsSkipsUnchangedSensors() throws IOException, ApiException {
+        HttpClient mockHttpClient = Mockito.mock(HttpClient.class);
+
+        HueBridge hueBridge = new HueBridge("ip", "baseUrl", "username", Executors.newScheduledThreadPool(1),
+                mockHttpClient);
+        JsonStateCache cache = new JsonStateCache();
+
+        String sensor1 = "\"1\": {\"state\": {\"presence\": false, \"lastupdated\": \"2020-06-01T10:00:00\"}, "
+                + "\"name\": \"Hallway\", \"type\": \"ZLLPresence\"}";
+        String sensor2 = "\"2\": {\"state\": {\"temperature\": 2134, \"lastupdated\": \"2020-06-01T10:00:00\"}, "
+                + "\"name\": \"Hallway\", \"type\": \"ZLLTemperature\"}";
+        String sensor2Changed = sensor2.replace("2134", "2141");
+        when(mockHttpClient.get("baseUrl/username/sensors")).thenReturn(
+                new Result("{" + sensor1 + "," + sensor2 + "}", 200),
+                new Result("{" + sensor1 + "," + sensor2Changed + "}", 200),
+                new Result("{" + sensor1 + "," + sensor2Changed + "}", 200));
+
+        Map<String, @Nullable FullSensor> sensors = hueBridge.getChangedSensors(cache);
+        assertThat(sensors.size(), is(2));
+        assertThat(sensors.get("1").getId(), is("1"));
+        cache.accept("1");
+        cache.accept("2");
+
+        sensors = hueBridge.getChangedSensors(cache);
+        assertThat(sensors.keySet(), is(new HashSet<>(Arrays.asList("1", "2"))));
+        assertThat(sensors.get("1"), is(nullValue()));
+        assertThat(sensors.get("2").getState().get("temperature"), is(2141.0));
+
+        // the change was not accepted, so it is delivered again
+        sensors = hueBridge.getChangedSensors(cache);
+        assertThat(sensors.get("1"), is(nullValue()));
+        assertThat(sensors.get("2"), is(notNullValue()));
+    }
+
+    @Test
+    public void testGetChangedSensorsDetectsChangeWithSameHashCode() throws IOException, ApiException {
+        HttpClient mockHttpClient = Mockito.mock(HttpClient.class);
+
+        HueBridge hueBridge = new HueBridge("ip", "baseUrl", "username", Executors.newScheduledThreadPool(1),
+                mockHttpClient);
+        JsonStateCache cache = new JsonStateCache();
+
+        // "Aa" and "BB" have the same hash code
+        String sensor = "\"1\": {\"state\": {\"status\": \"Aa\"}, "
+                + "\"name\": \"Hallway\", \"type\": \"CLIPGenericStatus\"}";
+        when(mockHttpClient.get("baseUrl/username/sensors")).thenReturn(new Result("{" + sensor + "}", 200),
+                new Result("{" + sensor.replace("Aa", "BB") + "}", 200));
+
+        Map<String, @Nullable FullSensor> sensors = hueBridge.getChangedSensors(cache);
+        assertThat(sensors.get("1"), is(notNullValue()));
+        cache.accept("1");
+
+        sensors = hueBridge.getChangedSensors(cache);
+        assertThat(sensors.get("1"), is(notNullValue()));
+        assertThat(sensors.get("1").getState().get("status"), is("BB"));
+    }
+
     private static String createMockResponse(List<Scene> scenes) {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("{");
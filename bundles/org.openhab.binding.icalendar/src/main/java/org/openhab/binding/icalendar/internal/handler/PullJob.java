@@ -46,6 +46,8 @@ import org.slf4j.LoggerFactory;
 /**
  * The Job for pulling an update of a calendar. Fires
  * {@link CalendarUpdateListener#onCalendarUpdated()} after successful update.
+ * Requests are conditional on the validators of the last download, so an
+ * unchanged calendar is neither downloaded nor parsed again.
  *
  * @author Michael Wodniok - Initial contribution
  */
@@ -61,6 +63,10 @@ class PullJob implements Runnable {
     private final int maxSize;
     private final URI sourceURI;
 
+    // validators of the last successful download, used to skip unchanged calendars
+    private @Nullable String entityTag;
+    private @Nullable String lastModified;
+
     /**
      * Constructor of PullJob for creating a single pull of a calendar.
      *
@@ -93,6 +99,16 @@ class PullJob implements Runnable {
         if (currentAuthentication != null) {
             currentAuthentication.apply(request);
         }
+        final String currentEntityTag = entityTag;
+        final String currentLastModified = lastModified;
+        if (destination.isFile()) {
+            if (currentEntityTag != null) {
+                request.header(HttpHeader.IF_NONE_MATCH, currentEntityTag);
+            }
+            if (currentLastModified != null) {
+                request.header(HttpHeader.IF_MODIFIED_SINCE, currentLastModified);
+            }
+        }
 
         final InputStreamResponseListener asyncListener = new InputStreamResponseListener();
         request.send(asyncListener);
@@ -105,6 +121,11 @@ class PullJob implements Runnable {
             return;
         }
 
+        if (response.getStatus() == HttpStatus.NOT_MODIFIED_304) {
+            logger.debug("Calendar \"{}\" was not modified since last download.", sourceURI);
+            return;
+        }
+
         if (response.getStatus() != HttpStatus.OK_200) {
             logger.warn("Response status for getting \"{}\" was {} instead of 200. Ignoring it.", sourceURI,
                     response.getStatus());
@@ -172,6 +193,8 @@ class PullJob implements Runnable {
             logger.warn("Failed to replace iCal file. Error message is: {}", e.getMessage());
             return;
         }
+        entityTag = response.getHeaders().get(HttpHeader.ETAG);
+        lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
 
         try {
             listener.onCalendarUpdated();
@@ -18,9 +18,14 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.TreeMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -49,7 +54,12 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
  */
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
+    private static final Duration INDEX_BEFORE = Duration.ofDays(1);
+    private static final Duration INDEX_WINDOW = Duration.ofDays(14);
+    private static final Duration DEFAULT_BEGUN_EVENT_LENGTH = Duration.ofMinutes(1);
+
     private final ICalendar usedCalendar;
+    private volatile @Nullable OccurrenceIndex occurrenceIndex;
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
@@ -73,6 +83,19 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public List<Event> getJustBegunEvents(Instant frameBegin, Instant frameEnd) {
+        final OccurrenceIndex index = getOccurrenceIndex(frameBegin, frameEnd);
+        if (index != null) {
+            return index.getJustBegunEvents(frameBegin, frameEnd);
+        }
+        return searchJustBegunEvents(frameBegin, frameEnd);
+    }
+
+    /**
+     * Searches the events that have just begun within the time frame by expanding the recurrences of all events.
+     *
+     * @see #getJustBegunEvents(Instant, Instant)
+     */
+    List<Event> searchJustBegunEvents(Instant frameBegin, Instant frameEnd) {
         final List<Event> eventList = new ArrayList<>();
         // process all the events in the iCalendar
         for (final VEvent event : usedCalendar.getEvents()) {
@@ -88,7 +111,7 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
                 // fall through => means we are within the time frame
                 Duration duration = getEventLength(event);
                 if (duration == null) {
-                    duration = Duration.ofMinutes(1);
+                    duration = DEFAULT_BEGUN_EVENT_LENGTH;
                 }
                 eventList.add(new VEventWPeriod(event, begInst, begInst.plus(duration)).toEvent());
                 break;
@@ -99,6 +122,19 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public List<Event> getJustEndedEvents(Instant frameBegin, Instant frameEnd) {
+        final OccurrenceIndex index = getOccurrenceIndex(frameBegin, frameEnd);
+        if (index != null) {
+            return index.getJustEndedEvents(frameBegin, frameEnd);
+        }
+        return searchJustEndedEvents(frameBegin, frameEnd);
+    }
+
+    /**
+     * Searches the events that have just ended within the time frame by expanding the recurrences of all events.
+     *
+     * @see #getJustEndedEvents(Instant, Instant)
+     */
+    List<Event> searchJustEndedEvents(Instant frameBegin, Instant frameEnd) {
         final List<Event> eventList = new ArrayList<>();
         // process all the events in the iCalendar
         for (final VEvent event : usedCalendar.getEvents()) {
@@ -126,6 +162,24 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public @Nullable Event getNextEvent(Instant instant) {
+        final OccurrenceIndex index = getOccurrenceIndex(instant, instant);
+        if (index != null) {
+            final Occurrence next = index.getNext(instant);
+            if (next != null) {
+                return next.toEvent();
+            }
+        }
+        // the next event is not within the index
+        return searchNextEvent(instant);
+    }
+
+    /**
+     * Searches the next event after given instant by expanding the recurrences of all events.
+     *
+     * @see #getNextEvent(Instant)
+     */
+    @Nullable
+    Event searchNextEvent(Instant instant) {
         final Collection<VEventWPeriod> candidates = new ArrayList<VEventWPeriod>();
         final Collection<VEvent> negativeEvents = new ArrayList<VEvent>();
         final Collection<VEvent> positiveEvents = new ArrayList<VEvent>();
@@ -190,6 +244,26 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @return A VEventWPeriod describing the event or null if there is none.
      */
     private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
+        final OccurrenceIndex index = getOccurrenceIndex(instant, instant);
+        if (index != null) {
+            final Occurrence current = index.getCurrent(instant);
+            return current != null ? current.period : null;
+        }
+        return searchCurrentComponentWPeriod(instant);
+    }
+
+    /**
+     * Searches the event present at given instant by expanding the recurrences of all events.
+     *
+     * @see #getCurrentEvent(Instant)
+     */
+    @Nullable
+    Event searchCurrentEvent(Instant instant) {
+        final VEventWPeriod currentComponentWPeriod = searchCurrentComponentWPeriod(instant);
+        return currentComponentWPeriod != null ? currentComponentWPeriod.toEvent() : null;
+    }
+
+    private @Nullable VEventWPeriod searchCurrentComponentWPeriod(Instant instant) {
         final List<VEvent> negativeEvents = new ArrayList<VEvent>();
         final List<VEvent> positiveEvents = new ArrayList<VEvent>();
         classifyEvents(positiveEvents, negativeEvents);
@@ -286,6 +360,228 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         return false;
     }
 
+    /**
+     * Returns the index of occurrences covering the time frame. The index is rebuilt for a window beginning at the
+     * start of the frame if the current one doesn't cover it.
+     *
+     * @param frameBegin The begin of the time frame to query.
+     * @param frameEnd The end of the time frame to query.
+     * @return The index or null, if the time frame is too long to be indexed.
+     */
+    private @Nullable OccurrenceIndex getOccurrenceIndex(Instant frameBegin, Instant frameEnd) {
+        final OccurrenceIndex currentIndex = occurrenceIndex;
+        if (currentIndex != null && currentIndex.covers(frameBegin, frameEnd)) {
+            return currentIndex;
+        }
+        if (Duration.between(frameBegin, frameEnd).compareTo(INDEX_WINDOW) > 0) {
+            return null;
+        }
+        final OccurrenceIndex newIndex = new OccurrenceIndex(frameBegin.minus(INDEX_BEFORE),
+                frameBegin.plus(INDEX_WINDOW));
+        occurrenceIndex = newIndex;
+        return newIndex;
+    }
+
+    /**
+     * A single occurrence of an event, with the properties needed to answer the queries.
+     */
+    private static class Occurrence {
+        final VEventWPeriod period;
+        final int eventPosition;
+        final boolean positive;
+        final boolean hasLength;
+        boolean countered;
+
+        Occurrence(VEventWPeriod period, int eventPosition, boolean positive, boolean hasLength) {
+            this.period = period;
+            this.eventPosition = eventPosition;
+            this.positive = positive;
+            this.hasLength = hasLength;
+        }
+
+        /**
+         * Occurrences of cancelled events, of events without length and cancelled occurrences are not presented as
+         * current or next event.
+         */
+        boolean isPresentable() {
+            return positive && hasLength && !countered;
+        }
+
+        Event toEvent() {
+            return period.toEvent();
+        }
+    }
+
+    /**
+     * The occurrences of all events within a time window, sorted by start and by the position of the event in the
+     * calendar. Together with the maximum end of all preceding occurrences, the occurrences present at an instant
+     * are found without expanding the recurrences again.
+     */
+    private class OccurrenceIndex {
+        private final Instant windowBegin;
+        private final Instant windowEnd;
+        private final Duration maxLength;
+        private final Occurrence[] occurrences;
+        private final Instant[] maxEnds;
+
+        OccurrenceIndex(Instant windowBegin, Instant windowEnd) {
+            this.windowBegin = windowBegin;
+            this.windowEnd = windowEnd;
+
+            final List<VEvent> events = usedCalendar.getEvents();
+            Duration longest = DEFAULT_BEGUN_EVENT_LENGTH;
+            for (final VEvent event : events) {
+                final Duration length = getEventLength(event);
+                if (length != null && length.compareTo(longest) > 0) {
+                    longest = length;
+                }
+            }
+            this.maxLength = longest;
+
+            // occurrences which began before the window may still be present within it
+            final Date expandFrom = Date.from(windowBegin.minus(maxLength));
+            final List<Occurrence> expanded = new ArrayList<>();
+            final Set<String> counterKeys = new HashSet<>();
+            for (int position = 0; position < events.size(); position++) {
+                final VEvent event = events.get(position);
+                @Nullable
+                final Status eventStatus = event.getStatus();
+                final boolean positive = (eventStatus == null
+                        || (eventStatus.isTentative() || eventStatus.isConfirmed()));
+                final Duration length = getEventLength(event);
+                final Duration usedLength = length != null ? length : DEFAULT_BEGUN_EVENT_LENGTH;
+                @Nullable
+                final Uid eventUid = event.getUid();
+
+                final DateIterator startDates = getRecurredEventDateIterator(event);
+                startDates.advanceTo(expandFrom);
+                while (startDates.hasNext()) {
+                    final Instant startInstant = startDates.next().toInstant();
+                    if (startInstant.isAfter(windowEnd)) {
+                        break;
+                    }
+                    expanded.add(new Occurrence(new VEventWPeriod(event, startInstant, startInstant.plus(usedLength)),
+                            position, positive, length != null));
+                    if (!positive && eventUid != null) {
+                        counterKeys.add(getCounterKey(eventUid, startInstant));
+                    }
+                }
+            }
+            for (final Occurrence occurrence : expanded) {
+                @Nullable
+                final Uid eventUid = occurrence.period.vEvent.getUid();
+                occurrence.countered = occurrence.positive && eventUid != null
+                        && counterKeys.contains(getCounterKey(eventUid, occurrence.period.start));
+            }
+
+            expanded.sort(Comparator.<Occurrence, Instant> comparing(occurrence -> occurrence.period.start)
+                    .thenComparingInt(occurrence -> occurrence.eventPosition));
+            this.occurrences = expanded.toArray(new Occurrence[expanded.size()]);
+            this.maxEnds = new Instant[occurrences.length];
+            Instant maxEnd = Instant.MIN;
+            for (int i = 0; i < occurrences.length; i++) {
+                if (occurrences[i].period.end.isAfter(maxEnd)) {
+                    maxEnd = occurrences[i].period.end;
+                }
+                maxEnds[i] = maxEnd;
+            }
+        }
+
+        /**
+         * Checks whether the time frame lies within the indexed window.
+         */
+        boolean covers(Instant frameBegin, Instant frameEnd) {
+            return !frameBegin.isBefore(windowBegin) && !frameEnd.isAfter(windowEnd);
+        }
+
+        /**
+         * Finds the occurrence present at the instant. If several are present, the one of the event coming first in
+         * the calendar is returned, like the search over all events does.
+         */
+        @Nullable
+        Occurrence getCurrent(Instant instant) {
+            @Nullable
+            Occurrence result = null;
+            for (int i = indexOfFirstStartAfter(instant, false) - 1; i >= 0
+                    && maxEnds[i].isAfter(instant); i--) {
+                final Occurrence occurrence = occurrences[i];
+                if (occurrence.isPresentable() && occurrence.period.start.isBefore(instant)
+                        && occurrence.period.end.isAfter(instant)
+                        && (result == null || occurrence.eventPosition <= result.eventPosition)) {
+                    result = occurrence;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Finds the next occurrence starting after the instant.
+         *
+         * @return The occurrence or null if there is none within the window.
+         */
+        @Nullable
+        Occurrence getNext(Instant instant) {
+            for (int i = indexOfFirstStartAfter(instant, true); i < occurrences.length; i++) {
+                if (occurrences[i].isPresentable()) {
+                    return occurrences[i];
+                }
+            }
+            return null;
+        }
+
+        List<Event> getJustBegunEvents(Instant frameBegin, Instant frameEnd) {
+            final Map<Integer, Occurrence> firstOccurrences = new TreeMap<>();
+            for (int i = indexOfFirstStartAfter(frameBegin, false); i < occurrences.length
+                    && !occurrences[i].period.start.isAfter(frameEnd); i++) {
+                firstOccurrences.putIfAbsent(occurrences[i].eventPosition, occurrences[i]);
+            }
+            return toEvents(firstOccurrences.values());
+        }
+
+        List<Event> getJustEndedEvents(Instant frameBegin, Instant frameEnd) {
+            final Map<Integer, Occurrence> firstOccurrences = new TreeMap<>();
+            for (int i = indexOfFirstStartAfter(frameBegin.minus(maxLength), false); i < occurrences.length
+                    && !occurrences[i].period.start.isAfter(frameEnd); i++) {
+                final Occurrence occurrence = occurrences[i];
+                if (occurrence.hasLength && !occurrence.period.end.isBefore(frameBegin)
+                        && !occurrence.period.end.isAfter(frameEnd)) {
+                    firstOccurrences.putIfAbsent(occurrence.eventPosition, occurrence);
+                }
+            }
+            return toEvents(firstOccurrences.values());
+        }
+
+        /**
+         * Binary search for the first occurrence starting after (or at, if not strict) the instant.
+         */
+        private int indexOfFirstStartAfter(Instant instant, boolean strict) {
+            int low = 0;
+            int high = occurrences.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                final int comparison = occurrences[middle].period.start.compareTo(instant);
+                if (comparison < 0 || (strict && comparison == 0)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private List<Event> toEvents(Collection<Occurrence> occurrences) {
+            final List<Event> eventList = new ArrayList<>();
+            for (final Occurrence occurrence : occurrences) {
+                eventList.add(occurrence.toEvent());
+            }
+            return eventList;
+        }
+    }
+
+    private static String getCounterKey(Uid eventUid, Instant startInstant) {
+        return eventUid.getValue() + "@" + startInstant.toEpochMilli();
+    }
+
     /**
      * A Class describing an event together with a start and end instant.
      *
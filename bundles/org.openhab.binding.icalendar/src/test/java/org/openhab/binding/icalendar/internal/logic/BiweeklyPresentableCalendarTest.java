@@ -14,9 +14,14 @@ package org.openhab.binding.icalendar.internal.logic;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import org.eclipse.smarthome.core.library.types.HSBType;
@@ -41,6 +46,11 @@ import org.junit.Test;
  *
  */
 public class BiweeklyPresentableCalendarTest {
+    private static final DateTimeFormatter ICAL_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final Instant LARGE_CALENDAR_BEGIN = Instant.parse("2020-01-06T00:00:00Z");
+    private static final int LARGE_CALENDAR_EVENTS = 5000;
+
     private AbstractPresentableCalendar calendar;
     private AbstractPresentableCalendar calendar2;
     private AbstractPresentableCalendar calendar3;
@@ -542,4 +552,80 @@ public class BiweeklyPresentableCalendarTest {
         assertNotNull(cmd7);
         assertEquals(QuantityType.class, cmd7.getClass());
     }
+
+    /**
+     * Compares the indexed queries with the search over all events of a calendar with 5000 events, recurring and
+     * cancelled ones included.
+     */
+    @Test
+    public void testLargeCalendar() throws IOException, CalendarException {
+        BiweeklyPresentableCalendar largeCalendar = new BiweeklyPresentableCalendar(
+                new ByteArrayInputStream(createLargeCalendar().getBytes(StandardCharsets.UTF_8)));
+        Instant dayBegin = Instant.parse("2020-03-02T00:00:00Z");
+
+        int presentCount = 0;
+        for (int minute = 0; minute < 24 * 60; minute += 72) {
+            Instant instant = dayBegin.plus(Duration.ofMinutes(minute));
+            Instant frameEnd = instant.plus(Duration.ofMinutes(72));
+            Event currentEvent = largeCalendar.getCurrentEvent(instant);
+            assertEquals(largeCalendar.searchCurrentEvent(instant), currentEvent);
+            assertEquals(currentEvent != null, largeCalendar.isEventPresent(instant));
+            if (currentEvent != null) {
+                presentCount++;
+            }
+            assertEquals(largeCalendar.searchNextEvent(instant), largeCalendar.getNextEvent(instant));
+            assertEquals(largeCalendar.searchJustBegunEvents(instant, frameEnd),
+                    largeCalendar.getJustBegunEvents(instant, frameEnd));
+            assertEquals(largeCalendar.searchJustEndedEvents(instant, frameEnd),
+                    largeCalendar.getJustEndedEvents(instant, frameEnd));
+        }
+        assertTrue(presentCount > 0);
+    }
+
+    /**
+     * Creates a calendar with weekly and daily series, single events spread over almost two years and cancelled
+     * occurrences of the weekly series.
+     */
+    private String createLargeCalendar() {
+        StringBuilder ical = new StringBuilder("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:-//openHAB//Test//EN\r\n");
+        for (int i = 0; i < LARGE_CALENDAR_EVENTS; i++) {
+            Instant start;
+            String uid = "event-" + i;
+            String recurrence = null;
+            String status = null;
+            Duration length = Duration.ofMinutes(45);
+            if (i % 10 == 0) {
+                start = LARGE_CALENDAR_BEGIN.plus(Duration.ofDays(i % 7)).plus(Duration.ofMinutes(i % 1440));
+                recurrence = "FREQ=WEEKLY";
+                length = Duration.ofMinutes(30);
+            } else if (i % 50 == 49) {
+                // cancel the second occurrence of the weekly series created 9 events before
+                int series = i - 9;
+                uid = "event-" + series;
+                start = LARGE_CALENDAR_BEGIN.plus(Duration.ofDays(series % 7 + 7))
+                        .plus(Duration.ofMinutes(series % 1440));
+                status = "CANCELLED";
+                length = Duration.ofMinutes(30);
+            } else if (i % 10 == 1) {
+                start = LARGE_CALENDAR_BEGIN.plus(Duration.ofMinutes(i * 7 % 1440));
+                recurrence = "FREQ=DAILY;COUNT=100";
+                length = Duration.ofMinutes(10);
+            } else {
+                start = LARGE_CALENDAR_BEGIN.plus(Duration.ofHours(i * 3));
+            }
+            ical.append("BEGIN:VEVENT\r\n");
+            ical.append("UID:").append(uid).append("\r\n");
+            ical.append("SUMMARY:Event ").append(i).append("\r\n");
+            ical.append("DTSTART:").append(ICAL_DATE_FORMAT.format(start)).append("\r\n");
+            ical.append("DTEND:").append(ICAL_DATE_FORMAT.format(start.plus(length))).append("\r\n");
+            if (recurrence != null) {
+                ical.append("RRULE:").append(recurrence).append("\r\n");
+            }
+            if (status != null) {
+                ical.append("STATUS:").append(status).append("\r\n");
+            }
+            ical.append("END:VEVENT\r\n");
+        }
+        return ical.append("END:VCALENDAR\r\n").toString();
+    }
 }
@@ -22,8 +22,11 @@ import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.insteon.internal.driver.IOStream;
@@ -33,30 +36,53 @@ import org.slf4j.LoggerFactory;
 /**
  * Implements IOStream for a Hub 2014 device
  *
+ * The status buffer of the hub is polled by a dedicated thread, as the HTTP requests block until the hub replies. The
+ * poll time is adapted to the traffic: right after a command was sent or data was received the hub is polled fast, as
+ * replies and follow-up messages are expected. After a longer idle period the configured poll time is doubled, so a
+ * message sent by a device (e.g. a button press) may be received up to twice the poll time later.
+ *
  * @author Daniel Pfrommer - Initial contribution
  * @author Rob Nielsen - Port to openHAB 2 insteon binding
  *
  */
 @NonNullByDefault
 @SuppressWarnings("null")
-public class HubIOStream extends IOStream implements Runnable {
+public class HubIOStream extends IOStream {
     private final Logger logger = LoggerFactory.getLogger(HubIOStream.class);
 
     private static final String BS_START = "<BS>";
     private static final String BS_END = "</BS>";
 
+    /** time between polls while there is traffic (in milliseconds) */
+    private static final int FAST_POLL_TIME = 200;
+    /** how long to poll fast after a command was sent or data was received (in milliseconds) */
+    private static final long ACTIVE_PERIOD = 5000;
+    /** time without traffic after which the poll time is increased (in milliseconds) */
+    private static final long IDLE_PERIOD = 60000;
+    /** maximum factor the poll time is increased by when idle */
+    private static final int MAX_IDLE_FACTOR = 2;
+    /** timeout for connecting to the hub and reading its reply (in milliseconds) */
+    private static final int HTTP_TIMEOUT = 30000;
+
     /** time between polls (in milliseconds */
     private int pollTime = 1000;
 
     private String baseUrl;
     private @Nullable String auth = null;
 
-    private @Nullable Thread pollThread = null;
+    private @Nullable ScheduledExecutorService scheduler = null;
+    private final Object pollLock = new Object();
+    private @Nullable ScheduledFuture<?> pollJob = null;
+
+    // time of the last command or received data
+    private volatile long lastActivity = 0;
+    // start time of the previous poll, used to report how long received data has been waiting in the hub
+    private long lastPollStart = 0;
 
     // index of the last byte we have read in the buffer
     private int bufferIdx = -1;
 
-    private boolean polling;
+    private volatile boolean polling;
 
     /**
      * Constructor for HubIOStream
@@ -95,21 +121,34 @@ public class HubIOStream extends IOStream implements Runnable {
         in = new HubInputStream();
         out = new HubOutputStream();
 
-        polling = true;
-        pollThread = new Thread(this);
-        pollThread.setName("Insteon Hub Poller");
-        pollThread.setDaemon(true);
-        pollThread.start();
+        synchronized (pollLock) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Insteon Hub Poller");
+                thread.setDaemon(true);
+                return thread;
+            });
+            polling = true;
+        }
+        schedulePoll(0);
 
         return true;
     }
 
     @Override
     public void close() {
-        polling = false;
+        synchronized (pollLock) {
+            polling = false;
 
-        if (pollThread != null) {
-            pollThread = null;
+            ScheduledFuture<?> job = pollJob;
+            if (job != null) {
+                job.cancel(false);
+                pollJob = null;
+            }
+            ScheduledExecutorService scheduler = this.scheduler;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                this.scheduler = null;
+            }
         }
 
         if (in != null) {
@@ -182,6 +221,10 @@ public class HubIOStream extends IOStream implements Runnable {
         logger.trace("writing a message");
         getURL("/3?" + hexMSG + "=I=3");
         bufferIdx = 0;
+
+        // the reply is expected soon
+        lastActivity = System.currentTimeMillis();
+        schedulePoll(FAST_POLL_TIME);
     }
 
     /**
@@ -190,6 +233,10 @@ public class HubIOStream extends IOStream implements Runnable {
      * @throws IOException if something goes wrong with I/O
      */
     public synchronized void poll() throws IOException {
+        long pollStart = System.currentTimeMillis();
+        long previousPollStart = lastPollStart;
+        lastPollStart = pollStart;
+
         String buffer = bufferStatus(); // fetch via http call
         logger.trace("poll: {}", buffer);
         //
@@ -213,34 +260,56 @@ public class HubIOStream extends IOStream implements Runnable {
             return; // XXX why return here????
         }
 
-        if (StringUtils.repeat("0", data.length()).equals(data)) {
+        if (nIdx == bufferIdx) {
+            // the read pointer has not moved, there is no new data
+            return;
+        }
+
+        if (isCleared(data, 0, data.length())) {
             logger.trace("skip cleared buffer");
             bufferIdx = 0;
             return;
         }
 
-        StringBuilder msg = new StringBuilder();
+        // only the data between the last and the current read pointer is decoded
+        byte[] msg;
         if (nIdx < bufferIdx) {
-            String msgStart = data.substring(bufferIdx, data.length());
-            String msgEnd = data.substring(0, nIdx);
-            if (StringUtils.repeat("0", msgStart.length()).equals(msgStart)) {
+            int startLength = data.length() - bufferIdx;
+            if (isCleared(data, bufferIdx, data.length())) {
                 logger.trace("discard cleared buffer wrap around msg start");
-                msgStart = "";
+                startLength = 0;
             }
-
-            msg.append(msgStart + msgEnd);
-            logger.trace("wrap around: copying new data on: {}", msg.toString());
+            msg = new byte[(startLength + nIdx) / 2];
+            hexStringToByteArray(data, data.length() - startLength, data.length(), msg, 0);
+            hexStringToByteArray(data, 0, nIdx, msg, startLength / 2);
+            logger.trace("wrap around: copying new data on: {}", data.substring(data.length() - startLength)
+                    + data.substring(0, nIdx));
         } else {
-            msg.append(data.substring(bufferIdx, nIdx));
-            logger.trace("no wrap:      appending new data: {}", msg.toString());
+            msg = new byte[(nIdx - bufferIdx) / 2];
+            hexStringToByteArray(data, bufferIdx, nIdx, msg, 0);
+            logger.trace("no wrap:      appending new data: {}", data.substring(bufferIdx, nIdx));
         }
-        if (msg.length() != 0) {
-            ByteBuffer buf = ByteBuffer.wrap(hexStringToByteArray(msg.toString()));
-            ((HubInputStream) in).handle(buf);
+        if (msg.length != 0) {
+            lastActivity = System.currentTimeMillis();
+            logger.debug("received {} bytes from hub, waited at most {} ms in the hub buffer", msg.length,
+                    lastActivity - previousPollStart);
+            ((HubInputStream) in).handle(ByteBuffer.wrap(msg));
         }
         bufferIdx = nIdx;
     }
 
+    /**
+     * Checks if a part of the status buffer contains only zeros
+     */
+    private static boolean isCleared(String data, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (data.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Helper method to fetch url from http server
      *
@@ -253,7 +322,8 @@ public class HubIOStream extends IOStream implements Runnable {
 
         HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
         try {
-            connection.setConnectTimeout(30000);
+            connection.setConnectTimeout(HTTP_TIMEOUT);
+            connection.setReadTimeout(HTTP_TIMEOUT);
             connection.setUseCaches(false);
             connection.setDoInput(true);
             connection.setDoOutput(false);
@@ -300,22 +370,55 @@ public class HubIOStream extends IOStream implements Runnable {
     }
 
     /**
-     * Entry point for thread
+     * Polls the hub and schedules the next poll
      */
-    @Override
-    public void run() {
-        while (polling) {
-            try {
-                poll();
-            } catch (IOException e) {
-                logger.warn("got exception while polling: {}", e.toString());
+    private void pollTask() {
+        try {
+            poll();
+        } catch (IOException e) {
+            logger.warn("got exception while polling: {}", e.toString());
+        }
+        synchronized (pollLock) {
+            pollJob = null;
+        }
+        schedulePoll(getPollDelay());
+    }
+
+    /**
+     * Schedules the next poll, unless a poll is already scheduled earlier
+     *
+     * @param delay time until the next poll (in milliseconds)
+     */
+    private void schedulePoll(long delay) {
+        synchronized (pollLock) {
+            ScheduledExecutorService scheduler = this.scheduler;
+            if (!polling || scheduler == null) {
+                return;
             }
-            try {
-                Thread.sleep(pollTime);
-            } catch (InterruptedException e) {
-                break;
+            ScheduledFuture<?> job = pollJob;
+            if (job != null) {
+                if (job.getDelay(TimeUnit.MILLISECONDS) <= delay) {
+                    return;
+                }
+                job.cancel(false);
             }
+            pollJob = scheduler.schedule(this::pollTask, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the time until the next poll depending on the recent traffic
+     *
+     * @return poll delay (in milliseconds)
+     */
+    private long getPollDelay() {
+        long idle = System.currentTimeMillis() - lastActivity;
+        if (idle < ACTIVE_PERIOD) {
+            return Math.min(FAST_POLL_TIME, pollTime);
+        } else if (idle < IDLE_PERIOD) {
+            return pollTime;
         }
+        return pollTime * Math.min(MAX_IDLE_FACTOR, idle / IDLE_PERIOD + 1);
     }
 
     /**
@@ -326,15 +429,28 @@ public class HubIOStream extends IOStream implements Runnable {
      * @return simple byte array
      */
     public static byte[] hexStringToByteArray(String s) {
-        int len = s.length();
-        byte[] bytes = new byte[len / 2];
-        for (int i = 0; i < len; i += 2) {
-            bytes[i / 2] = (byte) ((Character.digit(s.charAt(i), 16) << 4) + Character.digit(s.charAt(i + 1), 16));
-        }
-
+        byte[] bytes = new byte[s.length() / 2];
+        hexStringToByteArray(s, 0, s.length(), bytes, 0);
         return bytes;
     }
 
+    /**
+     * Helper function to convert a part of an ascii hex string (received from hub)
+     * into bytes
+     *
+     * @param s string received from hub
+     * @param start index of the first hex digit
+     * @param end index after the last hex digit
+     * @param bytes array to store the bytes in
+     * @param offset index of the first byte in the array
+     */
+    private static void hexStringToByteArray(String s, int start, int end, byte[] bytes, int offset) {
+        for (int i = start; i + 1 < end; i += 2) {
+            bytes[offset + (i - start) / 2] = (byte) ((Character.digit(s.charAt(i), 16) << 4)
+                    + Character.digit(s.charAt(i + 1), 16));
+        }
+    }
+
     /**
      * Implements an InputStream for the Hub 2014
      *
@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * NIO based log file reader implementation. New data is read from a {@link FileChannel} in large blocks and split
+ * into lines. A {@link WatchService} on the directory of the log file wakes up the reader when the file changes, the
+ * refresh rate is used as the maximum time between reads for file systems which don't deliver change events.
+ *
+ * Reading starts from the end of the file. A rotated file is detected by a new file key or by a file size smaller
+ * than the read position, after which the new file is read from the beginning. A file which is reopened after a read
+ * error is read from the last position, unless it has been rotated in the meantime.
+ *
+ * @author agent - Initial contribution
+ */
+public class NioFileTailer extends AbstractLogFileReader implements LogFileReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Charset CHARSET = Charset.defaultCharset();
+
+    private final Logger logger = LoggerFactory.getLogger(NioFileTailer.class);
+
+    private @Nullable ExecutorService executor;
+    private volatile boolean running;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream();
+
+    private @Nullable FileChannel channel;
+    private @Nullable Object fileKey;
+    private long position;
+
+    @Override
+    public void start(String filePath, long refreshRate) throws FileReaderException {
+        Path path = Paths.get(filePath).toAbsolutePath();
+        running = true;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        this.executor = executor;
+        try {
+            logger.debug("Start executor");
+            executor.execute(() -> tail(path, refreshRate));
+            logger.debug("Executor started");
+        } catch (Exception e) {
+            throw new FileReaderException(e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        logger.debug("Shutdown");
+        running = false;
+        ExecutorService executor = this.executor;
+        if (executor != null) {
+            // interrupts the wait for file changes
+            executor.shutdownNow();
+        }
+        logger.debug("Shutdown complite");
+    }
+
+    private void tail(Path path, long refreshRate) {
+        WatchService watchService = createWatchService(path);
+        boolean fileFound = true;
+        boolean firstOpen = true;
+        try {
+            while (running) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    fileFound = true;
+                    FileChannel channel = this.channel;
+                    if (channel == null) {
+                        open(path, attributes, firstOpen);
+                    } else if (isRotated(channel, attributes)) {
+                        logger.debug("File {} rotated", path);
+                        // read the rest of the old file before switching to the new one
+                        readLines(channel);
+                        if (lineBuffer.size() > 0) {
+                            sendLine();
+                        }
+                        close();
+                        position = 0;
+                        open(path, attributes, false);
+                        sendFileRotationToListeners();
+                    }
+                    firstOpen = false;
+                    readLines(Objects.requireNonNull(this.channel));
+                } catch (NoSuchFileException e) {
+                    if (fileFound) {
+                        fileFound = false;
+                        sendFileNotFoundToListeners();
+                    }
+                } catch (IOException e) {
+                    close();
+                    if (running) {
+                        sendExceptionToListeners(e);
+                    }
+                }
+                waitForChanges(watchService, refreshRate);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close();
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    logger.debug("Closing the watch service failed", e);
+                }
+            }
+        }
+    }
+
+    private @Nullable WatchService createWatchService(Path path) {
+        Path directory = path.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return null;
+        }
+        try {
+            WatchService watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            return watchService;
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.debug("Watching {} failed, polling the file instead: {}", directory, e.getMessage());
+            return null;
+        }
+    }
+
+    private void waitForChanges(@Nullable WatchService watchService, long refreshRate) throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        if (watchService == null) {
+            Thread.sleep(refreshRate);
+            return;
+        }
+        WatchKey key = watchService.poll(refreshRate, TimeUnit.MILLISECONDS);
+        if (key != null) {
+            // the changed file is not checked, a change of another file in the directory just causes an empty read
+            key.pollEvents();
+            key.reset();
+        }
+    }
+
+    private void open(Path path, BasicFileAttributes attributes, boolean fromEnd) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.channel = channel;
+        if (fromEnd) {
+            position = channel.size();
+            lineBuffer.reset();
+        } else if (!Objects.equals(attributes.fileKey(), fileKey) || channel.size() < position) {
+            // a new or truncated file, otherwise the same file is reopened and read from the last position
+            position = 0;
+            lineBuffer.reset();
+        }
+        fileKey = attributes.fileKey();
+    }
+
+    private boolean isRotated(FileChannel channel, BasicFileAttributes attributes) throws IOException {
+        Object newFileKey = attributes.fileKey();
+        if (newFileKey != null && !newFileKey.equals(fileKey)) {
+            return true;
+        }
+        // the file has been truncated
+        return channel.size() < position;
+    }
+
+    private void readLines(FileChannel channel) throws IOException {
+        int read;
+        while (running && (read = channel.read(buffer, position)) > 0) {
+            position += read;
+            byte[] data = buffer.array();
+            int start = 0;
+            for (int i = 0; i < read; i++) {
+                if (data[i] == '\n') {
+                    lineBuffer.write(data, start, i - start);
+                    sendLine();
+                    start = i + 1;
+                }
+            }
+            lineBuffer.write(data, start, read - start);
+            buffer.clear();
+        }
+    }
+
+    private void sendLine() {
+        String line = new String(lineBuffer.toByteArray(), CHARSET);
+        lineBuffer.reset();
+        if (line.endsWith("\r")) {
+            line = line.substring(0, line.length() - 1);
+        }
+        sendLineToListeners(line);
+    }
+
+    private void close() {
+        FileChannel channel = this.channel;
+        this.channel = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Closing the file failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Aho-Corasick automaton, which finds all of the given literals in a text with a single pass over the text.
+ *
+ * @author agent - Initial contribution
+ */
+class LiteralMatcher {
+
+    private static class Node {
+        private final Map<Character, Node> next = new HashMap<>();
+        private @Nullable Node fail;
+        private final List<Integer> literals = new ArrayList<>();
+    }
+
+    private final Node root = new Node();
+    private final int literalCount;
+
+    /**
+     * Build the automaton.
+     *
+     * @param literals literals to search, the index of the literal in the list identifies it in the search result.
+     *            Empty literals are never found.
+     */
+    LiteralMatcher(List<String> literals) {
+        literalCount = literals.size();
+        for (int i = 0; i < literals.size(); i++) {
+            if (literals.get(i).isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (char c : literals.get(i).toCharArray()) {
+                node = node.next.computeIfAbsent(c, k -> new Node());
+            }
+            node.literals.add(i);
+        }
+
+        // link every node to the node of its longest proper suffix, breadth first
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.next.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Map.Entry<Character, Node> entry : node.next.entrySet()) {
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != null && !fail.next.containsKey(entry.getKey())) {
+                    fail = fail.fail;
+                }
+                Node suffix = fail == null ? root : fail.next.get(entry.getKey());
+                child.fail = suffix;
+                child.literals.addAll(suffix.literals);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Search the literals from the text.
+     *
+     * @param text text to search.
+     * @return array which tells for every literal, if it was found from the text.
+     */
+    boolean[] find(CharSequence text) {
+        boolean[] found = new boolean[literalCount];
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            Character c = text.charAt(i);
+            Node next = node.next.get(c);
+            while (next == null && node != root) {
+                node = node.fail;
+                next = node.next.get(c);
+            }
+            node = next != null ? next : root;
+            for (int literal : node.literals) {
+                found[literal] = true;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Extract a literal, which has to be part of every text the regular expression finds. Only the top level sequence
+     * of the expression is analyzed, the literal is empty if nothing can be safely extracted.
+     *
+     * @param regex regular expression.
+     * @return the longest required literal.
+     */
+    static String getRequiredLiteral(String regex) {
+        if (regex.contains("(?") || regex.contains("\\Q")) {
+            // flags, e.g. case insensitive matching, and quotations change the meaning of the characters
+            return "";
+        }
+        String longest = "";
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i++);
+            char literal;
+            if (c == '\\') {
+                if (i >= regex.length()) {
+                    return "";
+                }
+                literal = regex.charAt(i++);
+                if (Character.isDigit(literal) || "pPxuckN".indexOf(literal) >= 0) {
+                    // back references and escapes with arguments
+                    return longest(longest, current);
+                } else if (Character.isLetter(literal)) {
+                    // character classes and anchors
+                    longest = endSequence(longest, current);
+                    continue;
+                }
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                longest = endSequence(longest, current);
+                continue;
+            } else if (c == '(') {
+                depth++;
+                longest = endSequence(longest, current);
+                continue;
+            } else if (c == ')') {
+                depth--;
+                longest = endSequence(longest, current);
+                continue;
+            } else if (c == '{') {
+                // the bounds of a quantifier are no literal characters
+                i = skipQuantifier(regex, i);
+                longest = endSequence(longest, current);
+                continue;
+            } else if (c == '|' && depth == 0) {
+                // alternatives at the top level don't have to contain any of the literals
+                return "";
+            } else if (".^$|?*+}".indexOf(c) >= 0) {
+                longest = endSequence(longest, current);
+                continue;
+            } else {
+                literal = c;
+            }
+
+            if (depth > 0) {
+                // groups may be optional or have alternatives
+                continue;
+            }
+            char quantifier = i < regex.length() ? regex.charAt(i) : 0;
+            if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                // the character may be missing
+                longest = endSequence(longest, current);
+            } else if (quantifier == '+') {
+                current.append(literal);
+                longest = endSequence(longest, current);
+            } else {
+                current.append(literal);
+            }
+        }
+        return longest(longest, current);
+    }
+
+    /**
+     * Check if the regular expression matches only its own characters, so that it doesn't need to be evaluated.
+     *
+     * @param regex regular expression.
+     * @return true if the expression is a plain literal.
+     */
+    static boolean isLiteral(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            if ("\\[](){}.^$|?*+".indexOf(regex.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return !regex.isEmpty();
+    }
+
+    private static int skipCharacterClass(String regex, int start) {
+        int first = start < regex.length() && regex.charAt(start) == '^' ? start + 1 : start;
+        int i = first;
+        int depth = 1;
+        while (i < regex.length() && depth > 0) {
+            char c = regex.charAt(i++);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && i - 1 > first) {
+                depth--;
+            }
+        }
+        return i;
+    }
+
+    private static int skipQuantifier(String regex, int start) {
+        int end = regex.indexOf('}', start);
+        return end < 0 ? regex.length() : end + 1;
+    }
+
+    private static String endSequence(String longest, StringBuilder current) {
+        String result = longest(longest, current);
+        current.setLength(0);
+        return result;
+    }
+
+    private static String longest(String longest, StringBuilder current) {
+        return current.length() > longest.length() ? current.toString() : longest;
+    }
+}
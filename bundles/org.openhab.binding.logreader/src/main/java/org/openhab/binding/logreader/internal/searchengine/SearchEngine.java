@@ -21,14 +21,16 @@ import java.util.regex.PatternSyntaxException;
 import org.eclipse.jdt.annotation.Nullable;
 
 /**
- * This class implements logic for regular expression based searching.
+ * This class implements logic for regular expression based searching. A literal, which every match has to contain,
+ * is extracted from the patterns and all literals are searched with a single pass over the line. Only patterns whose
+ * literal was found, or which don't contain a literal, are evaluated.
  *
  * @author Pauli Anttila - Initial contribution
  */
 public class SearchEngine {
 
-    private List<Pattern> matchers;
-    private List<Pattern> blacklistingMatchers;
+    private PatternSet matchers;
+    private PatternSet blacklistingMatchers;
 
     private long matchCount;
 
@@ -51,7 +53,7 @@ public class SearchEngine {
      * @return true if one of the search patterns found.
      */
     public boolean isMatching(String data) {
-        if (isMatching(matchers, data)) {
+        if (matchers.isMatching(data)) {
             if (notBlacklisted(data)) {
                 matchCount++;
                 return true;
@@ -76,9 +78,9 @@ public class SearchEngine {
      * Split pattern string and precompile search patterns.
      *
      * @param patterns patterns which will handled.
-     * @return list of precompiled patterns. If pattern parameter is null, empty list is returned.
+     * @return precompiled patterns. If pattern parameter is null, empty set is returned.
      */
-    private List<Pattern> compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
+    private PatternSet compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
         List<Pattern> patternsList = new ArrayList<>();
 
         if (patterns != null && !patterns.isEmpty()) {
@@ -89,22 +91,61 @@ public class SearchEngine {
                 }
             }
         }
-        return patternsList;
+        return new PatternSet(patternsList);
     }
 
     private boolean notBlacklisted(String data) {
-        return !isMatching(blacklistingMatchers, data);
+        return !blacklistingMatchers.isMatching(data);
     }
 
-    private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
-        if (patterns != null) {
-            for (Pattern pattern : patterns) {
-                Matcher matcher = pattern.matcher(data);
+    /**
+     * Precompiled patterns with their required literals.
+     */
+    private static class PatternSet {
+        private final List<Pattern> patterns;
+        private final boolean[] hasLiteral;
+        private final boolean[] isLiteral;
+        private final @Nullable LiteralMatcher literalMatcher;
+
+        PatternSet(List<Pattern> patterns) {
+            this.patterns = patterns;
+            hasLiteral = new boolean[patterns.size()];
+            isLiteral = new boolean[patterns.size()];
+
+            List<String> literals = new ArrayList<>();
+            for (int i = 0; i < patterns.size(); i++) {
+                String regex = patterns.get(i).pattern();
+                String literal = LiteralMatcher.getRequiredLiteral(regex);
+                hasLiteral[i] = !literal.isEmpty();
+                isLiteral[i] = LiteralMatcher.isLiteral(regex);
+                // keep the indexes of the literals same as the indexes of the patterns
+                literals.add(literal);
+            }
+            literalMatcher = literals.stream().anyMatch(literal -> !literal.isEmpty()) ? new LiteralMatcher(literals)
+                    : null;
+        }
+
+        boolean isMatching(String data) {
+            if (patterns.isEmpty()) {
+                return false;
+            }
+            LiteralMatcher literalMatcher = this.literalMatcher;
+            boolean[] found = literalMatcher != null ? literalMatcher.find(data) : hasLiteral;
+            for (int i = 0; i < patterns.size(); i++) {
+                if (hasLiteral[i]) {
+                    if (!found[i]) {
+                        continue;
+                    }
+                    if (isLiteral[i]) {
+                        return true;
+                    }
+                }
+                Matcher matcher = patterns.get(i).matcher(data);
                 if (matcher.find()) {
                     return true;
                 }
             }
+            return false;
         }
-        return false;
     }
 }
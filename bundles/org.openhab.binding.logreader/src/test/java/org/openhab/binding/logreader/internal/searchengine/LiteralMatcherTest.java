@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link LiteralMatcher}.
+ *
+ * @author agent - Initial contribution
+ */
+public class LiteralMatcherTest {
+
+    @Test
+    public void testFind() {
+        LiteralMatcher matcher = new LiteralMatcher(Arrays.asList("he", "she", "his", "hers", ""));
+
+        boolean[] found = matcher.find("ushers");
+        assertArrayEquals(new boolean[] { true, true, false, true, false }, found);
+    }
+
+    @Test
+    public void testPlainLiteral() {
+        assertEquals("Exception", LiteralMatcher.getRequiredLiteral("Exception"));
+        assertTrue(LiteralMatcher.isLiteral("Exception"));
+        assertFalse(LiteralMatcher.isLiteral("Exception.*"));
+        assertFalse(LiteralMatcher.isLiteral(""));
+    }
+
+    @Test
+    public void testQuantifiers() {
+        assertEquals("yz", LiteralMatcher.getRequiredLiteral("x{2,5}yz"));
+        assertEquals("yz", LiteralMatcher.getRequiredLiteral("x{2,5}?yz"));
+        assertEquals("ab", LiteralMatcher.getRequiredLiteral("abc{3}"));
+        assertEquals("error", LiteralMatcher.getRequiredLiteral("a?error"));
+        assertEquals("error", LiteralMatcher.getRequiredLiteral("x*error"));
+        assertEquals("abc", LiteralMatcher.getRequiredLiteral("abc+d"));
+    }
+
+    @Test
+    public void testEscapes() {
+        assertEquals("foo.bar", LiteralMatcher.getRequiredLiteral("foo\\.bar"));
+        assertEquals("error", LiteralMatcher.getRequiredLiteral("\\d+error"));
+        assertEquals("word", LiteralMatcher.getRequiredLiteral("\\bword\\b"));
+        assertEquals("ab", LiteralMatcher.getRequiredLiteral("ab\\1c"));
+        assertEquals("", LiteralMatcher.getRequiredLiteral("\\Qa.b\\E"));
+    }
+
+    @Test
+    public void testGroupsAndClasses() {
+        assertEquals("text", LiteralMatcher.getRequiredLiteral("(optional)?text"));
+        assertEquals("post", LiteralMatcher.getRequiredLiteral("pre(a|b)post"));
+        assertEquals("def", LiteralMatcher.getRequiredLiteral("[abc]+def"));
+        assertEquals("def", LiteralMatcher.getRequiredLiteral("[]a]def"));
+        assertEquals("", LiteralMatcher.getRequiredLiteral("(?i)error"));
+    }
+
+    @Test
+    public void testAlternatives() {
+        assertEquals("", LiteralMatcher.getRequiredLiteral("abc|def"));
+        assertEquals("", LiteralMatcher.getRequiredLiteral("Exception|Error"));
+    }
+}
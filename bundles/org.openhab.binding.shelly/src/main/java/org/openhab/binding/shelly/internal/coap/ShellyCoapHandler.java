@@ -43,6 +43,7 @@ import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotDevDescri
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotGenericSensorList;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotSensor;
 import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotSensorTypeAdapter;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotSensorValues;
 import org.openhab.binding.shelly.internal.config.ShellyThingConfiguration;
 import org.openhab.binding.shelly.internal.handler.ShellyBaseHandler;
 import org.slf4j.Logger;
@@ -82,6 +83,7 @@ public class ShellyCoapHandler implements ShellyCoapListener {
     private String lastPayload = "";
     private Map<String, CoIotDescrBlk> blkMap = new LinkedHashMap<>();
     private Map<String, CoIotDescrSen> sensorMap = new LinkedHashMap<>();
+    private @Nullable CoIotSensorValues lastValues; // values from the last status update
     private final ShellyDeviceProfile profile;
 
     public ShellyCoapHandler(ShellyBaseHandler thingHandler, ShellyCoapServer coapServer) {
@@ -113,7 +115,7 @@ public class ShellyCoapHandler implements ShellyCoapListener {
             }
 
             logger.debug("{}: Starting CoAP Listener", thingName);
-            coapServer.start(config.localIp, this);
+            coapServer.start(config.localIp, config.deviceIp, this);
             statusClient = new CoapClient(completeUrl(config.deviceIp, COLOIT_URI_DEVSTATUS))
                     .setTimeout((long) SHELLY_API_TIMEOUT_MS).useNONs().setEndpoint(coapServer.getEndpoint());
             discover();
@@ -137,10 +139,8 @@ public class ShellyCoapHandler implements ShellyCoapListener {
         if (response == null) {
             return; // other device instance
         }
-        String ip = response.getSourceContext().getPeerAddress().toString();
-        if (!ip.contains(config.deviceIp)) {
-            return;
-        }
+        // ShellyCoapServer dispatches the status packets by the exact address of the sender and responses to our own
+        // requests come from the device, so all packets received here belong to this device
 
         String payload = "";
         String devId = "";
@@ -369,14 +369,23 @@ public class ShellyCoapHandler implements ShellyCoapListener {
             handleDeviceDescription(devId, savedDescr);
         }
 
-        // Parse Json,
-        CoIotGenericSensorList list = gson.fromJson(fixJSON(payload), CoIotGenericSensorList.class);
+        // Parse Json (payload was already fixed by processResponse())
+        CoIotGenericSensorList list = gson.fromJson(payload, CoIotGenericSensorList.class);
         if (list.generic == null) {
             logger.debug("{}: Sensor list has invalid format! Payload: {}", devId, payload);
             return;
         }
 
         List<CoIotSensor> sensorUpdates = list.generic;
+        if (!updateLastValues(sensorUpdates)) {
+            // Periodic status packets mostly repeat the last values, the channels are already up to date
+            logger.debug("{}: Sensor values unchanged (serial={}), skip update", thingName, serial);
+            requestRestRefresh();
+            lastSerial = serial;
+            lastPayload = payload;
+            return;
+        }
+
         Map<String, State> updates = new TreeMap<String, State>();
         logger.debug("{}: {} CoAP sensor updates received", thingName, sensorUpdates.size());
         int failed = 0;
@@ -430,13 +439,7 @@ public class ShellyCoapHandler implements ShellyCoapListener {
                 }
             }
 
-            // Old firmware release are lacking various status values, which are not updated using CoIoT.
-            // In this case we keep a refresh so it gets polled using REST. Beginning with Firmware 1.6 most
-            // of the values are available
-            if ((!thingHandler.autoCoIoT && (thingHandler.scheduledUpdates <= 1))
-                    || (thingHandler.autoCoIoT && !profile.isLight && !profile.hasBattery)) {
-                thingHandler.requestUpdates(1, false);
-            }
+            requestRestRefresh();
         } else {
             if (failed == sensorUpdates.size()) {
                 logger.debug("{}: Device description problem detected, re-discover", thingName);
@@ -444,12 +447,41 @@ public class ShellyCoapHandler implements ShellyCoapListener {
                 discover();
             }
         }
+        if (failed > 0) {
+            // make sure the next packet gets processed again once the description is complete
+            lastValues = null;
+        }
 
         // Remember serial, new packets with same serial will be ignored
         lastSerial = serial;
         lastPayload = payload;
     }
 
+    /**
+     * Compare the received sensor values with the ones from the last status update and remember them.
+     *
+     * @param sensorUpdates decoded sensor list
+     * @return true if at least one sensor value has changed
+     */
+    private boolean updateLastValues(List<CoIotSensor> sensorUpdates) {
+        CoIotSensorValues values = new CoIotSensorValues(sensorUpdates);
+        CoIotSensorValues last = lastValues;
+        lastValues = values;
+        return last == null || !values.sameValues(last);
+    }
+
+    /**
+     * Old firmware release are lacking various status values, which are not updated using CoIoT. In this case we keep
+     * a refresh so it gets polled using REST. Beginning with Firmware 1.6 most of the values are available. This is
+     * also done if the CoIoT values didn't change, as the missing values may have.
+     */
+    private void requestRestRefresh() {
+        if ((!thingHandler.autoCoIoT && (thingHandler.scheduledUpdates <= 1))
+                || (thingHandler.autoCoIoT && !profile.isLight && !profile.hasBattery)) {
+            thingHandler.requestUpdates(1, false);
+        }
+    }
+
     private void discover() {
         reqDescription = sendRequest(reqDescription, config.deviceIp, COLOIT_URI_DEVDESC, Type.CON);
     }
@@ -532,6 +564,7 @@ public class ShellyCoapHandler implements ShellyCoapListener {
     private void resetSerial() {
         lastSerial = -1;
         lastPayload = "";
+        lastValues = null;
     }
 
     public int getVersion() {
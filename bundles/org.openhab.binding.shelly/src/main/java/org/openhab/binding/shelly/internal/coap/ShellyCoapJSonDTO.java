@@ -14,6 +14,7 @@ package org.openhab.binding.shelly.internal.coap;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.google.gson.TypeAdapter;
@@ -117,6 +118,34 @@ public class ShellyCoapJSonDTO {
         public List<Object> valueArray;
     }
 
+    /**
+     * Compact copy of the values of a sensor list, used to detect if a status update carries new values
+     */
+    public static class CoIotSensorValues {
+        private final String[] ids;
+        private final double[] values;
+        private final String[] valueStrs;
+
+        public CoIotSensorValues(List<CoIotSensor> sensors) {
+            int count = sensors.size();
+            ids = new String[count];
+            values = new double[count];
+            valueStrs = new String[count];
+            for (int i = 0; i < count; i++) {
+                CoIotSensor s = sensors.get(i);
+                ids[i] = s.id;
+                values[i] = s.value;
+                // array values are rare, they are compared by their string representation
+                valueStrs[i] = s.valueArray != null ? s.valueArray.toString() : s.valueStr != null ? s.valueStr : "";
+            }
+        }
+
+        public boolean sameValues(CoIotSensorValues other) {
+            return Arrays.equals(ids, other.ids) && Arrays.equals(values, other.values)
+                    && Arrays.equals(valueStrs, other.valueStrs);
+        }
+    }
+
     public static class CoIotGenericSensorList {
         @SerializedName("G")
         public List<CoIotSensor> generic;
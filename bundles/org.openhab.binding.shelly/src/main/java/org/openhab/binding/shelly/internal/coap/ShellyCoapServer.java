@@ -17,7 +17,10 @@ import static org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.COIOT_P
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.californium.core.CoapResource;
 import org.eclipse.californium.core.CoapServer;
@@ -32,24 +35,34 @@ import org.eclipse.californium.core.network.config.NetworkConfig;
 import org.eclipse.californium.elements.UdpMulticastConnector;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.eclipse.jetty.util.ConcurrentHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The {@link ShellyCoapServer} implements the UDP listener and status event processor (for /cit/s messages)
+ * The {@link ShellyCoapServer} implements the UDP listener and status event processor (for /cit/s messages). Received
+ * packets are dispatched to the listener registered for the sender's IP address, packets from unknown devices are
+ * dropped.
  *
  * @author Markus Michels - Initial contribution
  */
 @NonNullByDefault
 public class ShellyCoapServer {
+    private static final int STATS_INTERVAL = 1000; // log statistics every n packets
+
     private final Logger logger = LoggerFactory.getLogger(ShellyCoapServer.class);
 
     boolean started = false;
     private CoapEndpoint statusEndpoint = new CoapEndpoint.Builder().build();
     private @Nullable UdpMulticastConnector statusConnector;
     private final CoapServer server = new CoapServer(NetworkConfig.getStandard(), COIOT_PORT);;
-    private final Set<ShellyCoapListener> coapListeners = new ConcurrentHashSet<>();
+    private final Map<String, ShellyCoapListener> coapListeners = new ConcurrentHashMap<>();
+
+    // statistics
+    private volatile long statsStart = System.nanoTime();
+    private final AtomicLong packetCount = new AtomicLong();
+    private final AtomicLong unknownCount = new AtomicLong();
+    private final AtomicLong dispatchNanos = new AtomicLong();
+    private final AtomicLong maxDispatchNanos = new AtomicLong();
 
     protected class ShellyStatusListener extends CoapResource {
         private ShellyCoapServer listener;
@@ -76,7 +89,16 @@ public class ShellyCoapServer {
         }
     }
 
-    public synchronized void start(String localIp, ShellyCoapListener listener) throws UnknownHostException {
+    /**
+     * Start the listener (if not yet done) and register a device for status updates
+     *
+     * @param localIp IP address of the network interface to listen on
+     * @param deviceIp IP address or host name of the device
+     * @param listener listener receiving the packets sent by this device
+     * @throws UnknownHostException if an address could not be resolved
+     */
+    public synchronized void start(String localIp, String deviceIp, ShellyCoapListener listener)
+            throws UnknownHostException {
         if (!started) {
             logger.debug("Initializing CoIoT listener (local IP={}:{})", localIp, COIOT_PORT);
             NetworkConfig nc = NetworkConfig.getStandard();
@@ -91,16 +113,78 @@ public class ShellyCoapServer {
             CoapResource s = new ShellyStatusListener("s", this);
             cit.add(s);
             server.add(cit);
+            resetStatistics();
             started = true;
         }
 
-        if (!coapListeners.contains(listener)) {
-            coapListeners.add(listener);
-        }
+        coapListeners.values().remove(listener);
+        coapListeners.put(InetAddress.getByName(deviceIp).getHostAddress(), listener);
     }
 
     protected void processResponse(Response response) {
-        coapListeners.forEach(listener -> listener.processResponse(response));
+        long start = System.nanoTime();
+        long count = packetCount.incrementAndGet();
+        ShellyCoapListener listener = coapListeners
+                .get(response.getSourceContext().getPeerAddress().getAddress().getHostAddress());
+        if (listener != null) {
+            listener.processResponse(response);
+            long duration = System.nanoTime() - start;
+            dispatchNanos.addAndGet(duration);
+            maxDispatchNanos.accumulateAndGet(duration, Math::max);
+        } else {
+            logger.trace("CoIoT packet from unknown device {} ignored", response.getSourceContext().getPeerAddress());
+            unknownCount.incrementAndGet();
+        }
+
+        if ((count % STATS_INTERVAL == 0) && logger.isDebugEnabled()) {
+            logger.debug("CoIoT statistics: {} packets ({}/min), {} from unknown devices, dispatch avg={}us, max={}us",
+                    count, getPacketRate(), getUnknownCount(), getAverageDispatchMicros(), getMaxDispatchMicros());
+        }
+    }
+
+    /**
+     * @return number of packets received since the listener was started
+     */
+    public long getPacketCount() {
+        return packetCount.get();
+    }
+
+    /**
+     * @return number of packets received from devices without a registered listener
+     */
+    public long getUnknownCount() {
+        return unknownCount.get();
+    }
+
+    /**
+     * @return average number of packets per minute since the listener was started
+     */
+    public long getPacketRate() {
+        long minutes = TimeUnit.NANOSECONDS.toMinutes(System.nanoTime() - statsStart);
+        return packetCount.get() / Math.max(1, minutes);
+    }
+
+    /**
+     * @return average time a listener took to process a packet in us
+     */
+    public long getAverageDispatchMicros() {
+        long dispatched = packetCount.get() - unknownCount.get();
+        return dispatched > 0 ? TimeUnit.NANOSECONDS.toMicros(dispatchNanos.get() / dispatched) : 0;
+    }
+
+    /**
+     * @return maximum time a listener took to process a packet in us
+     */
+    public long getMaxDispatchMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxDispatchNanos.get());
+    }
+
+    private void resetStatistics() {
+        statsStart = System.nanoTime();
+        packetCount.set(0);
+        unknownCount.set(0);
+        dispatchNanos.set(0);
+        maxDispatchNanos.set(0);
     }
 
     public static Response createResponse(Request request) {
@@ -122,7 +206,7 @@ public class ShellyCoapServer {
      * Cancel pending requests and shutdown the client
      */
     public void stop(ShellyCoapListener listener) {
-        coapListeners.remove(listener);
+        coapListeners.values().remove(listener);
         if (coapListeners.isEmpty()) {
             stop();
         }
@@ -135,7 +219,8 @@ public class ShellyCoapServer {
             statusEndpoint.stop();
             coapListeners.clear();
             started = false;
-            logger.debug("CoAP Listener stopped");
+            logger.debug("CoAP Listener stopped, {} packets received ({} from unknown devices)", getPacketCount(),
+                    getUnknownCount());
         }
     }
 
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.coap;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotSensor;
+import org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.CoIotSensorValues;
+
+/**
+ * Tests for {@link CoIotSensorValues}, which decides if a CoIoT status update is skipped.
+ *
+ * @author agent - Initial contribution
+ */
+public class ShellyCoapJSonDTOTest {
+
+    @Test
+    public void testSameValues() {
+        CoIotSensorValues values = new CoIotSensorValues(Arrays.asList(sensor("111", 1.0), sensor("112", 23.5)));
+
+        assertTrue(values.sameValues(new CoIotSensorValues(Arrays.asList(sensor("111", 1.0), sensor("112", 23.5)))));
+    }
+
+    @Test
+    public void testChangedValue() {
+        CoIotSensorValues values = new CoIotSensorValues(Arrays.asList(sensor("111", 1.0), sensor("112", 23.5)));
+
+        assertFalse(values.sameValues(new CoIotSensorValues(Arrays.asList(sensor("111", 1.0), sensor("112", 23.6)))));
+        assertFalse(values.sameValues(new CoIotSensorValues(Arrays.asList(sensor("111", 1.0), sensor("113", 23.5)))));
+        assertFalse(values.sameValues(new CoIotSensorValues(Arrays.asList(sensor("111", 1.0)))));
+    }
+
+    @Test
+    public void testChangedStringAndArrayValue() {
+        CoIotSensor state = sensor("118", 0);
+        state.valueStr = "open";
+        CoIotSensor colors = sensor("119", 0);
+        colors.valueArray = Arrays.asList(255.0, 0.0, 0.0);
+        CoIotSensorValues values = new CoIotSensorValues(Arrays.asList(state, colors));
+
+        CoIotSensor newState = sensor("118", 0);
+        newState.valueStr = "close";
+        CoIotSensor newColors = sensor("119", 0);
+        newColors.valueArray = Arrays.asList(255.0, 0.0, 0.0);
+        assertFalse(values.sameValues(new CoIotSensorValues(Arrays.asList(newState, newColors))));
+
+        newState.valueStr = "open";
+        assertTrue(values.sameValues(new CoIotSensorValues(Arrays.asList(newState, newColors))));
+
+        newColors.valueArray = Arrays.asList(0.0, 255.0, 0.0);
+        assertFalse(values.sameValues(new CoIotSensorValues(Arrays.asList(newState, newColors))));
+    }
+
+    @Test
+    public void testEmptyList() {
+        List<CoIotSensor> empty = Arrays.asList();
+        assertTrue(new CoIotSensorValues(empty).sameValues(new CoIotSensorValues(empty)));
+    }
+
+    private static CoIotSensor sensor(String id, double value) {
+        CoIotSensor sensor = new CoIotSensor();
+        sensor.id = id;
+        sensor.value = value;
+        return sensor;
+    }
+}
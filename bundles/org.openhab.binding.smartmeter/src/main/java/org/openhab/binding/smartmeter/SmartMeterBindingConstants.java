@@ -14,6 +14,7 @@ package org.openhab.binding.smartmeter;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.openhab.binding.smartmeter.internal.ChannelStateAggregator.Aggregate;
 import org.openhab.binding.smartmeter.internal.ObisCode;
 
 /**
@@ -35,7 +36,10 @@ public class SmartMeterBindingConstants {
     public static final String CONFIGURATION_INIT_MESSAGE = "initMessage";
     public static final String CONFIGURATION_CONVERSION = "conversionRatio";
     public static final String CONFIGURATION_CHANNEL_NEGATE = "negate";
+    public static final String CONFIGURATION_CHANNEL_DEADBAND = "deadband";
+    public static final String CONFIGURATION_CHANNEL_AGGREGATION_WINDOW = "aggregationWindow";
     public static final String CHANNEL_PROPERTY_OBIS = "obis";
+    public static final String CHANNEL_PROPERTY_AGGREGATE = "aggregate";
     public static final String OBIS_PATTERN_CHANNELID = getObisChannelId(ObisCode.OBIS_PATTERN);
     /** Obis format */
     public static final String OBIS_FORMAT_MINIMAL = "%d-%d:%d.%d.%d";
@@ -46,4 +50,8 @@ public class SmartMeterBindingConstants {
     public static String getObisChannelId(String obis) {
         return obis.replaceAll("\\.", "-").replaceAll(":|\\*", "_");
     }
+
+    public static String getAggregateChannelId(String obis, Aggregate aggregate) {
+        return getObisChannelId(obis) + "_" + aggregate.getId();
+    }
 }
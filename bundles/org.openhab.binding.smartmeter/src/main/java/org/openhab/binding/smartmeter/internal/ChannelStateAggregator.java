@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter.internal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.library.types.QuantityType;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+
+/**
+ * Calculates the minimum, maximum and average of the numeric states of a channel within a sliding time window.
+ *
+ * The minimum and maximum are kept in monotonic queues and the average in a running sum, so adding a state doesn't
+ * iterate over the whole window.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ChannelStateAggregator {
+
+    /**
+     * The aggregates of a channel, each of them has its own channel.
+     */
+    public enum Aggregate {
+        MIN("min", "Minimum"),
+        MAX("max", "Maximum"),
+        AVG("avg", "Average");
+
+        private final String id;
+        private final String label;
+
+        private Aggregate(String id, String label) {
+            this.id = id;
+            this.label = label;
+        }
+
+        /**
+         * @return The suffix of the channel id of the aggregate.
+         */
+        public String getId() {
+            return id;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Gets the aggregate by its id.
+         *
+         * @param id The id of the aggregate.
+         * @return The aggregate or null, if there is none with this id.
+         */
+        public static @Nullable Aggregate fromId(@Nullable String id) {
+            for (Aggregate aggregate : values()) {
+                if (aggregate.id.equals(id)) {
+                    return aggregate;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The aggregates of the states within the window.
+     */
+    public static class Statistics {
+        private final QuantityType<?> min;
+        private final QuantityType<?> max;
+        private final QuantityType<?> average;
+
+        private Statistics(QuantityType<?> min, QuantityType<?> max, QuantityType<?> average) {
+            this.min = min;
+            this.max = max;
+            this.average = average;
+        }
+
+        public QuantityType<?> get(Aggregate aggregate) {
+            switch (aggregate) {
+                case MIN:
+                    return min;
+                case MAX:
+                    return max;
+                default:
+                    return average;
+            }
+        }
+    }
+
+    private static class Sample {
+        private final long timestamp;
+        private final BigDecimal value;
+
+        private Sample(long timestamp, BigDecimal value) {
+            this.timestamp = timestamp;
+            this.value = value;
+        }
+    }
+
+    private static class Window {
+        private final Unit<?> unit;
+        private final Deque<Sample> samples = new ArrayDeque<>();
+        // samples which may become the minimum, with increasing values
+        private final Deque<Sample> minimums = new ArrayDeque<>();
+        // samples which may become the maximum, with decreasing values
+        private final Deque<Sample> maximums = new ArrayDeque<>();
+        private BigDecimal sum = BigDecimal.ZERO;
+        private @Nullable Statistics statistics;
+
+        private Window(Unit<?> unit) {
+            this.unit = unit;
+        }
+
+        private Statistics add(Sample sample, long windowMillis) {
+            while (!samples.isEmpty() && samples.peekFirst().timestamp <= sample.timestamp - windowMillis) {
+                Sample removed = samples.removeFirst();
+                sum = sum.subtract(removed.value);
+                if (minimums.peekFirst() == removed) {
+                    minimums.removeFirst();
+                }
+                if (maximums.peekFirst() == removed) {
+                    maximums.removeFirst();
+                }
+            }
+
+            samples.addLast(sample);
+            sum = sum.add(sample.value);
+            while (!minimums.isEmpty() && minimums.peekLast().value.compareTo(sample.value) > 0) {
+                minimums.removeLast();
+            }
+            minimums.addLast(sample);
+            while (!maximums.isEmpty() && maximums.peekLast().value.compareTo(sample.value) < 0) {
+                maximums.removeLast();
+            }
+            maximums.addLast(sample);
+
+            BigDecimal average = sum.divide(BigDecimal.valueOf(samples.size()), MathContext.DECIMAL64);
+            Statistics statistics = new Statistics(new QuantityType<>(minimums.peekFirst().value, unit),
+                    new QuantityType<>(maximums.peekFirst().value, unit), new QuantityType<>(average, unit));
+            this.statistics = statistics;
+            return statistics;
+        }
+    }
+
+    private final Map<ChannelUID, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a state of a channel and calculates the aggregates of the states within the window ending with it. The
+     * window starts again if the unit of the states changes.
+     *
+     * @param channelUID The channel of the state.
+     * @param state The new state of the channel.
+     * @param windowMillis The length of the window in milliseconds.
+     * @param timestamp The time of the state in milliseconds.
+     * @return The aggregates of the window.
+     */
+    public Statistics add(ChannelUID channelUID, QuantityType<?> state, long windowMillis, long timestamp) {
+        Window window = windows.get(channelUID);
+        if (window == null || !window.unit.equals(state.getUnit())) {
+            window = new Window(state.getUnit());
+            windows.put(channelUID, window);
+        }
+        synchronized (window) {
+            return window.add(new Sample(timestamp, state.toBigDecimal()), windowMillis);
+        }
+    }
+
+    /**
+     * Gets the last calculated aggregates of a channel.
+     *
+     * @param channelUID The channel.
+     * @return The aggregates or null, if no state has been added.
+     */
+    public @Nullable Statistics getStatistics(ChannelUID channelUID) {
+        Window window = windows.get(channelUID);
+        return window == null ? null : window.statistics;
+    }
+
+    /**
+     * Forgets the states of a channel.
+     *
+     * @param channelUID The channel to forget.
+     */
+    public void remove(ChannelUID channelUID) {
+        windows.remove(channelUID);
+    }
+
+    /**
+     * Forgets the states of all channels.
+     */
+    public void clear() {
+        windows.clear();
+    }
+}
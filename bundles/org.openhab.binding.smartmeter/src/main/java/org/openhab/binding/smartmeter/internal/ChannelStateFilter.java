@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter.internal;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.library.types.QuantityType;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.types.State;
+
+/**
+ * Filters the states of the channels of a meter device, so that a channel is only updated if its value changed.
+ * Meters send all their values with every message, even if only a few of them changed.
+ *
+ * Numeric states can have a deadband: the state is only passed if it differs from the last passed state by at least
+ * the deadband.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ChannelStateFilter {
+
+    /**
+     * The last passed state of each channel.
+     */
+    private final Map<ChannelUID, State> lastStates = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether the channel shall be updated with the given state.
+     *
+     * @param channelUID The channel to update.
+     * @param state The new state of the channel.
+     * @param deadband The minimal change of a numeric state in the unit of the state, or null to pass every change.
+     * @return true if the channel shall be updated, false if the state didn't change.
+     */
+    public boolean accept(ChannelUID channelUID, State state, @Nullable BigDecimal deadband) {
+        State lastState = lastStates.get(channelUID);
+        if (lastState != null && !isChanged(lastState, state, deadband)) {
+            return false;
+        }
+        lastStates.put(channelUID, state);
+        return true;
+    }
+
+    /**
+     * Remembers a state the channel has been updated with without filtering, e.g. on a refresh, so that the following
+     * states are compared with it.
+     *
+     * @param channelUID The updated channel.
+     * @param state The state of the channel.
+     */
+    public void set(ChannelUID channelUID, State state) {
+        lastStates.put(channelUID, state);
+    }
+
+    /**
+     * Forgets the last state of a channel, the next state of the channel will be passed.
+     *
+     * @param channelUID The channel to forget.
+     */
+    public void remove(ChannelUID channelUID) {
+        lastStates.remove(channelUID);
+    }
+
+    /**
+     * Forgets the last states of all channels.
+     */
+    public void clear() {
+        lastStates.clear();
+    }
+
+    private boolean isChanged(State lastState, State state, @Nullable BigDecimal deadband) {
+        if (deadband != null && deadband.signum() > 0 && lastState instanceof QuantityType
+                && state instanceof QuantityType) {
+            QuantityType<?> lastQuantity = (QuantityType<?>) lastState;
+            QuantityType<?> quantity = (QuantityType<?>) state;
+            if (lastQuantity.getUnit().equals(quantity.getUnit())) {
+                return quantity.toBigDecimal().subtract(lastQuantity.toBigDecimal()).abs().compareTo(deadband) >= 0;
+            }
+        }
+        return !state.equals(lastState);
+    }
+}
@@ -37,6 +37,7 @@ import org.slf4j.LoggerFactory;
 
 import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
 import io.reactivex.plugins.RxJavaPlugins;
 import io.reactivex.schedulers.Schedulers;
 
@@ -72,6 +73,12 @@ public abstract class MeterDevice<T> {
      */
     IMeterReaderConnector<T> connector;
     private List<MeterValueListener> valueChangeListeners;
+    /**
+     * The subscription reading the values, shared by all callers of
+     * {@link #readValues(long, ScheduledExecutorService, Duration)}.
+     */
+    private @Nullable Disposable valueReader;
+    private int valueReaderCount;
 
     public MeterDevice(Supplier<SerialPortManager> serialPortManagerSupplier, String deviceId, String serialPort,
             byte @Nullable [] initMessage, int baudrate, int baudrateChangeDelay, ProtocolMode protocolMode) {
@@ -157,10 +164,39 @@ public abstract class MeterDevice<T> {
      * by {@code period} seconds.
      * If its still failing, the connection will be closed and opened again.
      *
+     * The device is read only once if this method is called more than once, e.g. by several things using the same
+     * serial port. The reading is stopped when all returned {@link Disposable}s are disposed. The timeout, executor
+     * and period of the first call are used for the reading.
+     *
      * @return The {@link Disposable} which needs to be disposed whenever not used anymore.
      *
      */
-    public Disposable readValues(long timeout, ScheduledExecutorService executorService, Duration period) {
+    public synchronized Disposable readValues(long timeout, ScheduledExecutorService executorService,
+            Duration period) {
+        if (valueReader == null) {
+            valueReader = startReading(timeout, executorService, period);
+        }
+        valueReaderCount++;
+        return Disposables.fromAction(this::releaseReading);
+    }
+
+    private synchronized void releaseReading() {
+        valueReaderCount--;
+        Disposable reader = valueReader;
+        if (valueReaderCount == 0 && reader != null) {
+            valueReader = null;
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Starts reading the device.
+     *
+     * The values are processed on the executor. If the processing of a message, i.e. notifying the listeners, is
+     * still running when the device sends the next messages, only the latest message is kept. Each message contains all
+     * values of the device, so nothing gets lost by skipping the messages in between.
+     */
+    private Disposable startReading(long timeout, ScheduledExecutorService executorService, Duration period) {
         return Flowable.fromPublisher(connector.getMeterValues(initMessage, period, executorService))
                 .timeout(timeout + period.toMillis(), TimeUnit.MILLISECONDS, Schedulers.from(executorService))
                 .doOnSubscribe(sub -> {
@@ -178,7 +214,8 @@ public abstract class MeterDevice<T> {
                 }).doOnCancel(connector::closeConnection).doOnComplete(connector::closeConnection).share()
                 .retryWhen(
                         publisher -> publisher.delay(RETRY_DELAY, TimeUnit.SECONDS, Schedulers.from(executorService)))
-                .subscribeOn(Schedulers.from(executorService), true).subscribe((value) -> {
+                .subscribeOn(Schedulers.from(executorService), true).onBackpressureLatest()
+                .observeOn(Schedulers.from(executorService), false, 1).subscribe((value) -> {
                     Map<String, MeterValue<?>> obisCodes = new HashMap<>(valueCache);
                     clearValueCache();
                     populateValueCache(value);
@@ -12,6 +12,9 @@
  */
 package org.openhab.binding.smartmeter.internal;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -20,19 +23,57 @@ import org.eclipse.smarthome.io.transport.serial.SerialPortManager;
 import org.openhab.binding.smartmeter.internal.helper.ProtocolMode;
 import org.openhab.binding.smartmeter.internal.iec62056.Iec62056_21MeterReader;
 import org.openhab.binding.smartmeter.internal.sml.SmlMeterReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory to get the correct device reader for a specific {@link ProtocolMode}
  *
+ * Devices are shared by all things that use the same serial port with the same settings, as a serial port can only be
+ * opened once.
+ *
  * @author Matthias Steigenberger - Initial contribution
  *
  */
 @NonNullByDefault
 public class MeterDeviceFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(MeterDeviceFactory.class);
+
+    /**
+     * The devices in use by serial port.
+     */
+    private static final Map<String, SharedDevice> SHARED_DEVICES = new HashMap<>();
+
+    private static class SharedDevice {
+        private final MeterDevice<?> device;
+        private final ProtocolMode protocolMode;
+        private final byte @Nullable [] initMessage;
+        private final int baudrate;
+        private final int baudrateChangeDelay;
+        private int users = 1;
+
+        SharedDevice(MeterDevice<?> device, ProtocolMode protocolMode, byte @Nullable [] initMessage, int baudrate,
+                int baudrateChangeDelay) {
+            this.device = device;
+            this.protocolMode = protocolMode;
+            this.initMessage = initMessage;
+            this.baudrate = baudrate;
+            this.baudrateChangeDelay = baudrateChangeDelay;
+        }
+
+        boolean hasSettings(ProtocolMode protocolMode, byte @Nullable [] initMessage, int baudrate,
+                int baudrateChangeDelay) {
+            return this.protocolMode == protocolMode && Arrays.equals(this.initMessage, initMessage)
+                    && this.baudrate == baudrate && this.baudrateChangeDelay == baudrateChangeDelay;
+        }
+    }
+
     /**
-     * Gets a concrete {@link MeterDevice} for given values.
-     * 
+     * Gets a concrete {@link MeterDevice} for given values. If a device is already in use for the serial port with the
+     * same settings, this device is returned. Every device must be released with {@link #releaseDevice(MeterDevice)}
+     * when it isn't used anymore.
+     *
      * @param serialPortManagerSupplier The Supplier of a {@link SerialPortManager}
      * @param mode The {@link ProtocolMode}.
      * @param deviceId
@@ -43,9 +84,45 @@ public class MeterDeviceFactory {
      * @param baudrateChangeDelay The change delay before changing the baudrate (used only for specific protocols).
      * @return The new {@link MeterDevice} or null.
      */
-    public static @Nullable MeterDevice<?> getDevice(Supplier<SerialPortManager> serialPortManagerSupplier, String mode,
-            String deviceId, String serialPort, byte @Nullable [] initMessage, int baudrate, int baudrateChangeDelay) {
+    public static synchronized @Nullable MeterDevice<?> getDevice(
+            Supplier<SerialPortManager> serialPortManagerSupplier, String mode, String deviceId, String serialPort,
+            byte @Nullable [] initMessage, int baudrate, int baudrateChangeDelay) {
         ProtocolMode protocolMode = ProtocolMode.valueOf(mode.toUpperCase());
+        SharedDevice sharedDevice = SHARED_DEVICES.get(serialPort);
+
+        if (sharedDevice != null) {
+            if (sharedDevice.hasSettings(protocolMode, initMessage, baudrate, baudrateChangeDelay)) {
+                LOGGER.debug("Sharing device on port {} with {}", serialPort, deviceId);
+                sharedDevice.users++;
+                return sharedDevice.device;
+            }
+            LOGGER.warn("Port {} is already used by device {} with different settings", serialPort,
+                    sharedDevice.device.getDeviceId());
+            return createDevice(serialPortManagerSupplier, protocolMode, deviceId, serialPort, initMessage, baudrate,
+                    baudrateChangeDelay);
+        }
+        MeterDevice<?> device = createDevice(serialPortManagerSupplier, protocolMode, deviceId, serialPort,
+                initMessage, baudrate, baudrateChangeDelay);
+        if (device != null) {
+            SHARED_DEVICES.put(serialPort,
+                    new SharedDevice(device, protocolMode, initMessage, baudrate, baudrateChangeDelay));
+        }
+        return device;
+    }
+
+    /**
+     * Releases a device obtained by
+     * {@link #getDevice(Supplier, String, String, String, byte[], int, int)}.
+     *
+     * @param device The device which isn't used anymore.
+     */
+    public static synchronized void releaseDevice(MeterDevice<?> device) {
+        SHARED_DEVICES.values().removeIf(sharedDevice -> sharedDevice.device == device && --sharedDevice.users == 0);
+    }
+
+    private static @Nullable MeterDevice<?> createDevice(Supplier<SerialPortManager> serialPortManagerSupplier,
+            ProtocolMode protocolMode, String deviceId, String serialPort, byte @Nullable [] initMessage, int baudrate,
+            int baudrateChangeDelay) {
         switch (protocolMode) {
             case D:
             case ABC:
@@ -13,7 +13,9 @@
 package org.openhab.binding.smartmeter.internal;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,6 +34,7 @@ import org.eclipse.smarthome.core.thing.type.StateChannelTypeBuilder;
 import org.eclipse.smarthome.core.types.StateDescriptionFragmentBuilder;
 import org.eclipse.smarthome.core.types.util.UnitUtils;
 import org.openhab.binding.smartmeter.SmartMeterBindingConstants;
+import org.openhab.binding.smartmeter.internal.ChannelStateAggregator.Aggregate;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,14 +53,21 @@ public class SmartMeterChannelTypeProvider implements ChannelTypeProvider, Meter
     private final Logger logger = LoggerFactory.getLogger(SmartMeterChannelTypeProvider.class);
 
     private final Map<String, ChannelType> obisChannelMap = new ConcurrentHashMap<>();
+    private final Map<ChannelTypeUID, ChannelType> aggregateChannelMap = new ConcurrentHashMap<>();
 
     @Override
     public Collection<ChannelType> getChannelTypes(@Nullable Locale locale) {
-        return obisChannelMap.values();
+        List<ChannelType> channelTypes = new ArrayList<>(obisChannelMap.values());
+        channelTypes.addAll(aggregateChannelMap.values());
+        return channelTypes;
     }
 
     @Override
     public @Nullable ChannelType getChannelType(ChannelTypeUID channelTypeUID, @Nullable Locale locale) {
+        ChannelType aggregateChannelType = aggregateChannelMap.get(channelTypeUID);
+        if (aggregateChannelType != null) {
+            return aggregateChannelType;
+        }
         return obisChannelMap.values().stream().filter(channelType -> channelType.getUID().equals(channelTypeUID))
                 .findFirst().orElse(null);
     }
@@ -100,6 +110,35 @@ public class SmartMeterChannelTypeProvider implements ChannelTypeProvider, Meter
     @Override
     public <Q extends @NonNull Quantity<Q>> void valueRemoved(MeterValue<Q> value) {
         obisChannelMap.remove(value.getObisCode());
+        for (Aggregate aggregate : Aggregate.values()) {
+            aggregateChannelMap.remove(getAggregateChannelTypeUID(value.getObisCode(), aggregate));
+        }
+    }
+
+    /**
+     * Gets the {@link ChannelTypeUID} for an aggregate of the given OBIS code, the {@link ChannelType} is created with
+     * the item type of the OBIS value.
+     *
+     * @param obis The obis code.
+     * @param aggregate The aggregate.
+     * @param itemType The item type of the OBIS value.
+     * @return The {@link ChannelTypeUID}.
+     */
+    public ChannelTypeUID getAggregateChannelTypeId(String obis, Aggregate aggregate, String itemType) {
+        ChannelTypeUID channelTypeUID = getAggregateChannelTypeUID(obis, aggregate);
+        aggregateChannelMap.computeIfAbsent(channelTypeUID, uid -> {
+            logger.debug("Creating ChannelType for the {} of OBIS {}", aggregate.getLabel(), obis);
+            return ChannelTypeBuilder.state(uid, obis + " " + aggregate.getLabel(), itemType)
+                    .withStateDescription(StateDescriptionFragmentBuilder.create().withReadOnly(true)
+                            .withPattern("%.2f %unit%").build().toStateDescription())
+                    .build();
+        });
+        return channelTypeUID;
+    }
+
+    private ChannelTypeUID getAggregateChannelTypeUID(String obis, Aggregate aggregate) {
+        return new ChannelTypeUID(SmartMeterBindingConstants.BINDING_ID,
+                SmartMeterBindingConstants.getAggregateChannelId(obis, aggregate));
     }
 
     /**
@@ -52,6 +52,8 @@ import org.eclipse.smarthome.core.util.HexUtils;
 import org.eclipse.smarthome.io.transport.serial.SerialPortManager;
 import org.openhab.binding.smartmeter.SmartMeterBindingConstants;
 import org.openhab.binding.smartmeter.SmartMeterConfiguration;
+import org.openhab.binding.smartmeter.internal.ChannelStateAggregator.Aggregate;
+import org.openhab.binding.smartmeter.internal.ChannelStateAggregator.Statistics;
 import org.openhab.binding.smartmeter.internal.conformity.Conformity;
 import org.openhab.binding.smartmeter.internal.helper.Baudrate;
 import org.slf4j.Logger;
@@ -78,6 +80,8 @@ public class SmartMeterHandler extends BaseThingHandler {
     private MeterValueListener valueChangeListener;
     private SmartMeterChannelTypeProvider channelTypeProvider;
     private @NonNull Supplier<SerialPortManager> serialPortManagerSupplier;
+    private final ChannelStateFilter stateFilter = new ChannelStateFilter();
+    private final ChannelStateAggregator aggregator = new ChannelStateAggregator();
 
     public SmartMeterHandler(Thing thing, SmartMeterChannelTypeProvider channelProvider,
             Supplier<SerialPortManager> serialPortManagerSupplier) {
@@ -91,6 +95,8 @@ public class SmartMeterHandler extends BaseThingHandler {
     public void initialize() {
         logger.debug("Initializing Smartmeter handler.");
         cancelRead();
+        stateFilter.clear();
+        aggregator.clear();
 
         SmartMeterConfiguration config = getConfigAs(SmartMeterConfiguration.class);
         logger.debug("config port = {}", config.port);
@@ -126,11 +132,15 @@ public class SmartMeterHandler extends BaseThingHandler {
     public void dispose() {
         super.dispose();
         cancelRead();
-        if (this.valueChangeListener != null) {
-            this.smlDevice.removeValueChangeListener(valueChangeListener);
-        }
-        if (this.channelTypeProvider != null) {
-            this.smlDevice.removeValueChangeListener(channelTypeProvider);
+        if (this.smlDevice != null) {
+            if (this.valueChangeListener != null) {
+                this.smlDevice.removeValueChangeListener(valueChangeListener);
+            }
+            if (this.channelTypeProvider != null) {
+                this.smlDevice.removeValueChangeListener(channelTypeProvider);
+            }
+            MeterDeviceFactory.releaseDevice(smlDevice);
+            this.smlDevice = null;
         }
     }
 
@@ -204,7 +214,10 @@ public class SmartMeterHandler extends BaseThingHandler {
                     if (!channel.getProperties().containsKey(SmartMeterBindingConstants.CHANNEL_PROPERTY_OBIS)) {
                         addObisPropertyToChannel(obis, channel);
                     }
-                    updateState(channel.getUID(), state);
+                    if (stateFilter.accept(channel.getUID(), state, getDeadband(channel))) {
+                        updateState(channel.getUID(), state);
+                    }
+                    updateAggregates(obis, channel, itemType, state);
 
                     updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE);
                 } else {
@@ -230,8 +243,11 @@ public class SmartMeterHandler extends BaseThingHandler {
                 // channels that are not available are removed
                 String obisChannelId = SmartMeterBindingConstants.getObisChannelId(value.getObisCode());
                 logger.debug("Removing channel: {}", obisChannelId);
+                ChannelUID channelUID = new ChannelUID(thing.getUID(), obisChannelId);
+                stateFilter.remove(channelUID);
+                removeAggregateChannels(value.getObisCode(), channelUID);
                 ThingBuilder thingBuilder = editThing();
-                thingBuilder.withoutChannel(new ChannelUID(thing.getUID(), obisChannelId));
+                thingBuilder.withoutChannel(channelUID);
                 updateThing(thingBuilder.build());
             }
 
@@ -252,15 +268,101 @@ public class SmartMeterHandler extends BaseThingHandler {
             Channel channel = this.thing.getChannel(channelId.getId());
             if (channel != null) {
                 String obis = channel.getProperties().get(SmartMeterBindingConstants.CHANNEL_PROPERTY_OBIS);
-                MeterValue<?> value = this.smlDevice.getMeterValue(obis);
-                if (value != null) {
-                    State state = getStateForObisValue(value, channel);
+                Aggregate aggregate = Aggregate
+                        .fromId(channel.getProperties().get(SmartMeterBindingConstants.CHANNEL_PROPERTY_AGGREGATE));
+                State state = null;
+                if (aggregate != null) {
+                    Statistics statistics = aggregator.getStatistics(
+                            new ChannelUID(thing.getUID(), SmartMeterBindingConstants.getObisChannelId(obis)));
+                    if (statistics != null) {
+                        state = statistics.get(aggregate);
+                    }
+                } else {
+                    MeterValue<?> value = this.smlDevice.getMeterValue(obis);
+                    if (value != null) {
+                        state = getStateForObisValue(value, channel);
+                    }
+                }
+                if (state != null) {
+                    // following states are filtered against the refreshed state
+                    stateFilter.set(channel.getUID(), state);
                     updateState(channel.getUID(), state);
                 }
             }
         }
     }
 
+    /**
+     * Updates the aggregate channels of an OBIS channel with a configured aggregation window. The aggregate channels are
+     * created with the first state and removed when the aggregation window is removed.
+     */
+    private void updateAggregates(String obis, Channel channel, String itemType, State state) {
+        long windowMillis = getAggregationWindowMillis(channel);
+        if (windowMillis <= 0 || !(state instanceof QuantityType)) {
+            removeAggregateChannels(obis, channel.getUID());
+            return;
+        }
+        Statistics statistics = aggregator.add(channel.getUID(), (QuantityType<?>) state, windowMillis,
+                System.currentTimeMillis());
+        BigDecimal deadband = getDeadband(channel);
+        for (Aggregate aggregate : Aggregate.values()) {
+            ChannelUID aggregateUID = getAggregateChannel(obis, aggregate, itemType).getUID();
+            State aggregateState = statistics.get(aggregate);
+            if (stateFilter.accept(aggregateUID, aggregateState, deadband)) {
+                updateState(aggregateUID, aggregateState);
+            }
+        }
+    }
+
+    private Channel getAggregateChannel(String obis, Aggregate aggregate, String itemType) {
+        String channelId = SmartMeterBindingConstants.getAggregateChannelId(obis, aggregate);
+        Channel channel = thing.getChannel(channelId);
+        if (channel == null) {
+            logger.debug("Adding channel: {} with item type: {}", channelId, itemType);
+            Map<String, String> channelProps = new HashMap<>();
+            channelProps.put(SmartMeterBindingConstants.CHANNEL_PROPERTY_OBIS, obis);
+            channelProps.put(SmartMeterBindingConstants.CHANNEL_PROPERTY_AGGREGATE, aggregate.getId());
+            channel = ChannelBuilder.create(new ChannelUID(thing.getUID(), channelId), itemType)
+                    .withType(channelTypeProvider.getAggregateChannelTypeId(obis, aggregate, itemType))
+                    .withLabel(obis + " " + aggregate.getLabel()).withProperties(channelProps)
+                    .withDescription(MessageFormat.format("{0} of OBIS code: {1} within the aggregation window",
+                            aggregate.getLabel(), obis))
+                    .build();
+            updateThing(editThing().withChannel(channel).build());
+        }
+        return channel;
+    }
+
+    private void removeAggregateChannels(String obis, ChannelUID channelUID) {
+        aggregator.remove(channelUID);
+        ThingBuilder thingBuilder = null;
+        for (Aggregate aggregate : Aggregate.values()) {
+            String channelId = SmartMeterBindingConstants.getAggregateChannelId(obis, aggregate);
+            if (thing.getChannel(channelId) != null) {
+                logger.debug("Removing channel: {}", channelId);
+                ChannelUID aggregateUID = new ChannelUID(thing.getUID(), channelId);
+                stateFilter.remove(aggregateUID);
+                thingBuilder = thingBuilder == null ? editThing() : thingBuilder;
+                thingBuilder.withoutChannel(aggregateUID);
+            }
+        }
+        if (thingBuilder != null) {
+            updateThing(thingBuilder.build());
+        }
+    }
+
+    private long getAggregationWindowMillis(Channel channel) {
+        Number window = (Number) channel.getConfiguration()
+                .get(SmartMeterBindingConstants.CONFIGURATION_CHANNEL_AGGREGATION_WINDOW);
+        return window == null ? 0 : window.longValue() * 1000;
+    }
+
+    private @Nullable BigDecimal getDeadband(Channel channel) {
+        Number deadband = (Number) channel.getConfiguration()
+                .get(SmartMeterBindingConstants.CONFIGURATION_CHANNEL_DEADBAND);
+        return deadband == null ? null : new BigDecimal(deadband.toString());
+    }
+
     @SuppressWarnings("unchecked")
     private <Q extends Quantity<Q>> State getStateForObisValue(MeterValue<?> value, @Nullable Channel channel) {
         Unit<?> unit = value.getUnit();
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter;
+
+import org.eclipse.smarthome.core.library.types.QuantityType;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openhab.binding.smartmeter.internal.ChannelStateAggregator;
+import org.openhab.binding.smartmeter.internal.ChannelStateAggregator.Aggregate;
+import org.openhab.binding.smartmeter.internal.ChannelStateAggregator.Statistics;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class TestChannelStateAggregator {
+
+    private static final ChannelUID CHANNEL = new ChannelUID("smartmeter:meter:test:1-0_16-7-0");
+    private static final long WINDOW = 60000;
+
+    @Test
+    public void testAggregatesWithinWindow() {
+        ChannelStateAggregator aggregator = new ChannelStateAggregator();
+
+        aggregator.add(CHANNEL, new QuantityType<>("100 W"), WINDOW, 0);
+        aggregator.add(CHANNEL, new QuantityType<>("300 W"), WINDOW, 10000);
+        Statistics statistics = aggregator.add(CHANNEL, new QuantityType<>("200 W"), WINDOW, 20000);
+
+        Assert.assertEquals(new QuantityType<>("100 W"), statistics.get(Aggregate.MIN));
+        Assert.assertEquals(new QuantityType<>("300 W"), statistics.get(Aggregate.MAX));
+        Assert.assertEquals(new QuantityType<>("200 W"), statistics.get(Aggregate.AVG));
+    }
+
+    @Test
+    public void testOldStatesLeaveWindow() {
+        ChannelStateAggregator aggregator = new ChannelStateAggregator();
+
+        aggregator.add(CHANNEL, new QuantityType<>("100 W"), WINDOW, 0);
+        aggregator.add(CHANNEL, new QuantityType<>("500 W"), WINDOW, 30000);
+        aggregator.add(CHANNEL, new QuantityType<>("300 W"), WINDOW, 50000);
+        Statistics statistics = aggregator.add(CHANNEL, new QuantityType<>("400 W"), WINDOW, 60000);
+
+        // the first state is out of the window
+        Assert.assertEquals(new QuantityType<>("300 W"), statistics.get(Aggregate.MIN));
+        Assert.assertEquals(new QuantityType<>("500 W"), statistics.get(Aggregate.MAX));
+        Assert.assertEquals(new QuantityType<>("400 W"), statistics.get(Aggregate.AVG));
+
+        statistics = aggregator.add(CHANNEL, new QuantityType<>("350 W"), WINDOW, 90000);
+        Assert.assertEquals(new QuantityType<>("300 W"), statistics.get(Aggregate.MIN));
+        Assert.assertEquals(new QuantityType<>("400 W"), statistics.get(Aggregate.MAX));
+        Assert.assertSame(statistics, aggregator.getStatistics(CHANNEL));
+    }
+
+    @Test
+    public void testChangedUnitStartsNewWindow() {
+        ChannelStateAggregator aggregator = new ChannelStateAggregator();
+
+        aggregator.add(CHANNEL, new QuantityType<>("100 W"), WINDOW, 0);
+        Statistics statistics = aggregator.add(CHANNEL, new QuantityType<>("2 kW"), WINDOW, 1000);
+
+        Assert.assertEquals(new QuantityType<>("2 kW"), statistics.get(Aggregate.MIN));
+        Assert.assertEquals(new QuantityType<>("2 kW"), statistics.get(Aggregate.MAX));
+
+        aggregator.remove(CHANNEL);
+        Assert.assertNull(aggregator.getStatistics(CHANNEL));
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.smartmeter;
+
+import java.math.BigDecimal;
+
+import org.eclipse.smarthome.core.library.types.QuantityType;
+import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openhab.binding.smartmeter.internal.ChannelStateFilter;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class TestChannelStateFilter {
+
+    private static final ChannelUID CHANNEL = new ChannelUID("smartmeter:meter:test:1-0_16-7-0");
+
+    @Test
+    public void testUnchangedStatesAreFiltered() {
+        ChannelStateFilter filter = new ChannelStateFilter();
+
+        Assert.assertTrue(filter.accept(CHANNEL, new QuantityType<>("100 W"), null));
+        Assert.assertFalse(filter.accept(CHANNEL, new QuantityType<>("100 W"), null));
+        Assert.assertTrue(filter.accept(CHANNEL, new QuantityType<>("101 W"), null));
+        Assert.assertTrue(filter.accept(CHANNEL, new StringType("error"), null));
+        Assert.assertFalse(filter.accept(CHANNEL, new StringType("error"), null));
+    }
+
+    @Test
+    public void testRemovedChannelIsUpdated() {
+        ChannelStateFilter filter = new ChannelStateFilter();
+
+        Assert.assertTrue(filter.accept(CHANNEL, new QuantityType<>("100 W"), null));
+        filter.remove(CHANNEL);
+        Assert.assertTrue(filter.accept(CHANNEL, new QuantityType<>("100 W"), null));
+    }
+
+    @Test
+    public void testRefreshedStateIsRemembered() {
+        ChannelStateFilter filter = new ChannelStateFilter();
+        BigDecimal deadband = BigDecimal.TEN;
+
+        Assert.assertTrue(filter.accept(CHANNEL, new QuantityType<>("100 W"), deadband));
+        filter.set(CHANNEL, new QuantityType<>("105 W"));
+        Assert.assertFalse(filter.accept(CHANNEL, new QuantityType<>("105 W"), deadband));
+        Assert.assertTrue(filter.accept(CHANNEL, new QuantityType<>("95 W"), deadband));
+    }
+
+    @Test
+    public void testDeadband() {
+        ChannelStateFilter filter = new ChannelStateFilter();
+        BigDecimal deadband = BigDecimal.TEN;
+
+        Assert.assertTrue(filter.accept(CHANNEL, new QuantityType<>("100 W"), deadband));
+        Assert.assertFalse(filter.accept(CHANNEL, new QuantityType<>("105 W"), deadband));
+        Assert.assertFalse(filter.accept(CHANNEL, new QuantityType<>("91 W"), deadband));
+        Assert.assertTrue(filter.accept(CHANNEL, new QuantityType<>("110 W"), deadband));
+        // the change is compared with the last passed value
+        Assert.assertFalse(filter.accept(CHANNEL, new QuantityType<>("101 W"), deadband));
+        Assert.assertTrue(filter.accept(CHANNEL, new QuantityType<>("100 kW"), deadband));
+    }
+}
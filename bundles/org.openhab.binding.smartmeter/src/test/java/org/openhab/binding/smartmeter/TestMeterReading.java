@@ -18,6 +18,7 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
@@ -64,6 +65,31 @@ public class TestMeterReading {
         }
     }
 
+    @Test
+    public void testSharedReading() throws Exception {
+        final Duration period = Duration.ofSeconds(1);
+        MockMeterReaderConnector connector = spy(getMockedConnector(false, () -> new Object()));
+        MeterDevice<Object> meter = getMeterDevice(connector);
+        MeterValueListener changeListener = Mockito.mock(MeterValueListener.class);
+        meter.addValueChangeListener(changeListener);
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
+        Disposable first = meter.readValues(5000, executor, period);
+        Disposable second = meter.readValues(5000, executor, period);
+        try {
+            verify(connector, after(period.toMillis() / 2).times(1)).openConnection();
+            first.dispose();
+            // still reading for the second reader
+            verify(changeListener, after(2 * period.toMillis() + period.toMillis() / 2).atLeast(2))
+                    .valueChanged(any());
+            verify(connector, never()).closeConnection();
+            second.dispose();
+            verify(connector, timeout(period.toMillis())).closeConnection();
+        } finally {
+            first.dispose();
+            second.dispose();
+        }
+    }
+
     @Test
     public void testRetryHandling() {
         final Duration period = Duration.ofSeconds(1);
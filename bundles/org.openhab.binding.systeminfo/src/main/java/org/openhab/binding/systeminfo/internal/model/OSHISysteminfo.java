@@ -13,6 +13,8 @@
 package org.openhab.binding.systeminfo.internal.model;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -75,6 +77,19 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     public static final int PRECISION_AFTER_DECIMAL_SIGN = 1;
 
+    /**
+     * Maximum age of a sample in milliseconds. All channels of all things, which are refreshed within this period,
+     * read the values of the same sample instead of querying the operating system again.
+     */
+    public static final long SAMPLE_VALIDITY = 500;
+
+    private long networksSampleTime;
+    private long fileStoresSampleTime;
+    private long powerSourcesSampleTime;
+    private final Map<Integer, OSProcess> processes = new HashMap<>();
+    private final Map<Integer, OSProcess> previousProcesses = new HashMap<>();
+    private final Map<Integer, Long> processSampleTimes = new HashMap<>();
+
     /**
      * Some of the methods used in this constructor execute native code and require execute permissions
      *
@@ -111,14 +126,76 @@ public class OSHISysteminfo implements SysteminfoInterface {
         return devices[index];
     }
 
-    private OSProcess getProcess(int pid) throws DeviceNotFoundException {
-        OSProcess process = operatingSystem.getProcess(pid);
-        if (process == null) {
-            throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
+    private synchronized OSProcess getProcess(int pid) throws DeviceNotFoundException {
+        OSProcess process = processes.get(pid);
+        Long sampleTime = processSampleTimes.get(pid);
+        if (process == null || sampleTime == null || isSampleExpired(sampleTime)) {
+            long start = System.nanoTime();
+            OSProcess sample = operatingSystem.getProcess(pid);
+            if (sample == null) {
+                processes.remove(pid);
+                previousProcesses.remove(pid);
+                processSampleTimes.remove(pid);
+                throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
+            }
+            if (process != null) {
+                previousProcesses.put(pid, process);
+            }
+            processes.put(pid, sample);
+            processSampleTimes.put(pid, System.currentTimeMillis());
+            logSampleCost("process " + pid, start);
+            process = sample;
         }
         return process;
     }
 
+    private synchronized @Nullable OSProcess getPreviousProcess(int pid) {
+        return previousProcesses.get(pid);
+    }
+
+    private synchronized void sampleNetworks() {
+        if (isSampleExpired(networksSampleTime)) {
+            long start = System.nanoTime();
+            for (NetworkIF network : networks) {
+                network.updateAttributes();
+            }
+            networksSampleTime = System.currentTimeMillis();
+            logSampleCost("network interfaces", start);
+        }
+    }
+
+    private synchronized void sampleFileStores() {
+        if (isSampleExpired(fileStoresSampleTime)) {
+            long start = System.nanoTime();
+            for (OSFileStore fileStore : fileStores) {
+                fileStore.updateAtrributes();
+            }
+            fileStoresSampleTime = System.currentTimeMillis();
+            logSampleCost("file stores", start);
+        }
+    }
+
+    private synchronized void samplePowerSources() {
+        if (isSampleExpired(powerSourcesSampleTime)) {
+            long start = System.nanoTime();
+            for (PowerSource powerSource : powerSources) {
+                powerSource.updateAttributes();
+            }
+            powerSourcesSampleTime = System.currentTimeMillis();
+            logSampleCost("power sources", start);
+        }
+    }
+
+    private boolean isSampleExpired(long sampleTime) {
+        return System.currentTimeMillis() - sampleTime >= SAMPLE_VALIDITY;
+    }
+
+    private void logSampleCost(String sample, long startNanos) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("Sampled {} in {} us", sample, (System.nanoTime() - startNanos) / 1000);
+        }
+    }
+
     @Override
     public StringType getOsFamily() {
         String osFamily = operatingSystem.getFamily();
@@ -196,7 +273,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getStorageTotal(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
-        fileStore.updateAtrributes();
+        sampleFileStores();
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new DecimalType(totalSpace);
@@ -205,7 +282,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getStorageAvailable(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
-        fileStore.updateAtrributes();
+        sampleFileStores();
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new DecimalType(freeSpace);
@@ -214,7 +291,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getStorageUsed(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
-        fileStore.updateAtrributes();
+        sampleFileStores();
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -225,7 +302,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable DecimalType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
         OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
-        fileStore.updateAtrributes();
+        sampleFileStores();
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         if (totalSpace > 0) {
@@ -240,7 +317,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable DecimalType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
         OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
-        fileStore.updateAtrributes();
+        sampleFileStores();
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -277,7 +354,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
         NetworkIF netInterface = (NetworkIF) getDevice(networks, index);
-        netInterface.updateAttributes();
+        sampleNetworks();
         String[] ipAddresses = netInterface.getIPv4addr();
         String ipv4 = (String) getDevice(ipAddresses, 0);
         return new StringType(ipv4);
@@ -337,7 +414,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable DecimalType getBatteryRemainingTime(int index) throws DeviceNotFoundException {
         PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        samplePowerSources();
         double remainingTimeInSeconds = powerSource.getTimeRemainingEstimated();
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
@@ -347,7 +424,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
         PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        samplePowerSources();
         double remainingCapacity = powerSource.getRemainingCapacityPercent();
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new DecimalType(remainingCapacityPercents);
@@ -551,7 +628,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateAttributes();
+        sampleNetworks();
         long packRecv = network.getPacketsRecv();
         return new DecimalType(packRecv);
     }
@@ -559,7 +636,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateAttributes();
+        sampleNetworks();
         long packSent = network.getPacketsSent();
         return new DecimalType(packSent);
     }
@@ -567,7 +644,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateAttributes();
+        sampleNetworks();
         long bytesSent = network.getBytesSent();
         return new DecimalType(getSizeInMB(bytesSent));
     }
@@ -575,7 +652,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public DecimalType getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateAttributes();
+        sampleNetworks();
         long bytesRecv = network.getBytesRecv();
         return new DecimalType(getSizeInMB(bytesRecv));
     }
@@ -591,11 +668,26 @@ public class OSHISysteminfo implements SysteminfoInterface {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The usage is calculated between the last two samples of the process. The average usage since the start of the
+     * process is returned for the first sample.
+     */
     @Override
     public @Nullable DecimalType getProcessCpuUsage(int pid) throws DeviceNotFoundException {
         if (pid > 0) {
             OSProcess process = getProcess(pid);
-            double cpuUsageRaw = (process.getKernelTime() + process.getUserTime()) / process.getUpTime();
+            OSProcess previous = getPreviousProcess(pid);
+            double cpuUsageRaw;
+            if (previous != null && previous.getStartTime() == process.getStartTime()
+                    && process.getUpTime() > previous.getUpTime()) {
+                long cpuTime = process.getKernelTime() + process.getUserTime() - previous.getKernelTime()
+                        - previous.getUserTime();
+                cpuUsageRaw = (double) cpuTime / (process.getUpTime() - previous.getUpTime());
+            } else {
+                cpuUsageRaw = (double) (process.getKernelTime() + process.getUserTime()) / process.getUpTime();
+            }
             BigDecimal cpuUsage = getPercentsValue(cpuUsageRaw);
             return new DecimalType(cpuUsage);
         } else {
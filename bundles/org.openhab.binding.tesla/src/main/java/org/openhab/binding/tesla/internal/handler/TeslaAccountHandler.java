@@ -23,9 +23,12 @@ import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -59,6 +62,8 @@ import org.openhab.binding.tesla.internal.protocol.TokenRequestRefreshToken;
 import org.openhab.binding.tesla.internal.protocol.TokenResponse;
 import org.openhab.binding.tesla.internal.protocol.Vehicle;
 import org.openhab.binding.tesla.internal.protocol.VehicleConfig;
+import org.openhab.binding.tesla.internal.throttler.QueueChannelThrottler;
+import org.openhab.binding.tesla.internal.throttler.Rate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -103,6 +108,10 @@ public class TeslaAccountHandler extends BaseBridgeHandler {
     protected int eventIntervalErrors;
     protected ReentrantLock lock;
 
+    // Requests of all vehicles of the account share one throttler, as the rate limits apply to the account
+    protected QueueChannelThrottler stateThrottler;
+    private final Set<String> pendingRequests = ConcurrentHashMap.newKeySet();
+
     private final Gson gson = new Gson();
     private final JsonParser parser = new JsonParser();
 
@@ -130,6 +139,15 @@ public class TeslaAccountHandler extends BaseBridgeHandler {
         lock.lock();
 
         try {
+            Map<Object, Rate> channels = new HashMap<>();
+            channels.put(DATA_THROTTLE, new Rate(1, 1, TimeUnit.SECONDS));
+            channels.put(COMMAND_THROTTLE, new Rate(20, 1, TimeUnit.MINUTES));
+
+            Rate firstRate = new Rate(20, 1, TimeUnit.MINUTES);
+            Rate secondRate = new Rate(200, 10, TimeUnit.MINUTES);
+            stateThrottler = new QueueChannelThrottler(firstRate, scheduler, channels);
+            stateThrottler.addRate(secondRate);
+
             if (connectJob == null || connectJob.isCancelled()) {
                 connectJob = scheduler.scheduleWithFixedDelay(connectRunnable, 0, CONNECT_RETRY_INTERVAL,
                         TimeUnit.MILLISECONDS);
@@ -149,6 +167,7 @@ public class TeslaAccountHandler extends BaseBridgeHandler {
                 connectJob.cancel(true);
                 connectJob = null;
             }
+            pendingRequests.clear();
         } finally {
             lock.unlock();
         }
@@ -510,16 +529,23 @@ public class TeslaAccountHandler extends BaseBridgeHandler {
         private String request;
         private String payLoad;
         private WebTarget target;
+        private String mergeKey;
 
-        public Request(TeslaVehicleHandler handler, String request, String payLoad, WebTarget target) {
+        public Request(TeslaVehicleHandler handler, String request, String payLoad, WebTarget target,
+                String mergeKey) {
             this.handler = handler;
             this.request = request;
             this.payLoad = payLoad;
             this.target = target;
+            this.mergeKey = mergeKey;
         }
 
         @Override
         public void run() {
+            if (mergeKey != null) {
+                // from now on, the same request has to be queued again to get a newer state
+                pendingRequests.remove(mergeKey);
+            }
             try {
                 String result = "";
 
@@ -535,9 +561,37 @@ public class TeslaAccountHandler extends BaseBridgeHandler {
         }
     }
 
-    public Request newRequest(TeslaVehicleHandler teslaVehicleHandler, String command, String payLoad,
+    /**
+     * Queues a request of a vehicle in the throttler of the account. State queries and wake up commands are merged,
+     * if the same request of the same vehicle is still waiting in the queue.
+     *
+     * @param teslaVehicleHandler the vehicle the request is sent for
+     * @param throttle the throttle channel, either {@link TeslaBindingConstants#DATA_THROTTLE} or
+     *            {@link TeslaBindingConstants#COMMAND_THROTTLE}
+     * @param command the command or state to request
+     * @param payLoad the payload to post or null for a query
+     * @param target the target of the request
+     */
+    public void submitRequest(TeslaVehicleHandler teslaVehicleHandler, String throttle, String command, String payLoad,
             WebTarget target) {
-        return new Request(teslaVehicleHandler, command, payLoad, target);
+        QueueChannelThrottler throttler = stateThrottler;
+        if (throttler == null) {
+            return;
+        }
+
+        String mergeKey = null;
+        if (payLoad == null || COMMAND_WAKE_UP.equals(command)) {
+            mergeKey = teslaVehicleHandler.getThing().getUID() + "/" + command;
+            if (!pendingRequests.add(mergeKey)) {
+                logger.trace("Request '{}' for {} is already queued", command, teslaVehicleHandler.getThing().getUID());
+                return;
+            }
+        }
+
+        if (throttler.submit(throttle, new Request(teslaVehicleHandler, command, payLoad, target, mergeKey)) == null
+                && mergeKey != null) {
+            pendingRequests.remove(mergeKey);
+        }
     }
 
     @Override
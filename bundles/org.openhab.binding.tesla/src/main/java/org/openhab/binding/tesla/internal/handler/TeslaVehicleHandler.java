@@ -14,15 +14,14 @@ package org.openhab.binding.tesla.internal.handler;
 
 import static org.openhab.binding.tesla.internal.TeslaBindingConstants.*;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
@@ -60,15 +59,12 @@ import org.openhab.binding.tesla.internal.TeslaBindingConstants.EventKeys;
 import org.openhab.binding.tesla.internal.TeslaChannelSelectorProxy;
 import org.openhab.binding.tesla.internal.TeslaChannelSelectorProxy.TeslaChannelSelector;
 import org.openhab.binding.tesla.internal.handler.TeslaAccountHandler.Authenticator;
-import org.openhab.binding.tesla.internal.handler.TeslaAccountHandler.Request;
 import org.openhab.binding.tesla.internal.protocol.ChargeState;
 import org.openhab.binding.tesla.internal.protocol.ClimateState;
 import org.openhab.binding.tesla.internal.protocol.DriveState;
 import org.openhab.binding.tesla.internal.protocol.GUIState;
 import org.openhab.binding.tesla.internal.protocol.Vehicle;
 import org.openhab.binding.tesla.internal.protocol.VehicleState;
-import org.openhab.binding.tesla.internal.throttler.QueueChannelThrottler;
-import org.openhab.binding.tesla.internal.throttler.Rate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -87,6 +83,8 @@ import com.google.gson.JsonParser;
 public class TeslaVehicleHandler extends BaseThingHandler {
 
     private static final int EVENT_STREAM_PAUSE = 5000;
+    private static final int EVENT_READ_INTERVAL = 500;
+    private static final int EVENT_STREAM_IDLE_TIMEOUT = 30000;
     private static final int EVENT_TIMESTAMP_AGE_LIMIT = 3000;
     private static final int EVENT_TIMESTAMP_MAX_DELTA = 10000;
     private static final int FAST_STATUS_REFRESH_INTERVAL = 15000;
@@ -128,11 +126,11 @@ public class TeslaVehicleHandler extends BaseThingHandler {
 
     protected TeslaAccountHandler account;
 
-    protected QueueChannelThrottler stateThrottler;
     protected ClientBuilder clientBuilder;
     protected Client eventClient;
     protected TeslaChannelSelectorProxy teslaChannelSelectorProxy = new TeslaChannelSelectorProxy();
-    protected Thread eventThread;
+    protected EventStreamReader eventStreamReader;
+    protected ScheduledFuture<?> eventJob;
     protected ScheduledFuture<?> fastStateJob;
     protected ScheduledFuture<?> slowStateJob;
 
@@ -160,15 +158,6 @@ public class TeslaVehicleHandler extends BaseThingHandler {
 
         lock.lock();
         try {
-            Map<Object, Rate> channels = new HashMap<>();
-            channels.put(DATA_THROTTLE, new Rate(1, 1, TimeUnit.SECONDS));
-            channels.put(COMMAND_THROTTLE, new Rate(20, 1, TimeUnit.MINUTES));
-
-            Rate firstRate = new Rate(20, 1, TimeUnit.MINUTES);
-            Rate secondRate = new Rate(200, 10, TimeUnit.MINUTES);
-            stateThrottler = new QueueChannelThrottler(firstRate, scheduler, channels);
-            stateThrottler.addRate(secondRate);
-
             if (fastStateJob == null || fastStateJob.isCancelled()) {
                 fastStateJob = scheduler.scheduleWithFixedDelay(fastStateRunnable, 0, FAST_STATUS_REFRESH_INTERVAL,
                         TimeUnit.MILLISECONDS);
@@ -183,13 +172,29 @@ public class TeslaVehicleHandler extends BaseThingHandler {
         }
 
         if (enableEvents) {
-            if (eventThread == null) {
-                eventThread = new Thread(eventRunnable, "openHAB-Tesla-Events-" + getThing().getUID());
-                eventThread.start();
+            lock.lock();
+            try {
+                if (eventJob == null) {
+                    eventStreamReader = new EventStreamReader();
+                    eventJob = scheduler.schedule(eventStreamReader, 0, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                lock.unlock();
             }
         }
     }
 
+    private void scheduleEventStreamReader(long delay) {
+        lock.lock();
+        try {
+            if (eventJob != null) {
+                eventJob = scheduler.schedule(eventStreamReader, delay, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     public void dispose() {
         logger.trace("Disposing the Tesla handler for {}", getThing().getUID());
@@ -205,14 +210,19 @@ public class TeslaVehicleHandler extends BaseThingHandler {
                 slowStateJob = null;
             }
 
-            if (eventThread != null && !eventThread.isInterrupted()) {
-                eventThread.interrupt();
-                eventThread = null;
+            if (eventJob != null) {
+                eventJob.cancel(true);
+                eventJob = null;
             }
         } finally {
             lock.unlock();
         }
 
+        if (eventStreamReader != null) {
+            eventStreamReader.closeEventStream();
+            eventStreamReader = null;
+        }
+
         if (eventClient != null) {
             eventClient.close();
         }
@@ -435,10 +445,7 @@ public class TeslaVehicleHandler extends BaseThingHandler {
 
     public void sendCommand(String command, String payLoad, WebTarget target) {
         if (command.equals(COMMAND_WAKE_UP) || isAwake()) {
-            Request request = account.newRequest(this, command, payLoad, target);
-            if (stateThrottler != null) {
-                stateThrottler.submit(COMMAND_THROTTLE, request);
-            }
+            account.submitRequest(this, COMMAND_THROTTLE, command, payLoad, target);
         }
     }
 
@@ -448,28 +455,19 @@ public class TeslaVehicleHandler extends BaseThingHandler {
 
     public void sendCommand(String command, String payLoad) {
         if (command.equals(COMMAND_WAKE_UP) || isAwake()) {
-            Request request = account.newRequest(this, command, payLoad, account.commandTarget);
-            if (stateThrottler != null) {
-                stateThrottler.submit(COMMAND_THROTTLE, request);
-            }
+            account.submitRequest(this, COMMAND_THROTTLE, command, payLoad, account.commandTarget);
         }
     }
 
     public void sendCommand(String command, WebTarget target) {
         if (command.equals(COMMAND_WAKE_UP) || isAwake()) {
-            Request request = account.newRequest(this, command, "{}", target);
-            if (stateThrottler != null) {
-                stateThrottler.submit(COMMAND_THROTTLE, request);
-            }
+            account.submitRequest(this, COMMAND_THROTTLE, command, "{}", target);
         }
     }
 
     public void requestData(String command, String payLoad) {
         if (command.equals(COMMAND_WAKE_UP) || isAwake()) {
-            Request request = account.newRequest(this, command, payLoad, account.dataRequestTarget);
-            if (stateThrottler != null) {
-                stateThrottler.submit(DATA_THROTTLE, request);
-            }
+            account.submitRequest(this, DATA_THROTTLE, command, payLoad, account.dataRequestTarget);
         }
     }
 
@@ -977,16 +975,25 @@ public class TeslaVehicleHandler extends BaseThingHandler {
         }
     };
 
-    protected Runnable eventRunnable = new Runnable() {
-        Response eventResponse;
-        BufferedReader eventBufferedReader;
-        InputStreamReader eventInputStreamReader;
-        boolean isEstablished = false;
+    /**
+     * Reads the events of the streaming service without a dedicated thread: every run only reads the data which is
+     * already available on the stream, so it never blocks the scheduler, handles the complete lines and schedules the
+     * next run after {@link #EVENT_READ_INTERVAL}. As the end of the stream can't be detected without a blocking read,
+     * a stream without data for {@link #EVENT_STREAM_IDLE_TIMEOUT} is reset.
+     */
+    protected class EventStreamReader implements Runnable {
+        private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream();
+        private final byte[] readBuffer = new byte[1024];
+        private Response eventResponse;
+        private volatile InputStream eventInputStream;
+        private volatile boolean isEstablished = false;
+        private long lastDataTimestamp;
 
         protected boolean establishEventStream() {
             try {
                 if (!isEstablished) {
-                    eventBufferedReader = null;
+                    eventInputStream = null;
+                    lineBuffer.reset();
 
                     eventClient = clientBuilder.build()
                             .register(new Authenticator((String) getConfig().get(CONFIG_USERNAME), vehicle.tokens[0]));
@@ -998,12 +1005,9 @@ public class TeslaVehicleHandler extends BaseThingHandler {
                             eventResponse.getStatus(), eventResponse.getStatusInfo());
 
                     if (eventResponse.getStatus() == 200) {
-                        InputStream dummy = (InputStream) eventResponse.getEntity();
-                        eventInputStreamReader = new InputStreamReader(dummy);
-                        eventBufferedReader = new BufferedReader(eventInputStreamReader);
+                        eventInputStream = (InputStream) eventResponse.getEntity();
+                        lastDataTimestamp = System.currentTimeMillis();
                         isEstablished = true;
-                    } else if (eventResponse.getStatus() == 401) {
-                        isEstablished = false;
                     } else {
                         isEstablished = false;
                     }
@@ -1037,111 +1041,143 @@ public class TeslaVehicleHandler extends BaseThingHandler {
             return isEstablished;
         }
 
+        protected void closeEventStream() {
+            isEstablished = false;
+            if (eventResponse != null) {
+                try {
+                    eventResponse.close();
+                } catch (ProcessingException e) {
+                    logger.trace("Event stream: An exception occurred while closing the event stream: '{}'",
+                            e.getMessage());
+                }
+                eventResponse = null;
+            }
+            eventInputStream = null;
+        }
+
         @Override
         public void run() {
-            while (true) {
-                try {
-                    if (getThing().getStatus() == ThingStatus.ONLINE) {
-                        if (isAwake()) {
-                            if (establishEventStream()) {
-                                String line = eventBufferedReader.readLine();
-
-                                while (line != null) {
-                                    logger.debug("Event stream: Received an event: '{}'", line);
-                                    String vals[] = line.split(",");
-                                    long currentTimeStamp = Long.valueOf(vals[0]);
-                                    long systemTimeStamp = System.currentTimeMillis();
-                                    if (logger.isDebugEnabled()) {
-                                        SimpleDateFormat dateFormatter = new SimpleDateFormat(
-                                                "yyyy-MM-dd'T'HH:mm:ss.SSS");
-                                        logger.debug("STS {} CTS {} Delta {}",
-                                                dateFormatter.format(new Date(systemTimeStamp)),
-                                                dateFormatter.format(new Date(currentTimeStamp)),
-                                                systemTimeStamp - currentTimeStamp);
-                                    }
-                                    if (systemTimeStamp - currentTimeStamp < EVENT_TIMESTAMP_AGE_LIMIT) {
-                                        if (currentTimeStamp > lastTimeStamp) {
-                                            lastTimeStamp = Long.valueOf(vals[0]);
-                                            if (logger.isDebugEnabled()) {
-                                                SimpleDateFormat dateFormatter = new SimpleDateFormat(
-                                                        "yyyy-MM-dd'T'HH:mm:ss.SSS");
-                                                logger.debug("Event Stream: Event stamp is {}",
-                                                        dateFormatter.format(new Date(lastTimeStamp)));
-                                            }
-                                            for (int i = 0; i < EventKeys.values().length; i++) {
-                                                TeslaChannelSelector selector = TeslaChannelSelector
-                                                        .getValueSelectorFromRESTID((EventKeys.values()[i]).toString());
-                                                if (!selector.isProperty()) {
-                                                    State newState = teslaChannelSelectorProxy.getState(vals[i],
-                                                            selector, editProperties());
-                                                    if (newState != null && !"".equals(vals[i])) {
-                                                        updateState(selector.getChannelID(), newState);
-                                                    } else {
-                                                        updateState(selector.getChannelID(), UnDefType.UNDEF);
-                                                    }
-                                                } else {
-                                                    Map<String, String> properties = editProperties();
-                                                    properties.put(selector.getChannelID(),
-                                                            (selector.getState(vals[i])).toString());
-                                                    updateProperties(properties);
-                                                }
-                                            }
-                                        } else {
-                                            if (logger.isDebugEnabled()) {
-                                                SimpleDateFormat dateFormatter = new SimpleDateFormat(
-                                                        "yyyy-MM-dd'T'HH:mm:ss.SSS");
-                                                logger.debug(
-                                                        "Event stream: Discarding an event with an out of sync timestamp {} (last is {})",
-                                                        dateFormatter.format(new Date(currentTimeStamp)),
-                                                        dateFormatter.format(new Date(lastTimeStamp)));
-                                            }
-                                        }
-                                    } else {
-                                        if (logger.isDebugEnabled()) {
-                                            SimpleDateFormat dateFormatter = new SimpleDateFormat(
-                                                    "yyyy-MM-dd'T'HH:mm:ss.SSS");
-                                            logger.debug(
-                                                    "Event Stream: Discarding an event that differs {} ms from the system time: {} (system is {})",
-                                                    systemTimeStamp - currentTimeStamp,
-                                                    dateFormatter.format(currentTimeStamp),
-                                                    dateFormatter.format(systemTimeStamp));
-                                        }
-                                        if (systemTimeStamp - currentTimeStamp > EVENT_TIMESTAMP_MAX_DELTA) {
-                                            logger.trace("Event stream: The event stream will be reset");
-                                            isEstablished = false;
-                                        }
-                                    }
-                                    line = eventBufferedReader.readLine();
-                                }
-                                logger.trace("Event stream: The end of stream was reached");
-                                isEstablished = false;
+            long delay = EVENT_READ_INTERVAL;
+            try {
+                if (getThing().getStatus() == ThingStatus.ONLINE) {
+                    if (isAwake()) {
+                        if (establishEventStream()) {
+                            readEvents();
+                        }
+                    } else {
+                        logger.debug("Event stream: The vehicle is not awake");
+                        if (vehicle != null) {
+                            if (allowWakeUp) {
+                                // wake up the vehicle until streaming token <> 0
+                                logger.debug("Event stream: Waking up the vehicle");
+                                wakeUp();
                             }
                         } else {
-                            logger.debug("Event stream: The vehicle is not awake");
-                            if (vehicle != null) {
-                                if (allowWakeUp) {
-                                    // wake up the vehicle until streaming token <> 0
-                                    logger.debug("Event stream: Waking up the vehicle");
-                                    wakeUp();
-                                }
-                            } else {
-                                vehicle = queryVehicle();
-                            }
-                            Thread.sleep(EVENT_STREAM_PAUSE);
+                            vehicle = queryVehicle();
                         }
+                        delay = EVENT_STREAM_PAUSE;
                     }
-                } catch (IOException | NumberFormatException e) {
-                    logger.debug("Event stream: An exception occurred while reading events: '{}'", e.getMessage());
-                    isEstablished = false;
-                } catch (InterruptedException e) {
-                    isEstablished = false;
                 }
+            } catch (IOException | NumberFormatException e) {
+                logger.debug("Event stream: An exception occurred while reading events: '{}'", e.getMessage());
+                closeEventStream();
+            } catch (Exception e) {
+                logger.error("Event stream: An exception occurred while handling events: '{}'", e.getMessage(), e);
+                closeEventStream();
+            }
+            scheduleEventStreamReader(delay);
+        }
 
-                if (Thread.interrupted()) {
-                    logger.debug("Event stream: the event stream was interrupted");
+        private void readEvents() throws IOException {
+            // the stream is closed concurrently when the handler is disposed
+            InputStream inputStream = eventInputStream;
+            if (inputStream == null) {
+                return;
+            }
+            int available;
+            while (isEstablished && (available = inputStream.available()) > 0) {
+                int read = inputStream.read(readBuffer, 0, Math.min(available, readBuffer.length));
+                if (read == -1) {
+                    logger.debug("Event stream: The event stream has ended, it will be reset");
+                    closeEventStream();
                     return;
                 }
+                lastDataTimestamp = System.currentTimeMillis();
+                for (int i = 0; i < read && isEstablished; i++) {
+                    byte b = readBuffer[i];
+                    if (b == '\n') {
+                        String line = new String(lineBuffer.toByteArray(), StandardCharsets.UTF_8);
+                        lineBuffer.reset();
+                        handleEvent(line);
+                    } else if (b != '\r') {
+                        lineBuffer.write(b);
+                    }
+                }
+            }
+
+            if (!isEstablished) {
+                closeEventStream();
+            } else if (System.currentTimeMillis() - lastDataTimestamp > EVENT_STREAM_IDLE_TIMEOUT) {
+                logger.debug("Event stream: No events received for {} ms, the event stream will be reset",
+                        EVENT_STREAM_IDLE_TIMEOUT);
+                closeEventStream();
             }
         }
-    };
+
+        private void handleEvent(String line) {
+            logger.debug("Event stream: Received an event: '{}'", line);
+            String vals[] = line.split(",");
+            long currentTimeStamp = Long.valueOf(vals[0]);
+            long systemTimeStamp = System.currentTimeMillis();
+            if (logger.isDebugEnabled()) {
+                SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+                logger.debug("STS {} CTS {} Delta {}", dateFormatter.format(new Date(systemTimeStamp)),
+                        dateFormatter.format(new Date(currentTimeStamp)), systemTimeStamp - currentTimeStamp);
+            }
+            if (systemTimeStamp - currentTimeStamp < EVENT_TIMESTAMP_AGE_LIMIT) {
+                if (currentTimeStamp > lastTimeStamp) {
+                    lastTimeStamp = Long.valueOf(vals[0]);
+                    if (logger.isDebugEnabled()) {
+                        SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+                        logger.debug("Event Stream: Event stamp is {}", dateFormatter.format(new Date(lastTimeStamp)));
+                    }
+                    for (int i = 0; i < EventKeys.values().length; i++) {
+                        TeslaChannelSelector selector = TeslaChannelSelector
+                                .getValueSelectorFromRESTID((EventKeys.values()[i]).toString());
+                        if (!selector.isProperty()) {
+                            State newState = teslaChannelSelectorProxy.getState(vals[i], selector, editProperties());
+                            if (newState != null && !"".equals(vals[i])) {
+                                updateState(selector.getChannelID(), newState);
+                            } else {
+                                updateState(selector.getChannelID(), UnDefType.UNDEF);
+                            }
+                        } else {
+                            Map<String, String> properties = editProperties();
+                            properties.put(selector.getChannelID(), (selector.getState(vals[i])).toString());
+                            updateProperties(properties);
+                        }
+                    }
+                } else {
+                    if (logger.isDebugEnabled()) {
+                        SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+                        logger.debug("Event stream: Discarding an event with an out of sync timestamp {} (last is {})",
+                                dateFormatter.format(new Date(currentTimeStamp)),
+                                dateFormatter.format(new Date(lastTimeStamp)));
+                    }
+                }
+            } else {
+                if (logger.isDebugEnabled()) {
+                    SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+                    logger.debug(
+                            "Event Stream: Discarding an event that differs {} ms from the system time: {} (system is {})",
+                            systemTimeStamp - currentTimeStamp, dateFormatter.format(currentTimeStamp),
+                            dateFormatter.format(systemTimeStamp));
+                }
+                if (systemTimeStamp - currentTimeStamp > EVENT_TIMESTAMP_MAX_DELTA) {
+                    logger.trace("Event stream: The event stream will be reset");
+                    isEstablished = false;
+                }
+            }
+        }
+    }
 }
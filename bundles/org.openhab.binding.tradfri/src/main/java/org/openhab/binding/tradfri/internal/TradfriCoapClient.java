@@ -13,10 +13,7 @@
 package org.openhab.binding.tradfri.internal;
 
 import java.net.URI;
-import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.californium.core.CoapClient;
 import org.eclipse.californium.core.CoapObserveRelation;
@@ -36,33 +33,21 @@ import org.slf4j.LoggerFactory;
 public class TradfriCoapClient extends CoapClient {
 
     private static final long TIMEOUT = 2000;
-    private static final int DEFAULT_DELAY_MILLIS = 600;
     private final Logger logger = LoggerFactory.getLogger(TradfriCoapClient.class);
-    private final LinkedList<PayloadCallbackPair> commandsQueue = new LinkedList<>();
-    private @Nullable Future<?> job;
+    private @Nullable TradfriCommandQueue commandQueue;
 
     public TradfriCoapClient(URI uri) {
         super(uri);
         setTimeout(TIMEOUT);
     }
 
-    private void executeCommands() {
-        while (true) {
-            try {
-                synchronized (commandsQueue) {
-                    if (commandsQueue.isEmpty()) {
-                        return;
-                    }
-                    PayloadCallbackPair payloadCallbackPair = commandsQueue.poll();
-                    logger.debug("CoAP PUT request\nuri: {}\npayload: {}", getURI(), payloadCallbackPair.payload);
-                    put(new TradfriCoapHandler(payloadCallbackPair.callback), payloadCallbackPair.payload,
-                            MediaTypeRegistry.TEXT_PLAIN);
-                }
-                Thread.sleep(DEFAULT_DELAY_MILLIS);
-            } catch (InterruptedException e) {
-                logger.debug("commandExecutorThread was interrupted", e);
-            }
-        }
+    /**
+     * Sets the queue of the gateway, which is used to send PUT requests.
+     *
+     * @param commandQueue the command queue of the gateway
+     */
+    public void setCommandQueue(@Nullable TradfriCommandQueue commandQueue) {
+        this.commandQueue = commandQueue;
     }
 
     /**
@@ -97,53 +82,30 @@ public class TradfriCoapClient extends CoapClient {
     }
 
     /**
-     * Asynchronously executes a PUT on the resource with a payload, provides the result to a given callback
-     * and blocks sending new requests to the resource for specified amount of milliseconds.
+     * Asynchronously executes a PUT on the resource with a payload and provides the result to a given callback.
+     * The request is sent through the command queue of the gateway, a pending request setting the same attributes
+     * is replaced.
      *
      * @param payload the payload to send with the PUT request
      * @param callback the callback to use for the response
-     * @param scheduler scheduler to be used for sending commands
      */
-    public void asyncPut(String payload, CoapCallback callback, ScheduledExecutorService scheduler) {
-        asyncPut(new PayloadCallbackPair(payload, callback), scheduler);
-    }
-
-    /**
-     * Asynchronously executes a PUT on the resource with a payload and provides the result to a given callback.
-     *
-     * @param payloadCallbackPair object which holds the payload and callback process the PUT request
-     * @param scheduler scheduler to be used for sending commands
-     */
-    public void asyncPut(PayloadCallbackPair payloadCallbackPair, ScheduledExecutorService scheduler) {
-        synchronized (this.commandsQueue) {
-            if (this.commandsQueue.isEmpty()) {
-                this.commandsQueue.offer(payloadCallbackPair);
-                final Future<?> job = this.job;
-                if (job == null || job.isDone()) {
-                    this.job = scheduler.submit(() -> executeCommands());
-                }
-            } else {
-                this.commandsQueue.offer(payloadCallbackPair);
-            }
+    public void asyncPut(String payload, CoapCallback callback) {
+        final TradfriCommandQueue commandQueue = this.commandQueue;
+        if (commandQueue != null) {
+            commandQueue.submit(this, payload, callback);
+        } else {
+            logger.debug("CoAP PUT request\nuri: {}\npayload: {}", getURI(), payload);
+            put(new TradfriCoapHandler(callback), payload, MediaTypeRegistry.TEXT_PLAIN);
         }
     }
 
     @Override
     public void shutdown() {
-        if (job != null) {
-            job.cancel(true);
+        final TradfriCommandQueue commandQueue = this.commandQueue;
+        if (commandQueue != null) {
+            commandQueue.cancel(this);
         }
 
         super.shutdown();
     }
-
-    public final class PayloadCallbackPair {
-        public final String payload;
-        public final CoapCallback callback;
-
-        public PayloadCallbackPair(String payload, CoapCallback callback) {
-            this.payload = payload;
-            this.callback = callback;
-        }
-    }
 }
@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tradfri.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.californium.core.CoapHandler;
+import org.eclipse.californium.core.CoapResponse;
+import org.eclipse.californium.core.coap.MediaTypeRegistry;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link TradfriCommandQueue} sends the PUT requests of all devices of a gateway.
+ *
+ * Each device has at most one request in flight, requests for different devices are sent concurrently up to a
+ * configurable limit. A command which is still waiting replaces a pending command for the same device and the same
+ * attributes, so only the latest value of e.g. a dimmer slider is sent. The new command is queued at the end instead of
+ * taking the place of the replaced one, so the commands are sent in the order of their last update. A device which
+ * keeps receiving updates therefore can't delay commands for other devices, which were submitted in the meantime.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TradfriCommandQueue {
+
+    public static final int DEFAULT_MAX_CONCURRENT_COMMANDS = 3;
+    private static final int STATISTICS_INTERVAL = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(TradfriCommandQueue.class);
+    private final JsonParser parser = new JsonParser();
+
+    private final int maxConcurrentCommands;
+    private final Map<String, Command> pendingCommands = new LinkedHashMap<>();
+    private final Set<String> busyDevices = new HashSet<>();
+
+    private long submittedCount;
+    private long coalescedCount;
+    private long sentCount;
+    private long totalLatency;
+    private long maxLatency;
+
+    public TradfriCommandQueue(int maxConcurrentCommands) {
+        this.maxConcurrentCommands = Math.max(1, maxConcurrentCommands);
+    }
+
+    /**
+     * Queues a PUT request with a payload to the resource of the given client.
+     *
+     * @param client the client of the device
+     * @param payload the payload to send with the PUT request
+     * @param callback the callback to use for the response
+     */
+    public void submit(TradfriCoapClient client, String payload, CoapCallback callback) {
+        String device = client.getURI();
+        Command command = new Command(client, device, payload, callback);
+        synchronized (this) {
+            submittedCount++;
+            // a replaced command moves to the end, so it is not sent before commands submitted after it
+            String key = device + " " + getAttributeKey(payload);
+            Command replaced = pendingCommands.remove(key);
+            pendingCommands.put(key, command);
+            if (replaced != null) {
+                coalescedCount++;
+                logger.trace("Replaced pending payload {} for {}", replaced.payload, device);
+            }
+        }
+        sendCommands();
+    }
+
+    /**
+     * Removes all pending commands of a device, e.g. when its thing is disposed.
+     *
+     * @param client the client of the device
+     */
+    public synchronized void cancel(TradfriCoapClient client) {
+        String device = client.getURI();
+        pendingCommands.values().removeIf(command -> command.device.equals(device));
+    }
+
+    public synchronized long getSubmittedCount() {
+        return submittedCount;
+    }
+
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    public synchronized long getSentCount() {
+        return sentCount;
+    }
+
+    /**
+     * Returns the average time the sent commands have been waiting in the queue.
+     *
+     * @return average latency in milliseconds
+     */
+    public synchronized long getAverageLatency() {
+        return sentCount == 0 ? 0 : totalLatency / sentCount;
+    }
+
+    public synchronized long getMaxLatency() {
+        return maxLatency;
+    }
+
+    private void sendCommands() {
+        List<Command> commands = new ArrayList<>();
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            Iterator<Entry<String, Command>> iterator = pendingCommands.entrySet().iterator();
+            while (busyDevices.size() < maxConcurrentCommands && iterator.hasNext()) {
+                Command command = iterator.next().getValue();
+                if (busyDevices.add(command.device)) {
+                    iterator.remove();
+                    commands.add(command);
+
+                    long latency = now - command.submitted;
+                    sentCount++;
+                    totalLatency += latency;
+                    maxLatency = Math.max(maxLatency, latency);
+                    if (sentCount % STATISTICS_INTERVAL == 0) {
+                        logger.debug(
+                                "Command queue statistics: {} submitted, {} coalesced, {} sent, latency {} ms average, {} ms max",
+                                submittedCount, coalescedCount, sentCount, getAverageLatency(), maxLatency);
+                    }
+                }
+            }
+        }
+        for (Command command : commands) {
+            logger.debug("CoAP PUT request\nuri: {}\npayload: {}", command.device, command.payload);
+            command.client.put(new CommandHandler(command), command.payload, MediaTypeRegistry.TEXT_PLAIN);
+        }
+    }
+
+    private void completed(Command command) {
+        synchronized (this) {
+            busyDevices.remove(command.device);
+        }
+        sendCommands();
+    }
+
+    /**
+     * Returns the names of the attributes set by the payload, payloads with the same attributes replace each other.
+     */
+    private String getAttributeKey(String payload) {
+        try {
+            JsonElement json = parser.parse(payload);
+            if (json.isJsonObject()) {
+                Set<String> names = new TreeSet<>();
+                for (Entry<String, JsonElement> node : json.getAsJsonObject().entrySet()) {
+                    names.add(node.getKey());
+                    if (node.getValue().isJsonArray()) {
+                        for (JsonElement attributes : node.getValue().getAsJsonArray()) {
+                            if (attributes.isJsonObject()) {
+                                for (Entry<String, JsonElement> attribute : ((JsonObject) attributes).entrySet()) {
+                                    names.add(node.getKey() + "/" + attribute.getKey());
+                                }
+                            }
+                        }
+                    }
+                }
+                return names.toString();
+            }
+        } catch (JsonParseException e) {
+            logger.debug("Payload is no valid json: {}", payload);
+        }
+        // unknown payloads are never replaced
+        return payload;
+    }
+
+    private static class Command {
+        private final TradfriCoapClient client;
+        private final String device;
+        private final String payload;
+        private final CoapCallback callback;
+        private final long submitted = System.currentTimeMillis();
+
+        public Command(TradfriCoapClient client, String device, String payload, CoapCallback callback) {
+            this.client = client;
+            this.device = device;
+            this.payload = payload;
+            this.callback = callback;
+        }
+    }
+
+    /**
+     * Passes the response to the callback of the command and frees the device for the next command.
+     */
+    private class CommandHandler implements CoapHandler {
+        private final Command command;
+        private final TradfriCoapHandler handler;
+
+        public CommandHandler(Command command) {
+            this.command = command;
+            this.handler = new TradfriCoapHandler(command.callback);
+        }
+
+        @Override
+        public void onLoad(@Nullable CoapResponse response) {
+            try {
+                handler.onLoad(response);
+            } finally {
+                completed(command);
+            }
+        }
+
+        @Override
+        public void onError() {
+            try {
+                handler.onError();
+            } finally {
+                completed(command);
+            }
+        }
+    }
+}
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.tradfri.internal.config;
 
+import org.openhab.binding.tradfri.internal.TradfriCommandQueue;
+
 /**
  * Configuration class for the gateway.
  *
@@ -24,4 +26,5 @@ public class TradfriGatewayConfig {
     public String code;
     public String identity;
     public String preSharedKey;
+    public int maxConcurrentCommands = TradfriCommandQueue.DEFAULT_MAX_CONCURRENT_COMMANDS;
 }
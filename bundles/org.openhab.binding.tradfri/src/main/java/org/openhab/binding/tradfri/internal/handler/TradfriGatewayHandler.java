@@ -49,6 +49,7 @@ import org.openhab.binding.tradfri.internal.DeviceUpdateListener;
 import org.openhab.binding.tradfri.internal.TradfriBindingConstants;
 import org.openhab.binding.tradfri.internal.TradfriCoapClient;
 import org.openhab.binding.tradfri.internal.TradfriCoapHandler;
+import org.openhab.binding.tradfri.internal.TradfriCommandQueue;
 import org.openhab.binding.tradfri.internal.config.TradfriGatewayConfig;
 import org.openhab.binding.tradfri.internal.discovery.TradfriDiscoveryService;
 import org.openhab.binding.tradfri.internal.model.TradfriVersion;
@@ -80,6 +81,7 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
     private @NonNullByDefault({}) String gatewayInfoURI;
     private @NonNullByDefault({}) DTLSConnector dtlsConnector;
     private @Nullable CoapEndpoint endPoint;
+    private @Nullable TradfriCommandQueue commandQueue;
 
     private final Set<DeviceUpdateListener> deviceUpdateListeners = new CopyOnWriteArraySet<>();
 
@@ -161,6 +163,7 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
         dtlsConnector = new DTLSConnector(builder.build());
         endPoint = new CoapEndpoint.Builder().setConnector(dtlsConnector).build();
         deviceClient.setEndpoint(endPoint);
+        commandQueue = new TradfriCommandQueue(configuration.maxConcurrentCommands);
         updateStatus(ThingStatus.UNKNOWN);
 
         // schedule a new scan every minute
@@ -269,6 +272,7 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
             endPoint.destroy();
             endPoint = null;
         }
+        commandQueue = null;
         if (deviceClient != null) {
             deviceClient.shutdown();
             deviceClient = null;
@@ -305,6 +309,15 @@ public class TradfriGatewayHandler extends BaseBridgeHandler implements CoapCall
         return endPoint;
     }
 
+    /**
+     * Returns the queue for sending commands to the devices of the gateway.
+     *
+     * @return the command queue
+     */
+    public @Nullable TradfriCommandQueue getCommandQueue() {
+        return commandQueue;
+    }
+
     @Override
     public void onUpdate(JsonElement data) {
         logger.debug("onUpdate response: {}", data);
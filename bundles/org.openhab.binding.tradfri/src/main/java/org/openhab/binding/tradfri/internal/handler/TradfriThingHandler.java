@@ -71,6 +71,7 @@ public abstract class TradfriThingHandler extends BaseThingHandler implements Co
             URI uri = new URI(uriString);
             coapClient = new TradfriCoapClient(uri);
             coapClient.setEndpoint(handler.getEndpoint());
+            coapClient.setCommandQueue(handler.getCommandQueue());
         } catch (URISyntaxException e) {
             logger.debug("Illegal device URI `{}`: {}", uriString, e.getMessage());
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
@@ -135,7 +136,7 @@ public abstract class TradfriThingHandler extends BaseThingHandler implements Co
 
     protected void set(String payload) {
         logger.debug("Sending payload: {}", payload);
-        coapClient.asyncPut(payload, this, scheduler);
+        coapClient.asyncPut(payload, this);
     }
 
     protected void updateDeviceProperties(TradfriDeviceData state) {
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tradfri.internal;
+
+import static org.junit.Assert.*;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.californium.core.CoapHandler;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.thing.ThingStatus;
+import org.eclipse.smarthome.core.thing.ThingStatusDetail;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Tests for {@link TradfriCommandQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TradfriCommandQueueTest {
+
+    private static final String BRIGHTNESS = "{\"3311\":[{\"5851\":%d,\"5712\":1}]}";
+    private static final String ON = "{\"3311\":[{\"5850\":1}]}";
+    private static final String OFF = "{\"3311\":[{\"5850\":0}]}";
+
+    private final List<String> sent = new ArrayList<>();
+    private final List<CoapHandler> handlers = new ArrayList<>();
+
+    private final CoapCallback callback = new CoapCallback() {
+        @Override
+        public void onUpdate(JsonElement data) {
+        }
+
+        @Override
+        public void setStatus(ThingStatus status, ThingStatusDetail statusDetail) {
+        }
+    };
+
+    @Test
+    public void testPendingCommandIsReplaced() {
+        TradfriCommandQueue queue = new TradfriCommandQueue(1);
+        TradfriCoapClient bulb = createClient(65537);
+
+        for (int i = 1; i <= 20; i++) {
+            queue.submit(bulb, String.format(BRIGHTNESS, i), callback);
+        }
+        queue.submit(bulb, ON, callback);
+        assertEquals(1, sent.size());
+
+        completeAll();
+        completeAll();
+        assertEquals(3, sent.size());
+        assertEquals(String.format(BRIGHTNESS, 20), sent.get(1));
+        assertEquals(ON, sent.get(2));
+        assertEquals(21, queue.getSubmittedCount());
+        assertEquals(18, queue.getCoalescedCount());
+        assertEquals(3, queue.getSentCount());
+    }
+
+    @Test
+    public void testReplacedCommandIsSentAfterLaterCommands() {
+        TradfriCommandQueue queue = new TradfriCommandQueue(1);
+        TradfriCoapClient bulb = createClient(65537);
+        queue.submit(bulb, String.format(BRIGHTNESS, 10), callback);
+        queue.submit(bulb, String.format(BRIGHTNESS, 20), callback);
+        queue.submit(bulb, OFF, callback);
+        queue.submit(bulb, String.format(BRIGHTNESS, 30), callback);
+
+        completeAll();
+        completeAll();
+        assertEquals(3, sent.size());
+        assertEquals(OFF, sent.get(1));
+        assertEquals(String.format(BRIGHTNESS, 30), sent.get(2));
+        assertEquals(1, queue.getCoalescedCount());
+    }
+
+    @Test
+    public void testDevicesAreSentConcurrently() {
+        TradfriCommandQueue queue = new TradfriCommandQueue(3);
+        for (int i = 0; i < 5; i++) {
+            queue.submit(createClient(65537 + i), String.format(BRIGHTNESS, i), callback);
+        }
+        assertEquals(3, sent.size());
+
+        completeAll();
+        assertEquals(5, sent.size());
+    }
+
+    @Test
+    public void testOneCommandPerDeviceInFlight() {
+        TradfriCommandQueue queue = new TradfriCommandQueue(3);
+        TradfriCoapClient bulb = createClient(65537);
+        queue.submit(bulb, String.format(BRIGHTNESS, 10), callback);
+        queue.submit(bulb, ON, callback);
+        assertEquals(1, sent.size());
+
+        handlers.remove(0).onError();
+        assertEquals(2, sent.size());
+    }
+
+    @Test
+    public void testCancelRemovesPendingCommands() {
+        TradfriCommandQueue queue = new TradfriCommandQueue(1);
+        TradfriCoapClient bulb = createClient(65537);
+        queue.submit(bulb, String.format(BRIGHTNESS, 10), callback);
+        queue.submit(bulb, ON, callback);
+        queue.cancel(bulb);
+
+        completeAll();
+        assertEquals(1, sent.size());
+    }
+
+    private void completeAll() {
+        List<CoapHandler> inFlight = new ArrayList<>(handlers);
+        handlers.clear();
+        inFlight.forEach(handler -> handler.onLoad(null));
+    }
+
+    private TradfriCoapClient createClient(int id) {
+        return new TradfriCoapClient(URI.create("coaps://127.0.0.1:5684/15001/" + id)) {
+            @Override
+            public void put(CoapHandler handler, String payload, int format) {
+                sent.add(payload);
+                handlers.add(handler);
+            }
+        };
+    }
+}
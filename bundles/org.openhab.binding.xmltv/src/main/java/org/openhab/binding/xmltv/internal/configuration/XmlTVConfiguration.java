@@ -22,4 +22,5 @@ public class XmlTVConfiguration {
     public String filePath;
     public Integer refresh;
     public String encoding;
+    public Integer window = 48;
 }
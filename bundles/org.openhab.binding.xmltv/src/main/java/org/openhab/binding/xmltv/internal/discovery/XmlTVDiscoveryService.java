@@ -23,7 +23,6 @@ import org.eclipse.smarthome.core.thing.ThingUID;
 import org.openhab.binding.xmltv.internal.XmlTVBindingConstants;
 import org.openhab.binding.xmltv.internal.configuration.XmlChannelConfiguration;
 import org.openhab.binding.xmltv.internal.handler.XmlTVHandler;
-import org.openhab.binding.xmltv.internal.jaxb.Tv;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,21 +52,18 @@ public class XmlTVDiscoveryService extends AbstractDiscoveryService {
     protected void startScan() {
         logger.debug("Starting XmlTV discovery scan");
         if (bridgeHandler.getThing().getStatus() == ThingStatus.ONLINE) {
-            Tv tv = bridgeHandler.getXmlFile();
-            if (tv != null) {
-                tv.getMediaChannels().stream().forEach(channel -> {
-                    String channelId = channel.getId();
-                    String uid = channelId.replaceAll("[^A-Za-z0-9_]", "_");
-                    ThingUID thingUID = new ThingUID(XMLTV_CHANNEL_THING_TYPE, bridgeHandler.getThing().getUID(), uid);
+            bridgeHandler.getMediaChannels().stream().forEach(channel -> {
+                String channelId = channel.getId();
+                String uid = channelId.replaceAll("[^A-Za-z0-9_]", "_");
+                ThingUID thingUID = new ThingUID(XMLTV_CHANNEL_THING_TYPE, bridgeHandler.getThing().getUID(), uid);
 
-                    DiscoveryResult discoveryResult = DiscoveryResultBuilder.create(thingUID)
-                            .withBridge(bridgeHandler.getThing().getUID())
-                            .withLabel(channel.getDisplayNames().get(0).getValue()).withRepresentationProperty(uid)
-                            .withProperty(XmlChannelConfiguration.CHANNEL_ID, channelId).build();
+                DiscoveryResult discoveryResult = DiscoveryResultBuilder.create(thingUID)
+                        .withBridge(bridgeHandler.getThing().getUID())
+                        .withLabel(channel.getDisplayNames().get(0).getValue()).withRepresentationProperty(uid)
+                        .withProperty(XmlChannelConfiguration.CHANNEL_ID, channelId).build();
 
-                    thingDiscovered(discoveryResult);
-                });
-            }
+                thingDiscovered(discoveryResult);
+            });
         }
     }
 }
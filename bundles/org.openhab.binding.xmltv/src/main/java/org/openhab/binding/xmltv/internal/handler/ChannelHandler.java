@@ -18,8 +18,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -46,7 +47,6 @@ import org.openhab.binding.xmltv.internal.configuration.XmlChannelConfiguration;
 import org.openhab.binding.xmltv.internal.jaxb.Icon;
 import org.openhab.binding.xmltv.internal.jaxb.MediaChannel;
 import org.openhab.binding.xmltv.internal.jaxb.Programme;
-import org.openhab.binding.xmltv.internal.jaxb.Tv;
 import org.openhab.binding.xmltv.internal.jaxb.WithLangType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,11 +61,22 @@ import org.slf4j.LoggerFactory;
 public class ChannelHandler extends BaseThingHandler {
     private final Logger logger = LoggerFactory.getLogger(ChannelHandler.class);
 
+    private static final int MAX_CACHED_ICONS = 4;
+
     private @NonNullByDefault({}) ScheduledFuture<?> globalJob;
     private @Nullable MediaChannel mediaChannel;
-    private @Nullable RawType mediaIcon = new RawType(new byte[0], RawType.DEFAULT_MIME_TYPE);
+    private @Nullable ProgrammeIndex programmes;
+
+    // icons are only downloaded when a linked channel needs them, the cache keeps them until the programme changes
+    private final Map<String, @Nullable RawType> iconCache = new LinkedHashMap<String, @Nullable RawType>(8, 0.75f,
+            true) {
+        private static final long serialVersionUID = 1L;
 
-    public final List<Programme> programmes = new ArrayList<>();
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, @Nullable RawType> eldest) {
+            return size() > MAX_CACHED_ICONS;
+        }
+    };
 
     public ChannelHandler(Thing thing) {
         super(thing);
@@ -79,18 +90,9 @@ public class ChannelHandler extends BaseThingHandler {
 
         if (globalJob == null || globalJob.isCancelled()) {
             globalJob = scheduler.scheduleWithFixedDelay(() -> {
-                if (programmes.size() < 2) {
-                    refreshProgramList();
-                }
-                if (programmes.isEmpty()) {
-                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.NONE,
-                            "No programmes to come in the current XML file for this channel");
-                } else if (Instant.now().isAfter(programmes.get(0).getProgrammeStop())) {
-                    programmes.remove(0);
-                }
-
-                getThing().getChannels().forEach(channel -> updateChannel(channel.getUID()));
-
+                refreshProgramList();
+                getThing().getChannels().stream().filter(channel -> isLinked(channel.getUID()))
+                        .forEach(channel -> updateChannel(channel.getUID()));
             }, 3, config.refresh, TimeUnit.SECONDS);
         }
     }
@@ -100,27 +102,23 @@ public class ChannelHandler extends BaseThingHandler {
         if (bridge != null && bridge.getStatus() == ThingStatus.ONLINE) {
             XmlTVHandler handler = (XmlTVHandler) bridge.getHandler();
             if (handler != null) {
-                Tv tv = handler.getXmlFile();
-                if (tv != null) {
-                    String channelId = (String) getConfig().get(XmlChannelConfiguration.CHANNEL_ID);
-
-                    if (mediaChannel == null) {
-                        Optional<MediaChannel> channel = tv.getMediaChannels().stream()
-                                .filter(mediaChannel -> mediaChannel.getId().equals(channelId)).findFirst();
-                        if (channel.isPresent()) {
-                            mediaChannel = channel.get();
-                            mediaIcon = downloadIcon(mediaChannel.getIcons());
-                        }
-                    }
+                String channelId = (String) getConfig().get(XmlChannelConfiguration.CHANNEL_ID);
 
-                    programmes.clear();
-                    tv.getProgrammes().stream().filter(
-                            p -> p.getChannel().equals(channelId) && p.getProgrammeStop().isAfter(Instant.now()))
-                            .forEach(p -> programmes.add(p));
+                if (mediaChannel == null) {
+                    Optional<MediaChannel> channel = handler.getMediaChannels().stream()
+                            .filter(mediaChannel -> mediaChannel.getId().equals(channelId)).findFirst();
+                    if (channel.isPresent()) {
+                        mediaChannel = channel.get();
+                    }
+                }
 
+                ProgrammeIndex index = handler.getProgrammes(channelId);
+                programmes = index;
+                if (index != null && index.indexOf(Instant.now()) < index.size()) {
                     updateStatus(ThingStatus.ONLINE);
                 } else {
-                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.NONE, "No file available");
+                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.NONE,
+                            "No programmes to come in the current XML file for this channel");
                 }
             } else {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE);
@@ -156,14 +154,17 @@ public class ChannelHandler extends BaseThingHandler {
         String[] uidElements = channelUID.getId().split("#");
         if (uidElements.length == 2) {
             int target = GROUP_NEXT_PROGRAMME.equals(uidElements[0]) ? 1 : 0;
-            if (programmes.size() > target) {
-                Programme programme = programmes.get(target);
+            ProgrammeIndex programmes = this.programmes;
+            Programme programme = programmes != null ? programmes.get(programmes.indexOf(Instant.now()) + target)
+                    : null;
+            if (programme != null) {
 
                 switch (uidElements[1]) {
                     case CHANNEL_ICON:
                         State icon = null;
                         if (GROUP_CHANNEL_PROPERTIES.equals(uidElements[0])) {
-                            icon = mediaIcon;
+                            MediaChannel channel = mediaChannel;
+                            icon = channel != null ? downloadIcon(channel.getIcons()) : null;
                         } else {
                             icon = downloadIcon(programme.getIcons());
                         }
@@ -242,7 +243,12 @@ public class ChannelHandler extends BaseThingHandler {
     private @Nullable RawType downloadIcon(List<Icon> icons) {
         if (!icons.isEmpty()) {
             String url = icons.get(0).getSrc();
-            return HttpUtil.downloadImage(url);
+            synchronized (iconCache) {
+                if (!iconCache.containsKey(url)) {
+                    iconCache.put(url, HttpUtil.downloadImage(url));
+                }
+                return iconCache.get(url);
+            }
         }
         return null;
     }
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.xmltv.internal.handler;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.xmltv.internal.jaxb.Programme;
+
+/**
+ * The {@link ProgrammeIndex} holds the programmes of one channel sorted
+ * by starting instant, programmes at a given instant are found by binary search
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ProgrammeIndex {
+    private final Programme[] programmes;
+
+    public ProgrammeIndex(List<Programme> programmes) {
+        this.programmes = programmes.toArray(new Programme[programmes.size()]);
+        Arrays.sort(this.programmes, Comparator.comparing(Programme::getProgrammeStart));
+    }
+
+    /**
+     * Returns the position of the first programme which is not finished at the given instant,
+     * this is the running programme or, between two programmes, the next one
+     *
+     * @param instant the instant to search for
+     * @return position of the programme, equals to {@link #size()} if all programmes are finished
+     */
+    public int indexOf(Instant instant) {
+        // search the last programme started before or at instant
+        int low = 0;
+        int high = programmes.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (programmes[middle].getProgrammeStart().isAfter(instant)) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+        int index = high;
+        if (index < 0 || !instant.isBefore(programmes[index].getProgrammeStop())) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the programme at the given position, or null if there is none
+     */
+    public @Nullable Programme get(int index) {
+        return index >= 0 && index < programmes.length ? programmes[index] : null;
+    }
+
+    public int size() {
+        return programmes.length;
+    }
+}
@@ -12,12 +12,19 @@
  */
 package org.openhab.binding.xmltv.internal.handler;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -25,6 +32,7 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 
@@ -37,6 +45,7 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.xmltv.internal.configuration.XmlTVConfiguration;
+import org.openhab.binding.xmltv.internal.jaxb.MediaChannel;
 import org.openhab.binding.xmltv.internal.jaxb.Programme;
 import org.openhab.binding.xmltv.internal.jaxb.Tv;
 import org.slf4j.Logger;
@@ -50,11 +59,15 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class XmlTVHandler extends BaseBridgeHandler {
+    private static final String CHANNEL_ELEMENT = "channel";
+    private static final String PROGRAMME_ELEMENT = "programme";
+
     private final Logger logger = LoggerFactory.getLogger(XmlTVHandler.class);
     private final XMLInputFactory xif = XMLInputFactory.newFactory();
     private final JAXBContext jc;
 
-    private @Nullable Tv currentXmlFile;
+    private volatile List<MediaChannel> mediaChannels = Collections.emptyList();
+    private volatile Map<String, ProgrammeIndex> programmes = Collections.emptyMap();
     private @NonNullByDefault({}) ScheduledFuture<?> reloadJob;
 
     public XmlTVHandler(Bridge thing) throws JAXBException {
@@ -68,44 +81,91 @@ public class XmlTVHandler extends BaseBridgeHandler {
         XmlTVConfiguration config = getConfigAs(XmlTVConfiguration.class);
         logger.debug("Initializing {} for input file '{}'", getClass(), config.filePath);
 
-        reloadJob = scheduler.scheduleWithFixedDelay(() -> {
-            currentXmlFile = null;
-            XMLStreamReader xsr = null;
-            try {
-                // This can take some seconds depending upon weight of the XmlTV source file
-                xsr = xif.createXMLStreamReader(new FileInputStream(new File(config.filePath)), config.encoding);
-
-                try {
-                    Unmarshaller unmarshaller = jc.createUnmarshaller();
-                    Tv xmlFile = (Tv) unmarshaller.unmarshal(xsr);
-                    // Remove all finished programmes
-                    xmlFile.getProgrammes().removeIf(programme -> Instant.now().isAfter(programme.getProgrammeStop()));
-
-                    if (!xmlFile.getProgrammes().isEmpty()) {
-                        // Sort programmes by starting instant
-                        Collections.sort(xmlFile.getProgrammes(), Comparator.comparing(Programme::getProgrammeStart));
-                        // Ready to deliver data to ChannelHandlers
-                        currentXmlFile = xmlFile;
-                        updateStatus(ThingStatus.ONLINE);
+        reloadJob = scheduler.scheduleWithFixedDelay(() -> loadFile(config), 0, config.refresh, TimeUnit.HOURS);
+    }
+
+    /**
+     * Streams the XMLTV file and only keeps the programmes of the configured window, the window
+     * covers at least the time until the next reload
+     */
+    private void loadFile(XmlTVConfiguration config) {
+        long loadStart = System.currentTimeMillis();
+        Instant now = Instant.now();
+        Instant windowEnd = now.plus(Math.max(config.window, config.refresh + 1), ChronoUnit.HOURS);
+        List<MediaChannel> channels = new ArrayList<>();
+        Map<String, List<Programme>> channelProgrammes = new HashMap<>();
+        int skipped = 0;
+
+        XMLStreamReader xsr = null;
+        try (InputStream input = new BufferedInputStream(new FileInputStream(new File(config.filePath)))) {
+            // This can take some seconds depending upon weight of the XmlTV source file
+            xsr = xif.createXMLStreamReader(input, config.encoding);
+            Unmarshaller unmarshaller = jc.createUnmarshaller();
+
+            int event = xsr.next();
+            while (event != XMLStreamConstants.END_DOCUMENT) {
+                if (event == XMLStreamConstants.START_ELEMENT && PROGRAMME_ELEMENT.equals(xsr.getLocalName())) {
+                    // the reader is positioned after the element once it has been unmarshalled
+                    Programme programme = unmarshaller.unmarshal(xsr, Programme.class).getValue();
+                    if (isInWindow(programme, now, windowEnd)) {
+                        channelProgrammes.computeIfAbsent(programme.getChannel(), k -> new ArrayList<>())
+                                .add(programme);
                     } else {
-                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.DISABLED, "XMLTV file seems outdated");
+                        skipped++;
                     }
+                    event = xsr.getEventType();
+                } else if (event == XMLStreamConstants.START_ELEMENT && CHANNEL_ELEMENT.equals(xsr.getLocalName())) {
+                    channels.add(unmarshaller.unmarshal(xsr, MediaChannel.class).getValue());
+                    event = xsr.getEventType();
+                } else {
+                    event = xsr.next();
+                }
+            }
+        } catch (JAXBException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.HANDLER_INITIALIZING_ERROR, e.getMessage());
+            return;
+        } catch (XMLStreamException | IOException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+            return;
+        } finally {
+            try {
+                if (xsr != null) {
                     xsr.close();
-                } catch (JAXBException e) {
-                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.HANDLER_INITIALIZING_ERROR, e.getMessage());
                 }
-            } catch (XMLStreamException | FileNotFoundException e) {
+            } catch (XMLStreamException e) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
-            } finally {
-                try {
-                    if (xsr != null) {
-                        xsr.close();
-                    }
-                } catch (XMLStreamException e) {
-                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
-                }
             }
-        }, 0, config.refresh, TimeUnit.HOURS);
+        }
+
+        Map<String, ProgrammeIndex> indexes = new HashMap<>();
+        channelProgrammes.forEach((channelId, list) -> indexes.put(channelId, new ProgrammeIndex(list)));
+        // Ready to deliver data to ChannelHandlers
+        mediaChannels = channels;
+        programmes = indexes;
+
+        if (logger.isDebugEnabled()) {
+            Runtime runtime = Runtime.getRuntime();
+            logger.debug("Loaded {} channels and {} programmes until {} in {} ms, skipped {} programmes, heap {} MB",
+                    channels.size(), channelProgrammes.values().stream().mapToInt(List::size).sum(), windowEnd,
+                    System.currentTimeMillis() - loadStart, skipped,
+                    (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+        }
+
+        if (!indexes.isEmpty()) {
+            updateStatus(ThingStatus.ONLINE);
+        } else {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.DISABLED, "XMLTV file seems outdated");
+        }
+    }
+
+    private boolean isInWindow(Programme programme, Instant now, Instant windowEnd) {
+        try {
+            return programme.getProgrammeStop().isAfter(now) && programme.getProgrammeStart().isBefore(windowEnd);
+        } catch (DateTimeParseException e) {
+            logger.debug("Ignoring programme of channel '{}' without valid start and stop: {}", programme.getChannel(),
+                    e.getMessage());
+            return false;
+        }
     }
 
     @Override
@@ -122,8 +182,14 @@ public class XmlTVHandler extends BaseBridgeHandler {
         // nothing to do
     }
 
-    @Nullable
-    public Tv getXmlFile() {
-        return currentXmlFile;
+    public List<MediaChannel> getMediaChannels() {
+        return mediaChannels;
+    }
+
+    /**
+     * Returns the programmes of the given channel within the loaded window, or null if there are none
+     */
+    public @Nullable ProgrammeIndex getProgrammes(String channelId) {
+        return programmes.get(channelId);
     }
 }
@@ -27,6 +27,7 @@ import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * Java class for a programme XML element
@@ -58,6 +59,10 @@ public class Programme {
     @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
     protected String channel = "";
 
+    // parsed dates, the programmes are kept in memory until the next reload
+    private transient @Nullable Instant programmeStart;
+    private transient @Nullable Instant programmeStop;
+
     public List<WithLangType> getTitles() {
         return titles;
     }
@@ -67,13 +72,21 @@ public class Programme {
     }
 
     public Instant getProgrammeStart() {
-        long epoch = iso860DateToEpoch(start);
-        return Instant.ofEpochMilli(epoch);
+        Instant result = programmeStart;
+        if (result == null) {
+            result = Instant.ofEpochMilli(iso860DateToEpoch(start));
+            programmeStart = result;
+        }
+        return result;
     }
 
     public Instant getProgrammeStop() {
-        long epoch = iso860DateToEpoch(stop);
-        return Instant.ofEpochMilli(epoch);
+        Instant result = programmeStop;
+        if (result == null) {
+            result = Instant.ofEpochMilli(iso860DateToEpoch(stop));
+            programmeStop = result;
+        }
+        return result;
     }
 
     private long iso860DateToEpoch(String date) {
@@ -12,6 +12,7 @@
  */
 package org.openhab.io.openhabcloud.internal;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -19,29 +20,38 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Request.FailureListener;
 import org.eclipse.jetty.client.api.Response;
-import org.eclipse.jetty.client.api.Response.ContentListener;
+import org.eclipse.jetty.client.api.Response.AsyncContentListener;
 import org.eclipse.jetty.client.api.Response.HeadersListener;
 import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BytesContentProvider;
 import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.openhab.core.OpenHAB;
@@ -53,6 +63,7 @@ import io.socket.client.Manager;
 import io.socket.client.Socket;
 import io.socket.emitter.Emitter;
 import io.socket.engineio.client.Transport;
+import io.socket.thread.EventThread;
 
 /**
  * This class provides communication between openHAB and the openHAB Cloud service.
@@ -67,11 +78,36 @@ import io.socket.engineio.client.Transport;
  */
 
 public class CloudClient {
+    private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
+
+    /*
+     * Proxied response content is sent as soon as this many bytes have been received
+     */
+    private static final int MAX_CONTENT_CHUNK_SIZE = 64 * 1024;
+
+    /*
+     * Proxied response content is sent at the latest this many milliseconds after it has been received
+     */
+    private static final long CONTENT_FLUSH_DELAY = 10;
+
+    /*
+     * At most this many requests to local openHAB run at the same time, further requests wait until a running request
+     * has completed
+     */
+    private static final int MAX_RUNNING_REQUESTS = 50;
+
+    /*
+     * Request latencies are recorded for at most this many paths
+     */
+    private static final int MAX_STATISTICS_PATHS = 64;
+
     /*
      * Logger for this class
      */
     private Logger logger = LoggerFactory.getLogger(CloudClient.class);
 
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD);
+
     /*
      * This variable holds base URL for the openHAB Cloud connections
      */
@@ -98,9 +134,27 @@ public class CloudClient {
     private final HttpClient jettyClient;
 
     /*
-     * This hashmap holds HTTP requests to local openHAB which are currently running
+     * This map holds HTTP requests to local openHAB which are currently running. It is accessed from the Socket.IO
+     * and the Jetty threads.
      */
-    private Map<Integer, Request> runningRequests;
+    private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
+
+    /*
+     * This map holds HTTP requests to local openHAB which wait for a running request to complete, in the order they
+     * have been received. It is also used to synchronize starting requests.
+     */
+    private final Map<Integer, ResponseListener> queuedRequests = new LinkedHashMap<>();
+
+    /*
+     * This variable holds the responses to requests for static resources
+     */
+    private final ResponseCache responseCache = new ResponseCache();
+    private final AtomicLong cachedResponsesSent = new AtomicLong();
+
+    /*
+     * This map holds the latency statistics of the proxied requests by the first segment of their path
+     */
+    private final Map<String, RequestStatistics> requestStatistics = new ConcurrentHashMap<>();
 
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
@@ -131,6 +185,30 @@ public class CloudClient {
     private boolean remoteAccessEnabled;
     private Set<String> exposedItems;
 
+    /*
+     * Item updates are collected for this many milliseconds before they are sent, only the latest state of an item
+     * is sent. 0 sends every item update immediately.
+     */
+    private final int itemUpdateDelay;
+
+    /*
+     * Send the collected item updates in a single itemupdates event instead of one itemupdate event per item
+     */
+    private final boolean batchItemUpdates;
+
+    /*
+     * The latest states of the items which have not been sent yet, in the order of their first update
+     */
+    private final Map<String, String> pendingItemUpdates = new LinkedHashMap<>();
+    private ScheduledFuture<?> itemUpdateJob;
+
+    /*
+     * Statistics of the events sent to the openHAB Cloud. The payload only counts item names and states and the
+     * proxied response content.
+     */
+    private final AtomicLong eventsSent = new AtomicLong();
+    private final AtomicLong payloadBytesSent = new AtomicLong();
+
     /**
      * Constructor of CloudClient
      *
@@ -138,16 +216,20 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param itemUpdateDelay Time in milliseconds item updates are collected before they are sent, 0 to send them
+     *            immediately
+     * @param batchItemUpdates Send the collected item updates in a single event
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, int itemUpdateDelay, boolean batchItemUpdates) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
-        runningRequests = new HashMap<>();
+        this.itemUpdateDelay = itemUpdateDelay;
+        this.batchItemUpdates = batchItemUpdates;
         this.jettyClient = httpClient;
     }
 
@@ -241,10 +323,16 @@ public class CloudClient {
         logger.info("Disconnected from the openHAB Cloud service (UUID = {}, base URL = {})", this.uuid,
                 this.localBaseUrl);
         isConnected = false;
-        // And clean up the list of running requests
-        if (runningRequests != null) {
+        // And abort the running requests and clean up the list of queued requests
+        List<Request> requests;
+        synchronized (queuedRequests) {
+            queuedRequests.clear();
+            requests = new ArrayList<>(runningRequests.values());
             runningRequests.clear();
         }
+        for (Request request : requests) {
+            request.abort(new InterruptedException());
+        }
     }
 
     /**
@@ -309,6 +397,15 @@ public class CloudClient {
             }
             // Finally get the future request URI
             URI requestUri = new URI(newPath);
+            // Static resources may be served from the cache
+            boolean cacheable = ResponseCache.isCacheable(requestMethod, requestPath);
+            if (cacheable) {
+                ResponseCache.CachedResponse cachedResponse = responseCache.get(newPath);
+                if (cachedResponse != null) {
+                    sendCachedResponse(requestId, cachedResponse);
+                    return;
+                }
+            }
             // All preparations which are common for different methods are done
             // Now perform the request to openHAB
             // If method is GET
@@ -334,16 +431,87 @@ public class CloudClient {
                 logger.warn("Unsupported request method {}", requestMethod);
                 return;
             }
-            ResponseListener listener = new ResponseListener(requestId);
-            request.onResponseHeaders(listener).onResponseContent(listener).onRequestFailure(listener).send(listener);
-            // If successfully submitted request to http client, add it to the list of currently
-            // running requests to be able to cancel it if needed
-            runningRequests.put(requestId, request);
+            ResponseListener listener = new ResponseListener(requestId, request, requestPath,
+                    cacheable ? newPath : null);
+            request.onResponseHeaders(listener).onResponseContentAsync(listener).onRequestFailure(listener);
+            submitRequest(listener);
         } catch (JSONException | IOException | URISyntaxException e) {
             logger.debug("{}", e.getMessage());
         }
     }
 
+    /*
+     * Sends a request to local openHAB, or queues it if too many requests are running
+     */
+    private void submitRequest(ResponseListener listener) {
+        synchronized (queuedRequests) {
+            if (runningRequests.size() >= MAX_RUNNING_REQUESTS) {
+                logger.debug("{} requests are running, queueing request {}", runningRequests.size(),
+                        listener.mRequestId);
+                queuedRequests.put(listener.mRequestId, listener);
+                return;
+            }
+            // Add the request to the list of currently running requests to be able to cancel it if needed
+            runningRequests.put(listener.mRequestId, listener.mRequest);
+        }
+        listener.mRequest.send(listener);
+    }
+
+    /*
+     * Sends queued requests to local openHAB as long as not too many requests are running
+     */
+    private void sendQueuedRequests() {
+        while (true) {
+            ResponseListener listener;
+            synchronized (queuedRequests) {
+                if (queuedRequests.isEmpty() || runningRequests.size() >= MAX_RUNNING_REQUESTS) {
+                    return;
+                }
+                Iterator<ResponseListener> iterator = queuedRequests.values().iterator();
+                listener = iterator.next();
+                iterator.remove();
+                runningRequests.put(listener.mRequestId, listener.mRequest);
+            }
+            logger.debug("Sending queued request {}", listener.mRequestId);
+            listener.mRequest.send(listener);
+        }
+    }
+
+    private void sendCachedResponse(int requestId, ResponseCache.CachedResponse cachedResponse) {
+        try {
+            JSONObject responseJson = new JSONObject();
+            responseJson.put("id", requestId);
+            responseJson.put("headers", cachedResponse.headers);
+            responseJson.put("responseStatusCode", cachedResponse.statusCode);
+            responseJson.put("responseStatusText", "OK");
+            emit("responseHeader", responseJson, 0);
+
+            if (cachedResponse.body.length > 0) {
+                JSONObject contentJson = new JSONObject();
+                contentJson.put("id", requestId);
+                contentJson.put("body", cachedResponse.body);
+                emit("responseContentBinary", contentJson, cachedResponse.body.length);
+            }
+
+            JSONObject finishedJson = new JSONObject();
+            finishedJson.put("id", requestId);
+            emit("responseFinished", finishedJson, 0);
+            cachedResponsesSent.incrementAndGet();
+            logger.debug("Sent cached response to request {}", requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    private void recordRequestTime(String requestPath, long time) {
+        int end = requestPath.indexOf('/', 1);
+        String path = end > 0 ? requestPath.substring(0, end) : requestPath;
+        if (requestStatistics.size() >= MAX_STATISTICS_PATHS && !requestStatistics.containsKey(path)) {
+            path = "*";
+        }
+        requestStatistics.computeIfAbsent(path, p -> new RequestStatistics()).record(time);
+    }
+
     private void setRequestHeaders(Request request, JSONObject requestHeadersJson) {
         @SuppressWarnings("unchecked")
         Iterator<String> headersIterator = requestHeadersJson.keys();
@@ -367,11 +535,17 @@ public class CloudClient {
         try {
             int requestId = data.getInt("id");
             logger.debug("Received cancel for request {}", requestId);
-            // Find and abort running request
-            if (runningRequests.containsKey(requestId)) {
-                Request request = runningRequests.get(requestId);
+            // Find and remove queued request or abort running request
+            Request request;
+            synchronized (queuedRequests) {
+                if (queuedRequests.remove(requestId) != null) {
+                    logger.debug("Removed queued request {}", requestId);
+                    return;
+                }
+                request = runningRequests.remove(requestId);
+            }
+            if (request != null) {
                 request.abort(new InterruptedException());
-                runningRequests.remove(requestId);
             }
         } catch (JSONException e) {
             logger.debug("{}", e.getMessage());
@@ -411,7 +585,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("notification", notificationMessage);
+                emit("notification", notificationMessage, 0);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -435,7 +609,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("lognotification", notificationMessage);
+                emit("lognotification", notificationMessage, 0);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -459,7 +633,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("broadcastnotification", notificationMessage);
+                emit("broadcastnotification", notificationMessage, 0);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -477,20 +651,118 @@ public class CloudClient {
      */
     public void sendItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
-            logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
-            JSONObject itemUpdateMessage = new JSONObject();
+            if (itemUpdateDelay <= 0) {
+                logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
+                emitItemUpdate(itemName, itemState);
+                return;
+            }
+            synchronized (pendingItemUpdates) {
+                logger.trace("Queueing update '{}' for item '{}'", itemState, itemName);
+                pendingItemUpdates.put(itemName, itemState);
+                if (itemUpdateJob == null) {
+                    itemUpdateJob = scheduler.schedule(this::sendPendingItemUpdates, itemUpdateDelay,
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+        } else {
+            logger.debug("No connection, Item update is not sent");
+        }
+    }
+
+    private void sendPendingItemUpdates() {
+        Map<String, String> itemUpdates;
+        synchronized (pendingItemUpdates) {
+            itemUpdates = new LinkedHashMap<>(pendingItemUpdates);
+            pendingItemUpdates.clear();
+            itemUpdateJob = null;
+        }
+        if (!isConnected()) {
+            logger.debug("No connection, {} Item updates are not sent", itemUpdates.size());
+            return;
+        }
+
+        if (batchItemUpdates) {
+            logger.debug("Sending updates for {} items", itemUpdates.size());
+            JSONArray updates = new JSONArray();
+            int payloadSize = 0;
+            for (Map.Entry<String, String> itemUpdate : itemUpdates.entrySet()) {
+                JSONObject itemUpdateMessage = new JSONObject();
+                itemUpdateMessage.put("itemName", itemUpdate.getKey());
+                itemUpdateMessage.put("itemStatus", itemUpdate.getValue());
+                updates.put(itemUpdateMessage);
+                payloadSize += itemUpdate.getKey().length() + itemUpdate.getValue().length();
+            }
+            JSONObject itemUpdatesMessage = new JSONObject();
             try {
-                itemUpdateMessage.put("itemName", itemName);
-                itemUpdateMessage.put("itemStatus", itemState);
-                socket.emit("itemupdate", itemUpdateMessage);
+                itemUpdatesMessage.put("updates", updates);
+                emit("itemupdates", itemUpdatesMessage, payloadSize);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
         } else {
-            logger.debug("No connection, Item update is not sent");
+            for (Map.Entry<String, String> itemUpdate : itemUpdates.entrySet()) {
+                logger.debug("Sending update '{}' for item '{}'", itemUpdate.getValue(), itemUpdate.getKey());
+                emitItemUpdate(itemUpdate.getKey(), itemUpdate.getValue());
+            }
         }
     }
 
+    private void emitItemUpdate(String itemName, String itemState) {
+        JSONObject itemUpdateMessage = new JSONObject();
+        try {
+            itemUpdateMessage.put("itemName", itemName);
+            itemUpdateMessage.put("itemStatus", itemState);
+            emit("itemupdate", itemUpdateMessage, itemName.length() + itemState.length());
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    private void emit(String event, JSONObject message, int payloadSize) {
+        socket.emit(event, message);
+        eventsSent.incrementAndGet();
+        payloadBytesSent.addAndGet(payloadSize);
+    }
+
+    /**
+     * Returns the number of events sent to the openHAB Cloud
+     */
+    public long getEventsSent() {
+        return eventsSent.get();
+    }
+
+    /**
+     * Returns the number of bytes of item names, item states and proxied response content sent to the openHAB Cloud
+     */
+    public long getPayloadBytesSent() {
+        return payloadBytesSent.get();
+    }
+
+    /**
+     * Returns the number of item updates waiting to be sent
+     */
+    public int getPendingItemUpdates() {
+        synchronized (pendingItemUpdates) {
+            return pendingItemUpdates.size();
+        }
+    }
+
+    /**
+     * Returns the number of proxied requests which have been answered from the cache
+     */
+    public long getCachedResponsesSent() {
+        return cachedResponsesSent.get();
+    }
+
+    /**
+     * Returns the latency statistics of the proxied requests by the first segment of their path
+     */
+    public Map<String, String> getRequestStatistics() {
+        Map<String, String> statistics = new TreeMap<>();
+        requestStatistics.forEach((path, pathStatistics) -> statistics.put(path, pathStatistics.toString()));
+        return statistics;
+    }
+
     /**
      * Returns true if openHAB Cloud connection is active
      */
@@ -503,6 +775,18 @@ public class CloudClient {
      */
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
+        logger.debug("Sent {} events with {} bytes of payload, {} item updates were pending", getEventsSent(),
+                getPayloadBytesSent(), getPendingItemUpdates());
+        logger.debug("Answered {} requests from the cache, request latencies: {}", getCachedResponsesSent(),
+                getRequestStatistics());
+        synchronized (pendingItemUpdates) {
+            if (itemUpdateJob != null) {
+                itemUpdateJob.cancel(false);
+                itemUpdateJob = null;
+            }
+            pendingItemUpdates.clear();
+        }
+        responseCache.clear();
         socket.disconnect();
     }
 
@@ -522,14 +806,37 @@ public class CloudClient {
      * An internal class which forwards response headers and data back to the openHAB Cloud
      */
     private class ResponseListener
-            implements Response.CompleteListener, HeadersListener, ContentListener, FailureListener {
+            implements Response.CompleteListener, HeadersListener, AsyncContentListener, FailureListener {
 
-        private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
-        private int mRequestId;
+        private final int mRequestId;
+        private final Request mRequest;
+        private final String mRequestPath;
+        private final long mStartTime = System.nanoTime();
         private boolean mHeadersSent = false;
 
-        public ResponseListener(int requestId) {
+        /*
+         * The URI the response is cached under and the response collected for the cache. Null if the response is not
+         * cached.
+         */
+        private final String mCacheKey;
+        private ByteArrayOutputStream mCacheBuffer;
+        private JSONObject mCacheHeaders;
+
+        /*
+         * Response content which has not been sent yet. Jetty delivers the content in many small buffers, which are
+         * collected to be sent in fewer events.
+         */
+        private final ByteArrayOutputStream mContentBuffer = new ByteArrayOutputStream();
+        private ScheduledFuture<?> mContentFlushJob;
+
+        public ResponseListener(int requestId, Request request, String requestPath, String cacheKey) {
             mRequestId = requestId;
+            mRequest = request;
+            mRequestPath = requestPath;
+            mCacheKey = cacheKey;
+            if (cacheKey != null) {
+                mCacheBuffer = new ByteArrayOutputStream();
+            }
         }
 
         private JSONObject getJSONHeaders(HttpFields httpFields) {
@@ -546,8 +853,23 @@ public class CloudClient {
 
         @Override
         public void onComplete(Result result) {
-            // Remove this request from list of running requests
+            flushContent();
+            // Remove this request from list of running requests and send the next queued request
             runningRequests.remove(mRequestId);
+            sendQueuedRequests();
+
+            long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - mStartTime);
+            recordRequestTime(mRequestPath, time);
+            logger.trace("Request {} to {} completed after {} ms", mRequestId, mRequestPath, time);
+
+            synchronized (this) {
+                if (mCacheBuffer != null && mCacheHeaders != null && result != null && result.isSucceeded()
+                        && result.getResponse().getStatus() == HttpStatus.OK_200) {
+                    responseCache.put(mCacheKey, new ResponseCache.CachedResponse(mCacheHeaders,
+                            result.getResponse().getStatus(), mCacheBuffer.toByteArray()));
+                }
+                mCacheBuffer = null;
+            }
             if ((result != null && result.isFailed())
                     && (result.getResponse() != null && result.getResponse().getStatus() != HttpStatus.OK_200)) {
                 if (result.getFailure() != null) {
@@ -566,11 +888,11 @@ public class CloudClient {
              * can receive responseFinished before the headers or content are received and I
              * cannot find another workaround to prevent it.
              */
-            ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD).schedule(() -> {
+            scheduler.schedule(() -> {
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", mRequestId);
-                    socket.emit("responseFinished", responseJson);
+                    emit("responseFinished", responseJson, 0);
                     logger.debug("Finished responding to request {}", mRequestId);
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
@@ -584,21 +906,70 @@ public class CloudClient {
             try {
                 responseJson.put("id", mRequestId);
                 responseJson.put("responseStatusText", "openHAB connection error: " + failure.getMessage());
-                socket.emit("responseError", responseJson);
+                emit("responseError", responseJson, 0);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
         }
 
         @Override
-        public void onContent(Response response, ByteBuffer content) {
+        public synchronized void onContent(Response response, ByteBuffer content, Callback callback) {
             logger.debug("Jetty received response content of size {}", String.valueOf(content.remaining()));
+            byte[] bytes;
+            int offset;
+            int length = content.remaining();
+            if (content.hasArray()) {
+                bytes = content.array();
+                offset = content.arrayOffset() + content.position();
+            } else {
+                bytes = BufferUtil.toArray(content);
+                offset = 0;
+            }
+            mContentBuffer.write(bytes, offset, length);
+
+            if (mCacheBuffer != null) {
+                if (mCacheBuffer.size() + length > ResponseCache.MAX_ENTRY_SIZE) {
+                    mCacheBuffer = null;
+                } else {
+                    mCacheBuffer.write(bytes, offset, length);
+                }
+            }
+
+            if (mContentBuffer.size() >= MAX_CONTENT_CHUNK_SIZE) {
+                flushContent();
+                // Jetty reads further content once the callback has succeeded. The Socket.IO client runs its events
+                // in order on its event thread, so this happens after the content has been handed to the transport
+                // and the response is not read faster than it can be sent to the openHAB Cloud.
+                EventThread.exec(callback::succeeded);
+            } else {
+                if (mContentFlushJob == null) {
+                    mContentFlushJob = scheduler.schedule(this::flushContent, CONTENT_FLUSH_DELAY,
+                            TimeUnit.MILLISECONDS);
+                }
+                callback.succeeded();
+            }
+        }
+
+        /*
+         * Sends the collected response content
+         */
+        private synchronized void flushContent() {
+            if (mContentFlushJob != null) {
+                mContentFlushJob.cancel(false);
+                mContentFlushJob = null;
+            }
+            if (mContentBuffer.size() == 0) {
+                return;
+            }
+
             JSONObject responseJson = new JSONObject();
             try {
+                int size = mContentBuffer.size();
                 responseJson.put("id", mRequestId);
-                responseJson.put("body", BufferUtil.toArray(content));
-                socket.emit("responseContentBinary", responseJson);
-                logger.debug("Sent content to request {}", mRequestId);
+                responseJson.put("body", mContentBuffer.toByteArray());
+                mContentBuffer.reset();
+                emit("responseContentBinary", responseJson, size);
+                logger.debug("Sent content of size {} to request {}", size, mRequestId);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -612,10 +983,16 @@ public class CloudClient {
                 mHeadersSent = true;
                 try {
                     responseJson.put("id", mRequestId);
-                    responseJson.put("headers", getJSONHeaders(response.getHeaders()));
+                    JSONObject headersJson = getJSONHeaders(response.getHeaders());
+                    responseJson.put("headers", headersJson);
+                    synchronized (this) {
+                        if (mCacheBuffer != null && !response.getHeaders().containsKey(HttpHeader.CONTENT_ENCODING)) {
+                            mCacheHeaders = headersJson;
+                        }
+                    }
                     responseJson.put("responseStatusCode", response.getStatus());
                     responseJson.put("responseStatusText", "OK");
-                    socket.emit("responseHeader", responseJson);
+                    emit("responseHeader", responseJson, 0);
                     logger.debug("Sent headers to request {}", mRequestId);
                     logger.debug("{}", responseJson.toString());
                 } catch (JSONException e) {
@@ -626,4 +1003,26 @@ public class CloudClient {
             }
         }
     }
+
+    /*
+     * An internal class which holds the latency statistics of the proxied requests to a path
+     */
+    private static class RequestStatistics {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalTime = new AtomicLong();
+        private final AtomicLong maxTime = new AtomicLong();
+
+        void record(long time) {
+            count.incrementAndGet();
+            totalTime.addAndGet(time);
+            maxTime.accumulateAndGet(time, Math::max);
+        }
+
+        @Override
+        public String toString() {
+            long requests = count.get();
+            return String.format("%d requests, average %d ms, maximum %d ms", requests,
+                    requests > 0 ? totalTime.get() / requests : 0, maxTime.get());
+        }
+    }
 }
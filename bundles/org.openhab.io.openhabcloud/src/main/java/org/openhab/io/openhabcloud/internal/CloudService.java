@@ -82,6 +82,8 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_ITEM_UPDATE_DELAY = "itemUpdateDelay";
+    private static final String CFG_BATCH_ITEM_UPDATES = "batchItemUpdates";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
@@ -99,6 +101,8 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
     private boolean remoteAccessEnabled = true;
     private Set<String> exposedItems = null;
+    private int itemUpdateDelay = 0;
+    private boolean batchItemUpdates = false;
     private int localPort;
 
     public CloudService() {
@@ -218,6 +222,23 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             }
         }
 
+        Object itemUpdateDelayCfg = config.get(CFG_ITEM_UPDATE_DELAY);
+        itemUpdateDelay = 0;
+        if (itemUpdateDelayCfg != null) {
+            try {
+                itemUpdateDelay = Math.max(0, Integer.parseInt(itemUpdateDelayCfg.toString().trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for {}, sending item updates immediately", itemUpdateDelayCfg,
+                        CFG_ITEM_UPDATE_DELAY);
+            }
+        }
+
+        Object batchItemUpdatesCfg = config.get(CFG_BATCH_ITEM_UPDATES);
+        batchItemUpdates = batchItemUpdatesCfg != null && Boolean.parseBoolean(batchItemUpdatesCfg.toString().trim());
+        if (batchItemUpdates && itemUpdateDelay == 0) {
+            logger.debug("{} has no effect without {}", CFG_BATCH_ITEM_UPDATES, CFG_ITEM_UPDATE_DELAY);
+        }
+
         logger.debug("UUID = {}, secret = {}", InstanceUUID.get(), getSecret());
 
         if (cloudClient != null) {
@@ -237,7 +258,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         String localBaseUrl = "http://localhost:" + localPort;
         cloudClient = new CloudClient(httpClient, InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl,
-                remoteAccessEnabled, exposedItems);
+                remoteAccessEnabled, exposedItems, itemUpdateDelay, batchItemUpdates);
         cloudClient.setOpenHABVersion(OpenHAB.getVersion());
         cloudClient.connect();
         cloudClient.setListener(this);
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+
+/**
+ * This class caches the responses of the local openHAB to proxied requests for static resources like icons and
+ * images, so that repeated requests for them are answered without a local request.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class ResponseCache {
+    /*
+     * Paths of the static resources whose responses are cached
+     */
+    private static final String[] CACHED_PATHS = { "/icon/", "/images/" };
+
+    /*
+     * Responses with a larger body are not cached
+     */
+    static final int MAX_ENTRY_SIZE = 256 * 1024;
+
+    private static final int MAX_TOTAL_SIZE = 8 * 1024 * 1024;
+    private static final long TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(5);
+
+    /*
+     * A cached response
+     */
+    static class CachedResponse {
+        final JSONObject headers;
+        final int statusCode;
+        final byte[] body;
+        private final long expiryTime;
+
+        CachedResponse(JSONObject headers, int statusCode, byte[] body) {
+            this.headers = headers;
+            this.statusCode = statusCode;
+            this.body = body;
+            this.expiryTime = System.currentTimeMillis() + TIME_TO_LIVE;
+        }
+    }
+
+    /*
+     * The cached responses by request URI, in the order of their last use
+     */
+    private final Map<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private int totalSize;
+
+    /**
+     * Returns true if the response to a request is a static resource which may be cached
+     *
+     * @param method the method of the request
+     * @param path the path of the request
+     */
+    static boolean isCacheable(String method, String path) {
+        if (!"GET".equals(method)) {
+            return false;
+        }
+        for (String cachedPath : CACHED_PATHS) {
+            if (path.startsWith(cachedPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the cached response to a request or null, if there is none
+     *
+     * @param requestUri the URI of the request
+     */
+    synchronized CachedResponse get(String requestUri) {
+        CachedResponse response = responses.get(requestUri);
+        if (response != null && response.expiryTime < System.currentTimeMillis()) {
+            remove(requestUri);
+            return null;
+        }
+        return response;
+    }
+
+    /**
+     * Caches the response to a request. The least recently used responses are removed if the cache is full.
+     *
+     * @param requestUri the URI of the request
+     * @param response the response to cache
+     */
+    synchronized void put(String requestUri, CachedResponse response) {
+        if (response.body.length > MAX_ENTRY_SIZE) {
+            return;
+        }
+        remove(requestUri);
+        responses.put(requestUri, response);
+        totalSize += response.body.length;
+
+        Iterator<CachedResponse> iterator = responses.values().iterator();
+        while (totalSize > MAX_TOTAL_SIZE && iterator.hasNext()) {
+            totalSize -= iterator.next().body.length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes all cached responses
+     */
+    synchronized void clear() {
+        responses.clear();
+        totalSize = 0;
+    }
+
+    private void remove(String requestUri) {
+        CachedResponse response = responses.remove(requestUri);
+        if (response != null) {
+            totalSize -= response.body.length;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.ttscache;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.audio.AudioFormat;
+import org.eclipse.smarthome.core.audio.AudioStream;
+import org.eclipse.smarthome.core.voice.TTSException;
+import org.eclipse.smarthome.core.voice.Voice;
+
+/**
+ * The {@link TTSCache} keeps synthesized speech of all text-to-speech services, so that repeated announcements do
+ * not have to be synthesized again. Clips are identified by the service, the voice, the text and the requested audio
+ * format.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface TTSCache {
+
+    /**
+     * Returns the audio of the given text from the cache, synthesizing and storing it if it is not cached yet.
+     * Concurrent requests for the same clip wait for a single synthesis.
+     *
+     * @param serviceId the id of the requesting {@link org.eclipse.smarthome.core.voice.TTSService}
+     * @param voice the voice used for the synthesis
+     * @param text the text to synthesize
+     * @param requestedFormat the requested audio format
+     * @param synthesizer creates the audio if it is not cached
+     * @return a new stream of the audio
+     * @throws TTSException if the synthesis failed
+     */
+    default AudioStream get(String serviceId, Voice voice, String text, AudioFormat requestedFormat,
+            TTSSynthesizer synthesizer) throws TTSException {
+        return get(serviceId, voice, text, requestedFormat, "", synthesizer);
+    }
+
+    /**
+     * Returns the audio of the given text from the cache, synthesizing and storing it if it is not cached yet.
+     * Concurrent requests for the same clip wait for a single synthesis.
+     *
+     * @param serviceId the id of the requesting {@link org.eclipse.smarthome.core.voice.TTSService}
+     * @param voice the voice used for the synthesis
+     * @param text the text to synthesize
+     * @param requestedFormat the requested audio format
+     * @param options the service settings that change the audio, e.g. the pitch or the speaking rate
+     * @param synthesizer creates the audio if it is not cached
+     * @return a new stream of the audio
+     * @throws TTSException if the synthesis failed
+     */
+    AudioStream get(String serviceId, Voice voice, String text, AudioFormat requestedFormat, String options,
+            TTSSynthesizer synthesizer) throws TTSException;
+
+    /**
+     * Removes all clips of the given service from the cache, e.g. after its voice parameters have been changed.
+     *
+     * @param serviceId the id of the {@link org.eclipse.smarthome.core.voice.TTSService}
+     */
+    void purge(String serviceId);
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.ttscache;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.audio.AudioStream;
+import org.eclipse.smarthome.core.voice.TTSException;
+
+/**
+ * The {@link TTSSynthesizer} is called by the {@link TTSCache} to create a clip that is not cached yet.
+ *
+ * @author agent - Initial contribution
+ */
+@FunctionalInterface
+@NonNullByDefault
+public interface TTSSynthesizer {
+
+    /**
+     * Synthesizes the requested clip. The returned stream is read completely and closed by the cache.
+     *
+     * @return the synthesized audio
+     * @throws TTSException if the synthesis failed
+     */
+    AudioStream synthesize() throws TTSException;
+}
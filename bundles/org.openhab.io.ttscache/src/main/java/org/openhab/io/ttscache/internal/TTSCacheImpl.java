@@ -0,0 +1,526 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.ttscache.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.config.core.ConfigConstants;
+import org.eclipse.smarthome.config.core.ConfigurableService;
+import org.eclipse.smarthome.core.audio.AudioFormat;
+import org.eclipse.smarthome.core.audio.AudioStream;
+import org.eclipse.smarthome.core.audio.ByteArrayAudioStream;
+import org.eclipse.smarthome.core.voice.TTSException;
+import org.eclipse.smarthome.core.voice.Voice;
+import org.openhab.io.ttscache.TTSCache;
+import org.openhab.io.ttscache.TTSSynthesizer;
+import org.osgi.framework.Constants;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TTSCacheImpl} keeps the clips in two tiers. The disk tier holds all clips within the configured disk
+ * size, the memory tier holds the most recently used ones of them. Both tiers evict the least recently used clips
+ * first when their size is exceeded. The audio format of a clip is stored next to it, so clips indexed after a restart
+ * are returned in the format they were synthesized in.
+ *
+ * @author agent - Initial contribution
+ */
+@Component(service = TTSCache.class, configurationPid = TTSCacheImpl.SERVICE_PID, property = {
+        Constants.SERVICE_PID + "=" + TTSCacheImpl.SERVICE_PID,
+        ConfigurableService.SERVICE_PROPERTY_DESCRIPTION_URI + "=io:ttscache",
+        ConfigurableService.SERVICE_PROPERTY_LABEL + "=TTS Audio Cache",
+        ConfigurableService.SERVICE_PROPERTY_CATEGORY + "=io" })
+@NonNullByDefault
+public class TTSCacheImpl implements TTSCache {
+
+    static final String SERVICE_PID = "org.openhab.ttscache";
+
+    private static final String CONFIG_DISK_SIZE = "diskSize";
+    private static final String CONFIG_MEMORY_SIZE = "memorySize";
+    private static final long DEFAULT_DISK_SIZE = 100;
+    private static final long DEFAULT_MEMORY_SIZE = 4;
+    private static final long MEGABYTE = 1024 * 1024;
+
+    /**
+     * Cache folder under $userdata
+     */
+    private static final String CACHE_FOLDER_NAME = "cache";
+
+    private static final String FILE_EXTENSION = ".snd";
+    private static final String FORMAT_FILE_EXTENSION = ".fmt";
+
+    private static final String FORMAT_CONTAINER = "container";
+    private static final String FORMAT_CODEC = "codec";
+    private static final String FORMAT_BIG_ENDIAN = "bigEndian";
+    private static final String FORMAT_BIT_DEPTH = "bitDepth";
+    private static final String FORMAT_BIT_RATE = "bitRate";
+    private static final String FORMAT_FREQUENCY = "frequency";
+
+    /**
+     * Clips bigger than this fraction of the memory size are only kept on disk, so a single long clip does not evict
+     * all the short ones.
+     */
+    private static final int MEMORY_CLIP_FRACTION = 4;
+
+    private static final int READ_BUFFER_SIZE = 4096;
+
+    private final Logger logger = LoggerFactory.getLogger(TTSCacheImpl.class);
+
+    private final Object lock = new Object();
+
+    // both maps are access ordered, the eldest entry is the least recently used one
+    private final LinkedHashMap<String, DiskEntry> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Clip> memoryEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskUsage;
+    private long memoryUsage;
+    private long diskSize;
+    private long memorySize;
+
+    private final Map<String, CompletableFuture<Clip>> pendingSyntheses = new ConcurrentHashMap<>();
+
+    private @Nullable File cacheFolder;
+
+    @Activate
+    protected void activate(Map<String, Object> config) {
+        File folder = new File(new File(ConfigConstants.getUserDataFolder(), CACHE_FOLDER_NAME), SERVICE_PID);
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        logger.debug("Using cache folder {}", folder.getAbsolutePath());
+        initialize(folder, getSize(config, CONFIG_DISK_SIZE, DEFAULT_DISK_SIZE) * MEGABYTE,
+                getSize(config, CONFIG_MEMORY_SIZE, DEFAULT_MEMORY_SIZE) * MEGABYTE);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        List<String> evicted;
+        synchronized (lock) {
+            diskSize = getSize(config, CONFIG_DISK_SIZE, DEFAULT_DISK_SIZE) * MEGABYTE;
+            memorySize = getSize(config, CONFIG_MEMORY_SIZE, DEFAULT_MEMORY_SIZE) * MEGABYTE;
+            trimMemory();
+            evicted = trimDisk();
+        }
+        deleteFiles(evicted);
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        synchronized (lock) {
+            memoryEntries.clear();
+            memoryUsage = 0;
+        }
+    }
+
+    /**
+     * Indexes the clips found in the given folder and applies the sizes of the tiers
+     *
+     * @param folder the folder of the disk tier
+     * @param diskSize the maximum size of the disk tier in bytes
+     * @param memorySize the maximum size of the memory tier in bytes
+     */
+    void initialize(File folder, long diskSize, long memorySize) {
+        synchronized (lock) {
+            cacheFolder = folder;
+        }
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+        Map<String, DiskEntry> indexed = new LinkedHashMap<>();
+        List<String> evicted = new ArrayList<>();
+        if (files != null) {
+            // the file time is updated on every use, so this restores the order of the last run
+            Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+            for (File file : files) {
+                String name = file.getName();
+                String key = name.substring(0, name.length() - FILE_EXTENSION.length());
+                AudioFormat format = readFormat(key);
+                if (format != null) {
+                    indexed.put(key, new DiskEntry(file.length(), format));
+                } else {
+                    // the format of the clip is unknown, it is synthesized again when requested
+                    evicted.add(key);
+                }
+            }
+        }
+        deleteFiles(evicted);
+        synchronized (lock) {
+            this.diskSize = diskSize;
+            this.memorySize = memorySize;
+            diskEntries.clear();
+            diskEntries.putAll(indexed);
+            diskUsage = 0;
+            for (DiskEntry entry : indexed.values()) {
+                diskUsage += entry.length;
+            }
+            evicted = trimDisk();
+        }
+        deleteFiles(evicted);
+        logger.debug("Indexed {} cached clips with {} bytes", diskEntries.size(), diskUsage);
+    }
+
+    @Override
+    public AudioStream get(String serviceId, Voice voice, String text, AudioFormat requestedFormat, String options,
+            TTSSynthesizer synthesizer) throws TTSException {
+        String key = getKey(serviceId, voice, text, requestedFormat, options);
+        Clip clip = lookup(key);
+        if (clip != null) {
+            logger.trace("Cache hit for '{}' of {}", text, serviceId);
+            return clip.newStream();
+        }
+
+        CompletableFuture<Clip> synthesis = new CompletableFuture<>();
+        CompletableFuture<Clip> pending = pendingSyntheses.putIfAbsent(key, synthesis);
+        if (pending != null) {
+            logger.trace("Waiting for pending synthesis of '{}' of {}", text, serviceId);
+            return await(pending).newStream();
+        }
+        try {
+            // the clip may have been stored after the lookup above
+            clip = lookup(key);
+            if (clip == null) {
+                logger.debug("Cache miss for '{}' of {}", text, serviceId);
+                clip = synthesize(synthesizer);
+                store(key, clip);
+            }
+            synthesis.complete(clip);
+            return clip.newStream();
+        } catch (TTSException | RuntimeException e) {
+            synthesis.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingSyntheses.remove(key, synthesis);
+        }
+    }
+
+    @Override
+    public void purge(String serviceId) {
+        String prefix = serviceId + "_";
+        List<String> evicted = new ArrayList<>();
+        synchronized (lock) {
+            for (Iterator<Map.Entry<String, Clip>> it = memoryEntries.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, Clip> entry = it.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    memoryUsage -= entry.getValue().audio.length;
+                    it.remove();
+                }
+            }
+            for (Iterator<Map.Entry<String, DiskEntry>> it = diskEntries.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, DiskEntry> entry = it.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    diskUsage -= entry.getValue().length;
+                    evicted.add(entry.getKey());
+                    it.remove();
+                }
+            }
+        }
+        deleteFiles(evicted);
+        logger.debug("Purged {} cached clips of {}", evicted.size(), serviceId);
+    }
+
+    /**
+     * @return the number of bytes stored on disk
+     */
+    long getDiskUsage() {
+        synchronized (lock) {
+            return diskUsage;
+        }
+    }
+
+    /**
+     * @return the number of bytes kept in memory
+     */
+    long getMemoryUsage() {
+        synchronized (lock) {
+            return memoryUsage;
+        }
+    }
+
+    private @Nullable Clip lookup(String key) {
+        DiskEntry entry;
+        synchronized (lock) {
+            Clip clip = memoryEntries.get(key);
+            if (clip != null) {
+                // keep the disk order in sync, so hot clips are not evicted from disk
+                diskEntries.get(key);
+                return clip;
+            }
+            entry = diskEntries.get(key);
+        }
+        if (entry == null) {
+            return null;
+        }
+
+        File file = getFile(key);
+        try {
+            byte[] audio = Files.readAllBytes(file.toPath());
+            file.setLastModified(System.currentTimeMillis());
+            Clip clip = new Clip(audio, entry.format);
+            synchronized (lock) {
+                putMemory(key, clip);
+            }
+            return clip;
+        } catch (IOException e) {
+            logger.debug("Could not read cached clip {}: {}", file, e.getMessage());
+            synchronized (lock) {
+                if (diskEntries.remove(key, entry)) {
+                    diskUsage -= entry.length;
+                }
+            }
+            return null;
+        }
+    }
+
+    private Clip synthesize(TTSSynthesizer synthesizer) throws TTSException {
+        try (AudioStream stream = synthesizer.synthesize()) {
+            ByteArrayOutputStream audio = new ByteArrayOutputStream();
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                audio.write(buffer, 0, read);
+            }
+            return new Clip(audio.toByteArray(), stream.getFormat());
+        } catch (IOException e) {
+            throw new TTSException("Could not read synthesized audio: " + e.getMessage(), e);
+        }
+    }
+
+    private void store(String key, Clip clip) {
+        long length = clip.audio.length;
+        synchronized (lock) {
+            putMemory(key, clip);
+            if (cacheFolder == null || length > diskSize) {
+                return;
+            }
+        }
+
+        File file = getFile(key);
+        try {
+            // the format is written first, so a clip without it is never indexed
+            writeFormat(key, clip.format);
+            Files.write(file.toPath(), clip.audio);
+        } catch (IOException e) {
+            logger.warn("Could not write {} to cache: {}", file, e.getMessage());
+            return;
+        }
+
+        List<String> evicted;
+        synchronized (lock) {
+            DiskEntry previous = diskEntries.put(key, new DiskEntry(length, clip.format));
+            if (previous != null) {
+                diskUsage -= previous.length;
+            }
+            diskUsage += length;
+            evicted = trimDisk();
+        }
+        deleteFiles(evicted);
+    }
+
+    private void putMemory(String key, Clip clip) {
+        if (clip.audio.length > memorySize / MEMORY_CLIP_FRACTION) {
+            return;
+        }
+        Clip previous = memoryEntries.put(key, clip);
+        if (previous != null) {
+            memoryUsage -= previous.audio.length;
+        }
+        memoryUsage += clip.audio.length;
+        trimMemory();
+    }
+
+    private void trimMemory() {
+        for (Iterator<Clip> it = memoryEntries.values().iterator(); memoryUsage > memorySize && it.hasNext();) {
+            memoryUsage -= it.next().audio.length;
+            it.remove();
+        }
+    }
+
+    /**
+     * Removes the least recently used clips from the disk index until the disk size is met.
+     *
+     * @return the keys of the clips whose files need to be deleted
+     */
+    private List<String> trimDisk() {
+        List<String> evicted = new ArrayList<>();
+        for (Iterator<Map.Entry<String, DiskEntry>> it = diskEntries.entrySet().iterator(); diskUsage > diskSize
+                && it.hasNext();) {
+            Map.Entry<String, DiskEntry> entry = it.next();
+            diskUsage -= entry.getValue().length;
+            evicted.add(entry.getKey());
+            it.remove();
+        }
+        return evicted;
+    }
+
+    private void deleteFiles(List<String> keys) {
+        for (String key : keys) {
+            File file = getFile(key);
+            if (!file.delete() && file.exists()) {
+                logger.debug("Could not delete evicted clip {}", file);
+            }
+            File formatFile = getFormatFile(key);
+            if (!formatFile.delete() && formatFile.exists()) {
+                logger.debug("Could not delete format of evicted clip {}", formatFile);
+            }
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(cacheFolder, key + FILE_EXTENSION);
+    }
+
+    private File getFormatFile(String key) {
+        return new File(cacheFolder, key + FORMAT_FILE_EXTENSION);
+    }
+
+    private void writeFormat(String key, AudioFormat format) throws IOException {
+        Properties properties = new Properties();
+        setProperty(properties, FORMAT_CONTAINER, format.getContainer());
+        setProperty(properties, FORMAT_CODEC, format.getCodec());
+        setProperty(properties, FORMAT_BIG_ENDIAN, format.isBigEndian());
+        setProperty(properties, FORMAT_BIT_DEPTH, format.getBitDepth());
+        setProperty(properties, FORMAT_BIT_RATE, format.getBitRate());
+        setProperty(properties, FORMAT_FREQUENCY, format.getFrequency());
+        try (OutputStream out = Files.newOutputStream(getFormatFile(key).toPath())) {
+            properties.store(out, null);
+        }
+    }
+
+    private @Nullable AudioFormat readFormat(String key) {
+        File formatFile = getFormatFile(key);
+        if (!formatFile.exists()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(formatFile.toPath())) {
+            properties.load(in);
+            String bigEndian = properties.getProperty(FORMAT_BIG_ENDIAN);
+            String bitDepth = properties.getProperty(FORMAT_BIT_DEPTH);
+            String bitRate = properties.getProperty(FORMAT_BIT_RATE);
+            String frequency = properties.getProperty(FORMAT_FREQUENCY);
+            return new AudioFormat(properties.getProperty(FORMAT_CONTAINER), properties.getProperty(FORMAT_CODEC),
+                    bigEndian != null ? Boolean.valueOf(bigEndian) : null,
+                    bitDepth != null ? Integer.valueOf(bitDepth) : null,
+                    bitRate != null ? Integer.valueOf(bitRate) : null,
+                    frequency != null ? Long.valueOf(frequency) : null);
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Could not read format of cached clip {}: {}", formatFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void setProperty(Properties properties, String name, @Nullable Object value) {
+        if (value != null) {
+            properties.setProperty(name, value.toString());
+        }
+    }
+
+    private Clip await(CompletableFuture<Clip> synthesis) throws TTSException {
+        try {
+            return synthesis.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TTSException("Interrupted while waiting for the synthesis", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TTSException) {
+                throw (TTSException) cause;
+            }
+            throw new TTSException("Synthesis failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Builds a key that is unique for the clip and can be used as a file name. It is preceded by the service id, so
+     * that the clips of a service can be purged.
+     *
+     * Sample: "googletts_4f0d3c...e1"
+     */
+    static String getKey(String serviceId, Voice voice, String text, AudioFormat format, String options) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        String clip = String.join("\n", voice.getUID(), format.getContainer(), format.getCodec(),
+                String.valueOf(format.isBigEndian()), String.valueOf(format.getBitDepth()),
+                String.valueOf(format.getBitRate()), String.valueOf(format.getFrequency()), options, text);
+        StringBuilder key = new StringBuilder(serviceId).append('_');
+        for (byte b : md.digest(clip.getBytes(StandardCharsets.UTF_8))) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    private static long getSize(Map<String, Object> config, String name, long defaultValue) {
+        Object value = config.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(0, new BigDecimal(value.toString()).longValue());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static class Clip {
+        private final byte[] audio;
+        private final AudioFormat format;
+
+        public Clip(byte[] audio, AudioFormat format) {
+            this.audio = audio;
+            this.format = format;
+        }
+
+        public AudioStream newStream() {
+            // the stream only reads the shared array
+            return new ByteArrayAudioStream(audio, format);
+        }
+    }
+
+    private static class DiskEntry {
+        private final long length;
+        private final AudioFormat format;
+
+        public DiskEntry(long length, AudioFormat format) {
+            this.length = length;
+            this.format = format;
+        }
+    }
+}
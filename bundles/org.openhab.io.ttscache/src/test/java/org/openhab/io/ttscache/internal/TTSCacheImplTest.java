@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.ttscache.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.smarthome.core.audio.AudioFormat;
+import org.eclipse.smarthome.core.audio.AudioStream;
+import org.eclipse.smarthome.core.audio.ByteArrayAudioStream;
+import org.eclipse.smarthome.core.voice.TTSException;
+import org.eclipse.smarthome.core.voice.Voice;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openhab.io.ttscache.TTSSynthesizer;
+
+/**
+ * Tests {@link TTSCacheImpl}.
+ *
+ * @author agent - Initial contribution
+ */
+public class TTSCacheImplTest {
+
+    private static final String SERVICE_ID = "testtts";
+
+    private static final Voice VOICE = new Voice() {
+        @Override
+        public String getUID() {
+            return SERVICE_ID + ":test";
+        }
+
+        @Override
+        public String getLabel() {
+            return "Test";
+        }
+
+        @Override
+        public Locale getLocale() {
+            return Locale.ENGLISH;
+        }
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final AtomicInteger syntheses = new AtomicInteger();
+
+    private TTSCacheImpl cache;
+
+    @Before
+    public void init() {
+        cache = new TTSCacheImpl();
+        cache.initialize(folder.getRoot(), 1000, 100);
+    }
+
+    @Test
+    public void testRepeatedClipIsSynthesizedOnce() throws Exception {
+        assertEquals(10, read(cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.WAV, synthesizer(10))));
+        assertEquals(10, read(cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.WAV, synthesizer(10))));
+        assertEquals(1, syntheses.get());
+
+        cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.MP3, synthesizer(10));
+        cache.get("othertts", VOICE, "doorbell", AudioFormat.WAV, synthesizer(10));
+        cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.WAV, "pitch=2", synthesizer(10));
+        assertEquals(4, syntheses.get());
+    }
+
+    @Test
+    public void testDiskTierSurvivesRestart() throws Exception {
+        cache.get(SERVICE_ID, VOICE, "alarm", AudioFormat.WAV, synthesizer(10));
+
+        TTSCacheImpl restarted = new TTSCacheImpl();
+        restarted.initialize(folder.getRoot(), 1000, 100);
+        assertEquals(10, restarted.getDiskUsage());
+        assertEquals(0, restarted.getMemoryUsage());
+
+        assertEquals(10, read(restarted.get(SERVICE_ID, VOICE, "alarm", AudioFormat.WAV, synthesizer(10))));
+        assertEquals(1, syntheses.get());
+        assertEquals(10, restarted.getMemoryUsage());
+    }
+
+    @Test
+    public void testFormatSurvivesRestart() throws Exception {
+        // the service may return another format than the requested one
+        cache.get(SERVICE_ID, VOICE, "alarm", AudioFormat.WAV, () -> {
+            syntheses.incrementAndGet();
+            return new ByteArrayAudioStream(new byte[10], AudioFormat.MP3);
+        });
+
+        TTSCacheImpl restarted = new TTSCacheImpl();
+        restarted.initialize(folder.getRoot(), 1000, 100);
+        AudioFormat format = restarted.get(SERVICE_ID, VOICE, "alarm", AudioFormat.WAV, synthesizer(10)).getFormat();
+        assertEquals(1, syntheses.get());
+        assertEquals(AudioFormat.MP3.getContainer(), format.getContainer());
+        assertEquals(AudioFormat.MP3.getCodec(), format.getCodec());
+        assertEquals(AudioFormat.MP3.getBitRate(), format.getBitRate());
+    }
+
+    @Test
+    public void testClipWithoutFormatIsDropped() throws Exception {
+        cache.get(SERVICE_ID, VOICE, "alarm", AudioFormat.WAV, synthesizer(10));
+        for (File file : folder.getRoot().listFiles((dir, name) -> name.endsWith(".fmt"))) {
+            assertTrue(file.delete());
+        }
+
+        TTSCacheImpl restarted = new TTSCacheImpl();
+        restarted.initialize(folder.getRoot(), 1000, 100);
+        assertEquals(0, restarted.getDiskUsage());
+        assertEquals(0, clipFiles().length);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedClipIsEvicted() throws Exception {
+        cache.initialize(folder.getRoot(), 25, 0);
+        cache.get(SERVICE_ID, VOICE, "first", AudioFormat.WAV, synthesizer(10));
+        cache.get(SERVICE_ID, VOICE, "second", AudioFormat.WAV, synthesizer(10));
+        // use the first clip again, so the second one is the least recently used
+        cache.get(SERVICE_ID, VOICE, "first", AudioFormat.WAV, synthesizer(10));
+        cache.get(SERVICE_ID, VOICE, "third", AudioFormat.WAV, synthesizer(10));
+        assertEquals(3, syntheses.get());
+        assertEquals(20, cache.getDiskUsage());
+        assertEquals(2, clipFiles().length);
+
+        cache.get(SERVICE_ID, VOICE, "first", AudioFormat.WAV, synthesizer(10));
+        assertEquals(3, syntheses.get());
+        cache.get(SERVICE_ID, VOICE, "second", AudioFormat.WAV, synthesizer(10));
+        assertEquals(4, syntheses.get());
+    }
+
+    @Test
+    public void testBigClipsAreNotKeptInMemory() throws Exception {
+        cache.get(SERVICE_ID, VOICE, "short", AudioFormat.WAV, synthesizer(20));
+        cache.get(SERVICE_ID, VOICE, "long", AudioFormat.WAV, synthesizer(50));
+        assertEquals(20, cache.getMemoryUsage());
+        assertEquals(70, cache.getDiskUsage());
+    }
+
+    @Test
+    public void testPurge() throws Exception {
+        cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.WAV, synthesizer(10));
+        cache.get("othertts", VOICE, "doorbell", AudioFormat.WAV, synthesizer(10));
+
+        cache.purge(SERVICE_ID);
+        assertEquals(10, cache.getDiskUsage());
+        assertEquals(10, cache.getMemoryUsage());
+        File[] files = clipFiles();
+        assertEquals(1, files.length);
+        assertTrue(files[0].getName().startsWith("othertts_"));
+
+        cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.WAV, synthesizer(10));
+        assertEquals(3, syntheses.get());
+    }
+
+    @Test
+    public void testFailedSynthesisIsNotCached() throws Exception {
+        try {
+            cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.WAV, () -> {
+                throw new TTSException("Service unavailable");
+            });
+            fail("TTSException expected");
+        } catch (TTSException e) {
+            assertEquals("Service unavailable", e.getMessage());
+        }
+        cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.WAV, synthesizer(10));
+        assertEquals(1, syntheses.get());
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneSynthesis() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TTSSynthesizer slowSynthesizer = () -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return synthesizer(10).synthesize();
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<AudioStream> first = executor
+                    .submit(() -> cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.WAV, slowSynthesizer));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            Future<AudioStream> second = executor
+                    .submit(() -> cache.get(SERVICE_ID, VOICE, "doorbell", AudioFormat.WAV, slowSynthesizer));
+            // give the second request the chance to join the pending synthesis
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(10, read(first.get(10, TimeUnit.SECONDS)));
+            assertEquals(10, read(second.get(10, TimeUnit.SECONDS)));
+            assertEquals(1, syntheses.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TTSSynthesizer synthesizer(int length) {
+        return () -> {
+            syntheses.incrementAndGet();
+            return new ByteArrayAudioStream(new byte[length], AudioFormat.WAV);
+        };
+    }
+
+    private File[] clipFiles() {
+        return folder.getRoot().listFiles((dir, name) -> name.endsWith(".snd"));
+    }
+
+    private static int read(AudioStream stream) throws IOException {
+        int length = 0;
+        while (stream.read() != -1) {
+            length++;
+        }
+        return length;
+    }
+}
@@ -14,13 +14,11 @@ package org.openhab.voice.googletts.internal;
 
 import static org.openhab.voice.googletts.internal.GoogleTTSService.*;
 
-import java.io.File;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
-import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.config.core.ConfigurableService;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
@@ -28,11 +26,15 @@ import org.eclipse.smarthome.core.audio.ByteArrayAudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
 import org.eclipse.smarthome.core.voice.Voice;
+import org.openhab.io.ttscache.TTSCache;
 import org.openhab.voice.googletts.internal.protocol.AudioEncoding;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,11 +68,6 @@ public class GoogleTTSService implements TTSService {
      */
     static final String SERVICE_PID = "org.openhab." + SERVICE_CATEGORY + "." + SERVICE_ID;
 
-    /**
-     * Cache folder under $userdata
-     */
-    private static final String CACHE_FOLDER_NAME = "cache";
-
     /**
      * Configuration parameters
      */
@@ -105,23 +102,29 @@ public class GoogleTTSService implements TTSService {
      */
     private GoogleTTSConfig config = new GoogleTTSConfig();
 
+    /**
+     * Cache of the synthesized texts
+     */
+    private volatile TTSCache ttsCache;
+
     /**
      * DS activate, with access to ConfigAdmin
      */
     @Activate
     protected void activate(Map<String, Object> config) {
-        // create cache folder
-        File userData = new File(ConfigConstants.getUserDataFolder());
-        File cacheFolder = new File(new File(userData, CACHE_FOLDER_NAME), SERVICE_PID);
-        if (!cacheFolder.exists()) {
-            cacheFolder.mkdirs();
-        }
-        logger.info("Using cache folder {}", cacheFolder.getAbsolutePath());
-
-        apiImpl = new GoogleCloudAPI(cacheFolder);
+        apiImpl = new GoogleCloudAPI();
         updateConfig(config);
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setTTSCache(TTSCache ttsCache) {
+        this.ttsCache = ttsCache;
+    }
+
+    protected void unsetTTSCache(TTSCache ttsCache) {
+        this.ttsCache = null;
+    }
+
     /**
      * Initializing audio formats. Google supports 3 formats:
      * LINEAR16
@@ -209,6 +212,10 @@ public class GoogleTTSService implements TTSService {
             if (param != null) {
                 config.setPurgeCache(Boolean.parseBoolean(param));
             }
+            TTSCache cache = ttsCache;
+            if (cache != null && config.getPurgeCache() != null && config.getPurgeCache()) {
+                cache.purge(SERVICE_ID);
+            }
             logger.trace("New configuration: {}", config.toString());
 
             if (config.getServiceAccountKey() != null) {
@@ -306,8 +313,18 @@ public class GoogleTTSService implements TTSService {
             throw new TTSException("The passed AudioFormat is unsupported");
         }
 
+        TTSCache cache = ttsCache;
+        if (cache == null) {
+            return synthesizeSpeech(trimmedText, voice, requestedFormat);
+        }
+        // the voice parameters change the audio, so they are part of the cache key
+        return cache.get(SERVICE_ID, voice, trimmedText, requestedFormat, config.toConfigString(),
+                () -> synthesizeSpeech(trimmedText, voice, requestedFormat));
+    }
+
+    private AudioStream synthesizeSpeech(String text, Voice voice, AudioFormat requestedFormat) throws TTSException {
         // create the audio byte array for given text, locale, format
-        byte[] audio = apiImpl.synthesizeSpeech(trimmedText, (GoogleTTSVoice) voice, requestedFormat.getCodec());
+        byte[] audio = apiImpl.synthesizeSpeech(text, (GoogleTTSVoice) voice, requestedFormat.getCodec());
         if (audio == null) {
             throw new TTSException("Could not read from Google Cloud TTS Service");
         }
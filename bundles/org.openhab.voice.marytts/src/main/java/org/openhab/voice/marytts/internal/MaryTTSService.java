@@ -23,7 +23,11 @@ import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
+import org.openhab.io.ttscache.TTSCache;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +60,17 @@ public class MaryTTSService implements TTSService {
      */
     private Set<AudioFormat> audioFormats;
 
+    private volatile TTSCache ttsCache;
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setTTSCache(TTSCache ttsCache) {
+        this.ttsCache = ttsCache;
+    }
+
+    protected void unsetTTSCache(TTSCache ttsCache) {
+        this.ttsCache = null;
+    }
+
     protected void activate() {
         try {
             marytts = new LocalMaryInterface();
@@ -111,6 +126,15 @@ public class MaryTTSService implements TTSService {
          * throw new TTSException("The passed AudioFormat is incompatable with the voice");
          * }
          */
+        TTSCache cache = ttsCache;
+        if (cache == null) {
+            return generateAudioStream(text, voice);
+        }
+        return cache.get(getId(), voice, text, requestedFormat, () -> generateAudioStream(text, voice));
+    }
+
+    private AudioStream generateAudioStream(String text, org.eclipse.smarthome.core.voice.Voice voice)
+            throws TTSException {
         Voice maryTTSVoice = Voice.getVoice(voice.getLabel());
         AudioFormat maryTTSVoiceAudioFormat = getAudioFormat(maryTTSVoice.dbAudioFormat());
 
@@ -24,7 +24,11 @@ import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
 import org.eclipse.smarthome.core.voice.Voice;
+import org.openhab.io.ttscache.TTSCache;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 
 /**
  * @author Florian Schmidt - Initial Contribution
@@ -39,6 +43,17 @@ public class PicoTTSService implements TTSService {
     private final Set<AudioFormat> audioFormats = Collections.singleton(
             new AudioFormat(AudioFormat.CONTAINER_WAVE, AudioFormat.CODEC_PCM_SIGNED, false, 16, null, 16000L));
 
+    private volatile TTSCache ttsCache;
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setTTSCache(TTSCache ttsCache) {
+        this.ttsCache = ttsCache;
+    }
+
+    protected void unsetTTSCache(TTSCache ttsCache) {
+        this.ttsCache = null;
+    }
+
     @Override
     public Set<Voice> getAvailableVoices() {
         return this.voices;
@@ -67,6 +82,14 @@ public class PicoTTSService implements TTSService {
             throw new TTSException("The passed AudioFormat is unsupported");
         }
 
+        TTSCache cache = ttsCache;
+        if (cache == null) {
+            return createAudioStream(text, voice, requestedFormat);
+        }
+        return cache.get(getId(), voice, text, requestedFormat, () -> createAudioStream(text, voice, requestedFormat));
+    }
+
+    private AudioStream createAudioStream(String text, Voice voice, AudioFormat requestedFormat) throws TTSException {
         try {
             return new PicoTTSAudioStream(text, voice, requestedFormat);
         } catch (AudioException e) {
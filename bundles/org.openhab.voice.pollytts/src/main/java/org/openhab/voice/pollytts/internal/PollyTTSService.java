@@ -16,28 +16,32 @@ import static java.util.stream.Collectors.toSet;
 import static org.eclipse.smarthome.core.audio.AudioFormat.*;
 import static org.openhab.voice.pollytts.internal.PollyTTSService.*;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
-import org.eclipse.smarthome.config.core.ConfigConstants;
+import org.apache.commons.io.IOUtils;
 import org.eclipse.smarthome.config.core.ConfigurableService;
-import org.eclipse.smarthome.core.audio.AudioException;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
+import org.eclipse.smarthome.core.audio.ByteArrayAudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
 import org.eclipse.smarthome.core.voice.Voice;
-import org.openhab.voice.pollytts.internal.cloudapi.CachedPollyTTSCloudImpl;
+import org.openhab.io.ttscache.TTSCache;
+import org.openhab.voice.pollytts.internal.cloudapi.PollyTTSCloudImpl;
 import org.openhab.voice.pollytts.internal.cloudapi.PollyTTSConfig;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,17 +76,14 @@ public class PollyTTSService implements TTSService {
      */
     static final String SERVICE_PID = "org.openhab." + SERVICE_CATEGORY + "." + SERVICE_ID;
 
-    /**
-     * Cache folder under $userdata
-     */
-    private static final String CACHE_FOLDER_NAME = "cache";
-
     private final Logger logger = LoggerFactory.getLogger(PollyTTSService.class);
 
+    private PollyTTSCloudImpl pollyTTSImpl;
+
     /**
-     * We need the cached implementation to allow for FixedLengthAudioStream.
+     * Cache of the synthesized texts
      */
-    private CachedPollyTTSCloudImpl pollyTTSImpl;
+    private volatile TTSCache ttsCache;
 
     /**
      * Set of supported voices
@@ -107,14 +108,7 @@ public class PollyTTSService implements TTSService {
             pollyTTSConfig = new PollyTTSConfig(config);
             logger.debug("Using configuration {}", config);
 
-            // create cache folder
-            File cacheFolder = new File(new File(ConfigConstants.getUserDataFolder(), CACHE_FOLDER_NAME), SERVICE_PID);
-            if (!cacheFolder.exists()) {
-                cacheFolder.mkdirs();
-            }
-            logger.info("Using cache folder {}", cacheFolder.getAbsolutePath());
-
-            pollyTTSImpl = new CachedPollyTTSCloudImpl(pollyTTSConfig, cacheFolder);
+            pollyTTSImpl = new PollyTTSCloudImpl(pollyTTSConfig);
 
             audioFormats.clear();
             audioFormats.addAll(initAudioFormats());
@@ -130,6 +124,15 @@ public class PollyTTSService implements TTSService {
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setTTSCache(TTSCache ttsCache) {
+        this.ttsCache = ttsCache;
+    }
+
+    protected void unsetTTSCache(TTSCache ttsCache) {
+        this.ttsCache = null;
+    }
+
     @Override
     public Set<Voice> getAvailableVoices() {
         return Collections.unmodifiableSet(voices);
@@ -165,19 +168,21 @@ public class PollyTTSService implements TTSService {
             throw new TTSException("The passed AudioFormat is unsupported");
         }
 
-        // now create the input stream for given text, locale, format. There is
-        // only a default voice
-        try {
-            File cacheAudioFile = pollyTTSImpl.getTextToSpeechAsFile(text, voice.getLabel(),
-                    getApiAudioFormat(requestedFormat));
-            if (cacheAudioFile == null) {
-                throw new TTSException("Could not read from PollyTTS service");
-            }
+        String apiFormat = getApiAudioFormat(requestedFormat);
+        TTSCache cache = ttsCache;
+        if (cache == null) {
+            return synthesizeSpeech(text, voice, apiFormat, requestedFormat);
+        }
+        // the user preferred audio format overrides the requested one, so it is part of the cache key
+        return cache.get(getId(), voice, text, requestedFormat, apiFormat,
+                () -> synthesizeSpeech(text, voice, apiFormat, requestedFormat));
+    }
+
+    private AudioStream synthesizeSpeech(String text, Voice voice, String apiFormat, AudioFormat requestedFormat)
+            throws TTSException {
+        try (InputStream audio = pollyTTSImpl.getTextToSpeech(text, voice.getLabel(), apiFormat)) {
             logger.debug("Audio Stream for '{}' in format {}", text, requestedFormat);
-            AudioStream audioStream = new PollyTTSAudioStream(cacheAudioFile, requestedFormat);
-            return audioStream;
-        } catch (AudioException ex) {
-            throw new TTSException("Could not create AudioStream: " + ex.getMessage(), ex);
+            return new ByteArrayAudioStream(IOUtils.toByteArray(audio), requestedFormat);
         } catch (IOException ex) {
             throw new TTSException("Could not read from PollyTTS service: " + ex.getMessage(), ex);
         }
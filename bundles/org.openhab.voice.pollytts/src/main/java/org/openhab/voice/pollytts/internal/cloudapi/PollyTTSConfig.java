@@ -28,14 +28,11 @@ public class PollyTTSConfig {
     private static final String SECRET_KEY = "secretKey";
     private static final String SERVICE_REGION = "serviceRegion";
     private static final String AUDIO_FORMAT = "audioFormat";
-    private static final String CACHE_EXPIRATION = "cacheExpiration";
 
     private String accessKey = "";
     private String secretKey = "";
     private String serviceRegion = "eu-west-1";
-    private int expireDate = 0;
     private String audioFormat = "default";
-    private long lastDelete;
 
     public PollyTTSConfig(Map<String, Object> config) {
         assertValidConfig(config);
@@ -44,8 +41,6 @@ public class PollyTTSConfig {
         secretKey = config.getOrDefault(SECRET_KEY, secretKey).toString();
         serviceRegion = config.getOrDefault(SERVICE_REGION, serviceRegion).toString();
         audioFormat = config.getOrDefault(AUDIO_FORMAT, audioFormat).toString();
-        expireDate = (int) Double
-                .parseDouble(config.getOrDefault(CACHE_EXPIRATION, Double.toString(expireDate)).toString());
     }
 
     private void assertValidConfig(Map<String, Object> config) {
@@ -71,13 +66,6 @@ public class PollyTTSConfig {
         return serviceRegion;
     }
 
-    /**
-     * get the life time for cache files
-     */
-    public int getExpireDate() {
-        return expireDate;
-    }
-
     /**
      * returns audio format specified for audio
      */
@@ -85,26 +73,12 @@ public class PollyTTSConfig {
         return audioFormat;
     }
 
-    /**
-     * get the date when cache was cleaned last
-     */
-    public long getLastDelete() {
-        return lastDelete;
-    }
-
-    /**
-     * set the date when cache was cleaned last
-     */
-    public void setLastDelete(long lastDelete) {
-        this.lastDelete = lastDelete;
-    }
-
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
         builder.append("PollyTTSConfig [accessKey=").append(accessKey).append(", secretKey=").append(secretKey)
-                .append(", serviceRegion=").append(serviceRegion).append(", expireDate=").append(expireDate)
-                .append(", audioFormat=").append(audioFormat).append(", lastDelete=").append(lastDelete).append("]");
+                .append(", serviceRegion=").append(serviceRegion).append(", audioFormat=").append(audioFormat)
+                .append("]");
         return builder.toString();
     }
 }
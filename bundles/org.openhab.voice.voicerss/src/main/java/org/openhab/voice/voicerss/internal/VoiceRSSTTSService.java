@@ -28,10 +28,14 @@ import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
 import org.eclipse.smarthome.core.voice.Voice;
+import org.openhab.io.ttscache.TTSCache;
 import org.openhab.voice.voicerss.internal.cloudapi.CachedVoiceRSSCloudImpl;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +65,11 @@ public class VoiceRSSTTSService implements TTSService {
      */
     private CachedVoiceRSSCloudImpl voiceRssImpl;
 
+    /**
+     * Keeps the most recently used texts in memory, the prefilled cache folder is used as its source.
+     */
+    private volatile TTSCache ttsCache;
+
     /**
      * Set of supported voices
      */
@@ -94,6 +103,15 @@ public class VoiceRSSTTSService implements TTSService {
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    protected void setTTSCache(TTSCache ttsCache) {
+        this.ttsCache = ttsCache;
+    }
+
+    protected void unsetTTSCache(TTSCache ttsCache) {
+        this.ttsCache = null;
+    }
+
     @Override
     public Set<Voice> getAvailableVoices() {
         return Collections.unmodifiableSet(voices);
@@ -134,11 +152,20 @@ public class VoiceRSSTTSService implements TTSService {
             throw new TTSException("The passed AudioFormat is unsupported");
         }
 
+        TTSCache cache = ttsCache;
+        if (cache == null) {
+            return synthesizeSpeech(trimmedText, voice, requestedFormat);
+        }
+        return cache.get(getId(), voice, trimmedText, requestedFormat,
+                () -> synthesizeSpeech(trimmedText, voice, requestedFormat));
+    }
+
+    private AudioStream synthesizeSpeech(String text, Voice voice, AudioFormat requestedFormat) throws TTSException {
         // now create the input stream for given text, locale, format. There is
         // only a default voice
         try {
-            File cacheAudioFile = voiceRssImpl.getTextToSpeechAsFile(apiKey, trimmedText,
-                    voice.getLocale().toLanguageTag(), getApiAudioFormat(requestedFormat));
+            File cacheAudioFile = voiceRssImpl.getTextToSpeechAsFile(apiKey, text, voice.getLocale().toLanguageTag(),
+                    getApiAudioFormat(requestedFormat));
             if (cacheAudioFile == null) {
                 throw new TTSException("Could not read from VoiceRSS service");
             }
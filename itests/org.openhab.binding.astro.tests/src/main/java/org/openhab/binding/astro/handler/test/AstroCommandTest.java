@@ -31,6 +31,7 @@ import org.eclipse.smarthome.core.thing.binding.builder.ChannelBuilder;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.junit.Test;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
 import org.openhab.binding.astro.internal.handler.AstroThingHandler;
 import org.openhab.binding.astro.internal.handler.SunHandler;
 import org.openhab.binding.astro.internal.model.Sun;
@@ -65,7 +66,8 @@ public class AstroCommandTest {
         CronScheduler cronScheduler = mock(CronScheduler.class);
         TimeZoneProvider timeZoneProvider = mock(TimeZoneProvider.class);
         when(timeZoneProvider.getTimeZone()).thenReturn(ZoneId.systemDefault());
-        AstroThingHandler sunHandler = spy(new SunHandler(thing, cronScheduler, timeZoneProvider));
+        AstroThingHandler sunHandler = spy(
+                new SunHandler(thing, cronScheduler, timeZoneProvider, new EphemerisCache(Runnable::run)));
 
         // Required from the AstroThingHandler to send the status update
         doReturn(true).when(callback).isChannelLinked(eq(channelUID));
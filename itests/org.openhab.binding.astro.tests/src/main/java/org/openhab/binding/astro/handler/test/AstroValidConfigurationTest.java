@@ -29,6 +29,7 @@ import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerCallback;
 import org.junit.Test;
+import org.openhab.binding.astro.internal.calc.EphemerisCache;
 import org.openhab.binding.astro.internal.handler.AstroThingHandler;
 import org.openhab.binding.astro.internal.handler.SunHandler;
 
@@ -148,7 +149,8 @@ public class AstroValidConfigurationTest {
         CronScheduler cronScheduler = mock(CronScheduler.class);
         TimeZoneProvider timeZoneProvider = mock(TimeZoneProvider.class);
         when(timeZoneProvider.getTimeZone()).thenReturn(ZoneId.systemDefault());
-        ThingHandler sunHandler = new SunHandler(thing, cronScheduler, timeZoneProvider);
+        ThingHandler sunHandler = new SunHandler(thing, cronScheduler, timeZoneProvider,
+                new EphemerisCache(Runnable::run));
         sunHandler.setCallback(callback);
 
         sunHandler.initialize();
@@ -26,6 +26,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.items.Item;
@@ -83,6 +84,13 @@ public class FeedHandlerTest extends JavaOSGiTest {
      */
     private static final String MOCK_CONTENT_CHANGED = "rss_2.0_changed.xml";
 
+    /**
+     * The description of the latest entry of {@link #DEFAULT_MOCK_CONTENT} is changed, the number of entries is the same
+     */
+    private static final String MOCK_CONTENT_ENTRY_CHANGED = "rss_2.0_entry_changed.xml";
+
+    private static final String MOCK_ENTITY_TAG = "\"feed-1\"";
+
     private static final String ITEM_NAME = "testItem";
     private static final String THING_NAME = "testFeedThing";
 
@@ -114,6 +122,10 @@ public class FeedHandlerTest extends JavaOSGiTest {
 
         String feedContent;
         int httpStatus;
+        // if set, the feed is sent with this ETag and requests with a matching If-None-Match header get no content
+        volatile String entityTag;
+        volatile String lastIfNoneMatch;
+        volatile int notModifiedCount;
 
         public FeedServiceMock(String feedContentFile) {
             super();
@@ -129,6 +141,15 @@ public class FeedHandlerTest extends JavaOSGiTest {
         @Override
         protected void doGet(HttpServletRequest request, HttpServletResponse response)
                 throws ServletException, IOException {
+            lastIfNoneMatch = request.getHeader(HttpHeader.IF_NONE_MATCH.asString());
+            if (entityTag != null) {
+                response.setHeader(HttpHeader.ETAG.asString(), entityTag);
+                if (entityTag.equals(lastIfNoneMatch)) {
+                    notModifiedCount++;
+                    response.setStatus(HttpStatus.NOT_MODIFIED_304);
+                    return;
+                }
+            }
             response.getOutputStream().println(feedContent);
             // Recommended RSS MIME type - http://www.rssboard.org/rss-mime-type-application.txt
             // Atom MIME type is - application/atom+xml
@@ -331,6 +352,54 @@ public class FeedHandlerTest extends JavaOSGiTest {
         testIfItemStateIsUpdated(commandReceived, contentChanged);
     }
 
+    @Test
+    public void assertThatFeedIsRequestedWithEntityTagAndNotModifiedResponseKeepsState() throws InterruptedException {
+        servlet.entityTag = MOCK_ENTITY_TAG;
+        initializeDefaultFeedHandler();
+
+        waitForAssert(() -> {
+            assertThat("Feed Thing can not be initialized", feedThing.getStatus(), is(equalTo(ONLINE)));
+            assertThat("Item's state is not updated on initialize", currentItemState, is(notNullValue()));
+        });
+        StringType firstItemState = currentItemState;
+        int notModifiedCount = servlet.notModifiedCount;
+
+        // Before this time has expired, the refresh command will no trigger a request to the server
+        sleep(FeedBindingConstants.MINIMUM_REFRESH_TIME);
+
+        feedHandler.handleCommand(channelUID, RefreshType.REFRESH);
+
+        waitForAssert(() -> {
+            assertThat(servlet.lastIfNoneMatch, is(equalTo(MOCK_ENTITY_TAG)));
+            assertThat(servlet.notModifiedCount, is(equalTo(notModifiedCount + 1)));
+        });
+        assertThat(feedThing.getStatus(), is(equalTo(ONLINE)));
+        assertThat(currentItemState, is(equalTo(firstItemState)));
+    }
+
+    @Test
+    public void assertThatItemsStateIsUpdatedIfEntryChangedWithSameNumberOfEntries()
+            throws IOException, InterruptedException {
+        initializeDefaultFeedHandler();
+
+        waitForAssert(() -> {
+            assertThat("Feed Thing can not be initialized", feedThing.getStatus(), is(equalTo(ONLINE)));
+            assertThat("Item's state is not updated on initialize", currentItemState, is(notNullValue()));
+        });
+        StringType firstItemState = currentItemState;
+
+        servlet.setFeedContent(MOCK_CONTENT_ENTRY_CHANGED);
+
+        // Before this time has expired, the refresh command will no trigger a request to the server
+        sleep(FeedBindingConstants.MINIMUM_REFRESH_TIME);
+
+        feedHandler.handleCommand(channelUID, RefreshType.REFRESH);
+
+        waitForAssert(() -> {
+            assertThat("Content is not updated!", currentItemState, not(equalTo(firstItemState)));
+        });
+    }
+
     @Test
     public void assertThatThingsStatusIsUpdatedWhenHTTP500ErrorCodeIsReceived() throws InterruptedException {
         testIfThingStatusIsUpdated(HttpStatus.INTERNAL_SERVER_ERROR_500);